@@ -10,25 +10,21 @@
 package mdl.data;
 
 import java.io.*;
-import java.text.*;
+import java.nio.charset.*;
 import java.util.*;
 /**
  * An object of this class represents navigation related data specific to the
  * environment simulated or received by the input devices.
  *
  * @author Jeff Stewart
- * @version 1.3.0.0, 2005-02-17
+ * @version 1.3.0.4, 2026-10-17
  */
 public class DataFactory implements OwnshipUpdateListener, Serializable {
    
 
 	private static final long serialVersionUID = 1906041497609885244L;
-	DecimalFormat twoDigitForm = new DecimalFormat("00");
-   DecimalFormat threeDigitForm = new DecimalFormat("000");
-   DecimalFormat minuteForm = new DecimalFormat("00.0000");
-   DecimalFormat headingForm = new DecimalFormat("000.0");
-   DecimalFormat speedForm = new DecimalFormat("#0.0");
-   Calendar calendarObj = new GregorianCalendar();
+   /* Size of the scratch text of a formatted number, in bytes. */
+   static final int FORMAT_TEXT_SIZE = 32;
    
    /** Used to indicate that the data source is from an ownship simulator. */
    public static final int SIMULATOR_DATA_SOURCE = 1;
@@ -43,12 +39,17 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
    public static final long TRANSMIT_FREQ_1HZ = 1000;
    /** Used to set a transmit frequency of 20Hz (or a period of 0.05 seconds). */
    public static final long TRANSMIT_FREQ_20HZ = 50;
+   /** Used to set a transmit frequency of 50Hz (or a period of 0.02 seconds). */
+   public static final long TRANSMIT_FREQ_50HZ = 20;
+   /** Used to set a transmit frequency of 100Hz (or a period of 0.01 seconds). */
+   public static final long TRANSMIT_FREQ_100HZ = 10;
    
    /** Nautical mile to kilometer conversion factor */
    public static final double NM_TO_KM_CONVERSION = 1.85;
    
    
-   OwnshipUpdate ownshipUpdate;
+   /* The latest ownship state, replaced whole each simulator tick. */
+   volatile OwnshipState ownshipState;
    
    
    String latitude;
@@ -1836,15 +1837,63 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
 //   }
 //   
    /**
-    * Set ownship data object.
+    * Set ownship data object.  An unchangeable copy of the update is
+    * published to the transmitting threads, on the thread calling this
+    * method, so the simulator may go on changing the update afterwards.
     *
     * @param ownship Ownship update object.
     */
    public void updateOwnship (OwnshipUpdate ownship) {
       if (ownship != null) {
-         ownshipUpdate = ownship;
+         ownshipState = new OwnshipState (ownship);
       }
    }
+   
+   /**
+    * Get the current ownship state.  Every value of the state is from the
+    * same simulator tick, so a sentence should take it once and use it for
+    * all of its fields.
+    *
+    * @return Ownship state object, or null if no simulation is running.
+    */
+   public OwnshipState getOwnshipState () {
+      return ownshipState;
+   }
+   /* Formats a whole number with leading zeros, e.g. "07". */
+   static String formatDigits (long value, int minDigits) {
+      byte[] text = new byte[FORMAT_TEXT_SIZE];
+      int length = FixedPointFormat.putDigits (text, 0, value, minDigits);
+      return new String (text, 0, length, StandardCharsets.US_ASCII);
+   }
+   
+   /* Formats a decimal number, e.g. "005.2" for three integer and one fraction digits. */
+   static String formatFixed (double value, int minIntegerDigits, int fractionDigits) {
+      byte[] text = new byte[FORMAT_TEXT_SIZE];
+      int length = FixedPointFormat.putFixed (text, 0, value, minIntegerDigits, fractionDigits);
+      return new String (text, 0, length, StandardCharsets.US_ASCII);
+   }
+   
+   /* Formats a latitude as "ddmm.mmmm". */
+   static String formatLatitude (double latitude) {
+      byte[] text = new byte[FORMAT_TEXT_SIZE];
+      int length = FixedPointFormat.putLatitude (text, 0, latitude);
+      return new String (text, 0, length, StandardCharsets.US_ASCII);
+   }
+   
+   /* Formats a longitude as "dddmm.mmmm". */
+   static String formatLongitude (double longitude) {
+      byte[] text = new byte[FORMAT_TEXT_SIZE];
+      int length = FixedPointFormat.putLongitude (text, 0, longitude);
+      return new String (text, 0, length, StandardCharsets.US_ASCII);
+   }
+   
+   /* Formats a UTC time of day as "hhmmss.sss". */
+   static String formatTime (long millis) {
+      byte[] text = new byte[FORMAT_TEXT_SIZE];
+      int length = FixedPointFormat.putTime (text, 0, millis, 3);
+      return new String (text, 0, length, StandardCharsets.US_ASCII);
+   }
+   
    //=============== O = W = N = S = H = I = P === D = A = T= A ================
    /** 
     * Get ownship's current time, in UTC.
@@ -1852,12 +1901,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's current time, in UTC.
     */
    public String getSimulatedUTC () {
-      if (ownshipUpdate != null) {
-         calendarObj.setTime (ownshipUpdate.timeDate);
-         return (twoDigitForm.format (calendarObj.get(Calendar.HOUR_OF_DAY)) +
-                 twoDigitForm.format (calendarObj.get(Calendar.MINUTE)) +
-                 twoDigitForm.format (calendarObj.get(Calendar.SECOND)) + '.' +
-                 threeDigitForm.format (calendarObj.get(Calendar.MILLISECOND)));
+      OwnshipState ownship = ownshipState;
+      if ((ownship != null) && ownship.hasTime ()) {
+         return formatTime (ownship.timeMillis);
       }
       else {
          return "??????.????";
@@ -1870,9 +1916,10 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's current date year.
     */
    public String getSimulatedYear () {
-      if (ownshipUpdate != null) {
-         calendarObj.setTime (ownshipUpdate.timeDate);
-         return "" + calendarObj.get(Calendar.YEAR);
+      OwnshipState ownship = ownshipState;
+      if ((ownship != null) && ownship.hasTime ()) {
+         return "" + FixedPointFormat.getYear (
+            FixedPointFormat.getCivilDate (ownship.timeMillis));
       }
       else {
          return "????";
@@ -1885,9 +1932,10 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's current date month.
     */
    public String getSimulatedMonth () {
-      if (ownshipUpdate != null) {
-         calendarObj.setTime (ownshipUpdate.timeDate);
-         return twoDigitForm.format (calendarObj.get(Calendar.MONTH) + 1);
+      OwnshipState ownship = ownshipState;
+      if ((ownship != null) && ownship.hasTime ()) {
+         return formatDigits (FixedPointFormat.getMonth (
+            FixedPointFormat.getCivilDate (ownship.timeMillis)), 2);
       }
       else {
          return "????";
@@ -1900,9 +1948,10 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's current date day.
     */
    public String getSimulatedDay () {
-      if (ownshipUpdate != null) {
-         calendarObj.setTime (ownshipUpdate.timeDate);
-         return twoDigitForm.format (calendarObj.get(Calendar.DAY_OF_MONTH));
+      OwnshipState ownship = ownshipState;
+      if ((ownship != null) && ownship.hasTime ()) {
+         return formatDigits (FixedPointFormat.getDay (
+            FixedPointFormat.getCivilDate (ownship.timeMillis)), 2);
       }
       else {
          return "????";
@@ -1915,8 +1964,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's current date day.
     */
    public Date getSimulatedTimeDateValue () {
-      if (ownshipUpdate != null) {
-         return ownshipUpdate.timeDate;
+      OwnshipState ownship = ownshipState;
+      if ((ownship != null) && ownship.hasTime ()) {
+         return new Date (ownship.timeMillis);
       }
       else {
          return null;
@@ -1929,9 +1979,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's latitude (+90 to -90 degrees), negative (-) is South, positive (+) is North.
     */
    public String getSimulatedLatitude () {
-      if (ownshipUpdate != null) {
-         return (twoDigitForm.format ((int)Math.abs(ownshipUpdate.latitude)) +
-                 minuteForm.format (Math.abs(ownshipUpdate.latitude % 1.0) * 60.0));
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatLatitude (ownship.latitude);
       }
       else {
          return "????.????";
@@ -1944,8 +1994,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's latitude (+90 to -90 degrees), negative (-) is South, positive (+) is North.
     */
    public String getSimulatedLatitudeHemisphere () {
-      if (ownshipUpdate != null) {
-         if (ownshipUpdate.latitude > 0.0) {
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         if (ownship.latitude > 0.0) {
             return "N";
          }
          else {
@@ -1963,8 +2014,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's latitude (+90 to -90 degrees), negative (-) is South, positive (+) is North.
     */
    public double getSimulatedLatitudeValue () {
-      if (ownshipUpdate != null) {
-         return ownshipUpdate.latitude;
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return ownship.latitude;
       }
       else {
          return 0.0;
@@ -1977,9 +2029,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's longitude (+180 to -180 degrees),  negative (-) is West, positive (+) is East.
     */
    public String getSimulatedLongitude () {
-      if (ownshipUpdate != null) {
-         return (threeDigitForm.format ((int)Math.abs(ownshipUpdate.longitude)) +
-                 minuteForm.format (Math.abs(ownshipUpdate.longitude % 1.0) * 60.0));
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatLongitude (ownship.longitude);
       }
       else {
          return "?????.????";
@@ -1992,8 +2044,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's longitude (+180 to -180 degrees),  negative (-) is West, positive (+) is East.
     */
    public String getSimulatedLongitudeHemisphere () {
-      if (ownshipUpdate != null) {
-         if (ownshipUpdate.longitude > 0.0) {
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         if (ownship.longitude > 0.0) {
             return "E";
          }
          else {
@@ -2011,8 +2064,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's longitude (+180 to -180 degrees),  negative (-) is West, positive (+) is East.
     */
    public double getSimulatedLongitudeValue () {
-      if (ownshipUpdate != null) {
-         return ownshipUpdate.longitude;
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return ownship.longitude;
       }
       else {
          return 0.0;
@@ -2025,8 +2079,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's heading, in degrees True, range: {0.0, 360.0]
     */
    public String getSimulatedHeadingTrueWater () {
-      if (ownshipUpdate != null) {
-         return headingForm.format(ownshipUpdate.headingActual);
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatFixed (ownship.headingActual, 3, 1);
       }
       else {
          return "???.?";
@@ -2039,8 +2094,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's heading, in degrees True, range: {0.0, 360.0]
     */
    public double getSimulatedCTWValue () {
-      if (ownshipUpdate != null) {
-         return ownshipUpdate.headingActual;
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return ownship.headingActual;
       }
       else {
          return 0.0;
@@ -2053,13 +2109,14 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's heading, in degrees magnetic, range: {0.0, 360.0]
     */
    public String getSimulatedHeadingMagneticWater () {
-      if (ownshipUpdate != null) {
-         double heading = ownshipUpdate.headingActual + 
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         double heading = ownship.headingActual + 
             DataFactoryDefaults.MAGNETIC_VARIATION_SIMULATED;
          if (heading > 360.0) {
             heading -= 360.0;
          }
-         return headingForm.format(heading);
+         return formatFixed (heading, 3, 1);
       }
       else {
          return "???.?";
@@ -2072,8 +2129,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's heading, in degrees True, range: {0.0, 360.0]
     */
    public String getSimulatedHeadingTrueOverGround () {
-      if (ownshipUpdate != null) {
-         return headingForm.format(ownshipUpdate.headingOverGround);
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatFixed (ownship.headingOverGround, 3, 1);
       }
       else {
          return "???.?";
@@ -2087,8 +2145,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's heading, in degrees True, range: {0.0, 360.0]
     */
    public double getSimulatedCOGValue () {
-      if (ownshipUpdate != null) {
-         return ownshipUpdate.headingOverGround;
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return ownship.headingOverGround;
       }
       else {
          return 0.0;
@@ -2101,13 +2160,14 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's heading, in degrees magnetic, range: {0.0, 360.0]
     */
    public String getSimulatedHeadingMagneticOverGround () {
-      if (ownshipUpdate != null) {
-         double heading = ownshipUpdate.headingOverGround + 
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         double heading = ownship.headingOverGround + 
             DataFactoryDefaults.MAGNETIC_VARIATION_SIMULATED;
          if (heading > 360.0) {
             heading -= 360.0;
          }
-         return headingForm.format(heading);
+         return formatFixed (heading, 3, 1);
       }
       else {
          return "???.?";
@@ -2120,8 +2180,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's rate of turn, in degrees per minute.
     */
    public String getSimulatedRateOfTurn () {
-      if (ownshipUpdate != null) {
-         return speedForm.format(ownshipUpdate.headingVelocity);
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatFixed (ownship.headingVelocity, 1, 1);
       }
       else {
          return "+?.?";
@@ -2134,8 +2195,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's speed, in knots.
     */
    public String getSimulatedSpeedWaterInKnots () {
-      if (ownshipUpdate != null) {
-         return speedForm.format(ownshipUpdate.speedActual);
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatFixed (ownship.speedActual, 1, 1);
       }
       else {
          return "??.?";
@@ -2148,8 +2210,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's speed, in knots.
     */
    public double getSimulatedSTWValue () {
-      if (ownshipUpdate != null) {
-         return ownshipUpdate.speedActual;
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return ownship.speedActual;
       }
       else {
          return 0.0;
@@ -2162,8 +2225,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's heading, in KPH.
     */
    public String getSimulatedSpeedWaterInKPH () {
-      if (ownshipUpdate != null) {
-         return speedForm.format(ownshipUpdate.speedActual * DataFactory.NM_TO_KM_CONVERSION);
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatFixed (ownship.speedActual * DataFactory.NM_TO_KM_CONVERSION, 1, 1);
       }
       else {
          return "??.?";
@@ -2177,8 +2241,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's speed over ground, in knots.
     */
    public String getSimulatedSpeedOverGroundInKnots () {
-      if (ownshipUpdate != null) {
-         return speedForm.format(ownshipUpdate.speedOverGround);
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatFixed (ownship.speedOverGround, 1, 1);
       }
       else {
          return "??.?";
@@ -2191,8 +2256,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's speed over ground, in knots.
     */
    public double getSimulatedSOGKnotsValue () {
-      if (ownshipUpdate != null) {
-         return ownshipUpdate.speedOverGround;
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return ownship.speedOverGround;
       }
       else {
          return 0.0;
@@ -2205,8 +2271,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's speed over ground, in KPH.
     */
    public String getSimulatedSpeedOverGroundInInKPH () {
-      if (ownshipUpdate != null) {
-         return speedForm.format(ownshipUpdate.speedOverGround * DataFactory.NM_TO_KM_CONVERSION);
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatFixed (ownship.speedOverGround * DataFactory.NM_TO_KM_CONVERSION, 1, 1);
       }
       else {
          return "??.?";
@@ -2220,8 +2287,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's simulated set, in degrees True, range: {0.0, 360.0]
     */
    public String getSimulatedSetTrue () {
-      if (ownshipUpdate != null) {
-         return headingForm.format(ownshipUpdate.set);
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatFixed (ownship.set, 3, 1);
       }
       else {
          return "???.?";
@@ -2234,13 +2302,14 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's simulated set, in degrees True, range: {0.0, 360.0]
     */
    public String getSimulatedSetMagnetic () {
-      if (ownshipUpdate != null) {
-         double set = ownshipUpdate.set + 
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         double set = ownship.set + 
             DataFactoryDefaults.MAGNETIC_VARIATION_SIMULATED;
          if (set > 360.0) {
             set -= 360.0;
          }
-         return headingForm.format(set);
+         return formatFixed (set, 3, 1);
       }
       else {
          return "???.?";
@@ -2253,8 +2322,9 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
     * @return Ownship's simulated drift, in knots.
     */
    public String getSimulatedDriftInKnots () {
-      if (ownshipUpdate != null) {
-         return speedForm.format(ownshipUpdate.drift);
+      OwnshipState ownship = ownshipState;
+      if (ownship != null) {
+         return formatFixed (ownship.drift, 1, 1);
       }
       else {
          return "??.?";
@@ -2263,6 +2333,11 @@ public class DataFactory implements OwnshipUpdateListener, Serializable {
 }
 /* 
  * Version history
+ * 1.3.0.4 - simulated values read from one unchangeable OwnshipState per call,
+ *    published through a volatile reference, replacing getOwnshipUpdate()
+ * 1.3.0.3 - simulated values formatted by FixedPointFormat, without shared
+ *    DecimalFormat and Calendar objects; times and dates are in UTC
+ * 1.3.0.2 - added getOwnshipUpdate() for sentence templates
  * 1.3.0.1 - corrected simulated month 'off-by-one' error
  * 1.3.0.0 - added getter/setter methods for simulated COG/SOG, set and drift
  */
@@ -0,0 +1,275 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: FixedPointFormat.java
+ * Created: 2026-10-17, 20:41:52
+ */
+package mdl.data;
+
+/**
+ * This class formats numbers, positions and times as ASCII digits written
+ * into a caller's byte array, as a replacement for shared DecimalFormat and
+ * Calendar objects.  The methods hold no state, so they may be called from
+ * any number of threads at once, and they create no objects.  Each method
+ * writes from an offset and returns the offset following the last byte
+ * written; the caller provides room for the result.
+ * <p>
+ * Decimal numbers are rounded half even on the exact value of the double, as
+ * DecimalFormat.format(double) does, including its handling of 5.0E-4 and
+ * smaller ties, so "000.0", "#0.0", "00.0000", "00" and "000" patterns give
+ * the same digits as before.  Times and dates are in UTC.
+ *
+ * @author agent
+ * @version 1.0.0.1, 2026-10-17
+ */
+public class FixedPointFormat {
+
+   /** The most digits written after a decimal point. */
+   public final static int MAX_FRACTION_DIGITS = 9;
+   /** The largest magnitude of a decimal number that can be written. */
+   public final static double MAX_WHOLE_VALUE = 9.0e18;
+
+   final static long[] POWERS_OF_TEN = {
+      1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+      100000000L, 1000000000L
+   };
+   final static long MILLIS_PER_DAY = 86400000L;
+
+   /**
+    * Writes a whole number with at least a given number of digits, padding
+    * with leading zeros (e.g. value 7, digits 2 is written "07").  A negative
+    * number is preceded by '-'.
+    *
+    * @param buffer The array to write to.
+    * @param offset The index of the first byte to write.
+    * @param value The number.
+    * @param minDigits The least number of digits to write.
+    * @return The index following the last byte written.
+    */
+   public static int putDigits (byte[] buffer, int offset, long value, int minDigits) {
+      // Digits are taken from the negative value, so Long.MIN_VALUE is written too.
+      long negative = value;
+      if (value < 0) {
+         buffer[offset++] = '-';
+      }
+      else {
+         negative = -value;
+      }
+
+      int count = 1;
+      for (long rest = negative / 10; rest != 0; rest /= 10) {
+         count++;
+      }
+      while (minDigits > count) {
+         buffer[offset++] = '0';
+         minDigits--;
+      }
+
+      int end = offset + count;
+      for (int i = end - 1; i >= offset; i--) {
+         buffer[i] = (byte) ('0' - (negative % 10));
+         negative /= 10;
+      }
+      return end;
+   }
+
+   /**
+    * Writes a decimal number, rounded half even on the exact value of the
+    * double as DecimalFormat does (e.g. 0.15 is really 0.1499..., so value
+    * 0.15, integer digits 1, fraction digits 1 is written "0.1").  Like
+    * DecimalFormat, the doubles nearest 5.0E-4, 5.0E-5 ... are rounded down
+    * when that 5 is the first digit dropped, although each is just above the
+    * tie (e.g. value 5.0E-5, fraction digits 4 is written "0.0000").  A
+    * negative number, including -0.0, is preceded by '-'.  Nothing is written for
+    * NaN, infinity, or a value of MAX_WHOLE_VALUE or more.  Where a double
+    * is too coarse to resolve half of the last digit written (e.g. 6.0E11 to
+    * four places), the digits are those of its exact binary value, where
+    * DecimalFormat rounds its shortest decimal form.
+    *
+    * @param buffer The array to write to.
+    * @param offset The index of the first byte to write.
+    * @param value The number.
+    * @param minIntegerDigits The least number of digits before the decimal point.
+    * @param fractionDigits The number of digits after the decimal point (0 - 9).
+    * @return The index following the last byte written.
+    */
+   public static int putFixed (byte[] buffer, int offset, double value,
+                               int minIntegerDigits, int fractionDigits) {
+      double magnitude = Math.abs (value);
+      if (!(magnitude < MAX_WHOLE_VALUE)) {
+         return offset; // Not a number, infinite, or out of range
+      }
+      if ((value < 0.0) || ((value == 0.0) && (1.0 / value < 0.0))) {
+         buffer[offset++] = '-';
+      }
+
+      // The whole part and the fraction are each exact, so only the
+      // fraction is rounded (0.5 of the last digit is always exact too).
+      long whole = (long) magnitude;
+      double fraction = magnitude - whole;
+      long scale = POWERS_OF_TEN[fractionDigits];
+      double product = fraction * scale;
+      double rounded = Math.rint (product);
+      if (Math.abs (product - rounded) == 0.5) {
+         // An apparent tie, decided by the error in the scaled product.
+         double error = Math.fma (fraction, (double) scale, -product);
+         if (error > 0.0) {
+            rounded = Math.floor (product) + 1.0;
+         }
+         else if (error < 0.0) {
+            rounded = Math.floor (product);
+         }
+         else if (fractionDigits == 0) {
+            // A true tie of the last whole digit, rounded to even
+            rounded = ((whole & 1) == 0) ? 0.0 : 1.0;
+         }
+      }
+      if ((fractionDigits >= 3) && (magnitude == 5.0 / (10.0 * scale))) {
+         // DecimalFormat converts this double as "5.0E-n", and takes the
+         // trailing zero for a digit after the tie, so it rounds down.
+         rounded = 0.0;
+      }
+      long scaledFraction = (long) rounded;
+      if (scaledFraction >= scale) {
+         whole++;
+         scaledFraction -= scale;
+      }
+
+      offset = putDigits (buffer, offset, whole, minIntegerDigits);
+      if (fractionDigits > 0) {
+         buffer[offset++] = '.';
+         offset = putDigits (buffer, offset, scaledFraction, fractionDigits);
+      }
+      return offset;
+   }
+
+   /**
+    * Writes a latitude as degrees and minutes, "ddmm.mmmm".  The minutes are
+    * rounded on their own, so they may be written as "60.0000".
+    *
+    * @param buffer The array to write to.
+    * @param offset The index of the first byte to write.
+    * @param latitude The latitude, in degrees (the sign is not written).
+    * @return The index following the last byte written.
+    */
+   public static int putLatitude (byte[] buffer, int offset, double latitude) {
+      offset = putDigits (buffer, offset, (int) Math.abs (latitude), 2);
+      return putFixed (buffer, offset, Math.abs (latitude % 1.0) * 60.0, 2, 4);
+   }
+
+   /**
+    * Writes a longitude as degrees and minutes, "dddmm.mmmm".  The minutes
+    * are rounded on their own, so they may be written as "60.0000".
+    *
+    * @param buffer The array to write to.
+    * @param offset The index of the first byte to write.
+    * @param longitude The longitude, in degrees (the sign is not written).
+    * @return The index following the last byte written.
+    */
+   public static int putLongitude (byte[] buffer, int offset, double longitude) {
+      offset = putDigits (buffer, offset, (int) Math.abs (longitude), 3);
+      return putFixed (buffer, offset, Math.abs (longitude % 1.0) * 60.0, 2, 4);
+   }
+
+   /**
+    * Gets the hemisphere letter of a latitude.
+    *
+    * @param latitude The latitude, in degrees.
+    * @return 'N' if above zero, otherwise 'S'.
+    */
+   public static char getLatitudeHemisphere (double latitude) {
+      return (latitude > 0.0) ? 'N' : 'S';
+   }
+
+   /**
+    * Gets the hemisphere letter of a longitude.
+    *
+    * @param longitude The longitude, in degrees.
+    * @return 'E' if above zero, otherwise 'W'.
+    */
+   public static char getLongitudeHemisphere (double longitude) {
+      return (longitude > 0.0) ? 'E' : 'W';
+   }
+
+   /**
+    * Writes the UTC time of day, "hhmmss" followed by a decimal point and
+    * fractions of a second if required.  Fractions are truncated.
+    *
+    * @param buffer The array to write to.
+    * @param offset The index of the first byte to write.
+    * @param millis The time, in milliseconds since 1970-01-01 UTC.
+    * @param fractionDigits The number of digits of seconds after the decimal point (0 - 3).
+    * @return The index following the last byte written.
+    */
+   public static int putTime (byte[] buffer, int offset, long millis, int fractionDigits) {
+      long timeOfDay = Math.floorMod (millis, MILLIS_PER_DAY);
+      offset = putDigits (buffer, offset, timeOfDay / 3600000L, 2);
+      offset = putDigits (buffer, offset, (timeOfDay / 60000L) % 60, 2);
+      offset = putDigits (buffer, offset, (timeOfDay / 1000L) % 60, 2);
+      if (fractionDigits > 0) {
+         buffer[offset++] = '.';
+         offset = putDigits (buffer, offset,
+            (timeOfDay % 1000L) / POWERS_OF_TEN[3 - fractionDigits], fractionDigits);
+      }
+      return offset;
+   }
+
+   /**
+    * Gets the UTC date of a time, without a Calendar object.
+    *
+    * @param millis The time, in milliseconds since 1970-01-01 UTC.
+    * @return The date packed as (year << 9) | (month << 5) | day, month 1 - 12.
+    */
+   public static int getCivilDate (long millis) {
+      // Days to civil date, from the proleptic Gregorian calendar in 400 year eras
+      long z = Math.floorDiv (millis, MILLIS_PER_DAY) + 719468L;
+      long era = Math.floorDiv (z, 146097L);
+      long dayOfEra = z - (era * 146097L);
+      long yearOfEra = (dayOfEra - (dayOfEra / 1460) + (dayOfEra / 36524) - (dayOfEra / 146096)) / 365;
+      long dayOfYear = dayOfEra - ((365 * yearOfEra) + (yearOfEra / 4) - (yearOfEra / 100));
+      long monthIndex = ((5 * dayOfYear) + 2) / 153;
+      int day = (int) (dayOfYear - (((153 * monthIndex) + 2) / 5) + 1);
+      int month = (int) ((monthIndex < 10) ? monthIndex + 3 : monthIndex - 9);
+      int year = (int) (yearOfEra + (era * 400) + ((month <= 2) ? 1 : 0));
+      return (year << 9) | (month << 5) | day;
+   }
+
+   /**
+    * Gets the day of month from a packed civil date.
+    *
+    * @param civilDate A date from getCivilDate().
+    * @return Day of month (1 - 31).
+    */
+   public static int getDay (int civilDate) {
+      return civilDate & 0x1F;
+   }
+
+   /**
+    * Gets the month from a packed civil date.
+    *
+    * @param civilDate A date from getCivilDate().
+    * @return Month (1 - 12).
+    */
+   public static int getMonth (int civilDate) {
+      return (civilDate >>> 5) & 0x0F;
+   }
+
+   /**
+    * Gets the year from a packed civil date.
+    *
+    * @param civilDate A date from getCivilDate().
+    * @return Year.
+    */
+   public static int getYear (int civilDate) {
+      return civilDate >> 9;
+   }
+}
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  The doubles nearest 5.0E-4, 5.0E-5 ... are rounded down at their
+ *          first digit, as DecimalFormat.format(double) rounds them.
+ */
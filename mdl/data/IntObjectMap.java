@@ -0,0 +1,224 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: IntObjectMap.java
+ * Created: 2026-10-17, 21:09:12
+ */
+package mdl.data;
+
+import java.util.*;
+/**
+ * An object of this class maps int keys (e.g. sentence formatters or message
+ * IDs) to objects, without boxing the keys.  Entries are kept in an open
+ * addressing table of int keys and object values, probed linearly from a
+ * multiplicative hash of the key.
+ * <p>
+ * The table is copied when an entry is added, replaced or removed, and the
+ * copy published through a volatile field, so get() and values() may be
+ * called from any thread at any time without locking, and never see a table
+ * part way through a change.  Changes are synchronized on the map.  This
+ * suits registries read on every received or transmitted sentence, and
+ * changed only when a new type is first seen or an operator edits a list.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class IntObjectMap<V> {
+
+   /** The least number of slots in a table. */
+   public final static int MIN_CAPACITY = 16;
+
+   /* Golden ratio multiplier, spreading close keys across the table. */
+   final static int HASH_MULTIPLIER = 0x9E3779B9;
+
+   private volatile Table table;
+
+   /**
+    * Creates an empty map.
+    */
+   public IntObjectMap () {
+      table = new Table (MIN_CAPACITY);
+   }
+
+   /**
+    * Gets the object mapped to a key.
+    *
+    * @param key The key.
+    * @return The object, or null if the key is not mapped.
+    */
+   @SuppressWarnings("unchecked")
+   public V get (int key) {
+      return (V) table.get (key);
+   }
+
+   /**
+    * Determines whether a key is mapped.
+    *
+    * @param key The key.
+    * @return 'True' if the key is mapped.
+    */
+   public boolean containsKey (int key) {
+      return table.get (key) != null;
+   }
+
+   /**
+    * Maps a key to an object, replacing any object mapped to it.
+    *
+    * @param key The key.
+    * @param value The object, not null.
+    * @return The object replaced, or null if the key was not mapped.
+    */
+   @SuppressWarnings("unchecked")
+   public synchronized V put (int key, V value) {
+      if (value == null) {
+         throw new IllegalArgumentException ("IntObjectMap values may not be null.");
+      }
+      Table current = table;
+      Object oldValue = current.get (key);
+      int count = (oldValue == null) ? current.count + 1 : current.count;
+      Table copy = new Table (Table.getCapacity (count));
+      current.copyTo (copy, key, false);
+      copy.insert (key, value);
+      table = copy;
+      return (V) oldValue;
+   }
+
+   /**
+    * Removes the mapping of a key.
+    *
+    * @param key The key.
+    * @return The object removed, or null if the key was not mapped.
+    */
+   @SuppressWarnings("unchecked")
+   public synchronized V remove (int key) {
+      Table current = table;
+      Object oldValue = current.get (key);
+      if (oldValue != null) {
+         Table copy = new Table (Table.getCapacity (current.count - 1));
+         current.copyTo (copy, key, true);
+         table = copy;
+      }
+      return (V) oldValue;
+   }
+
+   /**
+    * Removes every mapping.
+    */
+   public synchronized void clear () {
+      table = new Table (MIN_CAPACITY);
+   }
+
+   /**
+    * Gets the number of mapped keys.
+    *
+    * @return Mapping count.
+    */
+   public int size () {
+      return table.count;
+   }
+
+   /**
+    * Determines whether the map is empty.
+    *
+    * @return 'True' if no key is mapped.
+    */
+   public boolean isEmpty () {
+      return table.count == 0;
+   }
+
+   /**
+    * Gets the mapped objects, as they were when called.  Later changes to the
+    * map do not change the list returned, so it may be iterated freely.
+    *
+    * @return A new list of the mapped objects, in no particular order.
+    */
+   @SuppressWarnings("unchecked")
+   public Vector<V> values () {
+      Table current = table;
+      Vector<V> list = new Vector<V>(current.count);
+      for (int i = 0; i < current.values.length; i++) {
+         if (current.values[i] != null) {
+            list.addElement ((V) current.values[i]);
+         }
+      }
+      return list;
+   }
+
+   /**
+    * Gets the mapped keys, as they were when called.
+    *
+    * @return A new array of the mapped keys, in no particular order.
+    */
+   public int [] keys () {
+      Table current = table;
+      int [] list = new int[current.count];
+      int n = 0;
+      for (int i = 0; i < current.values.length; i++) {
+         if (current.values[i] != null) {
+            list[n++] = current.keys[i];
+         }
+      }
+      return list;
+   }
+
+   /*
+    * One table of keys and values, never changed once published.  A null
+    * value marks an empty slot, and at least half the slots are empty.
+    */
+   static final class Table {
+      final int [] keys;
+      final Object [] values;
+      final int shift;
+      int count;
+
+      Table (int capacity) {
+         keys = new int[capacity];
+         values = new Object[capacity];
+         shift = 32 - Integer.numberOfTrailingZeros (capacity);
+      }
+
+      /* Gets the power of two capacity holding a number of entries. */
+      static int getCapacity (int entries) {
+         int capacity = MIN_CAPACITY;
+         while (capacity < entries * 2) {
+            capacity <<= 1;
+         }
+         return capacity;
+      }
+
+      Object get (int key) {
+         int mask = values.length - 1;
+         for (int i = (key * HASH_MULTIPLIER) >>> shift; ; i = (i + 1) & mask) {
+            Object value = values[i];
+            if ((value == null) || (keys[i] == key)) {
+               return value;
+            }
+         }
+      }
+
+      void insert (int key, Object value) {
+         int mask = values.length - 1;
+         int i = (key * HASH_MULTIPLIER) >>> shift;
+         while ((values[i] != null) && (keys[i] != key)) {
+            i = (i + 1) & mask;
+         }
+         if (values[i] == null) {
+            count++;
+         }
+         keys[i] = key;
+         values[i] = value;
+      }
+
+      /* Copies the entries to another table, leaving out one key if asked. */
+      void copyTo (Table copy, int excludedKey, boolean exclude) {
+         for (int i = 0; i < values.length; i++) {
+            if ((values[i] != null) && !(exclude && (keys[i] == excludedKey))) {
+               copy.insert (keys[i], values[i]);
+            }
+         }
+      }
+   }
+}
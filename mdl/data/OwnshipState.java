@@ -0,0 +1,122 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: OwnshipState.java
+ * Created: 2026-10-17, 20:44:34
+ */
+package mdl.data;
+
+import java.io.*;
+import java.util.*;
+/**
+ * An object of this class is an unchangeable copy of ownship data at one
+ * simulator tick.  A new object is published, through a single volatile
+ * reference, for each tick, so a reader that takes the reference once sees
+ * every value from the same tick without locking; an OwnshipUpdate, which the
+ * simulator changes in place, may mix values from two ticks.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public final class OwnshipState implements Serializable {
+
+   private static final long serialVersionUID = 6205171399260431781L;
+
+   /** Used as the time of a state copied from an update without a time. */
+   public static final long NO_TIME = Long.MIN_VALUE;
+
+   /** Ownship's time and date, in milliseconds since 1970-01-01 UTC, or NO_TIME */
+   public final long timeMillis;
+
+   /** Latitude (+90 to -90 degrees), negative (-) is South, positive (+) is North */
+   public final double latitude;
+   /** Longitude (+180 to -180 degrees),  negative (-) is West, positive (+) is East */
+   public final double longitude;
+
+   /** Depth, in meters from transducer. */
+   public final float depth;
+
+   /** Rudder angle, in degrees */
+   public final double rudderActual;
+
+   /** Heading acceleration, in degrees per second^2 */
+   public final double headingAcceleration;
+   /** Heading velocity, in degrees per minute - also called Rate of Turn (ROT) */
+   public final double headingVelocity;
+   /** Heading, in degrees True, range: {0.0, 360.0] */
+   public final double headingActual;
+   /** Heading, in degrees True over ground, range: {0.0, 360.0] */
+   public final double headingOverGround;
+
+   /** Speed acceleration, in knots */
+   public final double speedAcceleration;
+   /** Speed, through the water in knots, + forward, - aft */
+   public final double speedActual;
+   /** Speed, over ground in knots, + forward, - aft */
+   public final double speedOverGround;
+
+   /** Set, in degrees true */
+   public final double set;
+   /** Drift, in knots */
+   public final double drift;
+
+   /**
+    * Creates a copy of the current values of an ownship update.  The update
+    * must not be changed by another thread while it is copied.
+    *
+    * @param update The ownship update.
+    */
+   public OwnshipState (OwnshipUpdate update) {
+      timeMillis = (update.timeDate != null) ? update.timeDate.getTime () : NO_TIME;
+      latitude = update.latitude;
+      longitude = update.longitude;
+      depth = update.depth;
+      rudderActual = update.rudderActual;
+      headingAcceleration = update.headingAcceleration;
+      headingVelocity = update.headingVelocity;
+      headingActual = update.headingActual;
+      headingOverGround = update.headingOverGround;
+      speedAcceleration = update.speedAcceleration;
+      speedActual = update.speedActual;
+      speedOverGround = update.speedOverGround;
+      set = update.set;
+      drift = update.drift;
+   }
+
+   /**
+    * Gets whether this state has a time.
+    *
+    * @return 'True' if the time is known.
+    */
+   public boolean hasTime () {
+      return timeMillis != NO_TIME;
+   }
+
+   /**
+    * Creates an ownship update holding the values of this state, for objects
+    * that use the older, changeable form.
+    *
+    * @return New OwnshipUpdate object.
+    */
+   public OwnshipUpdate toOwnshipUpdate () {
+      OwnshipUpdate update = new OwnshipUpdate ();
+      update.timeDate = this.hasTime () ? new Date (timeMillis) : null;
+      update.latitude = latitude;
+      update.longitude = longitude;
+      update.depth = depth;
+      update.rudderActual = rudderActual;
+      update.headingAcceleration = headingAcceleration;
+      update.headingVelocity = headingVelocity;
+      update.headingActual = headingActual;
+      update.headingOverGround = headingOverGround;
+      update.speedAcceleration = speedAcceleration;
+      update.speedActual = speedActual;
+      update.speedOverGround = speedOverGround;
+      update.set = set;
+      update.drift = drift;
+      return update;
+   }
+}
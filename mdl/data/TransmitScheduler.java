@@ -0,0 +1,424 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: TransmitScheduler.java
+ * Created: 2026-10-17, 20:17:08
+ */
+package mdl.data;
+
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+/**
+ * This class triggers every periodic transmission in the application, for all
+ * serial ports and network channels, from one shared hashed timing wheel.
+ * The wheel is an array of WHEEL_SIZE buckets, each a linked list of the
+ * transmissions due in it, advanced one bucket every TICK_NANOS by a single
+ * thread; a transmission due more than one turn ahead waits for its remaining
+ * turns in its bucket.  Adding and cancelling a transmission are therefore
+ * constant time, however many are scheduled.  Due transmissions are run on a
+ * fixed pool of worker threads, so a slow port write never delays the wheel,
+ * and the thread count does not grow with the number of transmissions.
+ * <p>
+ * Fixed rate transmissions are due at whole periods from their first
+ * System.nanoTime() deadline, so they do not drift however late a single run
+ * is.  A worker given a transmission early in its tick waits for the exact
+ * deadline, so timing is not limited to the tick.  Deadlines missed entirely
+ * (e.g. during a long collection pause) are skipped and counted, rather than
+ * sent in a burst.
+ *
+ * @author agent
+ * @version 1.1.0.0, 2026-10-17
+ */
+public class TransmitScheduler {
+
+   /** The time between wheel ticks, in nanoseconds (1 millisecond). */
+   public final static long TICK_NANOS = 1000000L;
+   /** The number of buckets on the wheel, a power of two. */
+   public final static int WHEEL_SIZE = 1024;
+   /** The default number of worker threads running transmissions. */
+   public final static int DEFAULT_WORKER_THREADS =
+      Math.min (Math.max (Runtime.getRuntime ().availableProcessors (), 2), 8);
+
+   private static TransmitScheduler sharedScheduler;
+
+   final Object wheelLock = new Object();
+   ScheduledTransmit[] wheel;
+   long startNanos;
+   /* The next tick to be processed. */
+   long tick;
+   int scheduledCount;
+
+   WheelThread wheelThread;
+   ThreadPoolExecutor workers;
+   int workerThreads;
+
+   /**
+    * Gets the scheduler shared by all transmitting sentences and messages.
+    *
+    * @return The shared TransmitScheduler.
+    */
+   public static synchronized TransmitScheduler getScheduler () {
+      if (sharedScheduler == null) {
+         sharedScheduler = new TransmitScheduler (DEFAULT_WORKER_THREADS);
+      }
+      return sharedScheduler;
+   }
+
+   /**
+    * Creates a scheduler with its own wheel and worker threads.
+    *
+    * @param threads The number of worker threads.
+    */
+   public TransmitScheduler (int threads) {
+      if (threads < 1) {
+         threads = DEFAULT_WORKER_THREADS;
+      }
+      workerThreads = threads;
+      wheel = new ScheduledTransmit[WHEEL_SIZE];
+      startNanos = System.nanoTime ();
+      tick = 0;
+
+      workers = new ThreadPoolExecutor (threads, threads, 0L, TimeUnit.MILLISECONDS,
+         new LinkedBlockingQueue<Runnable>(), new WorkerThreadFactory ());
+   }
+
+   /**
+    * Schedules a task to run now, then repeatedly with a fixed delay between
+    * the end of one run and the start of the next.
+    *
+    * @param task The task to run.
+    * @param period The delay between runs, in milliseconds.
+    * @return The handle used to cancel the task.
+    */
+   public ScheduledTransmit schedule (Runnable task, long period) {
+      return schedule (task, 0L, period * 1000000L);
+   }
+
+   /**
+    * Schedules a task to run after a delay, then repeatedly with a fixed delay
+    * between the end of one run and the start of the next.
+    *
+    * @param task The task to run.
+    * @param delayNanos The delay before the first run, in nanoseconds.
+    * @param periodNanos The delay between runs, in nanoseconds; zero runs once.
+    * @return The handle used to cancel the task.
+    */
+   public ScheduledTransmit schedule (Runnable task, long delayNanos, long periodNanos) {
+      ScheduledTransmit transmit = new ScheduledTransmit (this, task, periodNanos);
+      synchronized (wheelLock) {
+         transmit.deadline = System.nanoTime () + delayNanos;
+         this.addToWheel (transmit);
+         if (wheelThread == null) {
+            wheelThread = new WheelThread ();
+            wheelThread.start ();
+         }
+      }
+      return transmit;
+   }
+
+   /**
+    * Schedules a task to be transmitted now, then at a fixed rate.
+    *
+    * @param task The task to transmit.
+    * @param periodNanos The time between transmissions, in nanoseconds.
+    * @return The handle used to cancel the task.
+    */
+   public ScheduledTransmit scheduleAtFixedRate (TransmitTask task, long periodNanos) {
+      ScheduledTransmit transmit = new ScheduledTransmit (this, null, periodNanos);
+      transmit.fixedRateTask = task;
+      synchronized (wheelLock) {
+         transmit.deadline = System.nanoTime ();
+         this.addToWheel (transmit);
+         if (wheelThread == null) {
+            wheelThread = new WheelThread ();
+            wheelThread.start ();
+         }
+      }
+      return transmit;
+   }
+
+   /*
+    * Links a transmission into the bucket of the tick starting at or before
+    * its deadline, holding wheelLock.
+    */
+   void addToWheel (ScheduledTransmit transmit) {
+      if (scheduledCount == 0) {
+         // Skip the ticks passed while the wheel was empty, and wake the wheel.
+         long currentTick = (System.nanoTime () - startNanos) / TICK_NANOS;
+         if (currentTick > tick) {
+            tick = currentTick;
+         }
+         wheelLock.notify ();
+      }
+      long dueTick = (transmit.deadline - startNanos) / TICK_NANOS;
+      if (dueTick < tick) {
+         dueTick = tick;
+      }
+      transmit.rounds = (dueTick - tick) / WHEEL_SIZE;
+      transmit.bucket = (int) (dueTick & (WHEEL_SIZE - 1));
+
+      transmit.previous = null;
+      transmit.next = wheel[transmit.bucket];
+      if (transmit.next != null) {
+         transmit.next.previous = transmit;
+      }
+      wheel[transmit.bucket] = transmit;
+      transmit.onWheel = true;
+      scheduledCount++;
+   }
+
+   /* Unlinks a transmission from its bucket, holding wheelLock. */
+   void removeFromWheel (ScheduledTransmit transmit) {
+      if (transmit.previous != null) {
+         transmit.previous.next = transmit.next;
+      }
+      else {
+         wheel[transmit.bucket] = transmit.next;
+      }
+      if (transmit.next != null) {
+         transmit.next.previous = transmit.previous;
+      }
+      transmit.previous = null;
+      transmit.next = null;
+      transmit.onWheel = false;
+      scheduledCount--;
+   }
+
+   /* Hands the due transmissions of the current tick to the workers, holding wheelLock. */
+   private void expireBucket () {
+      ScheduledTransmit transmit = wheel[(int) (tick & (WHEEL_SIZE - 1))];
+      ScheduledTransmit next;
+
+      while (transmit != null) {
+         next = transmit.next;
+         if (transmit.rounds > 0) {
+            transmit.rounds--;
+         }
+         else {
+            this.removeFromWheel (transmit);
+            workers.execute (transmit);
+         }
+         transmit = next;
+      }
+      tick++;
+   }
+
+   /**
+    * Gets the number of live threads used by this scheduler, the wheel thread
+    * and any started worker threads.
+    *
+    * @return Live thread count.
+    */
+   public int getThreadCount () {
+      int count = workers.getPoolSize ();
+      WheelThread thread = wheelThread;
+      if ((thread != null) && thread.isAlive ()) {
+         count++;
+      }
+      return count;
+   }
+
+   /**
+    * Gets the most threads this scheduler will use.
+    *
+    * @return Maximum thread count.
+    */
+   public int getMaxThreadCount () {
+      return workerThreads + 1;
+   }
+
+   /**
+    * Gets the number of transmissions waiting on the wheel.  Transmissions
+    * that are running are not included.
+    *
+    * @return Scheduled transmission count.
+    */
+   public int getScheduledCount () {
+      synchronized (wheelLock) {
+         return scheduledCount;
+      }
+   }
+
+   /*
+    * The thread advancing the wheel.  It waits while the wheel is empty, so an
+    * idle scheduler uses no processor time.
+    */
+   class WheelThread extends Thread {
+
+      WheelThread () {
+         super ("TransmitScheduler wheel");
+         this.setDaemon (true);
+         this.setPriority (Thread.MAX_PRIORITY);
+      }
+
+      public void run () {
+         long tickTime;
+         long now;
+
+         while (true) {
+            synchronized (wheelLock) {
+               while (scheduledCount == 0) {
+                  try {
+                     wheelLock.wait ();
+                  }
+                  catch (InterruptedException error) { /* do nothing */ }
+               }
+               tickTime = startNanos + (tick * TICK_NANOS);
+            }
+
+            now = System.nanoTime ();
+            while (now < tickTime) {
+               LockSupport.parkNanos (tickTime - now);
+               now = System.nanoTime ();
+            }
+
+            synchronized (wheelLock) {
+               expireBucket ();
+            }
+         }
+      }
+   }
+
+   /* Creates named, daemon worker threads. */
+   class WorkerThreadFactory implements ThreadFactory {
+      int threadNumber = 0;
+
+      public Thread newThread (Runnable runnable) {
+         Thread thread = new Thread (runnable, "TransmitScheduler worker " + (++threadNumber));
+         thread.setDaemon (true);
+         thread.setPriority (Thread.MAX_PRIORITY - 1);
+         return thread;
+      }
+   }
+
+   /**
+    * A scheduled transmission, used to cancel it.
+    */
+   public static class ScheduledTransmit implements Runnable {
+      TransmitScheduler scheduler;
+      Runnable task;
+      TransmitTask fixedRateTask;
+      long periodNanos;
+      volatile long missedCount;
+
+      /* Wheel state, guarded by the scheduler's wheelLock. */
+      long deadline;
+      long rounds;
+      int bucket;
+      boolean onWheel;
+      boolean cancelled;
+      ScheduledTransmit previous;
+      ScheduledTransmit next;
+
+      ScheduledTransmit (TransmitScheduler owner, Runnable runnable, long period) {
+         scheduler = owner;
+         task = runnable;
+         periodNanos = period;
+      }
+
+      /*
+       * Runs the task on a worker thread at its deadline, then puts the
+       * transmission back on the wheel for its next period.
+       */
+      public void run () {
+         long due;
+         long now;
+
+         synchronized (scheduler.wheelLock) {
+            if (cancelled) {
+               return;
+            }
+            due = deadline;
+         }
+
+         now = System.nanoTime ();
+         while (now < due) {
+            LockSupport.parkNanos (due - now);
+            now = System.nanoTime ();
+         }
+
+         try {
+            if (fixedRateTask != null) {
+               fixedRateTask.transmit (due);
+            }
+            else {
+               task.run ();
+            }
+         }
+         catch (Throwable thrown) {
+            System.out.println ("Scheduled transmit failed: " + thrown.toString ());
+         }
+
+         if (periodNanos > 0) {
+            synchronized (scheduler.wheelLock) {
+               if (!cancelled) {
+                  now = System.nanoTime ();
+                  if (fixedRateTask != null) {
+                     deadline = due + periodNanos;
+                     if (deadline <= now) {
+                        long missed = (now - deadline) / periodNanos + 1;
+                        missedCount += missed;
+                        deadline += missed * periodNanos;
+                     }
+                  }
+                  else {
+                     deadline = now + periodNanos;
+                  }
+                  scheduler.addToWheel (this);
+               }
+            }
+         }
+      }
+
+      /**
+       * Stops the transmission; a run already in progress is completed.
+       */
+      public void cancel () {
+         synchronized (scheduler.wheelLock) {
+            cancelled = true;
+            if (onWheel) {
+               scheduler.removeFromWheel (this);
+            }
+         }
+      }
+
+      /**
+       * Gets whether the transmission has been cancelled.
+       *
+       * @return 'True' if cancelled.
+       */
+      public boolean isCancelled () {
+         synchronized (scheduler.wheelLock) {
+            return cancelled;
+         }
+      }
+
+      /**
+       * Gets the number of fixed rate deadlines skipped because the previous
+       * transmission ran past them.
+       *
+       * @return Missed deadline count.
+       */
+      public long getMissedCount () {
+         return missedCount;
+      }
+
+      /**
+       * Gets the transmission period.
+       *
+       * @return Period, in nanoseconds.
+       */
+      public long getPeriodNanos () {
+         return periodNanos;
+      }
+   }
+}
+/*
+ * Revision history:
+ *
+ * 1.1.0.0  Added fixed rate transmissions, anchored to their first deadline,
+ *          and workers wait for the exact deadline within a tick.
+ */
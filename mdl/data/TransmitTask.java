@@ -0,0 +1,28 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: TransmitTask.java
+ * Created: 2026-10-17, 20:20:32
+ */
+package mdl.data;
+
+/**
+ * This interface is implemented by objects transmitted at a fixed rate by the
+ * TransmitScheduler.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public interface TransmitTask {
+
+   /**
+    * Called by the TransmitScheduler when a transmission is due.
+    *
+    * @param scheduledNanos The System.nanoTime() at which the transmission was
+    * due, to measure how late it is sent.
+    */
+   void transmit (long scheduledNanos);
+}
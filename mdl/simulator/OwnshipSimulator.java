@@ -17,7 +17,7 @@ import mdl.simulator.ships.*;
  * This class implements a ship simulator object for the MDL application.
  *
  * @author Jeff Stewart
- * @version 1.3.0.0, 2005-02-17
+ * @version 1.3.0.1, 2026-10-17
  */
 public class OwnshipSimulator extends TimerTask {
    static final int SIMULATION_PLAYING = 0;
@@ -86,6 +86,8 @@ public class OwnshipSimulator extends TimerTask {
    
    OwnshipController ownshipController;
    OwnshipUpdate ownshipUpdate;
+   /* An unchangeable copy of ownshipUpdate, replaced whole each tick. */
+   volatile OwnshipState ownshipState;
    
    /**
     * Creates an OwnshipSimulator object.
@@ -126,6 +128,7 @@ public class OwnshipSimulator extends TimerTask {
       speedMaximumAstern = simulatedShip.getSpeedAsternMaximum ();
 
       ownshipUpdate = new OwnshipUpdate();
+      ownshipState = new OwnshipState (ownshipUpdate);
       resetSimulation ();
    }
   
@@ -239,12 +242,22 @@ public class OwnshipSimulator extends TimerTask {
    }
    
    /**
-    * Returns the current ownship data to an external object.
+    * Returns the current ownship data to an external object.  The data is
+    * copied from the last published state, so all of it is from one tick.
     *
     * @return an OwnshipUpdate object
     */
    public OwnshipUpdate getOwnshipUpdate () {
-      return (OwnshipUpdate) ownshipUpdate.clone();
+      return ownshipState.toOwnshipUpdate ();
+   }
+   
+   /**
+    * Returns the ownship state published by the last simulator tick.
+    *
+    * @return an OwnshipState object
+    */
+   public OwnshipState getOwnshipState () {
+      return ownshipState;
    }
    
    /**
@@ -509,7 +522,7 @@ headingAcceleration += calcHeadingAcceleration (rudderActual, speedActual);// *
       }
    }
    
-   // Updates data within the ownshipUpdate object.
+   // Updates data within the ownshipUpdate object, and publishes a copy of it.
    private void updateOwnship () {     
       ownshipUpdate.timeDate = new Date (System.currentTimeMillis () 
          - simulationTimeOffset);
@@ -525,10 +538,13 @@ headingAcceleration += calcHeadingAcceleration (rudderActual, speedActual);// *
       ownshipUpdate.longitude = longitude;
       ownshipUpdate.set = set;
       ownshipUpdate.drift = drift;
+      ownshipState = new OwnshipState (ownshipUpdate);
    }
 }
 /*
  * Version history:
+ *    1.3.0.1 - Publishes an unchangeable OwnshipState each tick, and copies
+ *              ownship data for other threads from it.
  *    1.3.0.0 - Added set and drift calculations and correct rate of turn
  *              calculations.
  */
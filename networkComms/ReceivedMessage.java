@@ -24,7 +24,13 @@ public class ReceivedMessage {
    public static final int DEFAULT_BUFFER_SIZE = 8192;
    
    /** Sentence 'in-use' status. */
-   private boolean inUse;
+   private volatile boolean inUse;
+   
+   /* The owning pool and this object's index in it, -1 when unpooled. */
+   ReceivedMessageServer messageServer;
+   int poolIndex = -1;
+   /* Set on a pool's scratch message, which is dropped rather than processed. */
+   boolean discarded;
    
    /** Sentence message id from MessageTypes class. */
    int messageID;
@@ -97,10 +103,24 @@ public class ReceivedMessage {
    }
    
    public void clearMesssage () {
-      inUse = false;
       decodedMessage.setLength (0);
       processingText.setLength (0);      
       byteBuffer.clear ();
+      // Released last, the pool may hand this object to another thread.
+      inUse = false;
+      if (messageServer != null) {
+         messageServer.releaseReceivedMessage (this);
+      }
+   }
+   
+   /**
+    * Gets whether this is a pool's overload scratch message, which must be
+    * dropped rather than processed.
+    *
+    * @return 'True' if this message should be discarded.
+    */
+   public boolean isDiscarded () {
+      return discarded;
    }
    
    public boolean inUse () {
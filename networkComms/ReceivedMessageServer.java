@@ -9,51 +9,196 @@
  */
 package networkComms;
 
+import java.util.concurrent.atomic.*;
 /**
- * An object of this class is created by a SentenceTranceiver and passed
- * along to the SentenceManager for processing.
+ * An object of this class is a fixed pool of ReceivedMessage objects used by
+ * a UDPServer.  Free messages are kept on a lock-free index stack, so a
+ * message may be taken on the receive thread and returned (by
+ * ReceivedMessage.clearMesssage()) on any other thread.  The pool never
+ * grows; when it is empty the overload policy applies and the overload is
+ * counted.
  *
  * @author Jeff Stewart
- * @version 1.0.0.0, 2005-01-26
+ * @version 1.1.0.0, 2026-10-17
  */
 public class ReceivedMessageServer {
-   
+
    /** Default count of ReceivedMessage objects pool. */
    public final static int DEFAULT_SENTENCE_COUNT = 32;
-   
-   ReceivedMessage [] messagePool;
-   int index;
-   
+
+   /** When empty, hand out a scratch message that is discarded on delivery. */
+   public final static int OVERLOAD_DISCARD = 0;
+   /** When empty, allocate an unpooled message. */
+   public final static int OVERLOAD_ALLOCATE = 1;
+   /** Default overload policy. */
+   public final static int DEFAULT_OVERLOAD_POLICY = OVERLOAD_DISCARD;
+
+   /* Index marking the bottom of the free stack. */
+   final static int EMPTY = -1;
+
+   ReceivedMessage[] messagePool;
+
+   /* Free stack links, indexed by pool index. */
+   int[] nextFree;
+   /* Set to 1 while a pooled message is checked out, guards double release. */
+   AtomicIntegerArray checkedOut;
+   /* Free stack top, a change count in the high word and pool index in the low word. */
+   AtomicLong freeTop;
+   AtomicInteger freeCount;
+
+   ReceivedMessage overloadMessage;
+   volatile int overloadPolicy;
+   AtomicLong overloadCount;
+   volatile int lowWaterMark;
+
    public ReceivedMessageServer () {
-      messagePool = new ReceivedMessage[DEFAULT_SENTENCE_COUNT];
+      this(DEFAULT_SENTENCE_COUNT);
+   }
+
+   /**
+    * Initializes a pool of a given size, which should be at least the number
+    * of messages held by listeners at one time.
+    *
+    * @param messageCount The count of ReceivedMessage objects in the pool.
+    */
+   public ReceivedMessageServer (int messageCount) {
+
+      if (messageCount < 1) {
+         messageCount = DEFAULT_SENTENCE_COUNT;
+      }
+
+      messagePool = new ReceivedMessage[messageCount];
+      nextFree = new int[messageCount];
+      checkedOut = new AtomicIntegerArray (messageCount);
       for (int i = 0; i < messagePool.length; i++) {
          messagePool[i] = new ReceivedMessage();
+         messagePool[i].messageServer = this;
+         messagePool[i].poolIndex = i;
+         nextFree[i] = (i + 1 < messageCount) ? i + 1 : EMPTY;
       }
-      index = 0;
+      freeTop = new AtomicLong (0);
+      freeCount = new AtomicInteger (messageCount);
+      lowWaterMark = messageCount;
+
+      overloadMessage = new ReceivedMessage();
+      overloadMessage.discarded = true;
+      overloadPolicy = DEFAULT_OVERLOAD_POLICY;
+      overloadCount = new AtomicLong ();
    }
-   
+
+   /**
+    * Takes a free message from the pool.  If the pool is empty, the overload
+    * is counted and either the scratch message (OVERLOAD_DISCARD) or a new
+    * unpooled message (OVERLOAD_ALLOCATE) is returned.  The scratch message
+    * is only safe for a single receive thread.
+    *
+    * @return A ReceivedMessage object.
+    */
    public ReceivedMessage getReceivedMessage () {
-      
-      int searchCount = 0;
-      
-      if (index >= messagePool.length) {
-         index = 0;
-      }
-      
-      while (searchCount < messagePool.length) {
-         if (!messagePool[index].inUse ()) {
-            return messagePool[index++];
-         }
-         
-         index++;
-         if (index >= (messagePool.length - 1)) {
-            index = 0;
+      long top;
+      long next;
+      int i;
+
+      do {
+         top = freeTop.get ();
+         i = (int) top;
+         if (i == EMPTY) {
+            overloadCount.incrementAndGet ();
+            if (overloadPolicy == OVERLOAD_ALLOCATE) {
+               return new ReceivedMessage();
+            }
+            return overloadMessage;
          }
+         next = (((top >>> 32) + 1) << 32) | (nextFree[i] & 0xFFFFFFFFL);
+      } while (!freeTop.compareAndSet (top, next));
 
-         searchCount++;
+      checkedOut.set (i, 1);
+      int free = freeCount.decrementAndGet ();
+      if (free < lowWaterMark) {
+         lowWaterMark = free;
       }
-      
-      System.out.println ("Warning: ReceivedMessageServer is overloaded.");
-      return new ReceivedMessage();
+      return messagePool[i];
+   }
+
+   /*
+    * Returns a message to the free stack, called by ReceivedMessage.clearMesssage().
+    * Unpooled messages and repeated releases are ignored.
+    */
+   void releaseReceivedMessage (ReceivedMessage message) {
+      int i = message.poolIndex;
+      long top;
+
+      if ((i < 0) || (message.messageServer != this) ||
+          !checkedOut.compareAndSet (i, 1, 0)) {
+         return;
+      }
+
+      do {
+         top = freeTop.get ();
+         nextFree[i] = (int) top;
+      } while (!freeTop.compareAndSet (top, (((top >>> 32) + 1) << 32) | i));
+      freeCount.incrementAndGet ();
+   }
+
+   /**
+    * Sets the policy applied when the pool is empty.
+    *
+    * @param policy OVERLOAD_DISCARD or OVERLOAD_ALLOCATE.
+    */
+   public void setOverloadPolicy (int policy) {
+      if ((policy == OVERLOAD_DISCARD) || (policy == OVERLOAD_ALLOCATE)) {
+         overloadPolicy = policy;
+      }
+   }
+
+   /**
+    * Gets the policy applied when the pool is empty.
+    *
+    * @return OVERLOAD_DISCARD or OVERLOAD_ALLOCATE.
+    */
+   public int getOverloadPolicy () {
+      return overloadPolicy;
+   }
+
+   /**
+    * Gets the number of requests made while the pool was empty.
+    *
+    * @return Overload count.
+    */
+   public long getOverloadCount () {
+      return overloadCount.get ();
+   }
+
+   /**
+    * Gets the pool size.
+    *
+    * @return Count of pooled messages.
+    */
+   public int getMessageCount () {
+      return messagePool.length;
+   }
+
+   /**
+    * Gets the number of messages currently free.
+    *
+    * @return Free message count.
+    */
+   public int getFreeCount () {
+      return freeCount.get ();
+   }
+
+   /**
+    * Gets the smallest number of free messages seen.
+    *
+    * @return Low-water mark, in messages.
+    */
+   public int getLowWaterMark () {
+      return lowWaterMark;
    }
 }
+/*
+ * Revision history:
+ *
+ * 1.1.0.0  Replaced the linear in-use scan with a lock-free free stack and a
+ *          counted overload policy; the pool no longer grows.
+ */
@@ -21,7 +21,7 @@ import networkComms.networkInterface.*;
  * on a unique serial port.
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-01
+ * @version 1.0.0.3, 2026-10-17
  */
 public class MessageManager extends TimerTask implements ReceivedMessageListener, TransmittedMessageListener {
    /** Used to set a transmit frequency of 0.03Hz (or a period of 30 seconds). */
@@ -42,8 +42,9 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
    private Vector<Object> transmitListListeners = new Vector<Object>();
    private Vector<Object> receiveListListeners = new Vector<Object>();
    
-   HashMap<Integer, ReceivingMessage> receivingMessagesMap;
-   HashMap<Integer, TransmittingMessage> transmittingMessagesMap;
+   /* Keyed by message ID; read without locking by the network and timer threads. */
+   IntObjectMap<ReceivingMessage> receivingMessagesMap;
+   IntObjectMap<TransmittingMessage> transmittingMessagesMap;
    
 //   UDPServer server;
    
@@ -68,8 +69,8 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
       receivedMessageListeners = new Vector<ReceivedMessageListener>();
       transmittedMessageListeners = new Vector<TransmittedMessageListener>();
 
-      receivingMessagesMap = new HashMap<Integer, ReceivingMessage>();
-      transmittingMessagesMap = new HashMap<Integer, TransmittingMessage>();
+      receivingMessagesMap = new IntObjectMap<ReceivingMessage>();
+      transmittingMessagesMap = new IntObjectMap<TransmittingMessage>();
       
       this.resetReceivingMessages ();
       this.resetTransmittingMessages ();
@@ -207,7 +208,7 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
       // Update receive data listeners
       for (int i = 0; i < receiveListListeners.size(); i++) {
          ReceiveListListener listener = (ReceiveListListener) receiveListListeners.elementAt (i);
-         listener.updateList (new Vector<ReceivingMessage>(receivingMessagesMap.values ()));
+         listener.updateList (receivingMessagesMap.values ());
       }
    }
   
@@ -217,15 +218,14 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
     * @param receivedSentence The received message object.
     */   
    public void receiveMessage (ReceivedMessage receivedMessage) {
-      Integer keyValue = new Integer(receivedMessage.getMessageID ());
-      if (receivingMessagesMap.containsKey (keyValue)) {
-         receivingMessage = (ReceivingMessage) receivingMessagesMap.get (keyValue);
+      receivingMessage = receivingMessagesMap.get (receivedMessage.getMessageID ());
+      if (receivingMessage != null) {
          receivingMessage.receiveMessage (receivedMessage);
       }
       else {
          receivingMessage = new ReceivingMessage (receivedMessage.getMessageID (), dashboardChannel);
          receivingMessage.receiveMessage (receivedMessage);
-         receivingMessagesMap.put (keyValue, receivingMessage);
+         receivingMessagesMap.put (receivedMessage.getMessageID (), receivingMessage);
       }
       
       for (int i = 0; i < receivedMessageListeners.size (); i++) {
@@ -293,9 +293,8 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
          
          bandwidthBPS -= bandwidthDemand;
          
-         Integer keyValue = new Integer(messageID);
-         if (transmittingMessagesMap.containsKey (keyValue)) {
-            oldTransmittingMessage = (TransmittingMessage) transmittingMessagesMap.remove (keyValue);
+         oldTransmittingMessage = transmittingMessagesMap.put (messageID, newTransmittingMessage);
+         if (oldTransmittingMessage != null) {
             bandwidthBPS += oldTransmittingMessage.getBandwidthBPS ();
             oldTransmittingMessage.stop();
             operationStatus = "New message replaced existing sentece.";
@@ -303,7 +302,6 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
          else {
             operationStatus = "Ready to add.";
          }
-         transmittingMessagesMap.put (keyValue, newTransmittingMessage);
       }
       else {
          newTransmittingMessage.stop ();
@@ -312,7 +310,7 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
       
       for (int i = 0; i < transmitListListeners.size(); i++) {
         TransmitListListener listener = (TransmitListListener) transmitListListeners.elementAt (i);
-        listener.updateList (new Vector<TransmittingMessage>(transmittingMessagesMap.values ()));
+        listener.updateList (transmittingMessagesMap.values ());
         listener.updateBandwidth (bandwidthBPS);
         listener.updateAddMessage (operationStatus);
       } 
@@ -324,10 +322,11 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
     * @param formatter The message to stop, referenced by message formatter.
     */   
    public void removeTransmitMessage (int messageID) {
-      Integer keyValue = new Integer(messageID);
-      if (transmittingMessagesMap.containsKey (keyValue)) {
-         transmittingMessagesMap.remove (keyValue);
-      }                              
+      TransmittingMessage removedTransmit = transmittingMessagesMap.remove (messageID);
+      if (removedTransmit != null) {
+         bandwidthBPS += removedTransmit.getBandwidthBPS ();
+         removedTransmit.stop ();
+      }
    }
    
    /**
@@ -335,17 +334,17 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
     */
    public void stopAllTransmittingMessages () {
       TransmittingMessage removedTransmittingMessage;
-      Vector<TransmittingMessage> transmitList = new Vector<TransmittingMessage>(transmittingMessagesMap.values ());
+      Vector<TransmittingMessage> transmitList = transmittingMessagesMap.values ();
       for (int i = 0; i < transmitList.size (); i++) {
          removedTransmittingMessage =  (TransmittingMessage) transmitList.elementAt (i);
          bandwidthBPS += removedTransmittingMessage.getBandwidthBPS ();
          removedTransmittingMessage.stop();
       }
-      transmittingMessagesMap = new HashMap<Integer, TransmittingMessage>();
+      transmittingMessagesMap.clear ();
 
       for (int i = 0; i < transmitListListeners.size(); i++) {
         TransmitListListener listener = (TransmitListListener) transmitListListeners.elementAt (i);
-        listener.updateList (new Vector<TransmittingMessage>(transmittingMessagesMap.values ()));
+        listener.updateList (transmittingMessagesMap.values ());
         listener.updateBandwidth (bandwidthBPS);
         listener.updateAddMessage (new String ("Transmit list cleared."));
       } 
@@ -366,4 +365,7 @@ public class MessageManager extends TimerTask implements ReceivedMessageListener
 /*
  * Revision history:
  *
+ * 1.0.0.2  removeTransmitMessage() stops the removed message and returns its bandwidth.
+ * 1.0.0.3  Receiving and transmitting messages kept in IntObjectMaps, read
+ *          without boxing or locking, and safe to list while changed.
  */
@@ -63,31 +63,31 @@ public abstract class MessageTools {
       double valueDivisor = 600.0;
       
       if (latitude.length < 4) {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//            "Latitude data incomplete - missing degree or minute values. ")); //LATITUDE_INCOMPLETE
+//         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//            "Latitude data incomplete - missing degree or minute values. "); //LATITUDE_INCOMPLETE
          return Double.NaN;
       }
       else {
          for (int i = 0; i < 4; i++) {
             if ((latitude[i] < 0x30) | (latitude[i] > 0x39)) {
-//               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+//               errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
 //                  "A non-number character was found in latitude. ", 
-//                  latitude[i])); //LATITUDE_INCORRECT_CHARACTER
+//                  latitude[i]); //LATITUDE_INCORRECT_CHARACTER
                return Double.NaN;
             }
          }
          
          // Latitude degrees must be less than 90
          if ((latitude[0] > 0x38) & (latitude[0] < 0x3A)) {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
-//               "Latitude degree value out of range. ")); //LATITUDE_DEGREE_OUT_OF_RANGE
+//            errorLog.addError (SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
+//               "Latitude degree value out of range. "); //LATITUDE_DEGREE_OUT_OF_RANGE
             return Double.NaN; 
          }
          
          // Latitude minutes must be less than 60
          if ((latitude[2] > 0x35) & (latitude[2] < 0x3A)) {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
-//               "Latitude minute value out of range. ")); //LATITUDE_MINUTE_OUT_OF_RANGE
+//            errorLog.addError (SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
+//               "Latitude minute value out of range. "); //LATITUDE_MINUTE_OUT_OF_RANGE
             return Double.NaN; 
          }
          
@@ -103,21 +103,21 @@ public abstract class MessageTools {
          
          // 5th character may only be a decimal
          if (latitude[4] != 0x2E) {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+//            errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
 //               "A non-decimal character was found in latitude. ",
-//               latitude[4])); //LATITUDE_NON_DECIMAL
+//               latitude[4]); //LATITUDE_NON_DECIMAL
             return Double.NaN;                  
          }
          else {
             if (latitude.length < 9) {
-//               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_PRECISION,
-//                  "Latitude is imprecise.")); //LATITUDE_IMPRECISE
+//               errorLog.addError (SentenceErrorTypes.ERR_POSITION_PRECISION,
+//                  "Latitude is imprecise."); //LATITUDE_IMPRECISE
             }
             for (int i = 5; i < latitude.length; i++) {
                if ((latitude[i] < 0x30) | (latitude[i] > 0x39)) {
-//                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+//                  errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
 //                     "A non-number character was found in latitude.",
-//                     latitude[i])); //LATITUDE_INCORRECT_CHARACTER
+//                     latitude[i]); //LATITUDE_INCORRECT_CHARACTER
                   return Double.NaN;
                }
                else {
@@ -146,14 +146,14 @@ public abstract class MessageTools {
             return hemisphere;
          }
          else {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
-//               "Latitude hemisphere not recognzed.", hemisphere)); //LATITUDE_HEMISPHERE_UNRECOGNIZED
+//            errorLog.addError (SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
+//               "Latitude hemisphere not recognzed.", hemisphere); //LATITUDE_HEMISPHERE_UNRECOGNIZED
             return 0;
          }
       }
       else {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
-//            "Latitude hemisphere field has incorrect number of characters.")); //LATITUDE_HEMISPHERE_OVERRUN
+//         errorLog.addError (SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
+//            "Latitude hemisphere field has incorrect number of characters."); //LATITUDE_HEMISPHERE_OVERRUN
          return 0;
       }
    }
@@ -197,16 +197,16 @@ public abstract class MessageTools {
       double valueDivisor = 600.0;
       
       if (longitude.length < 5) {        
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//            "Longitude data incomplete - missing degree or minute values."));//LONGITUDE_INCOMPLETE
+//         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//            "Longitude data incomplete - missing degree or minute values.");//LONGITUDE_INCOMPLETE
          return Double.NaN;
       }
       else{
          for (int i = 0; i < 5; i++) {
             if ((longitude[i] < 0x30) | (longitude[i] > 0x39)) {
-//               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+//               errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
 //                  "A non-number character was found in longitude.",
-//                  longitude[i]));//LONGITUDE_INCORRECT_CHARACTER
+//                  longitude[i]);//LONGITUDE_INCORRECT_CHARACTER
                return Double.NaN;
             }
          }
@@ -214,16 +214,16 @@ public abstract class MessageTools {
          // Longitude degree must be less than 180
          if (longitude[0] > 0x30) {
             if ((longitude[0] > 0x31) | (longitude[1] > 0x37)) {
-//               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
-//                  "Longitude degree value out of range."));//LONGITUDE_DEGREE_OUT_OF_RANGE
+//               errorLog.addError (SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
+//                  "Longitude degree value out of range.");//LONGITUDE_DEGREE_OUT_OF_RANGE
                return Double.NaN;
             }
          }
          
          // Longitude minute must be less than 60
          if ((longitude[3] > 0x35) & (longitude[3] > 0x35)) {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
-//               "Longitude minute value out of range."));//LONGITUDE_MINUTE_OUT_OF_RANGE
+//            errorLog.addError (SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
+//               "Longitude minute value out of range.");//LONGITUDE_MINUTE_OUT_OF_RANGE
             return Double.NaN; 
          }
          
@@ -240,21 +240,21 @@ public abstract class MessageTools {
          
          // 6th character may only be a decimal
          if (longitude[5] != 0x2E) {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+//            errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
 //               "A non-decimal character was found in longitude.",
-//               longitude[5]));//LONGITUDE_NON_DECIMAL
+//               longitude[5]);//LONGITUDE_NON_DECIMAL
             return Double.NaN;                  
          }
          else {
             if (longitude.length < 10) {
-//               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_PRECISION,
-//                  "Longitude is imprecise."));//LONGITUDE_IMPRECISE
+//               errorLog.addError (SentenceErrorTypes.ERR_POSITION_PRECISION,
+//                  "Longitude is imprecise.");//LONGITUDE_IMPRECISE
             }
             for (int i = 6; i < longitude.length; i++) {
                if ((longitude[i] < 0x30) | (longitude[i] > 0x39)) {
-//                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+//                  errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
 //                     "A non-number character was found in longitude.",
-//                     longitude[i]));//LONGITUDE_INCORRECT_CHARACTER
+//                     longitude[i]);//LONGITUDE_INCORRECT_CHARACTER
                   return Double.NaN;
                }
                else {
@@ -282,14 +282,14 @@ public abstract class MessageTools {
             return hemisphere;
          }
          else {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
-//               "Latitude hemisphere not recognzed.", hemisphere));//LONGITUDE_HEMISPHERE_UNRECOGNIZED
+//            errorLog.addError (SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
+//               "Latitude hemisphere not recognzed.", hemisphere);//LONGITUDE_HEMISPHERE_UNRECOGNIZED
             return 0;
          }
       }
       else {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
-//            "Longitude hemisphere field has incorrect number of characters."));//LONGITUDE_HEMISPHERE_OVERRUN
+//         errorLog.addError (SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
+//            "Longitude hemisphere field has incorrect number of characters.");//LONGITUDE_HEMISPHERE_OVERRUN
          return 0;
       }
    }
@@ -335,17 +335,17 @@ public abstract class MessageTools {
       int milliDivisor = 1000;
       
       if (timeUTC.length < 6) {        
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//            "UTC data incomplete - hour, minute, or second data.")); //UTC_INCOMPLETE
+//         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//            "UTC data incomplete - hour, minute, or second data."); //UTC_INCOMPLETE
          return -1;
       }
       else{
          // Validate numerical values for first 6 digits
          for (int i = 0; i < 6; i++) {
             if ((timeUTC[i] < 0x30) | (timeUTC[i] > 0x39)) {
-//               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
+//               errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
 //                  "A non-number character was found in the UTC.",
-//                  timeUTC[i])); //UTC_INCORRECT_CHARACTER
+//                  timeUTC[i]); //UTC_INCORRECT_CHARACTER
                return -1;
             }
          }
@@ -354,31 +354,31 @@ public abstract class MessageTools {
          if (timeUTC[0] > 0x31) { // ~hours greater than 19
             if (timeUTC[0] < 0x33) { // ~hours less than 30 
                if (timeUTC[1] > 0x33) { // ~hours more than 23
-//                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
-//                     "Hour value invalid.")); //UTC_HOUR_INCORRECT
+//                  errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
+//                     "Hour value invalid."); //UTC_HOUR_INCORRECT
                   return -1; 
                }
             }
             else {
-//               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
-//                  "Hour value invalid.")); //UTC_HOUR_INCORRECT
+//               errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
+//                  "Hour value invalid."); //UTC_HOUR_INCORRECT
                return -1; 
             }
          }
          
          // Time minute value must be valid
          if (timeUTC[2] > 0x35) {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
+//            errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
 //               "Minute value invalid.",
-//               timeUTC[2])); //UTC_MINUTE_INCORRECT
+//               timeUTC[2]); //UTC_MINUTE_INCORRECT
             return -1;   
          }
          
          // Time second value must be valid
          if (timeUTC[4] > 0x35) {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
+//            errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
 //               "Second value invalid.",
-//               timeUTC[4])); //UTC_MINUTE_INCORRECT
+//               timeUTC[4]); //UTC_MINUTE_INCORRECT
             return -1;   
          }
          
@@ -400,17 +400,17 @@ public abstract class MessageTools {
          
          // 7th character may only be a decimal
          if (timeUTC[6] != 0x2E) {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
+//            errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
 //               "A non-decimal character was found in time.",
-//               timeUTC[6])); //UTC_NON_DECIMAL
+//               timeUTC[6]); //UTC_NON_DECIMAL
             return -1;                  
          }
          else {
             for (int i = 7; i < timeUTC.length; i++) {
                if ((timeUTC[i] < 0x30) | (timeUTC[i] > 0x39)) {
-//                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
+//                  errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
 //                     "A non-number character was found in time.",
-//                     timeUTC[i])); //UTC_INCORRECT_CHARACTER
+//                     timeUTC[i]); //UTC_INCORRECT_CHARACTER
                   return -1;
                }
                else {
@@ -465,14 +465,14 @@ public abstract class MessageTools {
       
       // Test bearing for 0.0 < value < 360.0
       if ((bearing < 0.0) || (bearing >= 360.0)) {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_HEADING_OUT_OF_RANGE)); //HEADING_OUT_OF_RANGE
+//         errorLog.addError (SentenceErrorTypes.ERR_HEADING_OUT_OF_RANGE); //HEADING_OUT_OF_RANGE
          return Double.NaN;
       }
       
       // Test for 0.0 suspect value
       if (bearing < 0.001) {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-//            "Check bearing/heading (value is 0.0)."));//HEADING_SUSPICOUS
+//         errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+//            "Check bearing/heading (value is 0.0).");//HEADING_SUSPICOUS
       }
       
       return bearing;
@@ -510,9 +510,9 @@ public abstract class MessageTools {
             // Check for negative sign in wrong position
             if ( (number[i] == NEGATIVE_SIGN) || (number[i] == POSITIVE_SIGN) ){
                if (i > 0) {
-//                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+//                  errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
 //                     "An illegal negative or positive sign was found.",
-//                     number[i]));//NUMBER_INCORRECT_NEGATIVE
+//                     number[i]);//NUMBER_INCORRECT_NEGATIVE
                   return Double.NaN; 
                }
                else {
@@ -522,9 +522,9 @@ public abstract class MessageTools {
             // Check for multiple decimals
             if (number[i] == 0x2E) {
                if (decimalFound) {
-//                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+//                  errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
 //                     "Too many decimals were found.",
-//                     number[i])); //NUMBER_TOO_MANY_DECIMALS
+//                     number[i]); //NUMBER_TOO_MANY_DECIMALS
                   return Double.NaN;  
                }
                else { 
@@ -533,9 +533,9 @@ public abstract class MessageTools {
                }
             }
             
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+//            errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
 //               "Illegal non-number character.",
-//               number[i])); //NUMBER_NON_NUMBER
+//               number[i]); //NUMBER_NON_NUMBER
             return Double.NaN; 
          }
       }
@@ -562,14 +562,14 @@ public abstract class MessageTools {
             return status;
          }
          else {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//               "Status field not recognzed.", status)); //STATUS_NOT_RECOGNIZED
+//            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//               "Status field not recognzed.", status); //STATUS_NOT_RECOGNIZED
             return 0;
          }
       }
       else {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//            "Status field has incorrect number of characters.")); //STATUS_TOO_MANY_CHARACTERS
+//         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//            "Status field has incorrect number of characters."); //STATUS_TOO_MANY_CHARACTERS
          return 0;
       }
    }
@@ -593,14 +593,14 @@ public abstract class MessageTools {
             return mode;
          }
          else {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//               "Operating mode field not recognzed.", mode)); //MODE_NOT_RECOGNIZED
+//            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//               "Operating mode field not recognzed.", mode); //MODE_NOT_RECOGNIZED
             return 0;
          }
       }
       else {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//            "Operating mode field has incorrect number of characters.")); //MODE_TOO_MANY_CHARACTERS
+//         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//            "Operating mode field has incorrect number of characters."); //MODE_TOO_MANY_CHARACTERS
          return 0;
       }
    }
@@ -618,8 +618,8 @@ public abstract class MessageTools {
          return Double.NaN;
       }
       else if (number.length != 4) {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-//               "Invalid number of characters for GRI.")); //LORAN_GRI_INCORRECT
+//         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+//               "Invalid number of characters for GRI."); //LORAN_GRI_INCORRECT
          return 0;
       }
       
@@ -627,8 +627,8 @@ public abstract class MessageTools {
       
       // Test bearing for 0.0 < value < 360.0
       if ((loranGRI < 7000.0) || (loranGRI > 10000.0)) {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-//               "GRI is out of range.")); //LORAN_GRI_INCORRECT
+//         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+//               "GRI is out of range."); //LORAN_GRI_INCORRECT
          return loranGRI;
       }
       
@@ -653,8 +653,8 @@ public abstract class MessageTools {
       
       // Test bearing for 0.0 < value < 360.0
       if ((loranTD < 0.0) || (loranTD > 99999.9)) {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-//               "TD is out of range.")); //LORAN_TOATD_INCORRECT
+//         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+//               "TD is out of range."); //LORAN_TOATD_INCORRECT
          return loranTD;
       }
       
@@ -675,8 +675,8 @@ public abstract class MessageTools {
          return Double.NaN;
       }
       else if (number.length != 3) {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-//               "Invalid number of characters for ECD or SNR."));//LORAN_ECDSNR_INCORRECT
+//         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+//               "Invalid number of characters for ECD or SNR.");//LORAN_ECDSNR_INCORRECT
          return 0;
       }
       
@@ -684,8 +684,8 @@ public abstract class MessageTools {
       
       // Test bearing for 0.0 < value < 360.0
       if ((loranQuality < 0.0) || (loranQuality > 999.9)) {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-//               "ECD or SNR is out of range."));//LORAN_ECDSNR_INCORRECT
+//         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+//               "ECD or SNR is out of range.");//LORAN_ECDSNR_INCORRECT
          return loranQuality;
       }
       
@@ -703,32 +703,32 @@ public abstract class MessageTools {
       if (modeField.length == 1) {
          char mode = modeField[0];
          if (mode == 'B') {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-//               "Blink warning present."));//LORAN_BLINK
+//            errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+//               "Blink warning present.");//LORAN_BLINK
             return mode;
          }
          else if (mode == 'C') {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//               "Cycle warning present."));//LORAN_CYCLE
+//            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//               "Cycle warning present.");//LORAN_CYCLE
             return mode;
          }
          else if (mode == 'S') {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//               "Signal-to-Noise (SNR) warning present.")); //LORAN_SNR
+//            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//               "Signal-to-Noise (SNR) warning present."); //LORAN_SNR
             return mode;
          }
          else if (mode == 'A') {
             return mode;
          }
          else {
-//            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//               "Signal status not recognzed.", mode)); //LORAN_STATUS
+//            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//               "Signal status not recognzed.", mode); //LORAN_STATUS
             return '?';
          }
       }
       else {
-//         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-//            "Signal status field has incorrect number of characters.")); //LORAN_STATUS_TOO_MANY_CHARACTERS
+//         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+//            "Signal status field has incorrect number of characters."); //LORAN_STATUS_TOO_MANY_CHARACTERS
          return '?';
       }
    }
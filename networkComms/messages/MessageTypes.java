@@ -16,7 +16,7 @@ import networkComms.messages.specific.*;
  * sentences are supported by this application.
  *
  * @author Jeff Stewart
- * @version 1.1.0.0, 2005-02-02
+ * @version 1.2.0.0, 2026-10-17
  */
 public class MessageTypes {
    public static final int INVALID_MESSAGE = -1;
@@ -170,330 +170,103 @@ public class MessageTypes {
       return messages;
    }
    
+   /* Message name and support tables, indexed by message ID less MT_CP. */
+   private static String [] messageNames = new String[MT_RYME_NSSN - MT_CP + 1];
+   private static boolean [] messageSupported = new boolean[MT_RYME_NSSN - MT_CP + 1];
+
+   static {
+      addMessage (MT_CP, "Computed Position message to hmi", true);
+      addMessage (MT_FIX, "Fix data message to hmi", true);
+      addMessage (MT_CRS_SPD, "Course and Speed Source data message to hmi", true);
+      addMessage (MT_HEADING, "Heading Source data message to hmi", true);
+      addMessage (MT_SET_DRIFT, "Set and Drift Source data message to hmi", true);
+      addMessage (MT_DEPTH, "Depth Source data message to hmi", true);
+      addMessage (MT_WIND, "Wind Source data message to hmi", true);
+      addMessage (MT_TIME_ZONE, "Time Zone Source data message to hmi", true);
+      addMessage (MT_GPS_1, "GPS1 data message to hmi", true);
+      addMessage (MT_GPS_2, "GPS2 data message to hmi", true);
+      addMessage (MT_LORAN_1, "LORAN1 data message to hmi", true);
+      addMessage (MT_LORAN_2, "LORAN2 data message to hmi", true);
+      addMessage (MT_LOP_1, "LOP1 data message to hmi", true);
+      addMessage (MT_LOP_2, "LOP2 data message to hmi", true);
+      addMessage (MT_INS_1, "INS1 data message to hmi", true);
+      addMessage (MT_INS_2, "INS2 data message to hmi", true);
+      addMessage (MT_OS, "Ownship data message to hmi", true);
+      addMessage (MT_TURNPOINT, "Turnpoint Solution data message to hmi", true);
+      addMessage (MT_MANEUVER_TL, "Maneuver Waypoint data message to hmi", true);
+      addMessage (MT_ACTIVE_TL, "Active trackline data message to hmi", true);
+      addMessage (MT_DR_TL, "DR trackline data message to hmi", true);
+      addMessage (MT_BEST_CHART, "Best (Computed) Chart to Use to hmi", true);
+      addMessage (MT_MAN_OVERBOARD, "Man Overboard data message to hmi", true);
+      addMessage (MT_ALERT_STATUS, "Alert Status to NSSN for Audible Alerts", true);
+      addMessage (MT_CLASS_CONFIG, "Class Configuration data to hmi", false);
+      addMessage (MT_CHARTED_FEATURES, "Charted Features to hmi", true);
+      addMessage (MT_OS_CHARACTERISTICS, "OS Characteristics data to hmi", true);
+      addMessage (MT_COMDAC_CAPABILITIES, "Comdac Capabilities data to hmi", true);
+      addMessage (MT_EXT_HDG_CTRL_STATUS, "External Heading Control status to hmi", true);
+      addMessage (MT_SCC_OUTPUT, "SCC Heading Control message back to Auto Pilot to ic", true);
+      addMessage (MT_PAST_TRACK, "Past Track message to hmi", false);
+      addMessage (MT_HMI_ALERT, "Alert message to hmi", true);
+      addMessage (MT_RYME_NSSN, "NSSN Sounding message to ic", true);
+   }
+
+   /* Adds a message to the tables. */
+   private static void addMessage (int messageID, String name, boolean supported) {
+      messageNames[messageID - MT_CP] = name;
+      messageSupported[messageID - MT_CP] = supported;
+   }
+
+   /* Gets the table index of a message ID, or -1 if it is not known. */
+   private static int getMessageIndex (int messageID) {
+      int index = messageID - MT_CP;
+      if ((index < 0) || (index >= messageNames.length)) {
+         return -1;
+      }
+      return index;
+   }
+
    /**
-    * Provides a string description of a sentence formatter.
+    * Provides a string description of a message.
     *
-    * @param sentenceFormatter the numeric value of a sentence formatter.
-    * @return the description of the sentence formatter
+    * @param messageID the numeric value of a message.
+    * @return the description of the message
     */
    public static String getMessageName (int messageID) {
-      switch (messageID) {
-         case MT_CP: {
-            return "Computed Position message to hmi";
-         }
-         case MT_FIX: {
-            return "Fix data message to hmi";
-         }
-         case MT_CRS_SPD: {
-            return "Course and Speed Source data message to hmi";
-         }
-         case MT_HEADING: {
-            return "Heading Source data message to hmi";
-         }
-         case MT_SET_DRIFT: {
-            return "Set and Drift Source data message to hmi";
-         }
-         case MT_DEPTH: {
-            return "Depth Source data message to hmi";
-         }
-         case MT_WIND: {
-            return "Wind Source data message to hmi";
-         }
-         case MT_TIME_ZONE: {
-            return "Time Zone Source data message to hmi";
-         }
-         case MT_GPS_1: {
-            return "GPS1 data message to hmi";
-         }
-         case MT_GPS_2: {
-            return "GPS2 data message to hmi";
-         }
-         case MT_LORAN_1: {
-            return "LORAN1 data message to hmi";
-         }
-         case MT_LORAN_2: {
-            return "LORAN2 data message to hmi";
-         }
-         case MT_LOP_1: {
-            return "LOP1 data message to hmi";
-         }
-         case MT_LOP_2: {
-            return "LOP2 data message to hmi";
-         }
-         case MT_INS_1: {
-            return "INS1 data message to hmi";
-         }
-         case MT_INS_2: {
-            return "INS2 data message to hmi";
-         }
-         case MT_OS: {
-            return "Ownship data message to hmi";
-         }
-         case MT_TURNPOINT: {
-            return "Turnpoint Solution data message to hmi";
-         }
-         case MT_MANEUVER_TL: {
-            return "Maneuver Waypoint data message to hmi";
-         }
-         case MT_ACTIVE_TL: {
-            return "Active trackline data message to hmi";
-         }
-         case MT_DR_TL: {
-            return "DR trackline data message to hmi";
-         }
-         case MT_BEST_CHART: {
-            return "Best (Computed) Chart to Use to hmi";
-         }
-         case MT_MAN_OVERBOARD: {
-            return "Man Overboard data message to hmi";
-         }
-         case MT_ALERT_STATUS: {
-            return "Alert Status to NSSN for Audible Alerts";
-         }
-         case MT_CLASS_CONFIG: {
-            return "Class Configuration data to hmi";
-         }
-         case MT_CHARTED_FEATURES: {
-            return "Charted Features to hmi";
-         }
-         case MT_OS_CHARACTERISTICS: {
-            return "OS Characteristics data to hmi";
-         }
-         case MT_COMDAC_CAPABILITIES: {
-            return "Comdac Capabilities data to hmi";
-         }
-         case MT_EXT_HDG_CTRL_STATUS: {
-            return "External Heading Control status to hmi";
-         }
-         case MT_SCC_OUTPUT: {
-            return "SCC Heading Control message back to Auto Pilot to ic";
-         }
-         case MT_PAST_TRACK: {
-            return "Past Track message to hmi";
-         }
-         case MT_HMI_ALERT: {
-            return "Alert message to hmi";
-         }
-         case MT_RYME_NSSN: {
-            return "NSSN Sounding message to ic";
-         }
+      int index = getMessageIndex (messageID);
+      if (index < 0) {
+         return "Unrecognized";
       }
-      return "Unrecognized";
+      return messageNames[index];
    }
-   
+
    /**
-    * Determines whether a particular sentence formatte is supported by this
-    * application.
+    * Creates the message object of a particular message.
     *
-    * @param sentenceFormatter the static class value of a particular sentence formatter
-    * @return An extended AbstractSentence object.
+    * @param messageID the static class value of a particular message
+    * @return An extended AbstractMessage object.
     */
    public static AbstractMessage getMessageObject (int messageID) {
-      switch (messageID) {
-         case MT_CP: {
-            return new ComputedPosition ();
-         }
-         case MT_FIX: {
-            return new DefaultMessage ();
-         }
-         case MT_CRS_SPD: {
-            return new DefaultMessage ();
-         }
-         case MT_HEADING: {
-            return new DefaultMessage ();
-         }
-         case MT_SET_DRIFT: {
-            return new DefaultMessage ();
-         }
-         case MT_DEPTH: {
-            return new DefaultMessage ();
-         }
-         case MT_WIND: {
-            return new DefaultMessage ();
-         }
-         case MT_TIME_ZONE: {
-            return new DefaultMessage ();
-         }
-         case MT_GPS_1: {
-            return new DefaultMessage ();
-         }
-         case MT_GPS_2: {
-            return new DefaultMessage ();
-         }
-         case MT_LORAN_1: {
-            return new DefaultMessage ();
-         }
-         case MT_LORAN_2: {
-            return new DefaultMessage ();
-         }
-         case MT_LOP_1: {
-            return new DefaultMessage ();
-         }
-         case MT_LOP_2: {
-            return new DefaultMessage ();
-         }
-         case MT_INS_1: {
-            return new DefaultMessage ();
-         }
-         case MT_INS_2: {
-            return new DefaultMessage ();
-         }
-         case MT_OS: {
-            return new DefaultMessage ();
-         }
-         case MT_TURNPOINT: {
-            return new DefaultMessage ();
-         }
-         case MT_MANEUVER_TL: {
-            return new DefaultMessage ();
-         }
-         case MT_ACTIVE_TL: {
-            return new DefaultMessage ();
-         }
-         case MT_DR_TL: {
-            return new DefaultMessage ();
-         }
-         case MT_BEST_CHART: {
-            return new DefaultMessage ();
-         }
-         case MT_MAN_OVERBOARD: {
-            return new DefaultMessage ();
-         }
-         case MT_ALERT_STATUS: {
-            return new DefaultMessage ();
-         }
-         case MT_CHARTED_FEATURES: {
-            return new DefaultMessage ();
-         }
-         case MT_OS_CHARACTERISTICS: {
-            return new DefaultMessage ();
-         }
-         case MT_COMDAC_CAPABILITIES: {
-            return new DefaultMessage ();
-         }
-         case MT_EXT_HDG_CTRL_STATUS: {
-            return new DefaultMessage ();
-         }
-         case MT_SCC_OUTPUT: {
-            return new DefaultMessage ();
-         }
-         case MT_HMI_ALERT: {
-            return new DefaultMessage ();
-         }
-         case MT_RYME_NSSN: {
-            return new DefaultMessage ();
-         }
-         default: {
-            return new DefaultMessage ();
-         }
+      if (messageID == MT_CP) {
+         return new ComputedPosition ();
       }
+      return new DefaultMessage ();
    }
-   
+
    /**
     * Determines whether a particular message  is supported by this
     * application.
     *
-    * @param messageID the static class value of a particular sentence formatter
-    * @return An extended AbstractMessage object.
+    * @param messageID the static class value of a particular message
+    * @return 'True' if supported.
     */
    public static boolean isSupported (int messageID) {
-      switch (messageID) {
-         case MT_CP: {
-            return true;
-         }
-         case MT_FIX: {
-            return true;
-         }
-         case MT_CRS_SPD: {
-            return true;
-         }
-         case MT_HEADING: {
-            return true;
-         }
-         case MT_SET_DRIFT: {
-            return true;
-         }
-         case MT_DEPTH: {
-            return true;
-         }
-         case MT_WIND: {
-            return true;
-         }
-         case MT_TIME_ZONE: {
-            return true;
-         }
-         case MT_GPS_1: {
-            return true;
-         }
-         case MT_GPS_2: {
-            return true;
-         }
-         case MT_LORAN_1: {
-            return true;
-         }
-         case MT_LORAN_2: {
-            return true;
-         }
-         case MT_LOP_1: {
-            return true;
-         }
-         case MT_LOP_2: {
-            return true;
-         }
-         case MT_INS_1: {
-            return true;
-         }
-         case MT_INS_2: {
-            return true;
-         }
-         case MT_OS: {
-            return true;
-         }
-         case MT_TURNPOINT: {
-            return true;
-         }
-         case MT_MANEUVER_TL: {
-            return true;
-         }
-         case MT_ACTIVE_TL: {
-            return true;
-         }
-         case MT_DR_TL: {
-            return true;
-         }
-         case MT_BEST_CHART: {
-            return true;
-         }
-         case MT_MAN_OVERBOARD: {
-            return true;
-         }
-         case MT_ALERT_STATUS: {
-            return true;
-         }
-         case MT_CHARTED_FEATURES: {
-            return true;
-         }
-         case MT_OS_CHARACTERISTICS: {
-            return true;
-         }
-         case MT_COMDAC_CAPABILITIES: {
-            return true;
-         }
-         case MT_EXT_HDG_CTRL_STATUS: {
-            return true;
-         }
-         case MT_SCC_OUTPUT: {
-            return true;
-         }
-         case MT_HMI_ALERT: {
-            return true;
-         }
-         case MT_RYME_NSSN: {
-            return true;
-         }
-         default: {
-            return false;
-         }
-      }
+      int index = getMessageIndex (messageID);
+      return (index >= 0) && messageSupported[index];
    }
 }
+/*
+ * Revision history:
+ *
+ * 1.2.0.0  Message names and support are read from tables indexed by message
+ *          ID, rather than found by switch statements.
+ */
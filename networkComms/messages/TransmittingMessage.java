@@ -18,9 +18,9 @@ import networkComms.networkInterface.*;
  * is managed by a SentenceManager class.
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-01
+ * @version 1.0.0.2, 2026-10-17
  */
-public class TransmittingMessage extends TimerTask {
+public class TransmittingMessage implements Runnable {
    
    int messageID;
    int dataSource;
@@ -28,7 +28,7 @@ public class TransmittingMessage extends TimerTask {
    AbstractMessage thisMessage;
    
    TransmittedMessageListener transmittedMessageListener;
-   Timer transmitTimer = new Timer();
+   TransmitScheduler.ScheduledTransmit scheduledTransmit;
    
    DecimalFormat freqForm = new DecimalFormat("0.00");
    
@@ -79,7 +79,7 @@ public class TransmittingMessage extends TimerTask {
          transmitPeriod = period;
       }
       
-      transmitTimer.schedule (this, 0, transmitPeriod);
+      scheduledTransmit = TransmitScheduler.getScheduler ().schedule (this, transmitPeriod);
    }
    
    /**
@@ -114,7 +114,7 @@ public class TransmittingMessage extends TimerTask {
    }
    
    /**
-    * This method is called by the Timer object for this object.
+    * This method is called by the shared TransmitScheduler for this object.
     */
    public void run () {
       if (dataSource == DataFactory.SIMULATOR_DATA_SOURCE) {
@@ -130,11 +130,7 @@ public class TransmittingMessage extends TimerTask {
    
    /** Stop the sentence from triggering to transmit. */
    public void stop () {
-      this.cancel ();
-      try {
-         this.finalize();
-      }
-      catch (Throwable thrown) { /* do nothing */ }
+      scheduledTransmit.cancel ();
    }
    
    /**
@@ -189,4 +185,6 @@ public class TransmittingMessage extends TimerTask {
  * Revision history:
  *
  * 1.0.0.1  Removed the 'listener' object from the object initialization method.
+ * 1.0.0.2  Triggered by the shared TransmitScheduler instead of a Timer (and
+ *          thread) of its own; stop() cancels the scheduled transmit.
  */
\ No newline at end of file
@@ -49,6 +49,16 @@ public class UDPServer extends Thread implements TransmittedMessageListener {
       this.start ();
    }
    
+   /**
+    * Gets the pool of received messages, which reports free count, low-water
+    * mark and overload counts.
+    *
+    * @return The received message pool.
+    */
+   public ReceivedMessageServer getReceivedMessageServer () {
+      return messageServer;
+   }
+   
    public void setReceivedMessageListener (ReceivedMessageListener listener) {
       if (listener != null) {
          receivedMessageListener = listener;
@@ -132,7 +142,12 @@ public class UDPServer extends Thread implements TransmittedMessageListener {
             receivedMessage = messageServer.getReceivedMessage ();
             receivedMessage.setMessage (receiveDatagramPacket.getData (),
                receiveDatagramPacket.getLength ());
-            receivedMessageListener.receiveMessage (receivedMessage);
+            if (receivedMessage.isDiscarded ()) {
+               receivedMessage.clearMesssage (); // counted by the pool
+            }
+            else {
+               receivedMessageListener.receiveMessage (receivedMessage);
+            }
          }
          
          try {
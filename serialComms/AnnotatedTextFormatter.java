@@ -0,0 +1,63 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: AnnotatedTextFormatter.java
+ * Created: 2026-10-17, 20:04:01
+ */
+package serialComms;
+
+/**
+ * This static class renders received bytes as display text, annotating
+ * non-printing characters (e.g. "<CR>", "<LF>").  Text is written straight
+ * into a caller's StringBuilder, so a display can reuse one builder for
+ * every sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public abstract class AnnotatedTextFormatter {
+
+   /**
+    * Appends the annotated form of a range of received bytes.
+    *
+    * @param bytes The buffer holding the received bytes.
+    * @param offset The index of the first byte.
+    * @param length The number of bytes.
+    * @param text The builder to append to.
+    */
+   public static void appendAnnotated (byte[] bytes, int offset, int length,
+                                       StringBuilder text) {
+      int end = offset + length;
+      for (int i = offset; i < end; i++) {
+         appendAnnotated (bytes[i] & 0x00FF, text);
+      }
+   }
+
+   /**
+    * Appends the annotated form of a single received character.
+    *
+    * @param c The received character value.
+    * @param text The builder to append to.
+    */
+   public static void appendAnnotated (int c, StringBuilder text) {
+      // 0x1F is last control character
+      if ((c > 0x1F) && (c < 0x7F)) {
+         text.append ((char) c);
+      }
+      else if (c == 0x0D) {
+         text.append ("<CR>");
+      }
+      else if (c == 0x0A) {
+         text.append ("<LF>");
+      }
+      else if (c == 0x7F) {
+         text.append ("<DEL>");
+      }
+      else { // Unknown character
+         text.append ("<?>");
+      }
+   }
+}
@@ -0,0 +1,109 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: FieldSequence.java
+ * Created: 2026-10-17, 19:53:28
+ */
+package serialComms;
+
+/**
+ * An object of this class is a read-only view of a range of ASCII bytes,
+ * generally a single field of a received sentence.  The view does not copy
+ * the bytes, so it is only valid while the underlying buffer is unchanged.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class FieldSequence implements CharSequence {
+
+   byte[] buffer;
+   int start;
+   int end;
+
+   /**
+    * Initializes an empty FieldSequence object.
+    */
+   public FieldSequence () {
+      buffer = null;
+      start = 0;
+      end = 0;
+   }
+
+   /**
+    * Initializes a FieldSequence object over a range of bytes.
+    *
+    * @param bytes The buffer holding the bytes.
+    * @param startIndex The index of the first byte of the view.
+    * @param endIndex The index following the last byte of the view.
+    */
+   public FieldSequence (byte[] bytes, int startIndex, int endIndex) {
+      set (bytes, startIndex, endIndex);
+   }
+
+   /**
+    * Points this view at a new range of bytes.
+    *
+    * @param bytes The buffer holding the bytes.
+    * @param startIndex The index of the first byte of the view.
+    * @param endIndex The index following the last byte of the view.
+    */
+   public void set (byte[] bytes, int startIndex, int endIndex) {
+      buffer = bytes;
+      start = startIndex;
+      end = endIndex;
+   }
+
+   /**
+    * Gets the number of characters in the view.
+    *
+    * @return The view length.
+    */
+   public int length () {
+      return end - start;
+   }
+
+   /**
+    * Gets a character from the view.
+    *
+    * @param index The index of the character, relative to the view.
+    * @return The character at that index.
+    */
+   public char charAt (int index) {
+      if ((index < 0) || (index >= (end - start))) {
+         throw new IndexOutOfBoundsException ("Field index " + index +
+            " out of range.");
+      }
+      return (char) (buffer[start + index] & 0x00FF);
+   }
+
+   /**
+    * Gets a view of a part of this view.
+    *
+    * @param startIndex The first index, relative to this view.
+    * @param endIndex The index following the last character, relative to this view.
+    * @return A new view of the same bytes.
+    */
+   public CharSequence subSequence (int startIndex, int endIndex) {
+      if ((startIndex < 0) || (endIndex > (end - start)) || (startIndex > endIndex)) {
+         throw new IndexOutOfBoundsException ("Field range " + startIndex +
+            "-" + endIndex + " out of range.");
+      }
+      return new FieldSequence (buffer, start + startIndex, start + endIndex);
+   }
+
+   /**
+    * Gets the contents of the view as a String object.
+    *
+    * @return String copy of the view's contents.
+    */
+   public String toString () {
+      char[] charArray = new char[end - start];
+      for (int i = start; i < end; i++) {
+         charArray[i - start] = (char) (buffer[i] & 0x00FF);
+      }
+      return String.valueOf (charArray);
+   }
+}
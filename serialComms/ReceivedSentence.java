@@ -10,18 +10,24 @@
 package serialComms;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import serialComms.sentences.analysis.*;
 /**
  * An object of this class is created by a SentenceTranceiver and passed
  * along to the SentenceManager for processing.
  *
  * @author Jeff Stewart
- * @version 1.0.0.0, 2005-01-26
+ * @version 1.0.0.2, 2026-10-17
  */
 public class ReceivedSentence {
    
+   /** Capacity of the raw and field byte buffers. */
+   public final static int BUFFER_SIZE = 256;
+   /** Maximum number of fields recorded in the field offset table. */
+   public final static int MAX_FIELDS = 64;
+   
    /** Sentence 'in-use' status. */
-   private boolean currentlyInUse;
+   private volatile boolean currentlyInUse;
    
    
    /** Sentence talker id from SentenceTypes class. */
@@ -33,6 +39,12 @@ public class ReceivedSentence {
    /** Sentence formatter. */
    public int formatter;
    
+   /** 'True' for an encapsulation sentence, started with '!' (e.g. AIS VDM). */
+   public boolean encapsulated;
+   
+   /** The SentenceValidation level applied to this sentence. */
+   public int validationLevel = SentenceValidation.VALIDATE_FULL;
+   
    
    /** The checksum calculated from the received sentence. */
    public int calculatedChecksum;
@@ -46,6 +58,12 @@ public class ReceivedSentence {
    
    /** The time from first to last character received (in milliseconds). */
    public long timeToReceive;
+   
+   /** System.nanoTime() when the first character arrived, interpolated within its block. */
+   public long receiveStartNanos;
+   
+   /** System.nanoTime() when the last character arrived, interpolated within its block. */
+   public long receiveEndNanos;
 
    
    /** The number of fields provided by this sentence. */
@@ -61,6 +79,38 @@ public class ReceivedSentence {
    
    /** An ErrorLog of errors found in receipt of the sentence (non-formatter specific). */
    public SentenceErrorLog errorLog;
+   
+   
+   /* The raw bytes of the sentence, as received. */
+   byte[] rawBytes;
+   int rawLength;
+   
+   /* The processed field characters, indexed by the field offset table. */
+   byte[] fieldBytes;
+   int fieldBytesLength;
+   
+   /* Field offset table, start index at [2n] and end index at [2n + 1]. */
+   int[] fieldOffsets;
+   int fieldOffsetCount;
+   int fieldStart;
+   boolean offsetFramed;
+   
+   FieldSequence[] fieldViews;
+   
+   /* The owning pool and this object's index in it, -1 when unpooled. */
+   ReceivedSentenceServer sentenceServer;
+   int poolIndex = -1;
+   /* Set on a pool's scratch sentence, which is dropped rather than processed. */
+   boolean discarded;
+   /* Queue state, claimed once by either the processing thread or a newer sentence. */
+   private final static int NOT_QUEUED = 0;
+   private final static int QUEUED = 1;
+   private final static int TAKEN = 2;
+   private final static int SUPERSEDED = 3;
+   private AtomicInteger queueState = new AtomicInteger (NOT_QUEUED);
+   
+   /** The transceiver's conflation slot of a queued sentence, -1 when not conflated. */
+   public int conflationSlot = -1;
 
    /** 
     * Instantiates a ReceivedSentence object.
@@ -68,9 +118,261 @@ public class ReceivedSentence {
    public ReceivedSentence () {
       sentenceFields = new ArrayList<String>();
       errorLog = new SentenceErrorLog();
+      
+      rawBytes = new byte[BUFFER_SIZE];
+      fieldBytes = new byte[BUFFER_SIZE];
+      fieldOffsets = new int[MAX_FIELDS * 2];
+      fieldViews = new FieldSequence[MAX_FIELDS];
+      for (int i = 0; i < fieldViews.length; i++) {
+         fieldViews[i] = new FieldSequence();
+      }
+      
       setInUse(false);
    }
    
+   /**
+    * Appends a byte, as received, to the raw sentence buffer.
+    *
+    * @param b The received byte.
+    */
+   public void appendRawByte (int b) {
+      if (rawLength < rawBytes.length) {
+         rawBytes[rawLength++] = (byte) b;
+      }
+   }
+   
+   /**
+    * Appends a processed character to the current field.
+    *
+    * @param c The processed character.
+    */
+   public void appendFieldCharacter (char c) {
+      offsetFramed = true;
+      if (fieldBytesLength < fieldBytes.length) {
+         fieldBytes[fieldBytesLength++] = (byte) c;
+      }
+   }
+   
+   /**
+    * Appends processed characters to the current field.
+    *
+    * @param str The processed characters.
+    */
+   public void appendFieldCharacters (String str) {
+      for (int i = 0; i < str.length (); i++) {
+         appendFieldCharacter (str.charAt (i));
+      }
+   }
+   
+   /**
+    * Closes the current field, recording its offsets, and starts a new field.
+    */
+   public void endField () {
+      offsetFramed = true;
+      if (fieldOffsetCount < MAX_FIELDS) {
+         fieldOffsets[fieldOffsetCount * 2] = fieldStart;
+         fieldOffsets[fieldOffsetCount * 2 + 1] = fieldBytesLength;
+         fieldOffsetCount++;
+      }
+      fieldStart = fieldBytesLength;
+   }
+   
+   /**
+    * Determines if this sentence was framed into the field offset table,
+    * rather than into the sentenceFields list.
+    *
+    * @return 'True' if the field offset table holds the sentence fields.
+    */
+   public boolean isOffsetFramed () {
+      return offsetFramed;
+   }
+   
+   /**
+    * Gets the number of fields held in the sentence.
+    *
+    * @return The number of fields.
+    */
+   public int getFieldTotal () {
+      if (offsetFramed) {
+         return fieldOffsetCount;
+      }
+      return sentenceFields.size ();
+   }
+   
+   /**
+    * Gets the buffer that field offsets refer to.  The contents are only
+    * valid while this object is in use.
+    *
+    * @return The field byte buffer.
+    */
+   public byte[] getFieldBuffer () {
+      return fieldBytes;
+   }
+   
+   /**
+    * Gets the index in the field buffer of the first character of a field.
+    *
+    * @param index The field index.
+    * @return The start offset of the field.
+    */
+   public int getFieldStart (int index) {
+      return fieldOffsets[index * 2];
+   }
+   
+   /**
+    * Gets the index in the field buffer following the last character of a field.
+    *
+    * @param index The field index.
+    * @return The end offset of the field.
+    */
+   public int getFieldEnd (int index) {
+      return fieldOffsets[index * 2 + 1];
+   }
+   
+   /**
+    * Gets the number of characters in a field.
+    *
+    * @param index The field index.
+    * @return The field length.
+    */
+   public int getFieldLength (int index) {
+      return fieldOffsets[index * 2 + 1] - fieldOffsets[index * 2];
+   }
+   
+   /**
+    * Copies the fields of a sentence framed into the sentenceFields list into
+    * the field offset table, so that the field buffer and offsets may be used
+    * however the sentence was framed.  Offset framed sentences are unchanged.
+    */
+   public void frameFieldOffsets () {
+      if (offsetFramed) {
+         return;
+      }
+      int fieldTotal = sentenceFields.size ();
+      for (int i = 0; i < fieldTotal; i++) {
+         appendFieldCharacters (sentenceFields.get (i));
+         endField ();
+      }
+      offsetFramed = true;
+   }
+   
+   /**
+    * Gets a field as a character sequence.  For offset framed sentences the
+    * returned view is reused and is only valid while this object is in use.
+    *
+    * @param index The field index.
+    * @return The field characters.
+    */
+   public CharSequence getField (int index) {
+      if (offsetFramed) {
+         if ((index < 0) || (index >= fieldOffsetCount)) {
+            throw new IndexOutOfBoundsException ("Field " + index + " not present.");
+         }
+         FieldSequence view = fieldViews[index];
+         view.set (fieldBytes, fieldOffsets[index * 2], fieldOffsets[index * 2 + 1]);
+         return view;
+      }
+      return sentenceFields.get (index);
+   }
+   
+   /**
+    * Gets the sentence fields as a list of Strings.  For offset framed
+    * sentences the list is built upon the first request.
+    *
+    * @return An ArrayList of Strings containing the sentence field data.
+    */
+   public ArrayList<String> getSentenceFields () {
+      if (offsetFramed && (sentenceFields.size () != fieldOffsetCount)) {
+         sentenceFields.clear ();
+         for (int i = 0; i < fieldOffsetCount; i++) {
+            sentenceFields.add (getField (i).toString ());
+         }
+      }
+      return sentenceFields;
+   }
+   
+   /**
+    * Gets the sentence received, annotated with non-printing characters.
+    * For sentences held as raw bytes the text is built upon the first request.
+    *
+    * @return The annotated sentence text.
+    */
+   public String getSentenceReceived () {
+      if ((sentenceReceived == null) && (rawLength > 0)) {
+         StringBuilder text = new StringBuilder (rawLength + 16);
+         AnnotatedTextFormatter.appendAnnotated (rawBytes, 0, rawLength, text);
+         sentenceReceived = text.toString ();
+      }
+      return sentenceReceived;
+   }
+   
+   /**
+    * Appends the sentence as received, annotated with non-printing
+    * characters, to a builder without creating a String.
+    *
+    * @param text The builder to append to.
+    */
+   public void appendSentenceReceived (StringBuilder text) {
+      if (sentenceReceived != null) {
+         text.append (sentenceReceived);
+      }
+      else {
+         AnnotatedTextFormatter.appendAnnotated (rawBytes, 0, rawLength, text);
+      }
+   }
+   
+   /**
+    * Gets whether this is a pool's overload scratch sentence, which is framed
+    * normally but must be dropped rather than processed.
+    *
+    * @return 'True' if this sentence should be discarded.
+    */
+   public boolean isDiscarded () {
+      return discarded;
+   }
+   
+   /**
+    * Marks this sentence as queued for the processing thread, before it is
+    * offered to the receive queue.
+    */
+   public void markQueued () {
+      queueState.set (QUEUED);
+   }
+   
+   /**
+    * Claims a queued sentence for processing, so it can no longer be
+    * superseded.  Called by the processing thread as it takes the sentence.
+    *
+    * @return 'True' if the sentence should be processed, 'false' if a newer
+    * sentence superseded it first.
+    */
+   public boolean markTaken () {
+      return queueState.compareAndSet (QUEUED, TAKEN) ||
+             (queueState.get () != SUPERSEDED);
+   }
+   
+   /**
+    * Marks a queued sentence as replaced by a newer sentence of the same
+    * talker and formatter, so the processing thread drops it unprocessed.
+    * Fails once the processing thread has taken the sentence, or once the
+    * sentence has been returned to its pool.
+    *
+    * @return 'True' if this sentence was superseded.
+    */
+   public boolean markSuperseded () {
+      return queueState.compareAndSet (QUEUED, SUPERSEDED);
+   }
+   
+   /**
+    * Gets whether a newer sentence of the same talker and formatter has
+    * replaced this one while it was queued.
+    *
+    * @return 'True' if this sentence should be dropped unprocessed.
+    */
+   public boolean isSuperseded () {
+      return queueState.get () == SUPERSEDED;
+   }
+   
    /**
     * Gets the 'in-use' status of this object.
     *
@@ -84,25 +386,47 @@ public class ReceivedSentence {
     * Sets the 'in-use' status of this object.
     *
     * @param inUse 'True' for in-use, 'false' resets object an makes it available
-    * for use.
+    * for use, returning it to its pool.
     */
    public void setInUse (boolean inUse) {
       if (inUse) {
          currentlyInUse = true;
       }
       else {
-         currentlyInUse = false;
          talkerID = 0;
          queryTalkerID = 0;
          formatter = 0;
+         encapsulated = false;
+         validationLevel = SentenceValidation.VALIDATE_FULL;
          calculatedChecksum = 0;
          receivedChecksum = 0;
          timeOfReciept = 0;
          timeToReceive = 0;
+         receiveStartNanos = 0;
+         receiveEndNanos = 0;
+         queueState.set (NOT_QUEUED);
+         conflationSlot = -1;
          fieldCount = 0;
          sentenceReceived = null;
          sentenceFields.clear ();
          errorLog.clear ();
+         rawLength = 0;
+         fieldBytesLength = 0;
+         fieldOffsetCount = 0;
+         fieldStart = 0;
+         offsetFramed = false;
+         // Released last, the pool may hand this object to another thread.
+         currentlyInUse = false;
+         if (sentenceServer != null) {
+            sentenceServer.releaseReceivedSentence (this);
+         }
       }
    }
 }
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Field lengths, and sentences framed as Strings copied into the
+ *          field offset table, for the allocation-free field parsers.
+ * 1.0.0.2  Added the validation level applied to the sentence.
+ */
@@ -0,0 +1,275 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: ReceivedSentenceQueue.java
+ * Created: 2026-10-17, 19:56:39
+ */
+package serialComms;
+
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+/**
+ * An object of this class is a bounded, lock-free ring of received sentences
+ * passed from a single producer (the serial event thread) to a single
+ * consumer (the port's sentence processing thread).  When the ring is full
+ * the overflow policy decides whether the oldest sentence is dropped, the
+ * newest sentence is dropped, or the producer waits for space.  Dropped
+ * sentences are returned to their pool.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class ReceivedSentenceQueue {
+
+   /** Default ring capacity, in sentences. */
+   public final static int DEFAULT_CAPACITY = 64;
+
+   /** When full, discard the oldest queued sentence. */
+   public final static int DROP_OLDEST = 0;
+   /** When full, discard the sentence being added. */
+   public final static int DROP_NEWEST = 1;
+   /** When full, wait until the consumer frees a slot. */
+   public final static int BLOCK = 2;
+   /** Default overflow policy. */
+   public final static int DEFAULT_OVERFLOW_POLICY = DROP_OLDEST;
+
+   /* Time the producer parks between checks while blocked, in nanoseconds. */
+   final static long BLOCK_PARK_NANOS = 100000L;
+   /* Longest time the consumer parks while waiting, in nanoseconds. */
+   final static long TAKE_PARK_NANOS = 100000000L;
+
+   AtomicReferenceArray<ReceivedSentence> ring;
+   int capacity;
+   int mask;
+
+   /* Next index to take, advanced by the consumer (and by DROP_OLDEST). */
+   AtomicLong head;
+   /* Next index to fill, advanced only by the producer. */
+   AtomicLong tail;
+
+   volatile int overflowPolicy;
+   volatile int highWaterMark;
+   AtomicLong dropCount;
+   AtomicLong offerCount;
+
+   volatile Thread waitingConsumer;
+
+   /**
+    * Initializes a ReceivedSentenceQueue with the default capacity.
+    */
+   public ReceivedSentenceQueue () {
+      this(DEFAULT_CAPACITY);
+   }
+
+   /**
+    * Initializes a ReceivedSentenceQueue.
+    *
+    * @param requestedCapacity The ring capacity, rounded up to a power of two.
+    */
+   public ReceivedSentenceQueue (int requestedCapacity) {
+      capacity = 2;
+      while (capacity < requestedCapacity) {
+         capacity <<= 1;
+      }
+      mask = capacity - 1;
+      ring = new AtomicReferenceArray<ReceivedSentence>(capacity);
+      head = new AtomicLong ();
+      tail = new AtomicLong ();
+      dropCount = new AtomicLong ();
+      offerCount = new AtomicLong ();
+      overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+   }
+
+   /**
+    * Sets the policy applied when a sentence is offered to a full ring.
+    *
+    * @param policy DROP_OLDEST, DROP_NEWEST or BLOCK.
+    */
+   public void setOverflowPolicy (int policy) {
+      if ((policy == DROP_OLDEST) || (policy == DROP_NEWEST) || (policy == BLOCK)) {
+         overflowPolicy = policy;
+      }
+   }
+
+   /**
+    * Gets the policy applied when a sentence is offered to a full ring.
+    *
+    * @return DROP_OLDEST, DROP_NEWEST or BLOCK.
+    */
+   public int getOverflowPolicy () {
+      return overflowPolicy;
+   }
+
+   /**
+    * Adds a sentence to the ring.  Must only be called by the producer thread.
+    *
+    * @param sentence The received sentence.
+    * @return 'True' if queued, 'false' if the sentence was dropped.
+    */
+   public boolean offer (ReceivedSentence sentence) {
+      long t = tail.get ();
+      long h;
+      ReceivedSentence oldest;
+
+      offerCount.incrementAndGet ();
+
+      while (true) {
+         h = head.get ();
+         if ((t - h) < capacity) {
+            break;
+         }
+         if (overflowPolicy == DROP_OLDEST) {
+            oldest = ring.get ((int) h & mask);
+            if (head.compareAndSet (h, h + 1)) {
+               dropCount.incrementAndGet ();
+               if (oldest != null) {
+                  oldest.setInUse (false);
+               }
+            }
+         }
+         else if (overflowPolicy == BLOCK) {
+            LockSupport.parkNanos (this, BLOCK_PARK_NANOS);
+         }
+         else { // DROP_NEWEST
+            dropCount.incrementAndGet ();
+            sentence.setInUse (false);
+            return false;
+         }
+      }
+
+      ring.set ((int) t & mask, sentence);
+      tail.set (t + 1);
+
+      int depth = (int) (t + 1 - head.get ());
+      if (depth > highWaterMark) {
+         highWaterMark = depth;
+      }
+
+      Thread consumer = waitingConsumer;
+      if (consumer != null) {
+         LockSupport.unpark (consumer);
+      }
+      return true;
+   }
+
+   /**
+    * Removes the oldest sentence from the ring.  Must only be called by the
+    * consumer thread.
+    *
+    * @return The oldest sentence, or null if the ring is empty.
+    */
+   public ReceivedSentence poll () {
+      long h;
+      ReceivedSentence sentence;
+
+      while (true) {
+         h = head.get ();
+         if (h == tail.get ()) {
+            return null;
+         }
+         // Read before claiming, the producer only reuses a slot once head passes it.
+         sentence = ring.get ((int) h & mask);
+         if (head.compareAndSet (h, h + 1)) {
+            return sentence;
+         }
+      }
+   }
+
+   /**
+    * Removes the oldest sentence from the ring, waiting up to a short period
+    * for one to arrive.  Must only be called by the consumer thread.
+    *
+    * @return The oldest sentence, or null if none arrived.
+    */
+   public ReceivedSentence take () {
+      ReceivedSentence sentence = poll ();
+      if (sentence == null) {
+         waitingConsumer = Thread.currentThread ();
+         sentence = poll ();
+         if (sentence == null) {
+            LockSupport.parkNanos (this, TAKE_PARK_NANOS);
+            sentence = poll ();
+         }
+         waitingConsumer = null;
+      }
+      return sentence;
+   }
+
+   /**
+    * Wakes a consumer waiting in take().
+    */
+   public void wakeConsumer () {
+      Thread consumer = waitingConsumer;
+      if (consumer != null) {
+         LockSupport.unpark (consumer);
+      }
+   }
+
+   /**
+    * Removes all queued sentences, returning them to their pool.
+    */
+   public void clear () {
+      ReceivedSentence sentence;
+      while ((sentence = poll ()) != null) {
+         sentence.setInUse (false);
+      }
+   }
+
+   /**
+    * Gets the ring capacity.
+    *
+    * @return Capacity, in sentences.
+    */
+   public int getCapacity () {
+      return capacity;
+   }
+
+   /**
+    * Gets the number of sentences currently queued.
+    *
+    * @return Queue depth, in sentences.
+    */
+   public int getDepth () {
+      long depth = tail.get () - head.get ();
+      return (depth < 0) ? 0 : (int) depth;
+   }
+
+   /**
+    * Gets the largest queue depth seen.
+    *
+    * @return High-water mark, in sentences.
+    */
+   public int getHighWaterMark () {
+      return highWaterMark;
+   }
+
+   /**
+    * Gets the number of sentences dropped by the overflow policy.
+    *
+    * @return Dropped sentence count.
+    */
+   public long getDropCount () {
+      return dropCount.get ();
+   }
+
+   /**
+    * Gets the number of sentences offered to the ring.
+    *
+    * @return Offered sentence count.
+    */
+   public long getOfferCount () {
+      return offerCount.get ();
+   }
+
+   /**
+    * Resets the high-water mark and drop count.
+    */
+   public void resetStatistics () {
+      highWaterMark = getDepth ();
+      dropCount.set (0);
+      offerCount.set (0);
+   }
+}
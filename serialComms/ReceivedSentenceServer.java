@@ -9,52 +9,196 @@
  */
 package serialComms;
 
+import java.util.concurrent.atomic.*;
 /**
- * An object of this class is created by a SentenceTranceiver and passed
- * along to the SentenceManager for processing.
+ * An object of this class is a fixed pool of ReceivedSentence objects used by
+ * a SentenceTranceiver.  Free sentences are kept on a lock-free index stack,
+ * so a sentence may be taken on the serial event thread and returned (by
+ * ReceivedSentence.setInUse(false)) on the processing thread.  The pool
+ * never grows; when it is empty the overload policy applies and the overload
+ * is counted.
  *
  * @author Jeff Stewart
- * @version 1.0.0.0, 2005-01-26
+ * @version 1.1.0.0, 2026-10-17
  */
 public class ReceivedSentenceServer {
-   
+
    /** Default count of ReceivedSentence objects pool. */
    public final static int DEFAULT_SENTENCE_COUNT = 10;
-   
+
+   /** When empty, hand out a scratch sentence that is discarded on delivery. */
+   public final static int OVERLOAD_DISCARD = 0;
+   /** When empty, allocate an unpooled sentence. */
+   public final static int OVERLOAD_ALLOCATE = 1;
+   /** Default overload policy. */
+   public final static int DEFAULT_OVERLOAD_POLICY = OVERLOAD_DISCARD;
+
+   /* Index marking the bottom of the free stack. */
+   final static int EMPTY = -1;
+
    ReceivedSentence[] sentencePool;
-   int index;
-   
+
+   /* Free stack links, indexed by pool index. */
+   int[] nextFree;
+   /* Set to 1 while a pooled sentence is checked out, guards double release. */
+   AtomicIntegerArray checkedOut;
+   /* Free stack top, a change count in the high word and pool index in the low word. */
+   AtomicLong freeTop;
+   AtomicInteger freeCount;
+
+   ReceivedSentence overloadSentence;
+   volatile int overloadPolicy;
+   AtomicLong overloadCount;
+   volatile int lowWaterMark;
+
    public ReceivedSentenceServer () {
-      
-      sentencePool = new ReceivedSentence[DEFAULT_SENTENCE_COUNT];
+      this(DEFAULT_SENTENCE_COUNT);
+   }
+
+   /**
+    * Initializes a pool of a given size, which should be at least the depth
+    * of any queue the sentences are held in.
+    *
+    * @param sentenceCount The count of ReceivedSentence objects in the pool.
+    */
+   public ReceivedSentenceServer (int sentenceCount) {
+
+      if (sentenceCount < 1) {
+         sentenceCount = DEFAULT_SENTENCE_COUNT;
+      }
+
+      sentencePool = new ReceivedSentence[sentenceCount];
+      nextFree = new int[sentenceCount];
+      checkedOut = new AtomicIntegerArray (sentenceCount);
       for (int i = 0; i < sentencePool.length; i++) {
          sentencePool[i] = new ReceivedSentence();
+         sentencePool[i].sentenceServer = this;
+         sentencePool[i].poolIndex = i;
+         nextFree[i] = (i + 1 < sentenceCount) ? i + 1 : EMPTY;
       }
-      index = 0;
+      freeTop = new AtomicLong (0);
+      freeCount = new AtomicInteger (sentenceCount);
+      lowWaterMark = sentenceCount;
+
+      overloadSentence = new ReceivedSentence();
+      overloadSentence.discarded = true;
+      overloadPolicy = DEFAULT_OVERLOAD_POLICY;
+      overloadCount = new AtomicLong ();
    }
-   
+
+   /**
+    * Takes a free sentence from the pool.  If the pool is empty, the overload
+    * is counted and either the scratch sentence (OVERLOAD_DISCARD) or a new
+    * unpooled sentence (OVERLOAD_ALLOCATE) is returned.  The scratch sentence
+    * is only safe for a single producer thread.
+    *
+    * @return A ReceivedSentence object.
+    */
    public ReceivedSentence getReceivedSentence () {
-      
-      int searchCount = 0;
-      
-      if (index >= sentencePool.length) {
-         index = 0;
-      }
-      
-      while (searchCount < sentencePool.length) {
-         if (!sentencePool[index].getInUse ()) {
-            return sentencePool[index++];
-         }
-         
-         index++;
-         if (index >= (sentencePool.length - 1)) {
-            index = 0;
+      long top;
+      long next;
+      int i;
+
+      do {
+         top = freeTop.get ();
+         i = (int) top;
+         if (i == EMPTY) {
+            overloadCount.incrementAndGet ();
+            if (overloadPolicy == OVERLOAD_ALLOCATE) {
+               return new ReceivedSentence();
+            }
+            return overloadSentence;
          }
+         next = (((top >>> 32) + 1) << 32) | (nextFree[i] & 0xFFFFFFFFL);
+      } while (!freeTop.compareAndSet (top, next));
 
-         searchCount++;
+      checkedOut.set (i, 1);
+      int free = freeCount.decrementAndGet ();
+      if (free < lowWaterMark) {
+         lowWaterMark = free;
       }
-      
-      System.out.println ("Warning: ReceivedSentenceServer is overloaded.");
-      return new ReceivedSentence();
+      return sentencePool[i];
+   }
+
+   /*
+    * Returns a sentence to the free stack, called by ReceivedSentence.setInUse(false).
+    * Unpooled sentences and repeated releases are ignored.
+    */
+   void releaseReceivedSentence (ReceivedSentence sentence) {
+      int i = sentence.poolIndex;
+      long top;
+
+      if ((i < 0) || (sentence.sentenceServer != this) ||
+          !checkedOut.compareAndSet (i, 1, 0)) {
+         return;
+      }
+
+      do {
+         top = freeTop.get ();
+         nextFree[i] = (int) top;
+      } while (!freeTop.compareAndSet (top, (((top >>> 32) + 1) << 32) | i));
+      freeCount.incrementAndGet ();
+   }
+
+   /**
+    * Sets the policy applied when the pool is empty.
+    *
+    * @param policy OVERLOAD_DISCARD or OVERLOAD_ALLOCATE.
+    */
+   public void setOverloadPolicy (int policy) {
+      if ((policy == OVERLOAD_DISCARD) || (policy == OVERLOAD_ALLOCATE)) {
+         overloadPolicy = policy;
+      }
+   }
+
+   /**
+    * Gets the policy applied when the pool is empty.
+    *
+    * @return OVERLOAD_DISCARD or OVERLOAD_ALLOCATE.
+    */
+   public int getOverloadPolicy () {
+      return overloadPolicy;
+   }
+
+   /**
+    * Gets the number of requests made while the pool was empty.
+    *
+    * @return Overload count.
+    */
+   public long getOverloadCount () {
+      return overloadCount.get ();
+   }
+
+   /**
+    * Gets the pool size.
+    *
+    * @return Count of pooled sentences.
+    */
+   public int getSentenceCount () {
+      return sentencePool.length;
+   }
+
+   /**
+    * Gets the number of sentences currently free.
+    *
+    * @return Free sentence count.
+    */
+   public int getFreeCount () {
+      return freeCount.get ();
+   }
+
+   /**
+    * Gets the smallest number of free sentences seen.
+    *
+    * @return Low-water mark, in sentences.
+    */
+   public int getLowWaterMark () {
+      return lowWaterMark;
    }
 }
+/*
+ * Revision history:
+ *
+ * 1.1.0.0  Replaced the linear in-use scan with a lock-free free stack and a
+ *          counted overload policy; the pool no longer grows.
+ */
@@ -0,0 +1,174 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: SentenceValidation.java
+ * Created: 2026-10-17, 21:16:49
+ */
+package serialComms;
+
+import java.util.concurrent.atomic.*;
+/**
+ * An object of this class sets how thoroughly the sentences received on one
+ * port are checked, and counts the sentences checked at each level.  The
+ * transceiver asks for the level of each sentence as it is framed, records
+ * it in the ReceivedSentence object, and applies the framing checks of that
+ * level; the SentenceManager applies the rest.
+ * <p>
+ * The levels, each including those before it, are:
+ * <ul>
+ * <li>VALIDATE_NONE - sentences are framed and passed on unchecked.</li>
+ * <li>VALIDATE_STRUCTURAL - start character, known talker and formatter, and
+ *     the formatter's field count limits.</li>
+ * <li>VALIDATE_CHECKSUM - the checksum is present and correct.</li>
+ * <li>VALIDATE_FULL - each field is parsed and range checked, values are
+ *     decoded for the dashboard and DecodedValueListeners, and slow data is
+ *     reported.</li>
+ * </ul>
+ * Below VALIDATE_FULL, one sentence in every sample interval may be fully
+ * audited, so a busy port that is logged or forwarded is still checked.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class SentenceValidation {
+
+   /** Frame sentences only. */
+   public final static int VALIDATE_NONE = 0;
+   /** Check sentence structure: start, address and field count. */
+   public final static int VALIDATE_STRUCTURAL = 1;
+   /** Check sentence structure and checksum. */
+   public final static int VALIDATE_CHECKSUM = 2;
+   /** Check every field of the sentence. */
+   public final static int VALIDATE_FULL = 3;
+   /** Default validation level, every field checked. */
+   public final static int DEFAULT_LEVEL = VALIDATE_FULL;
+
+   volatile int level = DEFAULT_LEVEL;
+   volatile int sampleInterval;
+   /* Sentences until the next full audit, used only by the framing thread. */
+   int sampleCountdown;
+
+   AtomicLongArray appliedCounts = new AtomicLongArray (VALIDATE_FULL + 1);
+   AtomicLong sampledCount = new AtomicLong ();
+
+   /**
+    * Gets the text description of a validation level.
+    *
+    * @param validationLevel The validation level, e.g. VALIDATE_CHECKSUM.
+    * @return Level description.
+    */
+   public static String getLevelName (int validationLevel) {
+      switch (validationLevel) {
+         case VALIDATE_NONE: {
+            return "None";
+         }
+         case VALIDATE_STRUCTURAL: {
+            return "Structural";
+         }
+         case VALIDATE_CHECKSUM: {
+            return "Checksum";
+         }
+         case VALIDATE_FULL: {
+            return "Full";
+         }
+      }
+      return "Unrecognized";
+   }
+
+   /**
+    * Sets the validation level, taking effect with the next sentence framed.
+    *
+    * @param validationLevel VALIDATE_NONE, VALIDATE_STRUCTURAL,
+    * VALIDATE_CHECKSUM or VALIDATE_FULL.
+    */
+   public void setLevel (int validationLevel) {
+      if ((validationLevel >= VALIDATE_NONE) && (validationLevel <= VALIDATE_FULL)) {
+         level = validationLevel;
+      }
+   }
+
+   /**
+    * Gets the validation level.
+    *
+    * @return The validation level.
+    */
+   public int getLevel () {
+      return level;
+   }
+
+   /**
+    * Sets how often a sentence is fully audited when the level is below
+    * VALIDATE_FULL.
+    *
+    * @param interval One sentence in this many is fully audited, zero for none.
+    */
+   public void setSampleInterval (int interval) {
+      sampleInterval = (interval > 0) ? interval : 0;
+   }
+
+   /**
+    * Gets how often a sentence is fully audited when the level is below
+    * VALIDATE_FULL.
+    *
+    * @return Sample interval, in sentences, zero for none.
+    */
+   public int getSampleInterval () {
+      return sampleInterval;
+   }
+
+   /**
+    * Gets the validation level of the next sentence, and counts it.  Called
+    * by the transceiver once per sentence framed, on its framing thread.
+    *
+    * @return The validation level to apply.
+    */
+   public int nextLevel () {
+      int applied = level;
+      int interval = sampleInterval;
+      if ((applied < VALIDATE_FULL) && (interval > 0)) {
+         if ((--sampleCountdown <= 0) || (sampleCountdown > interval)) {
+            sampleCountdown = interval;
+            applied = VALIDATE_FULL;
+            sampledCount.incrementAndGet ();
+         }
+      }
+      appliedCounts.incrementAndGet (applied);
+      return applied;
+   }
+
+   /**
+    * Gets the number of sentences checked at a validation level, including
+    * sampled sentences at VALIDATE_FULL.
+    *
+    * @param validationLevel The validation level.
+    * @return Sentence count.
+    */
+   public long getAppliedCount (int validationLevel) {
+      if ((validationLevel < VALIDATE_NONE) || (validationLevel > VALIDATE_FULL)) {
+         return 0;
+      }
+      return appliedCounts.get (validationLevel);
+   }
+
+   /**
+    * Gets the number of sentences fully audited by sampling.
+    *
+    * @return Sampled sentence count.
+    */
+   public long getSampledCount () {
+      return sampledCount.get ();
+   }
+
+   /**
+    * Resets the sentence counts.
+    */
+   public void resetStatistics () {
+      for (int i = 0; i < appliedCounts.length (); i++) {
+         appliedCounts.set (i, 0);
+      }
+      sampledCount.set (0);
+   }
+}
@@ -23,6 +23,9 @@ public class ReceiveDataPanel extends DefaultTextOutputPanel
    implements ReceivedSentenceListener {
       
 	private static final long serialVersionUID = 1L;
+	
+   /* Reused for every displayed sentence. */
+   StringBuilder displayText = new StringBuilder (256);
 
 /** 
     * Initializes an object of this class.
@@ -34,11 +37,17 @@ public class ReceiveDataPanel extends DefaultTextOutputPanel
    }
    
    /**
-    * Receive, to display, data received by a serial port.
+    * Receive, to display, data received by a serial port.  The sentence text
+    * is only rendered while this panel is showing.
     *
     * @param receivedSentence The received sentence data.
     */
    public void receiveSentence (ReceivedSentence receivedSentence) {
-      this.writeData (receivedSentence.sentenceReceived + "\n");
+      if (this.isShowing ()) {
+         displayText.setLength (0);
+         receivedSentence.appendSentenceReceived (displayText);
+         displayText.append ('\n');
+         this.writeData (displayText.toString ());
+      }
    }
 }
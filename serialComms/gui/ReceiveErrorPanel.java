@@ -21,6 +21,9 @@ import serialComms.sentences.analysis.*;
  */
 public class ReceiveErrorPanel extends DefaultTextOutputPanel implements ReceivedSentenceListener {
 	private static final long serialVersionUID = 1L;
+	
+   /* Reused for every displayed error report. */
+   StringBuilder displayText = new StringBuilder (512);
 
 /**
     * Initializes an object of this class.
@@ -41,9 +44,13 @@ public class ReceiveErrorPanel extends DefaultTextOutputPanel implements Receive
       SentenceErrorLog errorLog = receivedSentence.errorLog;
       
       if (errorLog.getQualityValue () < SentenceErrorTypes.VALID_SENTENCE) {
-         this.writeData ("______________________________________\n");
-         this.writeData (receivedSentence.sentenceReceived + "\n");
-         this.writeData (errorLog.printErrorLog () + "\n");
+         displayText.setLength (0);
+         displayText.append ("______________________________________\n");
+         receivedSentence.appendSentenceReceived (displayText);
+         displayText.append ('\n');
+         errorLog.appendErrorLog (displayText);
+         displayText.append ('\n');
+         this.writeData (displayText.toString ());
       }
    }
 }
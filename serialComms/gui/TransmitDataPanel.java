@@ -9,13 +9,16 @@
  */
 package serialComms.gui;
 
+import java.nio.*;
+import java.nio.charset.*;
 import serialComms.sentences.*;
+import serialComms.sentences.analysis.*;
 import serialComms.serialInterface.*;
 /**
  * An instance of this class presents a GUI for the ownship simulator.
  *
  * @author Jeff Stewart
- * @version 1.0.0.0, 2005-01-01
+ * @version 1.0.0.3, 2026-10-17
  */
 public class TransmitDataPanel extends DefaultTextOutputPanel 
    implements SentTransListener {
@@ -39,4 +42,35 @@ public class TransmitDataPanel extends DefaultTextOutputPanel
    public void transmitSentence (String sentence) {
       this.writeData (sentence);
    }
+
+   /**
+    * Write, to display area, a trasmitted sentence held in a buffer.
+    *
+    * @param sentence The transmitted sentence.
+    */
+   public void transmitSentence (ByteBuffer sentence) {
+      // A duplicate is decoded, so direct and read-only buffers are displayed
+      // and the sentence buffer's position is left unchanged.
+      this.writeData (StandardCharsets.ISO_8859_1.decode (sentence.duplicate ()).toString ());
+   }
+
+   /**
+    * Write, to display area, a trasmitted sentence held in a buffer.  Its
+    * lateness is recorded by the port, not the display.
+    *
+    * @param sentence The transmitted sentence.
+    * @param dueNanos The System.nanoTime() at which the sentence was due.
+    * @param jitterHistogram The histogram of the sentence's lateness.
+    */
+   public void transmitSentence (ByteBuffer sentence, long dueNanos,
+                                 IntervalHistogram jitterHistogram) {
+      this.transmitSentence (sentence);
+   }
 }
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Displays sentences transmitted from a buffer.
+ * 1.0.0.2  Displays sentences transmitted with their due time.
+ * 1.0.0.3  Displays sentences held in direct and read-only buffers.
+ */
@@ -11,23 +11,33 @@ package serialComms.gui;
 
 import javax.swing.table.*;
 import java.util.*;
+import java.text.*;
 import serialComms.sentences.*;
 /**
  * An object of this class defines a customized Table Model for displaying
- * a list of transmitting sentences.
+ * a list of transmitting sentences, with the measured lateness (jitter) of
+ * their transmissions in milliseconds, and their measured rates.
  *
  * @author Jeff Stewart
- * @version 1.0.0.0, 2005-01-01
+ * @version 1.0.0.2, 2026-10-17
  */
 public class TransmitTableModel extends AbstractTableModel {
 
 	private static final long serialVersionUID = 1L;
 	static final String[] columnNames = {"Formatter",
                                         "Frequency",
-                                        "Source"};
+                                        "Source",
+                                        "Jitter p50 (ms)",
+                                        "Jitter p99 (ms)",
+                                        "Jitter max (ms)",
+                                        "Missed",
+                                        "Bytes/s",
+                                        "Peak bytes/s"};
    static final int columnCount = columnNames.length;
    
    Vector<TransmittingSentence> transmitList;
+   DecimalFormat jitterForm = new DecimalFormat("0.000");
+   DecimalFormat rateForm = new DecimalFormat("0.0");
 
    public TransmitTableModel () {
       transmitList = new Vector<TransmittingSentence>();
@@ -63,8 +73,32 @@ public class TransmitTableModel extends AbstractTableModel {
       else if (columnIndex == 2) {
          return item.getSource ();
       }
+      else if (columnIndex == 3) {
+         return jitterForm.format (item.getJitterHistogram ().getP50 () / 1000000.0);
+      }
+      else if (columnIndex == 4) {
+         return jitterForm.format (item.getJitterHistogram ().getP99 () / 1000000.0);
+      }
+      else if (columnIndex == 5) {
+         return jitterForm.format (item.getJitterHistogram ().getMax () / 1000000.0);
+      }
+      else if (columnIndex == 6) {
+         return item.getMissedCount ();
+      }
+      else if (columnIndex == 7) {
+         return rateForm.format (item.getBytesPerSecond ());
+      }
+      else if (columnIndex == 8) {
+         return rateForm.format (item.getPeakBytesPerSecond ());
+      }
       else {
          return new String ("?");
       }
    }
 }
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Added transmit jitter percentile and missed transmission columns.
+ * 1.0.0.2  Added measured average and peak transmit rate columns.
+ */
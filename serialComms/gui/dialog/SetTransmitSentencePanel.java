@@ -22,7 +22,7 @@ import serialComms.sentences.*;
  * This panel provides access to set a specific data sentence to transmit.
  *
  * @author Jeff Stewart
- * @version 1.0.0.0, 2005-01-01
+ * @version 1.0.0.1, 2026-10-17
  */
 public class SetTransmitSentencePanel extends JPanel {
 
@@ -125,10 +125,11 @@ public class SetTransmitSentencePanel extends JPanel {
       freqValue = new JLabel(freqForm.format (AbstractSentence.DEFAULT_TRANSMIT_PERIOD/1000.0) +
                                   "Hz (every " + freqForm.format (1000.0/AbstractSentence.DEFAULT_TRANSMIT_PERIOD) +
                                   " seconds)");
+      // The slider is in millihertz
       periodSlider = new JSlider(JSlider.HORIZONTAL, 
-                                 (int) AbstractSentence.MAX_TRANSMIT_PERIOD,
-                                 (int) AbstractSentence.MIN_TRANSMIT_PERIOD,
-                                 (int) AbstractSentence.DEFAULT_TRANSMIT_PERIOD);
+                                 (int) (1000000/AbstractSentence.MIN_TRANSMIT_PERIOD),
+                                 (int) (1000000/AbstractSentence.MAX_TRANSMIT_PERIOD),
+                                 (int) (1000000/AbstractSentence.DEFAULT_TRANSMIT_PERIOD));
       periodSlider.addChangeListener (new ChangeListener() {
             public void stateChanged (ChangeEvent event) {
                JSlider source = (JSlider) event.getSource ();
@@ -219,9 +220,9 @@ public class SetTransmitSentencePanel extends JPanel {
             }
          }
          
-         if ((inputData.transmitPeriod > AbstractSentence.MAX_TRANSMIT_PERIOD) && 
-             (inputData.transmitPeriod < AbstractSentence.MIN_TRANSMIT_PERIOD)) {
-            periodSlider.setValue ((int) inputData.transmitPeriod);
+         if ((inputData.transmitPeriod >= AbstractSentence.MAX_TRANSMIT_PERIOD) && 
+             (inputData.transmitPeriod <= AbstractSentence.MIN_TRANSMIT_PERIOD)) {
+            periodSlider.setValue ((int) (1000000/inputData.transmitPeriod));
          } 
          
          if (inputData.dataSource == DataFactory.SIMULATOR_DATA_SOURCE) {
@@ -331,3 +332,9 @@ public class SetTransmitSentencePanel extends JPanel {
       }
    }
 }
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Frequency slider ranges from MIN to MAX_TRANSMIT_PERIOD in millihertz,
+ *          and is set from an existing period correctly.
+ */
@@ -11,13 +11,14 @@ package serialComms.sentences;
 
 import mdl.data.*;
 import serialComms.*;
+import serialComms.sentences.decoded.*;
 import dashboard.*;
 /**
  * An object of this class frames the basic sentence structure used to implement
  * specific sentence types.
  *
  * @author Jeff Stewart
- * @version 1.0.0.0, 2005-01-01
+ * @version 1.0.0.6, 2026-10-17
  */
 public abstract class AbstractSentence {
    
@@ -25,14 +26,24 @@ public abstract class AbstractSentence {
    public static final long MIN_TRANSMIT_PERIOD = 20000;
    /** Used to set a transmit frequency of 1Hz (or a period of 1 second). */
    public static final long DEFAULT_TRANSMIT_PERIOD = 1000;
-   /** Used to set a transmit frequency of 20Hz (or a period of 0.05 seconds). */
-   public static final long MAX_TRANSMIT_PERIOD = 50;
+   /** Used to set a transmit frequency of 100Hz (or a period of 0.01 seconds). */
+   public static final long MAX_TRANSMIT_PERIOD = 10;
    
    protected DataFactory dataFactory;
    protected DashboardChannel dashboardChannel;
+   protected DecodedValuePublisher valuePublisher;
    protected int talkerID;
    protected String talkerIDMnemonic;
    protected int sentenceVersion;
+
+   /* Templates for the current talker ID and version, built when first used. */
+   SentenceTemplate simulatorTemplate;
+   SentenceTemplate manualTemplate;
+   /* The encoded sentences shared with other ports, for each template. */
+   SentenceCache.Entry simulatorEntry;
+   SentenceCache.Entry manualEntry;
+   volatile boolean templatesBuilt;
+   SentenceWriter textWriter;
   
    public abstract int getEstimatedLength();
    public abstract int getSentenceFormatter();
@@ -42,6 +53,26 @@ public abstract class AbstractSentence {
    public abstract String getRandomSentence();
    public abstract void processReceivedSentence(ReceivedSentence receivedSentence);
    
+   /**
+    * Gets the least number of fields of a received sentence, including the
+    * address field.  Sentence types that check their field count override this.
+    *
+    * @return Minimum field count.
+    */
+   public int getMinFieldCount () {
+      return 1;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence, including the address field.
+    * Sentence types that check their field count override this.
+    *
+    * @return Maximum field count.
+    */
+   public int getMaxFieldCount () {
+      return ReceivedSentence.MAX_FIELDS;
+   }
+   
    /**
     * Set the DataFactory object for the specific sentence.
     *
@@ -70,6 +101,44 @@ public abstract class AbstractSentence {
       }
    }
    
+   /**
+    * Set the DecodedValuePublisher object for the specific sentence, which
+    * passes the values decoded from received sentences to the port's
+    * listeners.
+    *
+    * @param publisher The port's publisher.
+    */   
+   public void setDecodedValuePublisher (DecodedValuePublisher publisher) {
+      valuePublisher = publisher;
+   }
+   
+   /**
+    * Publish the values decoded by the last processReceivedSentence() call.
+    * Sentence types that decode values override this.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+   }
+   
+   /**
+    * Publish decoded values, stamped with the sentence they came from, if
+    * the port has listeners.
+    *
+    * @param value The decoded values.
+    * @param receivedSentence The received sentence they were decoded from.
+    */   
+   protected void publish (DecodedValue value, ReceivedSentence receivedSentence) {
+      if ((valuePublisher == null) || !valuePublisher.hasListeners ()) {
+         return;
+      }
+      value.talkerID = receivedSentence.talkerID;
+      value.formatter = receivedSentence.formatter;
+      value.quality = receivedSentence.errorLog.getQualityValue ();
+      value.receiveNanos = receivedSentence.receiveEndNanos;
+      valuePublisher.publish (value);
+   }
+   
    /**
     * Set talker identifier.
     *
@@ -89,6 +158,7 @@ public abstract class AbstractSentence {
       else {
          talkerIDMnemonic = "" + ((char) (talkerID & 0x00FF));
       }
+      templatesBuilt = false;
    }
    
    /**
@@ -112,5 +182,152 @@ public abstract class AbstractSentence {
       else {
          sentenceVersion = SentenceTypes.NMEA_DEFAULT_VERSION;
       }
+      templatesBuilt = false;
+   }
+
+   /**
+    * Builds the field layout of the simulator sentence, for the current talker
+    * ID and sentence version.  Sentence types override this to write their
+    * sentences straight into a SentenceWriter.
+    *
+    * @return The template, or null to transmit getSimulatorSentence() text.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
+      return null;
+   }
+
+   /**
+    * Builds the field layout of the manual sentence, for the current talker
+    * ID and sentence version.
+    *
+    * @return The template, or null to transmit getManualSentence() text.
+    */
+   protected SentenceTemplate buildManualTemplate () {
+      return null;
+   }
+
+   /*
+    * Builds the templates again after a talker ID or version change.  Called
+    * on every write, so the lock is taken only when a build is needed.
+    */
+   private void buildTemplates () {
+      if (templatesBuilt) {
+         return;
+      }
+      synchronized (this) {
+         if (!templatesBuilt) {
+            simulatorTemplate = this.buildSimulatorTemplate ();
+            manualTemplate = this.buildManualTemplate ();
+            simulatorEntry = (simulatorTemplate == null) ? null :
+               SentenceCache.getCache ().getEntry (this, DataFactory.SIMULATOR_DATA_SOURCE);
+            manualEntry = (manualTemplate == null) ? null :
+               SentenceCache.getCache ().getEntry (this, DataFactory.MANUAL_DATA_SOURCE);
+            templatesBuilt = true;
+         }
+      }
+   }
+
+   /**
+    * Writes the simulator sentence.  A templated sentence is copied from the
+    * SentenceCache if another port has already encoded it for this tick.
+    *
+    * @param writer The writer to write to, locked by the caller.
+    * @return 'False' if there is no sentence to transmit.
+    */
+   public boolean writeSimulatorSentence (SentenceWriter writer) {
+      this.buildTemplates ();
+      SentenceTemplate template = simulatorTemplate;
+      if (template != null) {
+         return simulatorEntry.write (template, dataFactory, writer);
+      }
+      return writer.putSentence (this.getSimulatorSentence ());
+   }
+
+   /**
+    * Writes the manual sentence.
+    *
+    * @param writer The writer to write to, locked by the caller.
+    * @return 'False' if there is no sentence to transmit.
+    */
+   public boolean writeManualSentence (SentenceWriter writer) {
+      this.buildTemplates ();
+      SentenceTemplate template = manualTemplate;
+      if (template != null) {
+         return manualEntry.write (template, dataFactory, writer);
+      }
+      return writer.putSentence (this.getManualSentence ());
+   }
+
+   /**
+    * Writes the random sentence.
+    *
+    * @param writer The writer to write to, locked by the caller.
+    * @return 'False' if there is no sentence to transmit.
+    */
+   public boolean writeRandomSentence (SentenceWriter writer) {
+      return writer.putSentence (this.getRandomSentence ());
+   }
+
+   /**
+    * Writes the sentence of a data source.
+    *
+    * @param dataSource The DataFactory data source (e.g. DataFactory.SIMULATOR_DATA_SOURCE).
+    * @param writer The writer to write to, locked by the caller.
+    * @return 'False' if there is no sentence to transmit.
+    */
+   public boolean writeSentence (int dataSource, SentenceWriter writer) {
+      switch (dataSource) {
+         case DataFactory.SIMULATOR_DATA_SOURCE: return this.writeSimulatorSentence (writer);
+         case DataFactory.MANUAL_DATA_SOURCE:    return this.writeManualSentence (writer);
+         case DataFactory.RANDOM_DATA_SOURCE:    return this.writeRandomSentence (writer);
+         default:                         return false;
+      }
+   }
+
+   /**
+    * Gets the text of a templated sentence, for the String based getters.
+    *
+    * @param template The template, may be null.
+    * @return The sentence text, or null if there is no template.
+    */
+   protected synchronized String getTemplateSentence (SentenceTemplate template) {
+      if (template == null) {
+         return null;
+      }
+      if (textWriter == null) {
+         textWriter = new SentenceWriter ();
+      }
+      template.write (dataFactory, textWriter);
+      return textWriter.toString ();
+   }
+
+   /**
+    * Gets the simulator sentence template, building it if needed.
+    *
+    * @return The template, or null if the sentence type has none.
+    */
+   protected SentenceTemplate getSimulatorTemplate () {
+      this.buildTemplates ();
+      return simulatorTemplate;
+   }
+
+   /**
+    * Gets the manual sentence template, building it if needed.
+    *
+    * @return The template, or null if the sentence type has none.
+    */
+   protected SentenceTemplate getManualTemplate () {
+      this.buildTemplates ();
+      return manualTemplate;
    }
 }
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  MAX_TRANSMIT_PERIOD raised to 100Hz for NMEA 0183-HS devices.
+ * 1.0.0.2  Added sentence templates, written straight into a SentenceWriter.
+ * 1.0.0.3  Templated sentences shared between ports through the SentenceCache.
+ * 1.0.0.4  Field count limits, for the SentenceTypes descriptors.
+ * 1.0.0.5  Decoded values published to the port's DecodedValueListeners.
+ * 1.0.0.6  Templates built under the lock only when the volatile flag is clear.
+ */
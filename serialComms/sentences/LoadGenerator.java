@@ -0,0 +1,456 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: LoadGenerator.java
+ * Created: 2026-10-17, 20:54:04
+ */
+package serialComms.sentences;
+
+import java.util.*;
+import mdl.data.*;
+import serialComms.serialInterface.transceivers.*;
+/**
+ * An object of this class fills a serial port with sentences, to stress test
+ * the equipment connected to it.  The load is set as a rate of sentences per
+ * second, or as a share of the port's line capacity, and is made of a
+ * weighted mix of sentence types.  The talker ID of each sentence may be
+ * varied over those valid for its type, and the order of the sentences may
+ * be random rather than an even interleave of the mix.
+ * <p>
+ * Sentences are encoded ahead of time into one of two rings of RING_SIZE
+ * sentences, which are swapped every RENDER_PERIOD so simulated data stays
+ * current; sending is a copy from the ring into the port's TransmitQueue, so
+ * the generator is not the limit on the rate reached.  Sentences are sent by
+ * the shared TransmitScheduler every SEND_PERIOD, as many as are due at the
+ * requested rate.  Those the queue cannot take are counted as dropped, and
+ * the rate achieved is reported against the rate requested.  Load sentences
+ * go straight to the port, so they are not shown with transmitted sentences.
+ *
+ * @author agent
+ * @version 1.0.0.1, 2026-10-17
+ */
+public class LoadGenerator implements TransmitTask {
+
+   /** Number of sentences encoded ahead in each ring. */
+   public final static int RING_SIZE = 256;
+   /** Time between sends, in milliseconds. */
+   public final static long SEND_PERIOD = DataFactory.TRANSMIT_FREQ_100HZ;
+   /** Time between encodings of a new ring, in milliseconds. */
+   public final static long RENDER_PERIOD = DataFactory.TRANSMIT_FREQ_1HZ;
+
+   TransmitQueue transmitQueue;
+   double lineCapacity;
+   DataFactory dataFactory;
+
+   /* The sentence mix, guarded by this object. */
+   Vector<MixEntry> mix = new Vector<MixEntry>();
+   int dataSource = DataFactory.RANDOM_DATA_SOURCE;
+   boolean talkerVariation;
+   boolean sequenceVariation;
+   Random random = new Random ();
+
+   /* The ring being sent, and the ring encoded next. */
+   volatile Ring sendRing;
+   Ring renderRing;
+   int sendIndex;
+
+   /* The requested load: a rate, or a share of the line capacity if above zero. */
+   volatile double requestedRate;
+   double requestedUtilisation;
+
+   TransmitScheduler.ScheduledTransmit scheduledSend;
+   TransmitScheduler.ScheduledTransmit scheduledRender;
+   volatile boolean isRunning;
+   long startNanos;
+   volatile long lastSendNanos;
+   volatile long sentCount;
+   volatile long sentByteCount;
+   volatile long droppedCount;
+   volatile long skippedCount;
+
+   /**
+    * Creates a load generator for a serial port.
+    *
+    * @param queue The port's transmit queue.
+    * @param capacity The port's line capacity, in characters per second.
+    * @param factory The DataFactory supplying data for the sentences.
+    */
+   public LoadGenerator (TransmitQueue queue, double capacity, DataFactory factory) {
+      transmitQueue = queue;
+      lineCapacity = capacity;
+      dataFactory = factory;
+   }
+
+   /**
+    * Adds a sentence type to the mix.
+    *
+    * @param formatter The sentence formatter, see SentenceTypes.
+    * @param talkerID The talker ID, see SentenceTypes.
+    * @param weight The share of the mix, relative to the other types.
+    */
+   public synchronized void addFormatter (int formatter, int talkerID, int weight) {
+      if ((weight > 0) && (SentenceTypes.getSentenceObject (formatter) != null)) {
+         mix.addElement (new MixEntry (formatter, talkerID, weight));
+      }
+   }
+
+   /**
+    * Removes all sentence types from the mix.
+    */
+   public synchronized void clearFormatters () {
+      mix.removeAllElements ();
+   }
+
+   /**
+    * Sets the source of data for the sentences.
+    *
+    * @param source The static variable from DataFactory class that indicates the data source.
+    */
+   public synchronized void setDataSource (int source) {
+      dataSource = source;
+   }
+
+   /**
+    * Sets whether talker IDs are varied over those valid for each type.
+    *
+    * @param vary 'True' to vary the talker IDs.
+    */
+   public synchronized void setTalkerVariation (boolean vary) {
+      talkerVariation = vary;
+   }
+
+   /**
+    * Sets whether the sentences are sent in a random order of the mix, rather
+    * than an even interleave.
+    *
+    * @param vary 'True' for a random order.
+    */
+   public synchronized void setSequenceVariation (boolean vary) {
+      sequenceVariation = vary;
+   }
+
+   /**
+    * Starts the load at a rate of sentences.
+    *
+    * @param sentencesPerSecond The requested rate, sentences per second.
+    * @return 'False' if there is no sentence mix or no port to load.
+    */
+   public synchronized boolean startRate (double sentencesPerSecond) {
+      requestedUtilisation = 0.0;
+      requestedRate = sentencesPerSecond;
+      return this.start ();
+   }
+
+   /**
+    * Starts the load at a share of the port's line capacity.  The rate of
+    * sentences follows from the average length of the encoded sentences.
+    *
+    * @param percent The requested line utilisation, in percent.
+    * @return 'False' if there is no sentence mix or no port to load.
+    */
+   public synchronized boolean startUtilisation (double percent) {
+      requestedUtilisation = percent / 100.0;
+      return this.start ();
+   }
+
+   /* Encodes the first ring and schedules sending and encoding, holding this object. */
+   private boolean start () {
+      this.stop ();
+      if (mix.isEmpty () || (transmitQueue == null)) {
+         return false;
+      }
+      for (int i = 0; i < mix.size (); i++) {
+         mix.elementAt (i).createSentences ();
+      }
+      sendRing = this.render (new Ring ());
+      renderRing = new Ring ();
+      sendIndex = 0;
+      sentCount = 0;
+      sentByteCount = 0;
+      droppedCount = 0;
+      skippedCount = 0;
+      startNanos = System.nanoTime ();
+      lastSendNanos = startNanos;
+      isRunning = true;
+
+      TransmitScheduler scheduler = TransmitScheduler.getScheduler ();
+      scheduledSend = scheduler.scheduleAtFixedRate (this, SEND_PERIOD * 1000000L);
+      scheduledRender = scheduler.schedule (new Runnable () {
+            public void run () {
+               renderNextRing ();
+            }
+         }, RENDER_PERIOD * 1000000L, RENDER_PERIOD * 1000000L);
+      return true;
+   }
+
+   /**
+    * Stops the load.
+    */
+   public synchronized void stop () {
+      isRunning = false;
+      if (scheduledSend != null) {
+         scheduledSend.cancel ();
+         scheduledSend = null;
+      }
+      if (scheduledRender != null) {
+         scheduledRender.cancel ();
+         scheduledRender = null;
+      }
+   }
+
+   /*
+    * Encodes the next ring and swaps it with the ring being sent.  The ring
+    * replaced is not encoded again until RENDER_PERIOD later, long after the
+    * send in progress during the swap has finished with it.
+    */
+   synchronized void renderNextRing () {
+      if (isRunning) {
+         Ring ring = this.render (renderRing);
+         renderRing = sendRing;
+         sendRing = ring;
+      }
+   }
+
+   /* Encodes a ring of sentences from the mix, holding this object. */
+   private Ring render (Ring ring) {
+      SentenceWriter writer = ring.writer;
+      int totalWeight = 0;
+      for (int i = 0; i < mix.size (); i++) {
+         MixEntry entry = mix.elementAt (i);
+         entry.credit = 0;
+         totalWeight += entry.weight;
+      }
+
+      ring.length = 0;
+      ring.count = 0;
+      for (int i = 0; i < RING_SIZE; i++) {
+         MixEntry entry = sequenceVariation ?
+            this.getRandomEntry (totalWeight) : this.getNextEntry (totalWeight);
+         AbstractSentence sentence = entry.sentences[
+            talkerVariation ? random.nextInt (entry.sentences.length) : 0];
+         if (sentence.writeSentence (dataSource, writer)) {
+            ring.add (writer);
+         }
+      }
+
+      if (requestedUtilisation > 0.0) {
+         requestedRate = (ring.count > 0) ?
+            (requestedUtilisation * lineCapacity * ring.count) / ring.length : 0.0;
+      }
+      return ring;
+   }
+
+   /* Gets the next type of an even, weighted interleave (smooth weighted round robin). */
+   private MixEntry getNextEntry (int totalWeight) {
+      MixEntry best = null;
+      for (int i = 0; i < mix.size (); i++) {
+         MixEntry entry = mix.elementAt (i);
+         entry.credit += entry.weight;
+         if ((best == null) || (entry.credit > best.credit)) {
+            best = entry;
+         }
+      }
+      best.credit -= totalWeight;
+      return best;
+   }
+
+   /* Gets a type at random, in proportion to its weight. */
+   private MixEntry getRandomEntry (int totalWeight) {
+      int pick = random.nextInt (totalWeight);
+      for (int i = 0; i < mix.size (); i++) {
+         MixEntry entry = mix.elementAt (i);
+         pick -= entry.weight;
+         if (pick < 0) {
+            return entry;
+         }
+      }
+      return mix.lastElement ();
+   }
+
+   /**
+    * Sends the sentences due since the last send.  Called by the shared
+    * TransmitScheduler.
+    *
+    * @param dueNanos The System.nanoTime() at which the send was due.
+    */
+   public void transmit (long dueNanos) {
+      Ring ring = sendRing;
+      if (!isRunning || (ring == null) || (ring.count == 0)) {
+         return;
+      }
+      long now = System.nanoTime ();
+      long due = (long) ((requestedRate * (now - startNanos)) / 1000000000.0);
+      long owed = due - sentCount - droppedCount - skippedCount;
+      if (owed > RING_SIZE) {
+         // Late by more than a ring (e.g. a long pause), skip rather than burst
+         skippedCount += owed - RING_SIZE;
+         owed = RING_SIZE;
+      }
+
+      int index = sendIndex;
+      for (long i = 0; i < owed; i++) {
+         if (index >= ring.count) {
+            index = 0;
+         }
+         if (transmitQueue.offer (ring.bytes, ring.offsets[index], ring.lengths[index])) {
+            sentCount++;
+            sentByteCount += ring.lengths[index];
+         }
+         else {
+            droppedCount++;
+         }
+         index++;
+      }
+      sendIndex = index;
+      lastSendNanos = now;
+   }
+
+   /**
+    * Gets whether the load is running.
+    *
+    * @return 'True' from a start until stop().
+    */
+   public boolean isRunning () {
+      return isRunning;
+   }
+
+   /**
+    * Gets the requested rate.  For a requested line utilisation, this is
+    * the rate of sentences it needs.
+    *
+    * @return Requested rate, sentences per second.
+    */
+   public double getRequestedRate () {
+      return requestedRate;
+   }
+
+   /**
+    * Gets the rate of sentences taken by the port since the load started.
+    *
+    * @return Achieved rate, sentences per second.
+    */
+   public double getAchievedRate () {
+      long elapsed = lastSendNanos - startNanos;
+      if (elapsed <= 0) {
+         return 0.0;
+      }
+      return (sentCount * 1000000000.0) / elapsed;
+   }
+
+   /**
+    * Gets the rate of characters taken by the port since the load started,
+    * the share of the line capacity used by the load.
+    *
+    * @return Achieved rate, characters per second.
+    */
+   public double getAchievedByteRate () {
+      long elapsed = lastSendNanos - startNanos;
+      if (elapsed <= 0) {
+         return 0.0;
+      }
+      return (sentByteCount * 1000000000.0) / elapsed;
+   }
+
+   /**
+    * Gets the number of sentences taken by the port.
+    *
+    * @return Sent sentence count.
+    */
+   public long getSentCount () {
+      return sentCount;
+   }
+
+   /**
+    * Gets the number of sentences the port's queue could not take.
+    *
+    * @return Dropped sentence count.
+    */
+   public long getDroppedCount () {
+      return droppedCount;
+   }
+
+   /**
+    * Gets the number of sentences not sent because the sends fell more than
+    * a ring behind.
+    *
+    * @return Skipped sentence count.
+    */
+   public long getSkippedCount () {
+      return skippedCount;
+   }
+
+   /* A sentence type of the mix, with a sentence object for each talker ID used. */
+   class MixEntry {
+      int formatter;
+      int talkerID;
+      int weight;
+      int credit;
+      AbstractSentence[] sentences;
+
+      MixEntry (int sentenceFormatter, int talker, int share) {
+         formatter = sentenceFormatter;
+         talkerID = talker;
+         weight = share;
+      }
+
+      /* Creates the sentence objects, for the talker ID or all valid talker IDs. */
+      void createSentences () {
+         Vector<AbstractSentence> created = new Vector<AbstractSentence>();
+         if (talkerVariation) {
+            int[] talkers = SentenceTypes.getKnownTalkerIDs ();
+            for (int i = 0; i < talkers.length; i++) {
+               AbstractSentence sentence = SentenceTypes.getSentenceObject (formatter);
+               if (sentence.isSentenceIDValid (talkers[i])) {
+                  this.setUp (sentence, talkers[i]);
+                  created.addElement (sentence);
+               }
+            }
+         }
+         if (created.isEmpty ()) {
+            AbstractSentence sentence = SentenceTypes.getSentenceObject (formatter);
+            this.setUp (sentence, talkerID);
+            created.addElement (sentence);
+         }
+         sentences = created.toArray (new AbstractSentence[created.size ()]);
+      }
+
+      private void setUp (AbstractSentence sentence, int talker) {
+         sentence.setDataFactory (dataFactory);
+         sentence.setTalkerID (talker);
+         sentence.setSentenceVersion (SentenceTypes.NMEA_DEFAULT_VERSION);
+      }
+   }
+
+   /* Encoded sentences, end to end in one array. */
+   static class Ring {
+      SentenceWriter writer = new SentenceWriter ();
+      byte[] bytes = new byte[RING_SIZE * SentenceTypes.MAX_SENTENCE_LENGTH];
+      int[] offsets = new int[RING_SIZE];
+      int[] lengths = new int[RING_SIZE];
+      int length;
+      int count;
+
+      /* Appends the sentence last written by a writer. */
+      void add (SentenceWriter sentenceWriter) {
+         int sentenceLength = sentenceWriter.length;
+         if (length + sentenceLength > bytes.length) {
+            byte[] larger = new byte[Math.max (bytes.length * 2, length + sentenceLength)];
+            System.arraycopy (bytes, 0, larger, 0, length);
+            bytes = larger;
+         }
+         System.arraycopy (sentenceWriter.bytes, 0, bytes, length, sentenceLength);
+         offsets[count] = length;
+         lengths[count] = sentenceLength;
+         length += sentenceLength;
+         count++;
+      }
+   }
+}
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Added getAchievedByteRate(), the line capacity used by the load.
+ */
@@ -0,0 +1,125 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: NMEACharacters.java
+ * Created: 2026-10-17, 20:02:49
+ */
+package serialComms.sentences;
+
+/**
+ * This static class holds 256-entry lookup tables that classify NMEA 0183 /
+ * IEC 61162-1 characters, so a receiver can classify each byte with a single
+ * array read.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public abstract class NMEACharacters {
+
+   /** Reserved character (e.g. '$', '!', '*', ',', '^', <CR>, <LF>). */
+   public static final int RESERVED = 0x01;
+   /** Character that ends or delimits a field ('$', '!', ',', '*', '^'). */
+   public static final int DELIMITER = 0x02;
+   /** Sentence terminator character (<CR> or <LF>). */
+   public static final int TERMINATOR = 0x04;
+   /** Hexadecimal digit ('0'-'9', 'A'-'F'). */
+   public static final int HEX = 0x08;
+   /** Legal address (talker ID and formatter) character ('A'-'Z', '0'-'9'). */
+   public static final int TALKER = 0x10;
+   /** Character legal within a data field (0x20 - 0x7F, less delimiters). */
+   public static final int FIELD = 0x20;
+   /** Reserved character not used by this application ('\', '~', <DEL>). */
+   public static final int UNUSED_RESERVED = 0x40;
+
+   /** Classes of each character value, a combination of the flags above. */
+   static final byte[] CHARACTER_CLASS = new byte[256];
+   /** Value of each hexadecimal digit, or -1 for other characters. */
+   static final byte[] HEX_VALUE = new byte[256];
+   /** Upper-case hexadecimal digit for each value 0-15. */
+   static final char[] HEX_DIGIT = {
+      '0', '1', '2', '3', '4', '5', '6', '7',
+      '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
+
+   static {
+      for (int c = 0; c < 256; c++) {
+         int charClass = 0;
+         HEX_VALUE[c] = -1;
+
+         if ((c > 0x1F) && (c < 0x80)) {
+            charClass |= FIELD;
+         }
+         if (((c >= '0') && (c <= '9')) || ((c >= 'A') && (c <= 'Z'))) {
+            charClass |= TALKER;
+         }
+         if ((c >= '0') && (c <= '9')) {
+            charClass |= HEX;
+            HEX_VALUE[c] = (byte) (c - '0');
+         }
+         if ((c >= 'A') && (c <= 'F')) {
+            charClass |= HEX;
+            HEX_VALUE[c] = (byte) (c - 'A' + 10);
+         }
+         switch (c) {
+            case '$':
+            case '!':
+            case ',':
+            case '*':
+            case '^': {
+               charClass = (charClass & ~FIELD) | RESERVED | DELIMITER;
+               break;
+            }
+            case 0x0D:
+            case 0x0A: {
+               charClass |= RESERVED | TERMINATOR;
+               break;
+            }
+            case '\\':
+            case '~':
+            case 0x7F: {
+               charClass |= RESERVED | UNUSED_RESERVED;
+               break;
+            }
+         }
+         CHARACTER_CLASS[c] = (byte) charClass;
+      }
+   }
+
+   /**
+    * Gets the class flags of a character.
+    *
+    * @param c The character.
+    * @return A combination of the class flags, zero for characters above 0xFF.
+    */
+   public static int getCharacterClass (int c) {
+      if ((c & ~0x00FF) != 0) {
+         return 0;
+      }
+      return CHARACTER_CLASS[c];
+   }
+
+   /**
+    * Gets the value of a hexadecimal digit character.
+    *
+    * @param c The character.
+    * @return Value 0-15, or -1 if not an upper-case hexadecimal digit.
+    */
+   public static int getHexValue (int c) {
+      if ((c & ~0x00FF) != 0) {
+         return -1;
+      }
+      return HEX_VALUE[c];
+   }
+
+   /**
+    * Gets the upper-case hexadecimal digit for a value.
+    *
+    * @param value The value, only the low four bits are used.
+    * @return Hexadecimal digit character.
+    */
+   public static char getHexDigit (int value) {
+      return HEX_DIGIT[value & 0x0F];
+   }
+}
@@ -13,12 +13,13 @@ import java.text.*;
 import dashboard.*;
 import serialComms.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * An object of this class represents a specific sentence type being received
  * on a serial channel.
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-01
+ * @version 1.0.0.5, 2026-10-17
  */
 public class ReceivingSentence {  
    int sentenceQuality;
@@ -29,6 +30,11 @@ public class ReceivingSentence {
    long timeSincePrevious;
    SentenceReceiveFrequency sentenceRcvFreq;
    AbstractSentence thisSentence;
+   SentenceDescriptor descriptor;
+   
+   IntervalHistogram interArrivalHistogram;
+   IntervalHistogram transitHistogram;
+   long previousArrivalNanos;
    
    DecimalFormat freqForm = new DecimalFormat("0.00");
    
@@ -36,13 +42,19 @@ public class ReceivingSentence {
     * Create a ReceivingSentence object.
     *
     * @param formatter The formatter reference from SentenceTypes.
+    * @param dbChnl The port's DashboardChannel.
+    * @param publisher The port's publisher of decoded values.
     */
-   public ReceivingSentence (int formatter, DashboardChannel dbChnl) {
+   public ReceivingSentence (int formatter, DashboardChannel dbChnl, DecodedValuePublisher publisher) {
       sentenceRcvFreq = new SentenceReceiveFrequency();
+      interArrivalHistogram = new IntervalHistogram();
+      transitHistogram = new IntervalHistogram();
       sentenceFormatter = formatter;
       thisSentence = SentenceTypes.getSentenceObject (formatter);
+      descriptor = SentenceTypes.getDescriptor (formatter);
       
       thisSentence.setDashboardChannel (dbChnl);
+      thisSentence.setDecodedValuePublisher (publisher);
    }
    
    /**
@@ -54,11 +66,28 @@ public class ReceivingSentence {
       receivedTotal++;
       sentenceRcvFreq.addSample (receivedSentence.timeOfReciept);
       
+      // Time from last character received to processing, and between sentences
+      long arrivalNanos = receivedSentence.receiveEndNanos;
+      if (arrivalNanos != 0) {
+         transitHistogram.recordValue (System.nanoTime () - arrivalNanos);
+         if (previousArrivalNanos != 0) {
+            interArrivalHistogram.recordValue (arrivalNanos - previousArrivalNanos);
+         }
+         previousArrivalNanos = arrivalNanos;
+      }
+      
       if (sentenceRcvFreq.getLatency () > SentenceErrorTypes.SENTENCE_TIMEOUT_LENGTH) {
-         receivedSentence.errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_TIMEDOUT));
+         receivedSentence.errorLog.addError (SentenceErrorTypes.ERR_DATA_TIMEDOUT);
       }
       
-      thisSentence.processReceivedSentence (receivedSentence);
+      // Fields parsed only when fully validated, otherwise only counted
+      if (receivedSentence.validationLevel == SentenceValidation.VALIDATE_FULL) {
+         thisSentence.processReceivedSentence (receivedSentence);
+         thisSentence.publishDecodedValues (receivedSentence);
+      }
+      else if (receivedSentence.validationLevel != SentenceValidation.VALIDATE_NONE) {
+         checkStructure (receivedSentence);
+      }
       
       sentenceQuality = receivedSentence.errorLog.getQualityValue ();
       if (sentenceQuality < SentenceErrorTypes.VALID_SENTENCE) {
@@ -71,6 +100,29 @@ public class ReceivingSentence {
       }
    }
    
+   /*
+    * Checks the talker ID and field count of a sentence against the
+    * formatter's descriptor, without parsing the fields.  Unknown formatters
+    * and talker IDs are reported by the transceiver.
+    */
+   private void checkStructure (ReceivedSentence receivedSentence) {
+      if (descriptor == null) {
+         return;
+      }
+      if (SentenceTypes.isKnownTalker (receivedSentence.talkerID) &&
+          !descriptor.isTalkerSupported (receivedSentence.talkerID)) {
+         receivedSentence.errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
+      }
+      int fieldCount = receivedSentence.getFieldTotal ();
+      if (fieldCount < descriptor.getMinFieldCount ()) {
+         receivedSentence.errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
+      }
+      else if (fieldCount > descriptor.getMaxFieldCount ()) {
+         receivedSentence.errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
+      }
+   }
+   
    /**
     * Get the specific sentence formatter.
     *
@@ -140,6 +192,26 @@ public class ReceivingSentence {
       return freqForm.format (sentenceRcvFreq.getFrequency ());
    }
    
+   /**
+    * Get the histogram of times between sentences of this type, taken from
+    * the arrival of each sentence's last character.
+    *
+    * @return Inter-arrival histogram, in nanoseconds.
+    */   
+   public IntervalHistogram getInterArrivalHistogram () {
+      return interArrivalHistogram;
+   }
+   
+   /**
+    * Get the histogram of times from a sentence's last character arriving to
+    * the sentence being processed.
+    *
+    * @return Transit time histogram, in nanoseconds.
+    */   
+   public IntervalHistogram getTransitHistogram () {
+      return transitHistogram;
+   }
+   
    /**
     * Get the latency between received sentences.
     *
@@ -153,4 +225,8 @@ public class ReceivingSentence {
  * Revision history:
  *
  * 1.0.0.1  Changed receiveSentence() to receive ReceivedSentence object.
+ * 1.0.0.2  Added inter-arrival and transit time histograms.
+ * 1.0.0.3  Values decoded by the sentence published to the port's listeners.
+ * 1.0.0.4  Fields parsed only for sentences at VALIDATE_FULL, otherwise counted.
+ * 1.0.0.5  Talker ID and field count checked against the SentenceDescriptor.
  */
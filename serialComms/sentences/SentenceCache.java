@@ -0,0 +1,168 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: SentenceCache.java
+ * Created: 2026-10-17, 20:46:38
+ */
+package serialComms.sentences;
+
+import java.util.*;
+import mdl.data.*;
+/**
+ * This class holds the last encoded bytes of each templated sentence, shared
+ * by every port transmitting it.  Sentences are kept by sentence type, talker
+ * ID, NMEA version and data source, so when several ports transmit the same
+ * sentence (e.g. GPGGA to an ECDIS, a radar and an autopilot) in the same
+ * simulator tick, it is encoded once and copied to the other ports.
+ * <p>
+ * A kept sentence is used again only while its DataFactory holds the same
+ * OwnshipState (the same tick), and the same text in each manually entered
+ * field, so a copied sentence is always the one the port would have written.
+ * Each kept sentence is locked while it is checked and copied, or encoded.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class SentenceCache {
+
+   private static SentenceCache sharedCache;
+
+   HashMap<String, Entry> entries = new HashMap<String, Entry>();
+
+   /**
+    * Gets the cache shared by all transmitting sentences.
+    *
+    * @return The shared SentenceCache.
+    */
+   public static synchronized SentenceCache getCache () {
+      if (sharedCache == null) {
+         sharedCache = new SentenceCache ();
+      }
+      return sharedCache;
+   }
+
+   /**
+    * Gets the kept sentence of a sentence type, creating it the first time.
+    * This is called when a sentence's templates are built, not for each
+    * transmission.
+    *
+    * @param sentence The sentence object.
+    * @param dataSource The DataFactory data source (e.g. DataFactory.SIMULATOR_DATA_SOURCE).
+    * @return The kept sentence.
+    */
+   public synchronized Entry getEntry (AbstractSentence sentence, int dataSource) {
+      String key = sentence.getClass ().getName () + "," + sentence.talkerID + "," +
+         sentence.sentenceVersion + "," + dataSource;
+      Entry entry = entries.get (key);
+      if (entry == null) {
+         entry = new Entry ();
+         entries.put (key, entry);
+      }
+      return entry;
+   }
+
+   /**
+    * Gets the number of sentences encoded, over all kept sentences.
+    *
+    * @return Encoded sentence count.
+    */
+   public synchronized long getEncodedCount () {
+      long count = 0;
+      for (Entry entry : entries.values ()) {
+         count += entry.getEncodedCount ();
+      }
+      return count;
+   }
+
+   /**
+    * Gets the number of sentences copied instead of encoded, over all kept
+    * sentences.
+    *
+    * @return Copied sentence count.
+    */
+   public synchronized long getCopiedCount () {
+      long count = 0;
+      for (Entry entry : entries.values ()) {
+         count += entry.getCopiedCount ();
+      }
+      return count;
+   }
+
+   /**
+    * The encoded bytes of one sentence, and the values they were encoded from.
+    */
+   public static class Entry {
+      DataFactory dataFactory;
+      OwnshipState ownship;
+      String[] manualValues;
+      byte[] bytes;
+      int length;
+      int checksum;
+      boolean valid;
+
+      long encodedCount;
+      long copiedCount;
+
+      /**
+       * Writes a templated sentence, copying the kept bytes if they are still
+       * current, otherwise encoding it and keeping the result.
+       *
+       * @param template The sentence template.
+       * @param data The source of field values.
+       * @param writer The writer to write to, locked by the caller.
+       * @return 'True' once written.
+       */
+      public synchronized boolean write (SentenceTemplate template, DataFactory data,
+                                         SentenceWriter writer) {
+         OwnshipState state = data.getOwnshipState ();
+         if (valid && (data == dataFactory) &&
+             ((state == ownship) || !template.hasSimulatedFields ()) &&
+             template.isManualValuesSame (data, manualValues)) {
+            writer.putSentence (bytes, length, checksum);
+            copiedCount++;
+            return true;
+         }
+
+         // Values are taken before encoding, so a value changed meanwhile is
+         // seen as changed by the next port, and the sentence encoded again.
+         if ((manualValues == null) || (manualValues.length < template.getFieldCount ())) {
+            manualValues = new String[template.getFieldCount ()];
+         }
+         template.getManualValues (data, manualValues);
+         template.write (data, state, writer);
+
+         if ((bytes == null) || (bytes.length < writer.length)) {
+            bytes = new byte[writer.bytes.length];
+         }
+         System.arraycopy (writer.bytes, 0, bytes, 0, writer.length);
+         length = writer.length;
+         checksum = writer.checksum;
+         dataFactory = data;
+         ownship = state;
+         valid = true;
+         encodedCount++;
+         return true;
+      }
+
+      /**
+       * Gets the number of times this sentence was encoded.
+       *
+       * @return Encoded sentence count.
+       */
+      public synchronized long getEncodedCount () {
+         return encodedCount;
+      }
+
+      /**
+       * Gets the number of times this sentence was copied instead of encoded.
+       *
+       * @return Copied sentence count.
+       */
+      public synchronized long getCopiedCount () {
+         return copiedCount;
+      }
+   }
+}
@@ -0,0 +1,133 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: SentenceDescriptor.java
+ * Created: 2026-10-17, 21:07:41
+ */
+package serialComms.sentences;
+
+import serialComms.sentences.specific.*;
+/**
+ * An object of this class describes one sentence formatter known to this
+ * application: its name, whether it is supported, the class that receives
+ * and transmits it, its field count limits and the talker IDs it may come
+ * from.  Descriptors are built once by SentenceTypes and never changed, so
+ * they may be read by any thread without locking.
+ * <p>
+ * Each descriptor holds one shared instance of its sentence class, used only
+ * to answer the questions above.  Sentence objects hold a port's talker ID,
+ * version, DataFactory and DashboardChannel, so each port receiving or
+ * transmitting the sentence still gets its own from newSentence().
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public final class SentenceDescriptor {
+
+   final int formatter;
+   final String name;
+   final boolean supported;
+   final AbstractSentence sharedSentence;
+   final int minFieldCount;
+   final int maxFieldCount;
+   /* Indexed by SentenceTypes.getTalkerIndex(). */
+   final boolean [] talkerSupported;
+
+   /**
+    * Creates a sentence descriptor.
+    *
+    * @param sentenceFormatter The formatter value from SentenceTypes.
+    * @param formatterName The description of the formatter.
+    * @param isSupported 'True' if this application supports the formatter.
+    * @param sentence The shared instance of the sentence class, not to be
+    * given to a port.
+    * @param talkers The talker IDs accepted, indexed by SentenceTypes.getTalkerIndex().
+    */
+   SentenceDescriptor (int sentenceFormatter, String formatterName, boolean isSupported,
+                       AbstractSentence sentence, boolean [] talkers) {
+      formatter = sentenceFormatter;
+      name = formatterName;
+      supported = isSupported;
+      sharedSentence = sentence;
+      minFieldCount = sentence.getMinFieldCount ();
+      maxFieldCount = sentence.getMaxFieldCount ();
+      talkerSupported = talkers;
+   }
+
+   /**
+    * Gets the formatter value.
+    *
+    * @return Formatter value from SentenceTypes.
+    */
+   public int getFormatter () {
+      return formatter;
+   }
+
+   /**
+    * Gets the description of the formatter.
+    *
+    * @return Formatter description.
+    */
+   public String getName () {
+      return name;
+   }
+
+   /**
+    * Gets whether the formatter is supported by this application.
+    *
+    * @return 'True' if supported.
+    */
+   public boolean isSupported () {
+      return supported;
+   }
+
+   /**
+    * Gets the least number of fields of a received sentence, counting the
+    * address field.
+    *
+    * @return Minimum field count.
+    */
+   public int getMinFieldCount () {
+      return minFieldCount;
+   }
+
+   /**
+    * Gets the most fields of a received sentence, counting the address field.
+    *
+    * @return Maximum field count.
+    */
+   public int getMaxFieldCount () {
+      return maxFieldCount;
+   }
+
+   /**
+    * Determines if the sentence may come from a talker.
+    *
+    * @param talkerID The talker ID value from SentenceTypes.
+    * @return 'True' if the talker ID is known and valid for this sentence.
+    */
+   public boolean isTalkerSupported (int talkerID) {
+      int index = SentenceTypes.getTalkerIndex (talkerID);
+      return (index >= 0) && talkerSupported[index];
+   }
+
+   /**
+    * Creates a sentence object of this formatter, for a port to configure
+    * and use.
+    *
+    * @return New sentence object, a DefaultSentence if it cannot be created.
+    */
+   public AbstractSentence newSentence () {
+      try {
+         return sharedSentence.getClass ().getDeclaredConstructor ().newInstance ();
+      }
+      catch (ReflectiveOperationException error) {
+         System.out.println ("Unable to create sentence " + name + ". " +
+            error.toString ());
+         return new DefaultSentence ();
+      }
+   }
+}
@@ -9,10 +9,14 @@
  */
 package serialComms.sentences;
 
+import java.nio.*;
 import java.util.*;
 import javax.comm.*;
 import serialComms.*;
 import serialComms.gui.*;
+import serialComms.sentences.ais.*;
+import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 import serialComms.serialInterface.*;
 import serialComms.serialInterface.transceivers.*;
 import mdl.data.*;
@@ -22,12 +26,16 @@ import dashboard.*;
  * on a unique serial port.
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-01
+ * @version 1.0.0.13, 2026-10-17
  */
 public class SentenceManager extends TimerTask implements ReceivedSentenceListener, SentTransListener {
    
    /** The default received sentence list update rate, in milliseconds. */
    public static final long UPDATE_RECEIVED_DATA_PERIOD = 2700;
+   /** Share of the line capacity kept spare above the measured transmit rates. */
+   public static final double TRANSMIT_HEADROOM = 0.25;
+   /* Formatter value of no sentence, for the rate over every sentence. */
+   private static final int NO_FORMATTER = -1;
   /*  private static final boolean DEBUG_MODE = true; */
    
    Timer receivedDataUpdateTimer = new Timer();
@@ -36,16 +44,24 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
    private Vector<SentTransListener> sentTransListeners;
    private Vector<Object> transmitListListeners = new Vector<Object>();
    private Vector<Object> receiveListListeners = new Vector<Object>();
+   /* Passes values decoded from received sentences to their listeners. */
+   DecodedValuePublisher valuePublisher = new DecodedValuePublisher ();
    
-   HashMap<Integer, ReceivingSentence> receivedSentencesMap;
-   HashMap<Integer, TransmittingSentence> transmittingSentencesMap;
+   /* Keyed by sentence formatter; read without locking by the serial and timer threads. */
+   IntObjectMap<ReceivingSentence> receivedSentencesMap;
+   IntObjectMap<TransmittingSentence> transmittingSentencesMap;
    
    AbstractTransceiver sentenceTransceiver;
+   /* Writes every sentence transmitted on this port, locked while in use. */
+   SentenceWriter sentenceWriter = new SentenceWriter ();
+   volatile LoadGenerator loadGenerator;
    
    DataFactory dataFactory;
    DashboardChannel dashboardChannel;
    
+   /* The port's line rate, in bits per second, and time to send one character. */
    int bandwidthBPS;
+   long characterNanos;
    
    /**
     * Initialize a SentenceManager object.
@@ -76,15 +92,17 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
          
          this.addSentTransListener (sentenceTransceiver);
          bandwidthBPS = serialPort.getBaudRate();
+         characterNanos = AbstractTransceiver.getCharacterNanos (serialPort);
       }
       else {
          bandwidthBPS = 4800;
          System.out.println ("SerialPort object not passed to SentenceManager object. ");
          bandwidthBPS = 4800;
+         characterNanos = AbstractTransceiver.DEFAULT_CHARACTER_NANOS;
       }
 
-      receivedSentencesMap = new HashMap<Integer, ReceivingSentence>();
-      transmittingSentencesMap = new HashMap<Integer, TransmittingSentence>();
+      receivedSentencesMap = new IntObjectMap<ReceivingSentence>();
+      transmittingSentencesMap = new IntObjectMap<TransmittingSentence>();
       
       this.resetReceivedSentences ();
       this.resetTransmittingSentences ();
@@ -136,6 +154,44 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
       receivedSentenceListeners.remove(listener);
    }
    
+   /**
+    * Add a listener of the values decoded from received sentences.  Each
+    * sentence is parsed once, and its decoded values passed to every listener.
+    *
+    * @param listener The listener to add.
+    */   
+   public void addDecodedValueListener (DecodedValueListener listener) {
+      valuePublisher.addDecodedValueListener (listener);
+   }
+   
+   /**
+    * Remove a listener of the values decoded from received sentences.
+    *
+    * @param listener The listener to remove.
+    */   
+   public void removeDecodedValueListener (DecodedValueListener listener) {
+      valuePublisher.removeDecodedValueListener (listener);
+   }
+   
+   /**
+    * Add a listener of the AIS messages decoded from received VDM and VDO
+    * sentences.  Own vessel reports are marked as such.
+    *
+    * @param listener The listener to add.
+    */   
+   public void addAISMessageListener (AISMessageListener listener) {
+      valuePublisher.addAISMessageListener (listener);
+   }
+   
+   /**
+    * Remove a listener of decoded AIS messages.
+    *
+    * @param listener The listener to remove.
+    */   
+   public void removeAISMessageListener (AISMessageListener listener) {
+      valuePublisher.removeAISMessageListener (listener);
+   }
+   
    /**
     * Add a transmitted sentnece listener.
     *
@@ -190,6 +246,110 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
       receiveListListeners.remove(listener);
    }
    
+   /**
+    * Gets the queue of received sentences waiting to be processed, which
+    * reports depth, high-water mark and drop counts for this port.
+    *
+    * @return The receive queue, or null if no transceiver is open.
+    */
+   public ReceivedSentenceQueue getReceiveQueue () {
+      if (sentenceTransceiver != null) {
+         return sentenceTransceiver.getReceiveQueue ();
+      }
+      return null;
+   }
+   
+   /**
+    * Gets the pool of received sentences for this port, which reports free
+    * count, low-water mark and overload counts.
+    *
+    * @return The received sentence pool, or null if no transceiver is open.
+    */
+   public ReceivedSentenceServer getReceivedSentenceServer () {
+      if (sentenceTransceiver != null) {
+         return sentenceTransceiver.getReceivedSentenceServer ();
+      }
+      return null;
+   }
+   
+   /**
+    * Gets the validation of sentences received on this port, which reports
+    * the number of sentences checked at each validation level.
+    *
+    * @return The sentence validation, or null if no transceiver is open.
+    */
+   public SentenceValidation getSentenceValidation () {
+      if (sentenceTransceiver != null) {
+         return sentenceTransceiver.getSentenceValidation ();
+      }
+      return null;
+   }
+   
+   /**
+    * Sets how thoroughly sentences received on this port are checked.  Below
+    * SentenceValidation.VALIDATE_FULL fields are not parsed, so no values are
+    * passed to the dashboard or DecodedValueListeners.
+    *
+    * @param validationLevel SentenceValidation level, e.g. VALIDATE_CHECKSUM.
+    */
+   public void setValidationLevel (int validationLevel) {
+      if (sentenceTransceiver != null) {
+         sentenceTransceiver.getSentenceValidation ().setLevel (validationLevel);
+      }
+   }
+   
+   /**
+    * Sets how often a received sentence is fully audited when the validation
+    * level is below SentenceValidation.VALIDATE_FULL.
+    *
+    * @param interval One sentence in this many is fully audited, zero for none.
+    */
+   public void setFullAuditInterval (int interval) {
+      if (sentenceTransceiver != null) {
+         sentenceTransceiver.getSentenceValidation ().setSampleInterval (interval);
+      }
+   }
+   
+   /**
+    * Gets the queue of sentences waiting to be sent on this port, which
+    * reports the characters waiting, the writes made and overrun counts.
+    *
+    * @return The transmit queue, or null if no transceiver is open.
+    */
+   public TransmitQueue getTransmitQueue () {
+      if (sentenceTransceiver != null) {
+         return sentenceTransceiver.getTransmitQueue ();
+      }
+      return null;
+   }
+   
+   /**
+    * Gets the serial channel of this port, which reports the bytes written
+    * and the time each write takes.
+    *
+    * @return The serial channel, or null if no transceiver is open.
+    */
+   public SerialChannelIO getSerialChannelIO () {
+      if (sentenceTransceiver != null) {
+         return sentenceTransceiver.getSerialChannelIO ();
+      }
+      return null;
+   }
+   
+   /**
+    * Gets the load generator of this port, used to fill the port with a mix
+    * of sentences for stress testing.
+    *
+    * @return The load generator, or null if no transceiver is open.
+    */
+   public synchronized LoadGenerator getLoadGenerator () {
+      if ((loadGenerator == null) && (this.getTransmitQueue () != null)) {
+         loadGenerator = new LoadGenerator (this.getTransmitQueue (), 
+            this.getLineCapacity (), dataFactory);
+      }
+      return loadGenerator;
+   }
+   
    /**
     * Close the serial port that this SentenceManager is bound to.
     */
@@ -197,6 +357,9 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
       try {
          this.resetReceivedSentences ();
          this.stopAllTransmitSentences ();
+         if (loadGenerator != null) {
+            loadGenerator.stop ();
+         }
          this.resetTransmittingSentences ();
          if (sentenceTransceiver != null) {
             sentenceTransceiver.closeSerialPort ();
@@ -217,7 +380,19 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
       // Update receive data listeners
       for (int i = 0; i < receiveListListeners.size(); i++) {
          ReceiveListListener listener = (ReceiveListListener) receiveListListeners.elementAt (i);
-         listener.updateList (new Vector<ReceivingSentence>(receivedSentencesMap.values ()));
+         listener.updateList (receivedSentencesMap.values ());
+      }
+      // Update transmit list listeners, for the measured jitter and bandwidth
+      if (!transmittingSentencesMap.isEmpty ()) {
+         int availableBPS = this.getAvailableBandwidthBPS ();
+         for (int i = 0; i < transmitListListeners.size(); i++) {
+            TransmitListListener listener = (TransmitListListener) transmitListListeners.elementAt (i);
+            listener.updateList (transmittingSentencesMap.values ());
+            listener.updateBandwidth (availableBPS);
+            if (availableBPS < 0) {
+               listener.updateAddMessage ("Transmitting sentences exceed the port's line capacity.");
+            }
+         }
       }
    }
   
@@ -227,16 +402,15 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
     * @param receivedSentence The received sentence object.
     */   
    public void receiveSentence (ReceivedSentence receivedSentence) {
-      ReceivingSentence receivingSentence;
-      Integer keyValue = new Integer(receivedSentence.formatter);
-      if (receivedSentencesMap.containsKey (keyValue)) {
-         receivingSentence = (ReceivingSentence) receivedSentencesMap.get (keyValue);
+      ReceivingSentence receivingSentence = receivedSentencesMap.get (receivedSentence.formatter);
+      if (receivingSentence != null) {
          receivingSentence.receiveSentence (receivedSentence);
       }
       else {
-         receivingSentence = new ReceivingSentence (receivedSentence.formatter, dashboardChannel);
+         receivingSentence = new ReceivingSentence (receivedSentence.formatter, dashboardChannel,
+            valuePublisher);
          receivingSentence.receiveSentence (receivedSentence);
-         receivedSentencesMap.put (keyValue, receivingSentence);
+         receivedSentencesMap.put (receivedSentence.formatter, receivingSentence);
       }
       
       for (int i = 0; i < receivedSentenceListeners.size (); i++) {
@@ -270,7 +444,8 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
       int ver = version;
       int src;
       long prd;
-      int bandwidthDemand;
+      double availableRate;
+      double sentenceLength;
       TransmittingSentence sentence;
       TransmittingSentence removedSentence;
       String addMessage;
@@ -285,63 +460,137 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
       }
       
       if ((period > DataFactory.TRANSMIT_FREQ_PT05HZ) ||
-          (period < DataFactory.TRANSMIT_FREQ_20HZ)) {
+          (period < DataFactory.TRANSMIT_FREQ_100HZ)) {
           prd = DataFactory.TRANSMIT_FREQ_1HZ;
       }
       else {
          prd = period;
       }
       
-      sentence = new TransmittingSentence(frm, tlkID, src, ver, prd, dataFactory);
-      try {
-         sentence.addSentTransListenerListener(this);
-      } 
-      catch (TooManyListenersException error) {
-         System.out.println ("Serial channel listener already set in SerialChannelIO. " +
-            error.toString());
-      }
-      
-      bandwidthDemand = sentence.getBandwidthBPS ();
+      sentence = new TransmittingSentence(frm, tlkID, src, ver, prd, dataFactory, sentenceWriter);
+      // Admit the measured rate, plus headroom, against the line capacity
+      // left by the other sentences (a replaced sentence's share is reused)
+      // and by a running load.
+      availableRate = this.getLineCapacity () - 
+         (this.getTransmitRate (frm) * (1.0 + TRANSMIT_HEADROOM)) -
+         this.getLoadRate ();
+      sentenceLength = (sentence.getPeakBytesPerSecond () * prd) / 1000.0;
       
-      if (bandwidthDemand < bandwidthBPS) {
-         
-         bandwidthBPS -= bandwidthDemand;
-         
-         Integer keyValue = new Integer(frm);
-         if (transmittingSentencesMap.containsKey (keyValue)) {
-            removedSentence = (TransmittingSentence) transmittingSentencesMap.remove (keyValue);
-            bandwidthBPS += removedSentence.getBandwidthBPS ();
-            removedSentence.stop();
-            addMessage = "New sentence replaced existing sentece.";
+      if (sentence.getPeakBytesPerSecond () * (1.0 + TRANSMIT_HEADROOM) <= availableRate) {
+         addMessage = null;
+      }
+      else if (availableRate > 0.0) {
+         // Lengthen the period, to a whole 10 milliseconds, so the sentence fits
+         long fitPeriod = (long) Math.ceil (
+            (sentenceLength * (1.0 + TRANSMIT_HEADROOM) * 1000.0) / availableRate);
+         fitPeriod = ((fitPeriod + DataFactory.TRANSMIT_FREQ_100HZ - 1) / 
+            DataFactory.TRANSMIT_FREQ_100HZ) * DataFactory.TRANSMIT_FREQ_100HZ;
+         if (fitPeriod <= DataFactory.TRANSMIT_FREQ_PT05HZ) {
+            sentence = new TransmittingSentence(frm, tlkID, src, ver, fitPeriod, 
+               dataFactory, sentenceWriter);
+            addMessage = "Period lengthened to " + fitPeriod + 
+               " ms to fit the port's line capacity.";
          }
          else {
-            addMessage = "Ready to add.";
+            sentence = null;
+            addMessage = "Insufficient bandwidth available to add requested sentence.";
          }
-         transmittingSentencesMap.put (keyValue, sentence);
       }
       else {
-         sentence.stop ();
+         sentence = null;
          addMessage = "Insufficient bandwidth available to add requested sentence.";
       }
       
+      if (sentence != null) {
+         try {
+            sentence.addSentTransListenerListener(this);
+         } 
+         catch (TooManyListenersException error) {
+            System.out.println ("Serial channel listener already set in SerialChannelIO. " +
+               error.toString());
+         }
+         
+         removedSentence = transmittingSentencesMap.put (frm, sentence);
+         if (removedSentence != null) {
+            removedSentence.stop();
+            if (addMessage == null) {
+               addMessage = "New sentence replaced existing sentece.";
+            }
+         }
+         else if (addMessage == null) {
+            addMessage = "Ready to add.";
+         }
+         sentence.start ();
+      }
+      
+      int availableBPS = this.getAvailableBandwidthBPS ();
       for (int i = 0; i < transmitListListeners.size(); i++) {
         TransmitListListener listener = (TransmitListListener) transmitListListeners.elementAt (i);
-        listener.updateList (new Vector<TransmittingSentence>(transmittingSentencesMap.values ()));
-        listener.updateBandwidth (bandwidthBPS);
+        listener.updateList (transmittingSentencesMap.values ());
+        listener.updateBandwidth (availableBPS);
         listener.updateAddMessage (addMessage);
       } 
    }
 
+   /**
+    * Gets the line capacity of the port, from its baud rate and character
+    * framing.
+    *
+    * @return Capacity, characters per second.
+    */
+   public double getLineCapacity () {
+      return 1000000000.0 / characterNanos;
+   }
+
+   /*
+    * Gets the measured rate of the transmitting sentences, other than the
+    * sentence with a given formatter (e.g. one about to be replaced).
+    */
+   private double getTransmitRate (int excludedFormatter) {
+      double rate = 0.0;
+      int [] formatters = transmittingSentencesMap.keys ();
+      for (int i = 0; i < formatters.length; i++) {
+         TransmittingSentence sentence = transmittingSentencesMap.get (formatters[i]);
+         if ((formatters[i] != excludedFormatter) && (sentence != null)) {
+            rate += sentence.getBytesPerSecond ();
+         }
+      }
+      return rate;
+   }
+
+   /*
+    * Gets the rate achieved by the load generator, if it is running.
+    */
+   private double getLoadRate () {
+      LoadGenerator generator = loadGenerator;
+      if ((generator != null) && generator.isRunning ()) {
+         return generator.getAchievedByteRate ();
+      }
+      return 0.0;
+   }
+
+   /**
+    * Gets the bandwidth left on the port by the measured rates of the
+    * transmitting sentences and the load generator.
+    *
+    * @return Available bandwidth, bits per second (negative if over-subscribed).
+    */
+   public int getAvailableBandwidthBPS () {
+      double usedShare = (this.getTransmitRate (NO_FORMATTER) + this.getLoadRate ()) /
+         this.getLineCapacity ();
+      return (int) (bandwidthBPS * (1.0 - usedShare));
+   }
+
    /**
     * Remove and stop an individual sentence type from transmitting.
     *
     * @param formatter The sentence to stop, referenced by sentence formatter.
     */   
    public void removeTransmitSentence(int formatter) {
-      Integer keyValue = new Integer(formatter);
-      if (transmittingSentencesMap.containsKey (keyValue)) {
-         transmittingSentencesMap.remove (keyValue);
-      }                              
+      TransmittingSentence removedTransmit = transmittingSentencesMap.remove (formatter);
+      if (removedTransmit != null) {
+         removedTransmit.stop ();
+      }
    }
    
    /**
@@ -349,18 +598,17 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
     */
    public void stopAllTransmitSentences () {
       TransmittingSentence removedSentence;
-      Vector<TransmittingSentence> transmitList = new Vector<TransmittingSentence>(transmittingSentencesMap.values ());
+      Vector<TransmittingSentence> transmitList = transmittingSentencesMap.values ();
       for (int i = 0; i < transmitList.size (); i++) {
          removedSentence =  (TransmittingSentence) transmitList.elementAt (i);
-         bandwidthBPS += removedSentence.getBandwidthBPS ();
          removedSentence.stop();
       }
-      transmittingSentencesMap = new HashMap<Integer, TransmittingSentence>();
+      transmittingSentencesMap.clear ();
 
       for (int i = 0; i < transmitListListeners.size(); i++) {
         TransmitListListener listener = (TransmitListListener) transmitListListeners.elementAt (i);
-        listener.updateList (new Vector<TransmittingSentence>(transmittingSentencesMap.values ()));
-        listener.updateBandwidth (bandwidthBPS);
+        listener.updateList (transmittingSentencesMap.values ());
+        listener.updateBandwidth (this.getAvailableBandwidthBPS ());
         listener.updateAddMessage (new String ("Transmit list cleared."));
       } 
    }
@@ -376,9 +624,53 @@ public class SentenceManager extends TimerTask implements ReceivedSentenceListen
         listener.transmitSentence (sentence);
      } 
    }
+
+   /**
+    * Transmit a sentence written into this port's SentenceWriter.
+    *
+    * @param sentence The sentence bytes, from the buffer's position to its limit.
+    */   
+   public synchronized void transmitSentence (ByteBuffer sentence) {
+     for (int i = 0; i < sentTransListeners.size(); i++) {
+        SentTransListener listener = sentTransListeners.elementAt (i);
+        listener.transmitSentence (sentence);
+     } 
+   }
+
+   /**
+    * Transmit a sentence written into this port's SentenceWriter, recording
+    * how late it is once the port has written it.
+    *
+    * @param sentence The sentence bytes, from the buffer's position to its limit.
+    * @param dueNanos The System.nanoTime() at which the sentence was due.
+    * @param jitterHistogram The histogram of the sentence's lateness.
+    */   
+   public synchronized void transmitSentence (ByteBuffer sentence, long dueNanos,
+                                              IntervalHistogram jitterHistogram) {
+     for (int i = 0; i < sentTransListeners.size(); i++) {
+        SentTransListener listener = sentTransListeners.elementAt (i);
+        listener.transmitSentence (sentence, dueNanos, jitterHistogram);
+     } 
+   }
 }
 /*
  * Revision history:
  *
  * 1.0.0.1  Changed receiveSentence() to receive ReceivedSentence object.
+ * 1.0.0.2  removeTransmitSentence() stops the removed sentence and returns its bandwidth.
+ * 1.0.0.3  Periods down to 10 milliseconds; transmit list refreshed with the
+ *          received list.
+ * 1.0.0.4  Transmitted sentences are written into one reusable buffer per port.
+ * 1.0.0.5  Added getTransmitQueue().
+ * 1.0.0.6  Sentences admitted by their measured rates plus headroom, against
+ *          the port's line capacity; periods lengthened to fit if possible.
+ * 1.0.0.7  Added getSerialChannelIO(), for bytes written and write latency.
+ * 1.0.0.8  Added getLoadGenerator(), for high rate load generation.
+ * 1.0.0.9  Received and transmitting sentences kept in IntObjectMaps, read
+ *          without boxing or locking, and safe to list while changed.
+ * 1.0.0.10 Added decoded value listeners, sharing each sentence's parse.
+ * 1.0.0.11 Added per-port validation level and sampled full audits.
+ * 1.0.0.12 Transmitted sentences passed on with their due time, so their
+ *          lateness is measured when the port writes them.
+ * 1.0.0.13 A running load generator's achieved rate counted as used capacity.
  */
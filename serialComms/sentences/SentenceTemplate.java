@@ -0,0 +1,594 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: SentenceTemplate.java
+ * Created: 2026-10-17, 20:32:35
+ */
+package serialComms.sentences;
+
+import java.lang.management.*;
+import java.util.*;
+import mdl.data.*;
+/**
+ * An object of this class is the field layout of a transmitted sentence, for
+ * one talker ID and sentence version, declared once by a sentence type (e.g.
+ * "GPGGA", then the simulated time, simulated latitude, ...).  Writing the
+ * template copies each field's current DataFactory value into a
+ * SentenceWriter, so a sentence is built without any intermediate Strings and
+ * its checksum is known as soon as its last field is written.
+ *
+ * @author agent
+ * @version 1.0.0.3, 2026-10-17
+ */
+public class SentenceTemplate {
+
+   /** A field of fixed text, e.g. the units "M". */
+   public final static int CONSTANT = 0;
+
+   //=========================== Manual data fields ===========================
+   public final static int LATITUDE = 1;
+   public final static int LATITUDE_HEMISPHERE = 2;
+   public final static int LONGITUDE = 3;
+   public final static int LONGITUDE_HEMISPHERE = 4;
+   public final static int POSITION_STATUS = 5;
+   public final static int POSITION_MODE = 6;
+   public final static int DEPTH_FEET = 7;
+   public final static int DEPTH_METERS = 8;
+   public final static int DEPTH_FATHOMS = 9;
+   public final static int DEPTH_OFFSET = 10;
+   public final static int DEPTH_RANGE = 11;
+   public final static int HEADING_TRUE_GROUND = 12;
+   public final static int HEADING_TRUE_WATER = 13;
+   public final static int HEADING_MAGNETIC_GROUND = 14;
+   public final static int HEADING_MAGNETIC_WATER = 15;
+   public final static int RATE_OF_TURN = 16;
+   public final static int RATE_OF_TURN_STATUS = 17;
+   public final static int VARIATION = 18;
+   public final static int VARIATION_DIRECTION = 19;
+   public final static int DEVIATION = 20;
+   public final static int DEVIATION_DIRECTION = 21;
+   public final static int SPEED_GROUND_KNOTS = 22;
+   public final static int SPEED_GROUND_KMH = 23;
+   public final static int SPEED_GROUND_TRANSVERSE_KNOTS = 24;
+   public final static int SPEED_GROUND_STATUS = 25;
+   public final static int SPEED_GROUND_STERN_KNOTS = 26;
+   public final static int SPEED_GROUND_STERN_STATUS = 27;
+   public final static int SPEED_WATER_KNOTS = 28;
+   public final static int SPEED_WATER_KMH = 29;
+   public final static int SPEED_WATER_TRANSVERSE_KNOTS = 30;
+   public final static int SPEED_WATER_STATUS = 31;
+   public final static int SPEED_WATER_STERN_KNOTS = 32;
+   public final static int SPEED_WATER_STERN_STATUS = 33;
+   public final static int SPEED_MODE = 34;
+   public final static int SET_TRUE = 35;
+   public final static int SET_MAGNETIC = 36;
+   public final static int DRIFT_KNOTS = 37;
+   public final static int GPS_QUALITY_ID = 38;
+   public final static int GPS_SATELLITES = 39;
+   public final static int GPS_HDOP = 40;
+   public final static int GPS_ALTITUDE = 41;
+   public final static int GPS_GEOIDAL_SEPARATION = 42;
+   public final static int GPS_DGPS_AGE = 43;
+   public final static int GPS_DGPS_STATION = 44;
+   public final static int LORAN_GRI = 45;
+   /** Loran station time of arrival or time difference, indexed by station. */
+   public final static int LORAN_TOATD = 46;
+   /** Loran station signal status, indexed by station. */
+   public final static int LORAN_STATUS = 47;
+   /** Loran station ECD, indexed by station. */
+   public final static int LORAN_ECD = 48;
+   /** Loran station signal to noise ratio, indexed by station. */
+   public final static int LORAN_SNR = 49;
+   public final static int TIME_UTC = 50;
+   public final static int DATE_DAY = 51;
+   public final static int DATE_MONTH = 52;
+   public final static int DATE_YEAR = 53;
+   public final static int ZONE_HOURS = 54;
+   public final static int ZONE_MINUTES = 55;
+   public final static int DATUM_LOCAL_CODE = 56;
+   public final static int DATUM_LOCAL_SUBDIVISION_CODE = 57;
+   public final static int LATITUDE_OFFSET = 58;
+   public final static int LATITUDE_OFFSET_DIRECTION = 59;
+   public final static int LONGITUDE_OFFSET = 60;
+   public final static int LONGITUDE_OFFSET_DIRECTION = 61;
+   public final static int ALTITUDE_OFFSET = 62;
+   public final static int DATUM_REFERENCE_CODE = 63;
+   public final static int WIND_ANGLE = 64;
+   public final static int WIND_REFERENCE = 65;
+   public final static int WIND_SPEED = 66;
+   public final static int WIND_UNITS = 67;
+   public final static int WIND_STATUS = 68;
+   public final static int OSS_TRAIN = 69;
+   public final static int OSS_ELEVATION = 70;
+   public final static int OSS_STATUS_FROM_SCCS = 71;
+   public final static int OSS_STATUS_FROM_DCU = 72;
+
+   //========================= Simulated data fields ==========================
+   public final static int SIMULATED_UTC = 100;
+   public final static int SIMULATED_DAY = 101;
+   public final static int SIMULATED_MONTH = 102;
+   public final static int SIMULATED_YEAR = 103;
+   public final static int SIMULATED_LATITUDE = 104;
+   public final static int SIMULATED_LATITUDE_HEMISPHERE = 105;
+   public final static int SIMULATED_LONGITUDE = 106;
+   public final static int SIMULATED_LONGITUDE_HEMISPHERE = 107;
+   public final static int SIMULATED_HEADING_TRUE_WATER = 108;
+   public final static int SIMULATED_HEADING_TRUE_GROUND = 109;
+   public final static int SIMULATED_SPEED_WATER_KNOTS = 110;
+   public final static int SIMULATED_SPEED_WATER_KMH = 111;
+   public final static int SIMULATED_SPEED_GROUND_KNOTS = 112;
+   public final static int SIMULATED_SPEED_GROUND_KMH = 113;
+   public final static int SIMULATED_RATE_OF_TURN = 114;
+   public final static int SIMULATED_SET_TRUE = 115;
+   public final static int SIMULATED_DRIFT_KNOTS = 116;
+
+   final static int INITIAL_FIELDS = 16;
+
+   char startCharacter;
+   String address;
+   boolean checksum;
+
+   int[] fieldIDs;
+   int[] fieldIndexes;
+   String[] constants;
+   int fieldCount;
+   boolean simulated;
+
+   /**
+    * Creates an empty template for a sentence starting with '$'.
+    *
+    * @param sentenceAddress The talker ID and formatter (e.g. "GPGGA").
+    */
+   public SentenceTemplate (String sentenceAddress) {
+      this('$', sentenceAddress);
+   }
+
+   /**
+    * Creates an empty template.
+    *
+    * @param start The start character, '$' or '!'.
+    * @param sentenceAddress The talker ID and formatter (e.g. "GPGGA").
+    */
+   public SentenceTemplate (char start, String sentenceAddress) {
+      startCharacter = start;
+      address = sentenceAddress;
+      fieldIDs = new int[INITIAL_FIELDS];
+      fieldIndexes = new int[INITIAL_FIELDS];
+      constants = new String[INITIAL_FIELDS];
+   }
+
+   /**
+    * Adds a data field.
+    *
+    * @param fieldID The field, a static value of this class (e.g. SIMULATED_UTC).
+    */
+   public void addField (int fieldID) {
+      this.addField (fieldID, 0, null);
+   }
+
+   /**
+    * Adds an indexed data field, e.g. the status of one Loran station.
+    *
+    * @param fieldID The field, a static value of this class (e.g. LORAN_STATUS).
+    * @param index The field index (e.g. station number).
+    */
+   public void addField (int fieldID, int index) {
+      this.addField (fieldID, index, null);
+   }
+
+   /**
+    * Adds a field of fixed text.
+    *
+    * @param text The text of the field (e.g. "M").
+    */
+   public void addConstant (String text) {
+      this.addField (CONSTANT, 0, text);
+   }
+
+   /* Appends a field to the layout, growing it if needed. */
+   private void addField (int fieldID, int index, String text) {
+      if (fieldCount == fieldIDs.length) {
+         int[] ids = new int[fieldCount * 2];
+         int[] indexes = new int[fieldCount * 2];
+         String[] texts = new String[fieldCount * 2];
+         System.arraycopy (fieldIDs, 0, ids, 0, fieldCount);
+         System.arraycopy (fieldIndexes, 0, indexes, 0, fieldCount);
+         System.arraycopy (constants, 0, texts, 0, fieldCount);
+         fieldIDs = ids;
+         fieldIndexes = indexes;
+         constants = texts;
+      }
+      fieldIDs[fieldCount] = fieldID;
+      fieldIndexes[fieldCount] = index;
+      constants[fieldCount] = text;
+      fieldCount++;
+      if (fieldID >= SIMULATED_UTC) {
+         simulated = true;
+      }
+   }
+
+   /**
+    * Sets whether the sentence ends with a checksum field.
+    *
+    * @param withChecksum 'True' to add the "*hh" checksum.
+    */
+   public void setChecksum (boolean withChecksum) {
+      checksum = withChecksum;
+   }
+
+   /**
+    * Gets the number of fields after the address field.
+    *
+    * @return Field count.
+    */
+   public int getFieldCount () {
+      return fieldCount;
+   }
+
+   /**
+    * Writes a complete sentence, from the start character to the line feed,
+    * with the current values of its fields.
+    *
+    * @param dataFactory The source of field values.
+    * @param writer The writer to write to, locked by the caller.
+    * @return 'True' once written.
+    */
+   public boolean write (DataFactory dataFactory, SentenceWriter writer) {
+      // One state for the whole sentence, so its fields are from the same tick
+      return this.write (dataFactory, dataFactory.getOwnshipState (), writer);
+   }
+
+   /**
+    * Writes a complete sentence, with simulated fields taken from a given
+    * ownship state.
+    *
+    * @param dataFactory The source of manually entered field values.
+    * @param ownship The source of simulated field values, may be null.
+    * @param writer The writer to write to, locked by the caller.
+    * @return 'True' once written.
+    */
+   public boolean write (DataFactory dataFactory, OwnshipState ownship, SentenceWriter writer) {
+      writer.begin (startCharacter);
+      writer.put (address);
+      for (int i = 0; i < fieldCount; i++) {
+         writer.put (',');
+         if (fieldIDs[i] == CONSTANT) {
+            writer.put (constants[i]);
+         }
+         else if (fieldIDs[i] >= SIMULATED_UTC) {
+            writeSimulatedField (fieldIDs[i], dataFactory, ownship, writer);
+         }
+         else {
+            writer.put (getManualField (fieldIDs[i], fieldIndexes[i], dataFactory));
+         }
+      }
+      writer.end (checksum);
+      return true;
+   }
+
+   /**
+    * Gets whether the template has any simulated fields, so its sentence
+    * changes with each ownship state.
+    *
+    * @return 'True' if a field is simulated.
+    */
+   public boolean hasSimulatedFields () {
+      return simulated;
+   }
+
+   /*
+    * Gets the current text of each manually entered field, by field number,
+    * into an array of getFieldCount() Strings.  Other fields are left null.
+    */
+   void getManualValues (DataFactory dataFactory, String[] values) {
+      for (int i = 0; i < fieldCount; i++) {
+         if ((fieldIDs[i] != CONSTANT) && (fieldIDs[i] < SIMULATED_UTC)) {
+            values[i] = getManualField (fieldIDs[i], fieldIndexes[i], dataFactory);
+         }
+      }
+   }
+
+   /*
+    * Gets whether each manually entered field still has the text given by
+    * getManualValues().  The DataFactory replaces a String to change a value,
+    * so comparing references is enough.
+    */
+   boolean isManualValuesSame (DataFactory dataFactory, String[] values) {
+      for (int i = 0; i < fieldCount; i++) {
+         if ((fieldIDs[i] != CONSTANT) && (fieldIDs[i] < SIMULATED_UTC) &&
+             (values[i] != getManualField (fieldIDs[i], fieldIndexes[i], dataFactory))) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /* Gets the text of a manually entered field, held as a String by the DataFactory. */
+   static String getManualField (int fieldID, int index, DataFactory data) {
+      switch (fieldID) {
+         case LATITUDE:                      return data.getLatitude ();
+         case LATITUDE_HEMISPHERE:           return data.getLatitudeHemisphere ();
+         case LONGITUDE:                     return data.getLongitude ();
+         case LONGITUDE_HEMISPHERE:          return data.getLongitudeHemisphere ();
+         case POSITION_STATUS:               return data.getPositionStatusID ();
+         case POSITION_MODE:                 return data.getPositionModeID ();
+         case DEPTH_FEET:                    return data.getDepthInFeet ();
+         case DEPTH_METERS:                  return data.getDepthInMeters ();
+         case DEPTH_FATHOMS:                 return data.getDepthInFathoms ();
+         case DEPTH_OFFSET:                  return data.getDepthOffset ();
+         case DEPTH_RANGE:                   return data.getDepthRange ();
+         case HEADING_TRUE_GROUND:           return data.getHeadingTrueGround ();
+         case HEADING_TRUE_WATER:            return data.getHeadingTrueWater ();
+         case HEADING_MAGNETIC_GROUND:       return data.getHeadingMagneticGround ();
+         case HEADING_MAGNETIC_WATER:        return data.getHeadingMagneticWater ();
+         case RATE_OF_TURN:                  return data.getRateOfTurn ();
+         case RATE_OF_TURN_STATUS:           return data.getRateOfTurnStatus ();
+         case VARIATION:                     return data.getVariation ();
+         case VARIATION_DIRECTION:           return data.getVariationDirection ();
+         case DEVIATION:                     return data.getDeviation ();
+         case DEVIATION_DIRECTION:           return data.getDeviationDirection ();
+         case SPEED_GROUND_KNOTS:            return data.getSpeedGroundInKnots ();
+         case SPEED_GROUND_KMH:              return data.getSpeedGroundInKMH ();
+         case SPEED_GROUND_TRANSVERSE_KNOTS: return data.getSpeedGroundTranverseInKnots ();
+         case SPEED_GROUND_STATUS:           return data.getSpeedGroundStatus ();
+         case SPEED_GROUND_STERN_KNOTS:      return data.getSpeedGroundSternInKnots ();
+         case SPEED_GROUND_STERN_STATUS:     return data.getSpeedGroundSternStatus ();
+         case SPEED_WATER_KNOTS:             return data.getSpeedWaterInKnots ();
+         case SPEED_WATER_KMH:               return data.getSpeedWaterInKMH ();
+         case SPEED_WATER_TRANSVERSE_KNOTS:  return data.getSpeedWaterTranverseInKnots ();
+         case SPEED_WATER_STATUS:            return data.getSpeedWaterStatus ();
+         case SPEED_WATER_STERN_KNOTS:       return data.getSpeedWaterSternInKnots ();
+         case SPEED_WATER_STERN_STATUS:      return data.getSpeedWaterSternStatus ();
+         case SPEED_MODE:                    return data.getSpeedMode ();
+         case SET_TRUE:                      return data.getSetTrue ();
+         case SET_MAGNETIC:                  return data.getSetMagnetic ();
+         case DRIFT_KNOTS:                   return data.getDriftKnots ();
+         case GPS_QUALITY_ID:                return data.getGPSQualityId ();
+         case GPS_SATELLITES:                return data.getGPSNoOfSatellites ();
+         case GPS_HDOP:                      return data.getGPSHDOP ();
+         case GPS_ALTITUDE:                  return data.getGPSAltitude ();
+         case GPS_GEOIDAL_SEPARATION:        return data.getGPSGeoidalSeparation ();
+         case GPS_DGPS_AGE:                  return data.getGPSAgeOfDGPS ();
+         case GPS_DGPS_STATION:              return data.getGPSDifferentialStation ();
+         case LORAN_GRI:                     return data.getLoranGRI ();
+         case LORAN_TOATD:                   return data.getLoranTOATD (index);
+         case LORAN_STATUS:                  return data.getLoranStatus (index);
+         case LORAN_ECD:                     return data.getLoranECD (index);
+         case LORAN_SNR:                     return data.getLoranSNR (index);
+         case TIME_UTC:                      return data.getTimeUTC ();
+         case DATE_DAY:                      return data.getDateDay ();
+         case DATE_MONTH:                    return data.getDateMonth ();
+         case DATE_YEAR:                     return data.getDateYear ();
+         case ZONE_HOURS:                    return data.getZoneHours ();
+         case ZONE_MINUTES:                  return data.getZoneMinutes ();
+         case DATUM_LOCAL_CODE:              return data.getDatumLocalCode ();
+         case DATUM_LOCAL_SUBDIVISION_CODE:  return data.getDatumLocalSubdivisionCode ();
+         case LATITUDE_OFFSET:               return data.getLatitudeOffset ();
+         case LATITUDE_OFFSET_DIRECTION:     return data.getLatitudeOffsetDirection ();
+         case LONGITUDE_OFFSET:              return data.getLongitudeOffset ();
+         case LONGITUDE_OFFSET_DIRECTION:    return data.getLongitudeOffsetDirection ();
+         case ALTITUDE_OFFSET:               return data.getAltitudeOffset ();
+         case DATUM_REFERENCE_CODE:          return data.getDatumReferenceCode ();
+         case WIND_ANGLE:                    return data.getWindAngle ();
+         case WIND_REFERENCE:                return data.getWindReference ();
+         case WIND_SPEED:                    return data.getWindSpeed ();
+         case WIND_UNITS:                    return data.getWindUnits ();
+         case WIND_STATUS:                   return data.getWindStatus ();
+         case OSS_TRAIN:                     return data.getOssTrain ();
+         case OSS_ELEVATION:                 return data.getOssElevation ();
+         case OSS_STATUS_FROM_SCCS:          return data.getOssStatusFromSCCS ();
+         case OSS_STATUS_FROM_DCU:           return data.getOssStatusFromDCU ();
+         default:                            return null;
+      }
+   }
+
+   /*
+    * Writes a field of simulated ownship data, formatted as the matching
+    * DataFactory getSimulated...() method does, but into the writer.
+    */
+   static void writeSimulatedField (int fieldID, DataFactory data,
+                                    OwnshipState ownship, SentenceWriter writer) {
+      if ((ownship == null) || !ownship.hasTime ()) {
+         writer.put (getSimulatedPlaceholder (fieldID, data));
+         return;
+      }
+
+      switch (fieldID) {
+         case SIMULATED_UTC: {
+            writer.putTime (ownship.timeMillis, 3);
+            break;
+         }
+         case SIMULATED_DAY: {
+            writer.putDigits (FixedPointFormat.getDay (
+               FixedPointFormat.getCivilDate (ownship.timeMillis)), 2);
+            break;
+         }
+         case SIMULATED_MONTH: {
+            writer.putDigits (FixedPointFormat.getMonth (
+               FixedPointFormat.getCivilDate (ownship.timeMillis)), 2);
+            break;
+         }
+         case SIMULATED_YEAR: {
+            writer.putDigits (FixedPointFormat.getYear (
+               FixedPointFormat.getCivilDate (ownship.timeMillis)), 1);
+            break;
+         }
+         case SIMULATED_LATITUDE: {
+            writer.putLatitude (ownship.latitude);
+            break;
+         }
+         case SIMULATED_LATITUDE_HEMISPHERE: {
+            writer.put (FixedPointFormat.getLatitudeHemisphere (ownship.latitude));
+            break;
+         }
+         case SIMULATED_LONGITUDE: {
+            writer.putLongitude (ownship.longitude);
+            break;
+         }
+         case SIMULATED_LONGITUDE_HEMISPHERE: {
+            writer.put (FixedPointFormat.getLongitudeHemisphere (ownship.longitude));
+            break;
+         }
+         case SIMULATED_HEADING_TRUE_WATER: {
+            writer.putFixed (ownship.headingActual, 3, 1);
+            break;
+         }
+         case SIMULATED_HEADING_TRUE_GROUND: {
+            writer.putFixed (ownship.headingOverGround, 3, 1);
+            break;
+         }
+         case SIMULATED_SPEED_WATER_KNOTS: {
+            writer.putFixed (ownship.speedActual, 1, 1);
+            break;
+         }
+         case SIMULATED_SPEED_WATER_KMH: {
+            writer.putFixed (ownship.speedActual * DataFactory.NM_TO_KM_CONVERSION, 1, 1);
+            break;
+         }
+         case SIMULATED_SPEED_GROUND_KNOTS: {
+            writer.putFixed (ownship.speedOverGround, 1, 1);
+            break;
+         }
+         case SIMULATED_SPEED_GROUND_KMH: {
+            writer.putFixed (ownship.speedOverGround * DataFactory.NM_TO_KM_CONVERSION, 1, 1);
+            break;
+         }
+         case SIMULATED_RATE_OF_TURN: {
+            writer.putFixed (ownship.headingVelocity, 1, 1);
+            break;
+         }
+         case SIMULATED_SET_TRUE: {
+            writer.putFixed (ownship.set, 3, 1);
+            break;
+         }
+         case SIMULATED_DRIFT_KNOTS: {
+            writer.putFixed (ownship.drift, 1, 1);
+            break;
+         }
+      }
+   }
+
+   /* Gets the DataFactory's text for a simulated field with no simulation running. */
+   static String getSimulatedPlaceholder (int fieldID, DataFactory data) {
+      switch (fieldID) {
+         case SIMULATED_UTC:                   return data.getSimulatedUTC ();
+         case SIMULATED_DAY:                   return data.getSimulatedDay ();
+         case SIMULATED_MONTH:                 return data.getSimulatedMonth ();
+         case SIMULATED_YEAR:                  return data.getSimulatedYear ();
+         case SIMULATED_LATITUDE:              return data.getSimulatedLatitude ();
+         case SIMULATED_LATITUDE_HEMISPHERE:   return data.getSimulatedLatitudeHemisphere ();
+         case SIMULATED_LONGITUDE:             return data.getSimulatedLongitude ();
+         case SIMULATED_LONGITUDE_HEMISPHERE:  return data.getSimulatedLongitudeHemisphere ();
+         case SIMULATED_HEADING_TRUE_WATER:    return data.getSimulatedHeadingTrueWater ();
+         case SIMULATED_HEADING_TRUE_GROUND:   return data.getSimulatedHeadingTrueOverGround ();
+         case SIMULATED_SPEED_WATER_KNOTS:     return data.getSimulatedSpeedWaterInKnots ();
+         case SIMULATED_SPEED_WATER_KMH:       return data.getSimulatedSpeedWaterInKPH ();
+         case SIMULATED_SPEED_GROUND_KNOTS:    return data.getSimulatedSpeedOverGroundInKnots ();
+         case SIMULATED_SPEED_GROUND_KMH:      return data.getSimulatedSpeedOverGroundInInKPH ();
+         case SIMULATED_RATE_OF_TURN:          return data.getSimulatedRateOfTurn ();
+         case SIMULATED_SET_TRUE:              return data.getSimulatedSetTrue ();
+         case SIMULATED_DRIFT_KNOTS:           return data.getSimulatedDriftInKnots ();
+         default:                              return null;
+      }
+   }
+
+   /**
+    * Compares building each known sentence type's simulator sentence as a
+    * String, as before templates, with writing it into a SentenceWriter, in
+    * nanoseconds and bytes allocated per sentence.
+    *
+    * @param args Optional number of sentences per measurement, default 200000.
+    */
+   public static void main (String[] args) {
+      int count = 200000;
+      if (args.length > 0) {
+         count = Integer.parseInt (args[0]);
+      }
+      ThreadMXBean threadBean = ManagementFactory.getThreadMXBean ();
+      com.sun.management.ThreadMXBean allocationBean = null;
+      if (threadBean instanceof com.sun.management.ThreadMXBean) {
+         allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+      }
+      long threadID = Thread.currentThread ().getId ();
+
+      OwnshipUpdate ownship = new OwnshipUpdate ();
+      ownship.timeDate = new Date ();
+      ownship.latitude = 37.758411;
+      ownship.longitude = -122.412562;
+      ownship.headingActual = 274.3;
+      ownship.headingOverGround = 276.1;
+      ownship.speedActual = 12.4;
+      ownship.speedOverGround = 12.9;
+      ownship.headingVelocity = -1.2;
+      ownship.set = 135.0;
+      ownship.drift = 0.6;
+      DataFactory dataFactory = new DataFactory ();
+      dataFactory.updateOwnship (ownship);
+      SentenceWriter writer = new SentenceWriter ();
+
+      System.out.println ("Type  Template  String ns  Writer ns  String B  Writer B");
+      int[] formatters = SentenceTypes.getKnownFormatters ();
+      for (int f = 0; f < formatters.length; f++) {
+         AbstractSentence sentence = SentenceTypes.getSentenceObject (formatters[f]);
+         if (sentence == null) {
+            continue;
+         }
+         sentence.setDataFactory (dataFactory);
+         sentence.setTalkerID (SentenceTypes.TALKER_GP);
+         sentence.setSentenceVersion (SentenceTypes.NMEA_VERSION_3PT00);
+
+         long stringBytes = 0;
+         long writerBytes = 0;
+         long sink = 0;
+         long start;
+         long allocated;
+
+         // Warm up both paths
+         for (int i = 0; i < count; i++) {
+            String text = sentence.getSimulatorSentence ();
+            sink += (text == null) ? 0 : text.length ();
+            sentence.writeSimulatorSentence (writer);
+            sink += writer.getBuffer ().remaining ();
+         }
+
+         allocated = (allocationBean == null) ? 0 : allocationBean.getThreadAllocatedBytes (threadID);
+         start = System.nanoTime ();
+         for (int i = 0; i < count; i++) {
+            String text = sentence.getSimulatorSentence ();
+            sink += (text == null) ? 0 : text.length ();
+         }
+         long stringNanos = System.nanoTime () - start;
+         if (allocationBean != null) {
+            stringBytes = allocationBean.getThreadAllocatedBytes (threadID) - allocated;
+         }
+
+         allocated = (allocationBean == null) ? 0 : allocationBean.getThreadAllocatedBytes (threadID);
+         start = System.nanoTime ();
+         for (int i = 0; i < count; i++) {
+            sentence.writeSimulatorSentence (writer);
+            sink += writer.getBuffer ().remaining ();
+         }
+         long writerNanos = System.nanoTime () - start;
+         if (allocationBean != null) {
+            writerBytes = allocationBean.getThreadAllocatedBytes (threadID) - allocated;
+         }
+
+         System.out.println (SentenceTypes.getFormatterIDName (formatters[f]) + "   " +
+            ((sentence.getSimulatorTemplate () != null) ? "yes" : "no ") + "       " +
+            (stringNanos / count) + "  " + (writerNanos / count) + "  " +
+            (stringBytes / count) + "  " + (writerBytes / count) +
+            ((sink == 0) ? "  (no output)" : ""));
+      }
+   }
+}
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Simulated fields written by FixedPointFormat.
+ * 1.0.0.2  Simulated fields of a sentence read from one OwnshipState.
+ * 1.0.0.3  Written from a given OwnshipState, and manual field values
+ *          compared for the SentenceCache.
+ */
@@ -16,7 +16,7 @@ import serialComms.sentences.analysis.*;
  * This staic class is used in processing received and trasmitted sentences.
  *
  * @author Jeff Stewart
- * @version 1.0.0.3, 2005-02-02
+ * @version 1.0.0.4, 2026-10-17
  */
 public abstract class SentenceTools {
    /** The carriage return character. */
@@ -27,6 +27,17 @@ public abstract class SentenceTools {
    public static final char NEGATIVE_SIGN = 0x2D;
    public static final char POSITIVE_SIGN = 0x2B;
 
+   /* Powers of ten that are exact as doubles, 10^0 to 10^22. */
+   private static final double [] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+   };
+   /* Most digits accumulated in a parsed number, within the range of a long. */
+   private static final int MAX_NUMBER_DIGITS = 18;
+   /* Most fraction digits of minutes accumulated, 15 digits with the whole minutes. */
+   private static final int MAX_MINUTE_FRACTION_DIGITS = 13;
+   private static final long MILLIS_PER_DAY = 86400000L;
+
    
    static Random numGen = new Random(System.currentTimeMillis ());
    
@@ -46,22 +57,27 @@ public abstract class SentenceTools {
     * @return two-character checksum value (ASCII characters as a string)
     */
    public static String getChecksum (String innerSentence) {
-      char [] innerChars = innerSentence.toCharArray ();
-      int checksum = 0;    // checksum value (only low-order bits used, 8-bit)
-      int csHighChunk = 0; // checksum AND-ed by hex F0 and right shifted 4 bits
-      int csLowChunk = 0;  // checksum AND-ed by hex 0F
-      String checksumString;
-     
+      int checksum = getChecksumValue (innerSentence);
+      char [] checksumChars = {
+         NMEACharacters.getHexDigit (checksum >> 4),
+         NMEACharacters.getHexDigit (checksum) };
+      return new String (checksumChars);
+   }
+
+   /**
+    * Calculate NMEA 0183/IEC 61162-1 checksum value from sub-sentence
+    *
+    * @param innerSentence sub-sentence (between '$' or '!' and '*' characters)
+    * @return checksum value (0 - 255)
+    */
+   public static int getChecksumValue (CharSequence innerSentence) {
+      int checksum = 0; // checksum value (only low-order bits used, 8-bit)
+      
       // Exclusive or (XOR) lower 8 bits of sentence characters
-      for (int i = 0; i < innerChars.length; i++) {
-         checksum = (innerChars[i] & 0x00FF) ^ checksum;
+      for (int i = 0; i < innerSentence.length (); i++) {
+         checksum ^= innerSentence.charAt (i);
       }
-      
-      // Convert resultant checksum value to high/low order ASCII characters
-      csHighChunk = ((checksum & 0x00F0) >> 4);
-      csLowChunk = (checksum & 0x000F);
-      checksumString = Integer.toHexString (csHighChunk) + Integer.toHexString (csLowChunk);
-      return checksumString.toUpperCase ();
+      return checksum & 0x00FF;
    }
 
   /**
@@ -72,17 +88,57 @@ public abstract class SentenceTools {
     * @return true if computed checksum matches provided checksum
     */
    public static boolean isChecksumCorrect (String testSentence, String checksum) {
-      String testChecksum = SentenceTools.getChecksum (testSentence);
-      if (testChecksum.compareTo (checksum) == 0) {
-         return true; // computed checksum matches provided checksum string
-      }   
-      else {
+      if ((checksum == null) || (checksum.length () != 2)) {
          return false;
-      }  
+      }
+      int high = NMEACharacters.getHexValue (checksum.charAt (0));
+      int low = NMEACharacters.getHexValue (checksum.charAt (1));
+      if ((high < 0) || (low < 0)) {
+         return false;
+      }
+      // computed checksum matches provided checksum string
+      return getChecksumValue (testSentence) == ((high << 4) | low);
    }
   
-   /** 
+   /**
+    * Determines if a field holds the same text as a string, ignoring case,
+    * without creating a String from the field.
+    *
+    * @param field the field characters
+    * @param text the text to compare to
+    * @return true if the field and text match
+    */
+   public static boolean equalsIgnoreCase (CharSequence field, String text) {
+      int length = field.length ();
+      if (length != text.length ()) {
+         return false;
+      }
+      for (int i = 0; i < length; i++) {
+         char a = field.charAt (i);
+         char b = text.charAt (i);
+         if ((a != b) &&
+             (Character.toUpperCase (a) != Character.toUpperCase (b))) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
     * Parses a latitude from a character array.
+    *
+    * @param latitude a character array representing a text latitude
+    * @param errorLog records errors received during processing
+    * @return value of latitude (+90.0 to -90.0)
+    * @see #parseLatitude(byte[], int, int, SentenceErrorLog)
+    */
+   public static double parseLatitude (char [] latitude, SentenceErrorLog errorLog) {
+      return parseLatitude (toBytes (latitude), 0, latitude.length, errorLog);
+   }
+
+   /**
+    * Parses a latitude from a range of a byte array, such as a field of a
+    * received sentence, without creating any objects.
     *<pre>
     * A valid latitude is defined as:
     *    characters: lll1[.[11ll]]
@@ -97,110 +153,105 @@ public abstract class SentenceTools {
     *      is required.
     *   4. Only digits, and one decimal (in position 4), are legal
     *</pre>
-    * @param latitude a character array representing a text latitude
+    * @param buffer the array holding the text latitude
+    * @param offset the index of the first character of the latitude
+    * @param length the number of characters in the latitude
     * @param errorLog records errors received during processing
     * @return value of latitude (+90.0 to -90.0)
     */
-   public static double parseLatitude (char [] latitude, SentenceErrorLog errorLog) {
-      double latitudeValue;
-      double valueDivisor = 600.0;
-      
-      if (latitude.length < 4) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            "Latitude data incomplete - missing degree or minute values. ")); //LATITUDE_INCOMPLETE
+   public static double parseLatitude (byte [] buffer, int offset, int length,
+                                       SentenceErrorLog errorLog) {
+      if (length < 4) {
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Latitude data incomplete - missing degree or minute values. "); //LATITUDE_INCOMPLETE
          return Double.NaN;
       }
-      else {
-         for (int i = 0; i < 4; i++) {
-            if ((latitude[i] < 0x30) | (latitude[i] > 0x39)) {
-               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
-                  "A non-number character was found in latitude. ", 
-                  latitude[i])); //LATITUDE_INCORRECT_CHARACTER
-               return Double.NaN;
-            }
-         }
-         
-         // Latitude degrees must be less than 90
-         if ((latitude[0] > 0x38) & (latitude[0] < 0x3A)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
-               "Latitude degree value out of range. ")); //LATITUDE_DEGREE_OUT_OF_RANGE
-            return Double.NaN; 
-         }
-         
-         // Latitude minutes must be less than 60
-         if ((latitude[2] > 0x35) & (latitude[2] < 0x3A)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
-               "Latitude minute value out of range. ")); //LATITUDE_MINUTE_OUT_OF_RANGE
-            return Double.NaN; 
-         }
-         
-         latitudeValue = 
-            Character.getNumericValue (latitude[0]) * 10.0 +
-            Character.getNumericValue (latitude[1]) +
-            Character.getNumericValue (latitude[2]) / 6.0 +
-            Character.getNumericValue (latitude[3]) / 60.0;
-         
-         if (latitude.length < 5) {
-            return latitudeValue;
-         }
-         
-         // 5th character may only be a decimal
-         if (latitude[4] != 0x2E) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
-               "A non-decimal character was found in latitude. ",
-               latitude[4])); //LATITUDE_NON_DECIMAL
-            return Double.NaN;                  
-         }
-         else {
-            if (latitude.length < 9) {
-               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_PRECISION,
-                  "Latitude is imprecise.")); //LATITUDE_IMPRECISE
-            }
-            for (int i = 5; i < latitude.length; i++) {
-               if ((latitude[i] < 0x30) | (latitude[i] > 0x39)) {
-                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
-                     "A non-number character was found in latitude.",
-                     latitude[i])); //LATITUDE_INCORRECT_CHARACTER
-                  return Double.NaN;
-               }
-               else {
-                  latitudeValue += Character.getNumericValue (latitude[i]) /
-                     valueDivisor;
-                  valueDivisor = valueDivisor * 10.0;
-               }
-            }
-            
-            return latitudeValue;
+
+      for (int i = offset; i < offset + 4; i++) {
+         if ((buffer[i] < 0x30) | (buffer[i] > 0x39)) {
+            errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+               "A non-number character was found in latitude. ",
+               toChar (buffer[i])); //LATITUDE_INCORRECT_CHARACTER
+            return Double.NaN;
          }
       }
+
+      // Latitude degrees must be less than 90
+      if (buffer[offset] > 0x38) {
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
+            "Latitude degree value out of range. "); //LATITUDE_DEGREE_OUT_OF_RANGE
+         return Double.NaN;
+      }
+
+      // Latitude minutes must be less than 60
+      if (buffer[offset + 2] > 0x35) {
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
+            "Latitude minute value out of range. "); //LATITUDE_MINUTE_OUT_OF_RANGE
+         return Double.NaN;
+      }
+
+      int degrees = (buffer[offset] - 0x30) * 10 + (buffer[offset + 1] - 0x30);
+      int minutes = (buffer[offset + 2] - 0x30) * 10 + (buffer[offset + 3] - 0x30);
+      if (length < 5) {
+         return degrees + minutes / 60.0;
+      }
+
+      // 5th character may only be a decimal
+      if (buffer[offset + 4] != 0x2E) {
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+            "A non-decimal character was found in latitude. ",
+            toChar (buffer[offset + 4])); //LATITUDE_NON_DECIMAL
+         return Double.NaN;
+      }
+      if (length < 9) {
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_PRECISION,
+            "Latitude is imprecise."); //LATITUDE_IMPRECISE
+      }
+      double fraction = parseMinuteFraction (buffer, offset + 5, length - 5, minutes,
+         errorLog, "A non-number character was found in latitude."); //LATITUDE_INCORRECT_CHARACTER
+      return degrees + fraction;
    }
-   
+
    /**
     * Parse latitude hemisphere character.
     *
     * @param latHemisphere value to parse
     * @param errorLog  records errors received during processing
     * @return parsed value, if successful
-    */   
+    */
    public static char parseLatitudeHemisphere (char [] latHemisphere, SentenceErrorLog errorLog) {
-      if (latHemisphere.length == 1) {
-         char hemisphere = latHemisphere[0];
+      return parseLatitudeHemisphere (toBytes (latHemisphere), 0, latHemisphere.length, errorLog);
+   }
+
+   /**
+    * Parse latitude hemisphere character from a range of a byte array.
+    *
+    * @param buffer the array holding the value to parse
+    * @param offset the index of the first character of the value
+    * @param length the number of characters in the value
+    * @param errorLog  records errors received during processing
+    * @return parsed value, if successful
+    */
+   public static char parseLatitudeHemisphere (byte [] buffer, int offset, int length,
+                                               SentenceErrorLog errorLog) {
+      if (length == 1) {
+         char hemisphere = toChar (buffer[offset]);
          if ((hemisphere == 'N') || (hemisphere == 'S')) {
             return hemisphere;
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
-               "Latitude hemisphere not recognzed.", hemisphere)); //LATITUDE_HEMISPHERE_UNRECOGNIZED
+            errorLog.addError (SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
+               "Latitude hemisphere not recognzed.", hemisphere); //LATITUDE_HEMISPHERE_UNRECOGNIZED
             return 0;
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
-            "Latitude hemisphere field has incorrect number of characters.")); //LATITUDE_HEMISPHERE_OVERRUN
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
+            "Latitude hemisphere field has incorrect number of characters."); //LATITUDE_HEMISPHERE_OVERRUN
          return 0;
       }
    }
-   
+
    /**
     * Converts a latitude value into a text reprsentation of the latitude.
     *
@@ -214,16 +265,29 @@ public abstract class SentenceTools {
          twoDigitDegreeForm.format ((int)Math.abs(latitude)) +
          fourDigitMinuteForm.format (Math.abs(latitude % 1.0) * 60.0);  
    }
-   
-   /** 
+
+   /**
     * Parses a longitude from a character array.
+    *
+    * @param longitude a character array representing a text longitude
+    * @param errorLog records errors received during processing
+    * @return value of longitude (+180.0 to -180.0)
+    * @see #parseLongitude(byte[], int, int, SentenceErrorLog)
+    */
+   public static double parseLongitude (char [] longitude, SentenceErrorLog errorLog) {
+      return parseLongitude (toBytes (longitude), 0, longitude.length, errorLog);
+   }
+
+   /**
+    * Parses a longitude from a range of a byte array, such as a field of a
+    * received sentence, without creating any objects.
     *<pre>
     * A valid longitude is defined as:
     *    characters: yyyyy[.[yyyy]]
     *      position: 01234 5 6789
     *</pre>
     *
-    *<pre>                        
+    *<pre>
     * Rules:
     *   1. Positions 1-4 are required, including leading zeros
     *   2. Position 5 is optional
@@ -231,112 +295,135 @@ public abstract class SentenceTools {
     *      is required.
     *   4. Only digits, and one decimal (in position 5), are legal
     *</pre>
-    * @param longitude a character array representing a text longitude
+    * @param buffer the array holding the text longitude
+    * @param offset the index of the first character of the longitude
+    * @param length the number of characters in the longitude
     * @param errorLog records errors received during processing
     * @return value of longitude (+180.0 to -180.0)
     */
-   public static double parseLongitude (char [] longitude, SentenceErrorLog errorLog) {
-      double longitudeValue;
-      double valueDivisor = 600.0;
-      
-      if (longitude.length < 5) {        
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            "Longitude data incomplete - missing degree or minute values."));//LONGITUDE_INCOMPLETE
+   public static double parseLongitude (byte [] buffer, int offset, int length,
+                                        SentenceErrorLog errorLog) {
+      if (length < 5) {
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Longitude data incomplete - missing degree or minute values.");//LONGITUDE_INCOMPLETE
          return Double.NaN;
       }
-      else{
-         for (int i = 0; i < 5; i++) {
-            if ((longitude[i] < 0x30) | (longitude[i] > 0x39)) {
-               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
-                  "A non-number character was found in longitude.",
-                  longitude[i]));//LONGITUDE_INCORRECT_CHARACTER
-               return Double.NaN;
-            }
-         }
-         
-         // Longitude degree must be less than 180
-         if (longitude[0] > 0x30) {
-            if ((longitude[0] > 0x31) | (longitude[1] > 0x37)) {
-               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
-                  "Longitude degree value out of range."));//LONGITUDE_DEGREE_OUT_OF_RANGE
-               return Double.NaN;
-            }
-         }
-         
-         // Longitude minute must be less than 60
-         if ((longitude[3] > 0x35) & (longitude[3] > 0x35)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
-               "Longitude minute value out of range."));//LONGITUDE_MINUTE_OUT_OF_RANGE
-            return Double.NaN; 
+
+      for (int i = offset; i < offset + 5; i++) {
+         if ((buffer[i] < 0x30) | (buffer[i] > 0x39)) {
+            errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+               "A non-number character was found in longitude.",
+               toChar (buffer[i]));//LONGITUDE_INCORRECT_CHARACTER
+            return Double.NaN;
          }
-         
-         longitudeValue = 
-            Character.getNumericValue (longitude[0]) * 100.0 +
-            Character.getNumericValue (longitude[1]) * 10.0 +
-            Character.getNumericValue (longitude[2]) +
-            Character.getNumericValue (longitude[3]) / 6.0 +
-            Character.getNumericValue (longitude[4]) / 60.0;
-         
-         if (longitude.length < 6) {
-            return longitudeValue;
+      }
+
+      // Longitude degree must be less than 180
+      if (buffer[offset] > 0x30) {
+         if ((buffer[offset] > 0x31) | (buffer[offset + 1] > 0x37)) {
+            errorLog.addError (SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
+               "Longitude degree value out of range.");//LONGITUDE_DEGREE_OUT_OF_RANGE
+            return Double.NaN;
          }
-         
-         // 6th character may only be a decimal
-         if (longitude[5] != 0x2E) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
-               "A non-decimal character was found in longitude.",
-               longitude[5]));//LONGITUDE_NON_DECIMAL
-            return Double.NaN;                  
+      }
+
+      // Longitude minute must be less than 60
+      if (buffer[offset + 3] > 0x35) {
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_OUT_OF_RANGE,
+            "Longitude minute value out of range.");//LONGITUDE_MINUTE_OUT_OF_RANGE
+         return Double.NaN;
+      }
+
+      int degrees = (buffer[offset] - 0x30) * 100 + (buffer[offset + 1] - 0x30) * 10 +
+         (buffer[offset + 2] - 0x30);
+      int minutes = (buffer[offset + 3] - 0x30) * 10 + (buffer[offset + 4] - 0x30);
+      if (length < 6) {
+         return degrees + minutes / 60.0;
+      }
+
+      // 6th character may only be a decimal
+      if (buffer[offset + 5] != 0x2E) {
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+            "A non-decimal character was found in longitude.",
+            toChar (buffer[offset + 5]));//LONGITUDE_NON_DECIMAL
+         return Double.NaN;
+      }
+      if (length < 10) {
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_PRECISION,
+            "Longitude is imprecise.");//LONGITUDE_IMPRECISE
+      }
+      double fraction = parseMinuteFraction (buffer, offset + 6, length - 6, minutes,
+         errorLog, "A non-number character was found in longitude.");//LONGITUDE_INCORRECT_CHARACTER
+      return degrees + fraction;
+   }
+
+   /*
+    * Parses the decimal fraction of minutes of a position, accumulating the
+    * whole minutes and fraction digits as one fixed-point integer, and gets
+    * the minutes in degrees.  Digits past the precision of a double are
+    * checked but not added.
+    */
+   private static double parseMinuteFraction (byte [] buffer, int offset, int length,
+                                              int minutes, SentenceErrorLog errorLog,
+                                              String illegalCharDetail) {
+      long scaledMinutes = minutes;
+      int fractionDigits = 0;
+
+      for (int i = offset; i < offset + length; i++) {
+         if ((buffer[i] < 0x30) | (buffer[i] > 0x39)) {
+            errorLog.addError (SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
+               illegalCharDetail, toChar (buffer[i]));
+            return Double.NaN;
          }
-         else {
-            if (longitude.length < 10) {
-               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_PRECISION,
-                  "Longitude is imprecise."));//LONGITUDE_IMPRECISE
-            }
-            for (int i = 6; i < longitude.length; i++) {
-               if ((longitude[i] < 0x30) | (longitude[i] > 0x39)) {
-                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_ILLEGAL_CHAR,
-                     "A non-number character was found in longitude.",
-                     longitude[i]));//LONGITUDE_INCORRECT_CHARACTER
-                  return Double.NaN;
-               }
-               else {
-                  longitudeValue += Character.getNumericValue (longitude[i]) /
-                     valueDivisor;
-                  valueDivisor = valueDivisor * 10.0;
-               }
-            }
-            return longitudeValue;
+         if (fractionDigits < MAX_MINUTE_FRACTION_DIGITS) {
+            scaledMinutes = scaledMinutes * 10 + (buffer[i] - 0x30);
+            fractionDigits++;
          }
       }
+      // 60 * 10^n is exact, so the value is rounded only once
+      return scaledMinutes / (60.0 * POWERS_OF_TEN[fractionDigits]);
    }
-   
+
    /**
     * Parse latitude hemisphere character.
     *
     * @param longHemisphere value to parse
     * @param errorLog records errors received during processing
     * @return parsed value, if successful
-    */   
+    */
    public static char parseLongitudeHemisphere (char [] longHemisphere, SentenceErrorLog errorLog) {
-      if (longHemisphere.length == 1) {
-         char hemisphere = longHemisphere[0];
+      return parseLongitudeHemisphere (toBytes (longHemisphere), 0, longHemisphere.length, errorLog);
+   }
+
+   /**
+    * Parse longitude hemisphere character from a range of a byte array.
+    *
+    * @param buffer the array holding the value to parse
+    * @param offset the index of the first character of the value
+    * @param length the number of characters in the value
+    * @param errorLog records errors received during processing
+    * @return parsed value, if successful
+    */
+   public static char parseLongitudeHemisphere (byte [] buffer, int offset, int length,
+                                                SentenceErrorLog errorLog) {
+      if (length == 1) {
+         char hemisphere = toChar (buffer[offset]);
          if ((hemisphere == 'E') || (hemisphere == 'W')) {
             return hemisphere;
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
-               "Latitude hemisphere not recognzed.", hemisphere));//LONGITUDE_HEMISPHERE_UNRECOGNIZED
+            errorLog.addError (SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
+               "Latitude hemisphere not recognzed.", hemisphere);//LONGITUDE_HEMISPHERE_UNRECOGNIZED
             return 0;
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
-            "Longitude hemisphere field has incorrect number of characters."));//LONGITUDE_HEMISPHERE_OVERRUN
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_HEMISPHERE,
+            "Longitude hemisphere field has incorrect number of characters.");//LONGITUDE_HEMISPHERE_OVERRUN
          return 0;
       }
    }
-   
+
    /**
     * Converts a longitude value into a text reprsentation of the longitude.
     *
@@ -353,12 +440,26 @@ public abstract class SentenceTools {
 
    /**
     * Parses a UTC value from a character array.
+    *
+    * @param timeUTC a character array representing the UTC text
+    * @param errorLog records errors received during processing
+    * @return the time and date value in milliseconds
+    * @see #parseUTC(byte[], int, int, SentenceErrorLog)
+    */
+   public static long parseUTC (char [] timeUTC, SentenceErrorLog errorLog) {
+      return parseUTC (toBytes (timeUTC), 0, timeUTC.length, errorLog);
+   }
+
+   /**
+    * Parses a UTC value from a range of a byte array, such as a field of a
+    * received sentence, without creating any objects.  The time is taken to
+    * be of the current UTC day.
     *<pre>
     * A valid UTC is defined as:
     *    characters: hhmmss[.[sss]]
     *      position: 012345 6 789
     *</pre>
-    *<pre>                          
+    *<pre>
     * Rules:
     *   1. Positions 5 are required, including leading zeros
     *   2. Position 6 is optional
@@ -366,108 +467,84 @@ public abstract class SentenceTools {
     *      is required.
     *   4. Only digits, and one decimal (in position 6), are legal
     *</pre>
-    * @param timeUTC a character array representing the UTC text
+    * @param buffer the array holding the UTC text
+    * @param offset the index of the first character of the UTC
+    * @param length the number of characters in the UTC
     * @param errorLog records errors received during processing
-    * @return the time and date value in milliseconds
-    */ 
-   public static long parseUTC (char [] timeUTC, SentenceErrorLog errorLog) {
-      int hours;
-      int minutes;
-      int seconds;
-      int milliseconds = 0;
-      int milliDivisor = 1000;
-      
-      if (timeUTC.length < 6) {        
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            "UTC data incomplete - hour, minute, or second data.")); //UTC_INCOMPLETE
+    * @return the time and date value in milliseconds, -1 if unsuccessful
+    */
+   public static long parseUTC (byte [] buffer, int offset, int length,
+                                SentenceErrorLog errorLog) {
+      if (length < 6) {
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "UTC data incomplete - hour, minute, or second data."); //UTC_INCOMPLETE
          return -1;
       }
-      else{
-         // Validate numerical values for first 6 digits
-         for (int i = 0; i < 6; i++) {
-            if ((timeUTC[i] < 0x30) | (timeUTC[i] > 0x39)) {
-               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
-                  "A non-number character was found in the UTC.",
-                  timeUTC[i])); //UTC_INCORRECT_CHARACTER
-               return -1;
-            }
-         }
-         
-         // Time hour value must be valid
-         if (timeUTC[0] > 0x31) { // ~hours greater than 19
-            if (timeUTC[0] < 0x33) { // ~hours less than 30 
-               if (timeUTC[1] > 0x33) { // ~hours more than 23
-                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
-                     "Hour value invalid.")); //UTC_HOUR_INCORRECT
-                  return -1; 
-               }
-            }
-            else {
-               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
-                  "Hour value invalid.")); //UTC_HOUR_INCORRECT
-               return -1; 
-            }
-         }
-         
-         // Time minute value must be valid
-         if (timeUTC[2] > 0x35) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
-               "Minute value invalid.",
-               timeUTC[2])); //UTC_MINUTE_INCORRECT
-            return -1;   
-         }
-         
-         // Time second value must be valid
-         if (timeUTC[4] > 0x35) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
-               "Second value invalid.",
-               timeUTC[4])); //UTC_MINUTE_INCORRECT
-            return -1;   
-         }
-         
-         hours = Character.getNumericValue (timeUTC[0]) * 10 + 
-            Character.getNumericValue (timeUTC[1]);
-         minutes = Character.getNumericValue (timeUTC[2]) * 10 + 
-            Character.getNumericValue (timeUTC[3]);
-         seconds = Character.getNumericValue (timeUTC[4]) * 10 + 
-            Character.getNumericValue (timeUTC[5]);
-         
-         GregorianCalendar timeValue = new GregorianCalendar ();
-         timeValue.set (Calendar.HOUR_OF_DAY, hours);
-         timeValue.set (Calendar.MINUTE, minutes);
-         timeValue.set (Calendar.SECOND, seconds);
-         
-         if (timeUTC.length < 7) {
-            return timeValue.getTimeInMillis ();
+
+      // Validate numerical values for first 6 digits
+      for (int i = offset; i < offset + 6; i++) {
+         if ((buffer[i] < 0x30) | (buffer[i] > 0x39)) {
+            errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
+               "A non-number character was found in the UTC.",
+               toChar (buffer[i])); //UTC_INCORRECT_CHARACTER
+            return -1;
          }
-         
+      }
+
+      int hours = (buffer[offset] - 0x30) * 10 + (buffer[offset + 1] - 0x30);
+      int minutes = (buffer[offset + 2] - 0x30) * 10 + (buffer[offset + 3] - 0x30);
+      int seconds = (buffer[offset + 4] - 0x30) * 10 + (buffer[offset + 5] - 0x30);
+
+      // Time hour value must be valid
+      if (hours > 23) {
+         errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
+            "Hour value invalid."); //UTC_HOUR_INCORRECT
+         return -1;
+      }
+
+      // Time minute value must be valid
+      if (minutes > 59) {
+         errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
+            "Minute value invalid.",
+            toChar (buffer[offset + 2])); //UTC_MINUTE_INCORRECT
+         return -1;
+      }
+
+      // Time second value must be valid
+      if (seconds > 59) {
+         errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_OUT_OF_RANGE,
+            "Second value invalid.",
+            toChar (buffer[offset + 4])); //UTC_MINUTE_INCORRECT
+         return -1;
+      }
+
+      long timeOfDay = ((hours * 60L + minutes) * 60L + seconds) * 1000L;
+
+      if (length > 6) {
          // 7th character may only be a decimal
-         if (timeUTC[6] != 0x2E) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
+         if (buffer[offset + 6] != 0x2E) {
+            errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
                "A non-decimal character was found in time.",
-               timeUTC[6])); //UTC_NON_DECIMAL
-            return -1;                  
+               toChar (buffer[offset + 6])); //UTC_NON_DECIMAL
+            return -1;
          }
-         else {
-            for (int i = 7; i < timeUTC.length; i++) {
-               if ((timeUTC[i] < 0x30) | (timeUTC[i] > 0x39)) {
-                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
-                     "A non-number character was found in time.",
-                     timeUTC[i])); //UTC_INCORRECT_CHARACTER
-                  return -1;
-               }
-               else {
-                  milliseconds += timeUTC[i] * milliDivisor;
-                  milliDivisor /= 10;
-               }
+         int milliDivisor = 100;
+         for (int i = offset + 7; i < offset + length; i++) {
+            if ((buffer[i] < 0x30) | (buffer[i] > 0x39)) {
+               errorLog.addError (SentenceErrorTypes.ERR_TIMEDATE_ILLEGAL_CHAR,
+                  "A non-number character was found in time.",
+                  toChar (buffer[i])); //UTC_INCORRECT_CHARACTER
+               return -1;
             }
+            timeOfDay += (buffer[i] - 0x30) * milliDivisor;
+            milliDivisor /= 10;
          }
-
-         timeValue.set (Calendar.MILLISECOND, milliseconds);
-         return timeValue.getTimeInMillis ();
       }
+
+      long now = System.currentTimeMillis ();
+      return now - Math.floorMod (now, MILLIS_PER_DAY) + timeOfDay;
    }
-   
+
    /**
     * Converts a UTC time value into a text representation
     * 
@@ -490,46 +567,75 @@ public abstract class SentenceTools {
          threeDigitForm.format (calendarObj.get(Calendar.MILLISECOND));
       
    }
-   
+
    /**
     * Parse bearing data.
     *
     * @param number character array representing a bearing
     * @param errorLog records errors received during processing
     * @return actual bearing value, Double.NaN if unsuccessful
-    */   
+    */
    public static double parseBearing (char [] number, SentenceErrorLog errorLog) {
+      return parseBearing (toBytes (number), 0, number.length, errorLog);
+   }
+
+   /**
+    * Parse bearing data from a range of a byte array.
+    *
+    * @param buffer the array holding the bearing text
+    * @param offset the index of the first character of the bearing
+    * @param length the number of characters in the bearing
+    * @param errorLog records errors received during processing
+    * @return actual bearing value, Double.NaN if unsuccessful
+    */
+   public static double parseBearing (byte [] buffer, int offset, int length,
+                                      SentenceErrorLog errorLog) {
       // Test for null length field
-      if (number.length == 0) {
+      if (length == 0) {
          return Double.NaN;
       }
-      
-      double bearing = parseNumber (number, errorLog);
-      
+
+      double bearing = parseNumber (buffer, offset, length, errorLog);
+
       // Test bearing for 0.0 < value < 360.0
       if ((bearing < 0.0) || (bearing >= 360.0)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_HEADING_OUT_OF_RANGE)); //HEADING_OUT_OF_RANGE
+         errorLog.addError (SentenceErrorTypes.ERR_HEADING_OUT_OF_RANGE); //HEADING_OUT_OF_RANGE
          return Double.NaN;
       }
-      
+
       // Test for 0.0 suspect value
       if (bearing < 0.001) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-            "Check bearing/heading (value is 0.0)."));//HEADING_SUSPICOUS
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+            "Check bearing/heading (value is 0.0).");//HEADING_SUSPICOUS
       }
-      
+
       return bearing;
    }
-   
-   /** 
+
+   /**
     * Parses a number from a character array.
+    *
+    * @param number the character array representing the number
+    * @param errorLog records errors received during processing
+    * @return the value of the parsed number text
+    * @see #parseNumber(byte[], int, int, SentenceErrorLog)
+    */
+   public static double parseNumber (char [] number, SentenceErrorLog errorLog) {
+      return parseNumber (toBytes (number), 0, number.length, errorLog);
+   }
+
+   /**
+    * Parses a number from a range of a byte array, such as a field of a
+    * received sentence, without creating any objects.  The digits are
+    * accumulated as a fixed-point integer and scaled once, so numbers of up
+    * to 15 digits get the same value as Double.parseDouble().
     *<pre>
     * A valid number is defined as:
     *    characters: [-][0][#][.[#][0]]
     *      position:  0  1  2  3 4  5
     *</pre>
     *
-    *<pre>                
+    *<pre>
     * Rules:
     *   1. A negative symbol is valid (at position 0)
     *   2. Leading and trailing zeros are valid (in positions 1 and 5)
@@ -537,98 +643,174 @@ public abstract class SentenceTools {
     *   4. The decimal place is optional (at position 3)
     *   5. Fractions are optional
     *</pre>
-    * @param number the character array representing the number
+    * @param buffer the array holding the number text
+    * @param offset the index of the first character of the number
+    * @param length the number of characters in the number
     * @param errorLog records errors received during processing
-    * @return the value of the parsed number text 
-    */ 
-   public static double parseNumber (char [] number, SentenceErrorLog errorLog) {
+    * @return the value of the parsed number text, Double.NaN if unsuccessful
+    */
+   public static double parseNumber (byte [] buffer, int offset, int length,
+                                     SentenceErrorLog errorLog) {
       boolean decimalFound = false;
-      if (number.length == 0) {
+      boolean negative = false;
+      boolean digitFound = false;
+      long mantissa = 0;
+      int digits = 0;
+      int fractionDigits = 0;
+      int exponent = 0;
+      byte b;
+
+      if (length == 0) {
          return Double.NaN;
       }
-      
-      for (int i = 0; i < number.length; i++) {
+
+      for (int i = offset; i < offset + length; i++) {
+         b = buffer[i];
          // Check for non-numeric characters
-         if ((number[i] < 0x30) || (number[i] > 0x39)) {
+         if ((b < 0x30) || (b > 0x39)) {
             // Check for negative sign in wrong position
-            if ( (number[i] == NEGATIVE_SIGN) || (number[i] == POSITIVE_SIGN) ){
-               if (i > 0) {
-                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+            if ((b == NEGATIVE_SIGN) || (b == POSITIVE_SIGN)) {
+               if (i > offset) {
+                  errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
                      "An illegal negative or positive sign was found.",
-                     number[i]));//NUMBER_INCORRECT_NEGATIVE
-                  return Double.NaN; 
-               }
-               else {
-                  continue;
+                     toChar (b));//NUMBER_INCORRECT_NEGATIVE
+                  return Double.NaN;
                }
+               negative = (b == NEGATIVE_SIGN);
+               continue;
             }
             // Check for multiple decimals
-            if (number[i] == 0x2E) {
+            if (b == 0x2E) {
                if (decimalFound) {
-                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+                  errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
                      "Too many decimals were found.",
-                     number[i])); //NUMBER_TOO_MANY_DECIMALS
-                  return Double.NaN;  
-               }
-               else { 
-                  decimalFound = true;
-                  continue;
+                     toChar (b)); //NUMBER_TOO_MANY_DECIMALS
+                  return Double.NaN;
                }
+               decimalFound = true;
+               continue;
             }
-            
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+
+            errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
                "Illegal non-number character.",
-               number[i])); //NUMBER_NON_NUMBER
-            return Double.NaN; 
+               toChar (b)); //NUMBER_NON_NUMBER
+            return Double.NaN;
+         }
+
+         digitFound = true;
+         if ((mantissa == 0) && (b == 0x30)) {
+            // Leading zeros only move the decimal point
+            if (decimalFound) {
+               fractionDigits++;
+            }
+         }
+         else if (digits < MAX_NUMBER_DIGITS) {
+            mantissa = mantissa * 10 + (b - 0x30);
+            digits++;
+            if (decimalFound) {
+               fractionDigits++;
+            }
+         }
+         else if (!decimalFound) {
+            // Whole number digits past a long's precision only scale it
+            exponent++;
          }
       }
-      return Double.parseDouble (new String(number));
+
+      if (!digitFound) {
+         errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+            "A number without digits was found."); //NUMBER_NO_DIGITS
+         return Double.NaN;
+      }
+
+      double value = mantissa;
+      exponent -= fractionDigits;
+      while (exponent > 0) {
+         int step = Math.min (exponent, POWERS_OF_TEN.length - 1);
+         value *= POWERS_OF_TEN[step];
+         exponent -= step;
+      }
+      while (exponent < 0) {
+         // Both exact for up to 15 digits, so the quotient is rounded once
+         int step = Math.min (-exponent, POWERS_OF_TEN.length - 1);
+         value /= POWERS_OF_TEN[step];
+         exponent += step;
+      }
+      return negative ? -value : value;
    }
-   
+
  /*
    private static String getNumberString (double number) {
       DecimalFormat numberForm = new DecimalFormat("0.0###");
       return numberForm.format (number);
    }
   */
-   
+
    /**
     * Parse the validity character
     *
     * @param statusField status value
     * @param errorLog records errors received during processing
     * @return validity character, if successfully parsed.
-    */   
+    */
    public static char parseStatus (char [] statusField, SentenceErrorLog errorLog) {
-      if (statusField.length == 1) {
-         char status = statusField[0];
+      return parseStatus (toBytes (statusField), 0, statusField.length, errorLog);
+   }
+
+   /**
+    * Parse the validity character from a range of a byte array.
+    *
+    * @param buffer the array holding the status value
+    * @param offset the index of the first character of the value
+    * @param length the number of characters in the value
+    * @param errorLog records errors received during processing
+    * @return validity character, if successfully parsed.
+    */
+   public static char parseStatus (byte [] buffer, int offset, int length,
+                                   SentenceErrorLog errorLog) {
+      if (length == 1) {
+         char status = toChar (buffer[offset]);
          if ((status == 'A') || (status == 'V')) {
             return status;
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               "Status field not recognzed.", status)); //STATUS_NOT_RECOGNIZED
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Status field not recognzed.", status); //STATUS_NOT_RECOGNIZED
             return 0;
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            "Status field has incorrect number of characters.")); //STATUS_TOO_MANY_CHARACTERS
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Status field has incorrect number of characters."); //STATUS_TOO_MANY_CHARACTERS
          return 0;
       }
    }
-      
+
    /**
     * Parse a positioning device operating mode.
     *
     * @param modeField operating mode
     * @param errorLog records errors received during processing
     * @return operaing mode character, if successfully parsed
-    */   
+    */
    public static char parseOperatingMode (char [] modeField, SentenceErrorLog errorLog) {
-      if (modeField.length == 1) {
-         char mode = modeField[0];
-         if ((mode == 'A') || 
+      return parseOperatingMode (toBytes (modeField), 0, modeField.length, errorLog);
+   }
+
+   /**
+    * Parse a positioning device operating mode from a range of a byte array.
+    *
+    * @param buffer the array holding the operating mode
+    * @param offset the index of the first character of the mode
+    * @param length the number of characters in the mode
+    * @param errorLog records errors received during processing
+    * @return operaing mode character, if successfully parsed
+    */
+   public static char parseOperatingMode (byte [] buffer, int offset, int length,
+                                          SentenceErrorLog errorLog) {
+      if (length == 1) {
+         char mode = toChar (buffer[offset]);
+         if ((mode == 'A') ||
              (mode == 'D') ||
              (mode == 'E') ||
              (mode == 'M') ||
@@ -637,48 +819,62 @@ public abstract class SentenceTools {
             return mode;
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               "Operating mode field not recognzed.", mode)); //MODE_NOT_RECOGNIZED
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Operating mode field not recognzed.", mode); //MODE_NOT_RECOGNIZED
             return 0;
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            "Operating mode field has incorrect number of characters.")); //MODE_TOO_MANY_CHARACTERS
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Operating mode field has incorrect number of characters."); //MODE_TOO_MANY_CHARACTERS
          return 0;
       }
    }
-   
+
    /**
     * Parse LORAN-C group repetition rate
     *
     * @param number value to parse
     * @param errorLog records errors received during processing
     * @return value of parsed input
-    */   
+    */
    public static double parseLoranGRI (char [] number, SentenceErrorLog errorLog) {
+      return parseLoranGRI (toBytes (number), 0, number.length, errorLog);
+   }
+
+   /**
+    * Parse LORAN-C group repetition rate from a range of a byte array.
+    *
+    * @param buffer the array holding the value to parse
+    * @param offset the index of the first character of the value
+    * @param length the number of characters in the value
+    * @param errorLog records errors received during processing
+    * @return value of parsed input
+    */
+   public static double parseLoranGRI (byte [] buffer, int offset, int length,
+                                       SentenceErrorLog errorLog) {
       // Test for null length field
-      if (number.length == 0) {
+      if (length == 0) {
          return Double.NaN;
       }
-      else if (number.length != 4) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-               "Invalid number of characters for GRI.")); //LORAN_GRI_INCORRECT
+      else if (length != 4) {
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+               "Invalid number of characters for GRI."); //LORAN_GRI_INCORRECT
          return 0;
       }
-      
-      double loranGRI = parseNumber (number, errorLog);
-      
+
+      double loranGRI = parseNumber (buffer, offset, length, errorLog);
+
       // Test bearing for 0.0 < value < 360.0
       if ((loranGRI < 7000.0) || (loranGRI > 10000.0)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-               "GRI is out of range.")); //LORAN_GRI_INCORRECT
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+               "GRI is out of range."); //LORAN_GRI_INCORRECT
          return loranGRI;
       }
-      
+
       return loranGRI;
    }
-   
+
    /**
     * Parse a LORAN-C time of arrival (Master) or time differnce value of
     * received signals.
@@ -686,96 +882,158 @@ public abstract class SentenceTools {
     * @param number value to parse
     * @param errorLog records errors received during processing
     * @return value of parsed input
-    */   
+    */
    public static double parseLoranTOATD (char [] number, SentenceErrorLog errorLog) {
+      return parseLoranTOATD (toBytes (number), 0, number.length, errorLog);
+   }
+
+   /**
+    * Parse a LORAN-C time of arrival (Master) or time differnce value of
+    * received signals from a range of a byte array.
+    *
+    * @param buffer the array holding the value to parse
+    * @param offset the index of the first character of the value
+    * @param length the number of characters in the value
+    * @param errorLog records errors received during processing
+    * @return value of parsed input
+    */
+   public static double parseLoranTOATD (byte [] buffer, int offset, int length,
+                                         SentenceErrorLog errorLog) {
       // Test for null length field
-      if (number.length == 0) {
+      if (length == 0) {
          return Double.NaN;
       }
-      
-      double loranTD = parseNumber (number, errorLog);
-      
+
+      double loranTD = parseNumber (buffer, offset, length, errorLog);
+
       // Test bearing for 0.0 < value < 360.0
       if ((loranTD < 0.0) || (loranTD > 99999.9)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-               "TD is out of range.")); //LORAN_TOATD_INCORRECT
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+               "TD is out of range."); //LORAN_TOATD_INCORRECT
          return loranTD;
       }
-      
+
       return loranTD;
    }
-   
-   
+
+
    /**
     * Parse the signal envelope and signal-to-noise ration values.
     *
     * @param number value to parse
     * @param errorLog records errors received during processing
     * @return value of parsed input
-    */   
+    */
    public static double parseLoranECDSNR (char [] number, SentenceErrorLog errorLog) {
+      return parseLoranECDSNR (toBytes (number), 0, number.length, errorLog);
+   }
+
+   /**
+    * Parse the signal envelope and signal-to-noise ration values from a
+    * range of a byte array.
+    *
+    * @param buffer the array holding the value to parse
+    * @param offset the index of the first character of the value
+    * @param length the number of characters in the value
+    * @param errorLog records errors received during processing
+    * @return value of parsed input
+    */
+   public static double parseLoranECDSNR (byte [] buffer, int offset, int length,
+                                          SentenceErrorLog errorLog) {
       // Test for null length field
-      if (number.length == 0) {
+      if (length == 0) {
          return Double.NaN;
       }
-      else if (number.length != 3) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-               "Invalid number of characters for ECD or SNR."));//LORAN_ECDSNR_INCORRECT
+      else if (length != 3) {
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+               "Invalid number of characters for ECD or SNR.");//LORAN_ECDSNR_INCORRECT
          return 0;
       }
-      
-      double loranQuality = parseNumber (number, errorLog);
-      
+
+      double loranQuality = parseNumber (buffer, offset, length, errorLog);
+
       // Test bearing for 0.0 < value < 360.0
       if ((loranQuality < 0.0) || (loranQuality > 999.9)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-               "ECD or SNR is out of range."));//LORAN_ECDSNR_INCORRECT
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+               "ECD or SNR is out of range.");//LORAN_ECDSNR_INCORRECT
          return loranQuality;
       }
-      
+
       return loranQuality;
    }
-      
+
    /**
-    * Parse the loran status character. 
+    * Parse the loran status character.
     *
     * @param modeField the value to parse
     * @param errorLog records errors received during processing
     * @return the mode character parsed, if successful
-    */   
+    */
    public static char parseLoranStatus (char [] modeField, SentenceErrorLog errorLog) {
-      if (modeField.length == 1) {
-         char mode = modeField[0];
+      return parseLoranStatus (toBytes (modeField), 0, modeField.length, errorLog);
+   }
+
+   /**
+    * Parse the loran status character from a range of a byte array.
+    *
+    * @param buffer the array holding the value to parse
+    * @param offset the index of the first character of the value
+    * @param length the number of characters in the value
+    * @param errorLog records errors received during processing
+    * @return the mode character parsed, if successful
+    */
+   public static char parseLoranStatus (byte [] buffer, int offset, int length,
+                                        SentenceErrorLog errorLog) {
+      if (length == 1) {
+         char mode = toChar (buffer[offset]);
          if (mode == 'B') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-               "Blink warning present."));//LORAN_BLINK
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+               "Blink warning present.");//LORAN_BLINK
             return mode;
          }
          else if (mode == 'C') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               "Cycle warning present."));//LORAN_CYCLE
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Cycle warning present.");//LORAN_CYCLE
             return mode;
          }
          else if (mode == 'S') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               "Signal-to-Noise (SNR) warning present.")); //LORAN_SNR
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Signal-to-Noise (SNR) warning present."); //LORAN_SNR
             return mode;
          }
          else if (mode == 'A') {
             return mode;
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               "Signal status not recognzed.", mode)); //LORAN_STATUS
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Signal status not recognzed.", mode); //LORAN_STATUS
             return '?';
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            "Signal status field has incorrect number of characters.")); //LORAN_STATUS_TOO_MANY_CHARACTERS
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Signal status field has incorrect number of characters."); //LORAN_STATUS_TOO_MANY_CHARACTERS
          return '?';
       }
    }
+
+   /* Gets the character of a received byte. */
+   private static char toChar (byte b) {
+      return (char) (b & 0x00FF);
+   }
+
+   /*
+    * Copies a character array into a new byte array for the byte parsers;
+    * a character that is not a single byte is held as 0xFF, which is never
+    * legal in a field.
+    */
+   private static byte [] toBytes (char [] chars) {
+      byte [] bytes = new byte[chars.length];
+      for (int i = 0; i < chars.length; i++) {
+         bytes[i] = (chars[i] > 0x00FF) ? (byte) 0xFF : (byte) chars[i];
+      }
+      return bytes;
+   }
  /*
    /
     * Converts a character array to a string.
@@ -818,6 +1076,9 @@ public abstract class SentenceTools {
 /*
  * Version history:
  *
+ * 1.0.0.4 - Added parsers over a range of a byte array, accumulating digits as
+ *           fixed-point integers, that create no objects; the character array
+ *           parsers now call them.  parseUTC() reads the time as UTC.
  * 1.0.0.3 - Allowed positive sign (+) character in parseNumber() method.
  */
 
@@ -9,6 +9,7 @@
  */
 package serialComms.sentences;
 
+import java.util.*;
 import serialComms.sentences.specific.*;
 /**
  * This class provides a translation capability from recieved talker and
@@ -16,7 +17,7 @@ import serialComms.sentences.specific.*;
  * sentences are supported by this application.
  *
  * @author Jeff Stewart
- * @version 1.1.0.0, 2005-02-02
+ * @version 1.3.0.0, 2026-10-17
  */
 public class SentenceTypes {
    /** Minimum sentence length is 11 characters. */
@@ -244,6 +245,10 @@ public class SentenceTypes {
    public static final int FORMATTER_TXT = 0x545854;
    /** Dual ground/water speed [VBW] */
    public static final int FORMATTER_VBW = 0x564257;
+   /** AIS VHF data-link message [VDM] */
+   public static final int FORMATTER_VDM = 0x56444D;
+   /** AIS VHF data-link own-vessel report [VDO] */
+   public static final int FORMATTER_VDO = 0x56444F;
    /** Set and drift [VDR] */
    public static final int FORMATTER_VDR = 0x564452;
    /** Water speed and heading [VHW] */
@@ -285,7 +290,345 @@ public class SentenceTypes {
    /** RayNav750 - Color plotter and remote interface */
    public static final int FORMATTER_RAYNAV750 = 0x000750;
    
+   /* Sizes of the talker and formatter tables. */
+   private static final int TALKER_INDEX_COUNT = (26 * 26) + 26;
+   private static final int LETTER_FORMATTER_COUNT = 26 * 26 * 26;
+   /* Formatters that are not three capital letters, indexed after those that are. */
+   private static final int [] OTHER_FORMATTERS = {
+      FORMATTER_ZZZ,
+      FORMATTER_NMEA0180,
+      FORMATTER_NMEA0182,
+      FORMATTER_RAYNAV750
+   };
+   private static final int FORMATTER_INDEX_COUNT =
+      LETTER_FORMATTER_COUNT + OTHER_FORMATTERS.length;
    
+   /* Talker ID names, indexed by getTalkerIndex(). */
+   private static final String [] talkerNames = new String[TALKER_INDEX_COUNT];
+   /* Formatter descriptors, indexed by getFormatterIndex(). */
+   private static final SentenceDescriptor [] formatterDescriptors =
+      new SentenceDescriptor[FORMATTER_INDEX_COUNT];
+   /* One shared object of each sentence class, used while the descriptors are built. */
+   private static HashMap<Class<? extends AbstractSentence>, AbstractSentence> sharedSentences =
+      new HashMap<Class<? extends AbstractSentence>, AbstractSentence>();
+
+   static {
+      addTalker (TALKER_AG, "Heading/track controller (autopilot), general [AG]");
+      addTalker (TALKER_AP, "Heading/track controller (autopilot), magnetic [AP]");
+      addTalker (TALKER_AI, "Automatic identification system [AI]");
+      addTalker (TALKER_CD, "Communications, digital selective calling (DSC) [CD]");
+      addTalker (TALKER_CR, "Communications, data receiver [CR]");
+      addTalker (TALKER_CS, "Communications, satellite [CS]");
+      addTalker (TALKER_CT, "Communications, radio-telephone (MF/HF) [CT]");
+      addTalker (TALKER_CV, "Communications, radio-telephone (VHF) [CV]");
+      addTalker (TALKER_CX, "Communications, scanning receiver [CX]");
+      addTalker (TALKER_DE, "DECCA navigator [DE]");
+      addTalker (TALKER_DF, "Direction finder [DF]");
+      addTalker (TALKER_EC, "Electronic chart systems (ECS) [EC]");
+      addTalker (TALKER_EI, "Electronic chart display and information system (ECDIS)  [EI]");
+      addTalker (TALKER_EP, "Emergency position indicating radio beacon (EPIRB) [EP]");
+      addTalker (TALKER_ER, "Engine room monitoring systems [ER]");
+      addTalker (TALKER_GP, "Global positioning system (GPS) [GP]");
+      addTalker (TALKER_GL, "GLONASS receiver  [GL]");
+      addTalker (TALKER_GN, "Global navigation satellite system (GNSS) [GN]");
+      addTalker (TALKER_HC, "Heading sensors, compass, magnetic  [HC]");
+      addTalker (TALKER_HE, "Heading sensors, gyro, north seeking [HE]");
+      addTalker (TALKER_HN, "Heading sensors, gyro, non-north seeking [HN]");
+      addTalker (TALKER_II, "Integrated instrumentation [II]");
+      addTalker (TALKER_IN, "Integrated navigation [IN]");
+      addTalker (TALKER_LC, "LORAN, LORAN-C [LC]");
+      addTalker (TALKER_P, "Proprietory message source [P]");
+      addTalker (TALKER_Q, "Query message type [Q]");
+      addTalker (TALKER_RA, "Radar and/or radar plotting [RA]");
+      addTalker (TALKER_SD, "Sounder, depth [SD]");
+      addTalker (TALKER_SN, "Electronic positioning system, other/general [SN]");
+      addTalker (TALKER_SS, "Sounder, scanning [SS]");
+      addTalker (TALKER_TI, "Turn rate indicator [TI]");
+      addTalker (TALKER_VD, "Velocity sensors, Doppler, other/general [VD]");
+      addTalker (TALKER_VM, "Velocity sensors, speed log, water, magnetic [VM]");
+      addTalker (TALKER_VW, "Velocity sensors, speed log, water, mechanical [VW]");
+      addTalker (TALKER_VR, "Voyage data recorder [VR]");
+      addTalker (TALKER_YX, "Transducer [YX]");
+      addTalker (TALKER_ZA, "Timekeepers, time/date, atomic clock [ZA]");
+      addTalker (TALKER_ZC, "Timekeepers, time/date, chronometer [ZC]");
+      addTalker (TALKER_ZQ, "Timekeepers, time/date, quartz [ZQ]");
+      addTalker (TALKER_ZV, "Timekeepers, time/date, radio update [ZV]");
+      addTalker (TALKER_WI, "Weather instruments [WI]");
+
+      addFormatter (FORMATTER_AAM, "Waypoint arrival alarm [AAM]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_ACK, "Acknowledgement alarm [ACK]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_ALM, "GPS almanac data [ALM]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_ALR, "Set alarm state [ALR]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_APB, "Heading/track controller (Autopilot) sentence B [APB]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_BBG, "Optical Sighting System (OSS) control for BBG's DCU [BBG]",
+         USCG_DCU_BBG.class, true);
+      addFormatter (FORMATTER_BEC, "Bearing and distance to waypoint, dead reckoning [BEC]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_BOD, "Bearing, origin to destination [BOD]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_BWC, "Bearing and distance to waypoint [BWC]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_BWR, "Bearing and distance to waypoint, rhumb line [BWR]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_BWW, "Bearing, waypoint to waypoint [BWW]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_DBT, "Depth below transducer [DBT]",
+         DepthDBT.class, true);
+      addFormatter (FORMATTER_DCN, "DECCA position [DCN]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_DPT, "Depth [DPT]",
+         DepthDPT.class, true);
+      addFormatter (FORMATTER_DSC, "Digital selective calling information [DSC]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_DSE, "Expanded digital selective calling [DSE]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_DSI, "DSC transponder initialise [DSI]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_DSR, "DSC transponder response [DSR]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_DTM, "Datum reference [DTM]",
+         DatumDTM.class, true);
+      addFormatter (FORMATTER_FSI, "Frequency set information [FSI]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_GBS, "GNSS Satellite fault detection [GBS]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_GGA, "Global positioning system fix data [GGA]",
+         PositionGGA.class, true);
+      addFormatter (FORMATTER_GLC, "Geographic position, LORAN-C [GLC]",
+         LoranTDsGLC.class, true);
+      addFormatter (FORMATTER_GLL, "Geographic position, latitude/intitude [GLL]",
+         PositionGLL.class, true);
+      addFormatter (FORMATTER_GNS, "GNSS fix data [GNS]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_GRS, "GNSS range residuals [GRS]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_GSA, "GNSS DOP and active satellites [GSA]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_GST, "GNSS pseudorange error statistics [GST]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_GSV, "GNSS satellites in view [GSV]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_HDG, "Heading, deviation and variation [HDG]",
+         HeadingHDG.class, true);
+      addFormatter (FORMATTER_HDT, "Heading, true [HDT]",
+         HeadingHDT.class, true);
+      addFormatter (FORMATTER_HMR, "Heading monitor  receive [HMR]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_HMS, "Heading monitor  set [HMS]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_HSC, "Heading steering command [HSC]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_HTC, "Heading/track control command [HTC]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_HTD, "Heading/track control data [HTD]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_LCD, "LORAN-C signal data [LCD]",
+         LoranSignalLCD.class, true);
+      addFormatter (FORMATTER_MLA, "Glonass almanac data [MLA]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_MSK, "MSK receiver interface [MSK]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_MSS, "MSK receiver signal status [MSS]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_MTW, "Water temperature [MTW]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_MWD, "Wind direction and speed [MWD]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_MWV, "Wind speed and angle [MWV]",
+         WindMWV.class, true);
+      addFormatter (FORMATTER_OSD, "Own ship data [OSD]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_RMA, "Recommended minimum specific LORAN-C data [RMA]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_RMB, "Recommended minimum navigation information [RMB]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_RMC, "Recommended minimum specific GNSS data [RMC]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_ROT, "Rate of turn [ROT]",
+         RateOfTurnROT.class, true);
+      addFormatter (FORMATTER_RPM, "Revolutions [RPM]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_RSA, "Rudder sensor angle [RSA]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_RSD, "Radar system data [RSD]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_RTE, "Routes [RTE]",
+         RoutesRTE.class, true);
+      addFormatter (FORMATTER_SFI, "Scanning frequency information [SFI]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_STN, "Multiple data ID [STN]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_TLB, "Target label [TLB]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_TLL, "Target latitude and intitude [TLL]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_TTM, "Tracked target message [TTM]",
+         TargetTTM.class, true);
+      addFormatter (FORMATTER_TXT, "Text transmission [TXT]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_VBW, "Dual ground/water speed [VBW]",
+         SpeedVBW.class, true);
+      addFormatter (FORMATTER_VDM, "AIS VHF data-link message [VDM]",
+         AISMessageVDM.class, true);
+      addFormatter (FORMATTER_VDO, "AIS VHF data-link own-vessel report [VDO]",
+         AISOwnshipVDO.class, true);
+      addFormatter (FORMATTER_VDR, "Set and drift [VDR]",
+         SetDriftVDR.class, true);
+      addFormatter (FORMATTER_VHW, "Water speed and heading [VHW]",
+         HeadingSpeedVHW.class, true);
+      addFormatter (FORMATTER_VLW, "Distance travelled through the water [VLW]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_VPW, "Speed, measured parallel to wind [VPW]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_VTG, "Course over ground and ground speed [VTG]",
+         COGSOGVTG.class, true);
+      addFormatter (FORMATTER_WCV, "Waypoint closure velocity [WCV]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_WNC, "WNC Distance, waypoint to waypoint [WNC]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_WPL, "Waypoint location [WPL]",
+         WaypointWPL.class, true);
+      addFormatter (FORMATTER_XDR, "Transducer measurements [XDR]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_XTE, "Cross-track error, measured [XTE]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_XTR, "Cross-track error, dead reckoning [XTR]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_ZDA, "Time and date [ZDA]",
+         TimeDateZDA.class, true);
+      addFormatter (FORMATTER_ZDL, "Time and distance to variable point [ZDL]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_ZFO, "UTC and time from origin waypoint [ZFO]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_ZTG, "UTC and time to destination waypoint [ZTG]",
+         DefaultSentence.class, false);
+      addFormatter (FORMATTER_ZZZ, "Free text sentence (using misc manual data)",
+         FreeTextSentence.class, true);
+      addFormatter (FORMATTER_NMEA0180, "NMEA 0180 - Simple autopilot interface",
+         SimpleNMEA0180.class, true);
+      addFormatter (FORMATTER_NMEA0182, "NMEA 0182 - Complex LORAN-C autopilot interface",
+         ComplexNMEA0182.class, true);
+      addFormatter (FORMATTER_RAYNAV750, "RayNav750 - Color plotter and remote interface",
+         RayNav750.class, true);
+
+      sharedSentences = null;
+   }
+
+   /**
+    * Gets the index of a talker ID in the talker tables: two letter IDs are
+    * indexed by their letters, followed by single letter IDs (e.g. 'P').
+    *
+    * @param talkerID the numeric value of a talker ID
+    * @return Index (0 - 701), or -1 if the value is not one or two capital letters.
+    */
+   public static int getTalkerIndex (int talkerID) {
+      int first = ((talkerID >>> 8) & 0xFF) - 'A';
+      int second = (talkerID & 0xFF) - 'A';
+      if ((talkerID >>> 16) != 0) {
+         return -1;
+      }
+      if ((talkerID >>> 8) == 0) {
+         return ((second >= 0) && (second < 26)) ? (26 * 26) + second : -1;
+      }
+      if ((first < 0) || (first >= 26) || (second < 0) || (second >= 26)) {
+         return -1;
+      }
+      return (first * 26) + second;
+   }
+
+   /**
+    * Gets the index of a formatter in the formatter table: three letter
+    * formatters are indexed by their letters, followed by the formatters of
+    * other interfaces (e.g. NMEA 0180).
+    *
+    * @param sentenceFormatter the numeric value of a sentence formatter
+    * @return Index, or -1 if the formatter has no place in the table.
+    */
+   public static int getFormatterIndex (int sentenceFormatter) {
+      int first = ((sentenceFormatter >>> 16) & 0xFF) - 'A';
+      int second = ((sentenceFormatter >>> 8) & 0xFF) - 'A';
+      int third = (sentenceFormatter & 0xFF) - 'A';
+      if (((sentenceFormatter >>> 24) == 0) &&
+          (first >= 0) && (first < 26) &&
+          (second >= 0) && (second < 26) &&
+          (third >= 0) && (third < 26)) {
+         return (((first * 26) + second) * 26) + third;
+      }
+      for (int i = 0; i < OTHER_FORMATTERS.length; i++) {
+         if (sentenceFormatter == OTHER_FORMATTERS[i]) {
+            return LETTER_FORMATTER_COUNT + i;
+         }
+      }
+      return -1;
+   }
+
+   /**
+    * Gets the descriptor of a sentence formatter.  This is a table lookup,
+    * so it may be called for each sentence received.
+    *
+    * @param sentenceFormatter the numeric value of a sentence formatter
+    * @return The formatter's descriptor, or null if it is not known.
+    */
+   public static SentenceDescriptor getDescriptor (int sentenceFormatter) {
+      int index = getFormatterIndex (sentenceFormatter);
+      return (index >= 0) ? formatterDescriptors[index] : null;
+   }
+
+   /**
+    * Determines if a talker ID is known to this application.
+    *
+    * @param talkerID the numeric value of a talker ID
+    * @return true if the talker ID has a description
+    */
+   public static boolean isKnownTalker (int talkerID) {
+      int index = getTalkerIndex (talkerID);
+      return (index >= 0) && (talkerNames[index] != null);
+   }
+
+   /* Records the name of a talker ID. */
+   private static void addTalker (int talkerID, String name) {
+      talkerNames[getTalkerIndex (talkerID)] = name;
+   }
+
+   /* Records the descriptor of a formatter, once the talker names are recorded. */
+   private static void addFormatter (int sentenceFormatter, String name,
+                                     Class<? extends AbstractSentence> sentenceClass,
+                                     boolean supported) {
+      AbstractSentence sentence = sharedSentences.get (sentenceClass);
+      if (sentence == null) {
+         try {
+            sentence = sentenceClass.getDeclaredConstructor ().newInstance ();
+         }
+         catch (ReflectiveOperationException error) {
+            System.out.println ("Unable to create sentence " + name + ". " +
+               error.toString ());
+            sentence = new DefaultSentence();
+         }
+         sharedSentences.put (sentenceClass, sentence);
+      }
+
+      boolean [] talkers = new boolean[TALKER_INDEX_COUNT];
+      for (int i = 0; i < TALKER_INDEX_COUNT; i++) {
+         talkers[i] = (talkerNames[i] != null) &&
+            sentence.isSentenceIDValid (getTalkerID (i));
+      }
+      formatterDescriptors[getFormatterIndex (sentenceFormatter)] =
+         new SentenceDescriptor (sentenceFormatter, name, supported, sentence, talkers);
+   }
+
+   /* Gets the talker ID value of a talker table index. */
+   private static int getTalkerID (int index) {
+      if (index >= 26 * 26) {
+         return 'A' + (index - (26 * 26));
+      }
+      return (('A' + (index / 26)) << 8) | ('A' + (index % 26));
+   }
+
    /** 
     * Provides a list of supported NMEA versions.  This is a comprehensive list. Some
     * sentence types may not be supported by this application.
@@ -402,131 +745,8 @@ public class SentenceTypes {
     * @return the description of the talker ID
     */
    public static String getTalkerIDName (int talkerID) {
-      switch (talkerID) {
-         case TALKER_AG: {
-            return "Heading/track controller (autopilot), general [AG]";
-         }
-         case TALKER_AP: {
-            return "Heading/track controller (autopilot), magnetic [AP]";
-         }
-         case TALKER_AI: {
-            return "Automatic identification system [AI]";
-         }
-         case TALKER_CD: {
-            return "Communications, digital selective calling (DSC) [CD]";
-         }
-         case TALKER_CR: {
-            return "Communications, data receiver [CR]";
-         }
-         case TALKER_CS: {
-            return "Communications, satellite [CS]";
-         }
-         case TALKER_CT: {
-            return "Communications, radio-telephone (MF/HF) [CT]";
-         }
-         case TALKER_CV: {
-            return "Communications, radio-telephone (VHF) [CV]";
-         }
-         case TALKER_CX: {
-            return "Communications, scanning receiver [CX]";
-         }
-         case TALKER_DE: {
-            return "DECCA navigator [DE]";
-         }
-         case TALKER_DF: {
-            return "Direction finder [DF]";
-         }
-         case TALKER_EC: {
-            return "Electronic chart systems (ECS) [EC]";
-         }
-         case TALKER_EI: {
-            return "Electronic chart display and information system (ECDIS)  [EI]";
-         }
-         case TALKER_EP: {
-            return "Emergency position indicating radio beacon (EPIRB) [EP]";
-         }
-         case TALKER_ER: {
-            return "Engine room monitoring systems [ER]";
-         }
-         case TALKER_GP: {
-            return "Global positioning system (GPS) [GP]";
-         }
-         case TALKER_GL: {
-            return "GLONASS receiver  [GL]";
-         }
-         case TALKER_GN: {
-            return "Global navigation satellite system (GNSS) [GN]";
-         }
-         case TALKER_HC: {
-            return "Heading sensors, compass, magnetic  [HC]";
-         }
-         case TALKER_HE: {
-            return "Heading sensors, gyro, north seeking [HE]";
-         }
-         case TALKER_HN: {
-            return "Heading sensors, gyro, non-north seeking [HN]";
-         }
-         case TALKER_II: {
-            return "Integrated instrumentation [II]";
-         }
-         case TALKER_IN: {
-            return "Integrated navigation [IN]";
-         }
-         case TALKER_LC: {
-            return "LORAN, LORAN-C [LC]";
-         }
-         case TALKER_P: {
-            return "Proprietory message source [P]";
-         }
-         case TALKER_Q: {
-            return "Query message type [Q]";
-         }         case TALKER_RA: {
-            return "Radar and/or radar plotting [RA]";
-         }
-         case TALKER_SD: {
-            return "Sounder, depth [SD]";
-         }
-         case TALKER_SN: {
-            return "Electronic positioning system, other/general [SN]";
-         }
-         case TALKER_SS: {
-            return "Sounder, scanning [SS]";
-         }
-         case TALKER_TI: {
-            return "Turn rate indicator [TI]";
-         }
-         case TALKER_VD: {
-            return "Velocity sensors, Doppler, other/general [VD]";
-         }
-         case TALKER_VM: {
-            return "Velocity sensors, speed log, water, magnetic [VM]";
-         }
-         case TALKER_VW: {
-            return "Velocity sensors, speed log, water, mechanical [VW]";
-         }
-         case TALKER_VR: {
-            return "Voyage data recorder [VR]";
-         }
-         case TALKER_YX: {
-            return "Transducer [YX]";
-         }
-         case TALKER_ZA: {
-            return "Timekeepers, time/date, atomic clock [ZA]";
-         }
-         case TALKER_ZC: {
-            return "Timekeepers, time/date, chronometer [ZC]";
-         }
-         case TALKER_ZQ: {
-            return "Timekeepers, time/date, quartz [ZQ]";
-         }
-         case TALKER_ZV: {
-            return "Timekeepers, time/date, radio update [ZV]";
-         }
-         case TALKER_WI: {
-            return "Weather instruments [WI]";
-         } 
-      }
-      return null;
+      int index = getTalkerIndex (talkerID);
+      return (index >= 0) ? talkerNames[index] : null;
    }
   
    /** 
@@ -596,6 +816,8 @@ public class SentenceTypes {
          FORMATTER_TTM,
          FORMATTER_TXT,
          FORMATTER_VBW,
+         FORMATTER_VDM,
+         FORMATTER_VDO,
          FORMATTER_VDR,
          FORMATTER_VHW,
          FORMATTER_VLW,
@@ -626,243 +848,8 @@ public class SentenceTypes {
     * @return the description of the sentence formatter
     */
    public static String getFormatterIDName (int sentenceFormatter) {
-      switch (sentenceFormatter) {
-         case FORMATTER_AAM: {
-            return "Waypoint arrival alarm [AAM]";
-         }
-         case FORMATTER_ACK: {
-            return "Acknowledgement alarm [ACK]";
-         }
-         case FORMATTER_ALM: {
-            return "GPS almanac data [ALM]";
-         }
-         case FORMATTER_ALR: {
-            return "Set alarm state [ALR]";
-         }
-         case FORMATTER_APB: {
-            return "Heading/track controller (Autopilot) sentence B [APB]";
-         }
-         case FORMATTER_BBG: {
-            return "Optical Sighting System (OSS) control for BBG's DCU [BBG]";
-         }
-         case FORMATTER_BEC: {
-            return "Bearing and distance to waypoint, dead reckoning [BEC]";
-         }
-         case FORMATTER_BOD: {
-            return "Bearing, origin to destination [BOD]";
-         }
-         case FORMATTER_BWC: {
-            return "Bearing and distance to waypoint [BWC]";
-         }
-         case FORMATTER_BWR: {
-            return "Bearing and distance to waypoint, rhumb line [BWR]";
-         }
-         case FORMATTER_BWW: {
-            return "Bearing, waypoint to waypoint [BWW]";
-         }
-         case FORMATTER_DBT: {
-            return "Depth below transducer [DBT]";
-         }
-         case FORMATTER_DCN: {
-            return "DECCA position [DCN]";
-         }
-         case FORMATTER_DPT: {
-            return "Depth [DPT]";
-         }
-         case FORMATTER_DSC: {
-            return "Digital selective calling information [DSC]";
-         }
-         case FORMATTER_DSE: {
-            return "Expanded digital selective calling [DSE]";
-         }
-         case FORMATTER_DSI: {
-            return "DSC transponder initialise [DSI]";
-         }
-         case FORMATTER_DSR: {
-            return "DSC transponder response [DSR]";
-         }
-         case FORMATTER_DTM: {
-            return "Datum reference [DTM]";
-         }
-         case FORMATTER_FSI: {
-            return "Frequency set information [FSI]";
-         }
-         case FORMATTER_GBS: {
-            return "GNSS Satellite fault detection [GBS]";
-         }
-         case FORMATTER_GGA: {
-            return "Global positioning system fix data [GGA]";
-         }
-         case FORMATTER_GLC: {
-            return "Geographic position, LORAN-C [GLC]";
-         }
-         case FORMATTER_GLL: {
-            return "Geographic position, latitude/intitude [GLL]";
-         }
-         case FORMATTER_GNS: {
-            return "GNSS fix data [GNS]";
-         }
-         case FORMATTER_GRS: {
-            return "GNSS range residuals [GRS]";
-         }
-         case FORMATTER_GSA: {
-            return "GNSS DOP and active satellites [GSA]";
-         }
-         case FORMATTER_GST: {
-            return "GNSS pseudorange error statistics [GST]";
-         }
-         case FORMATTER_GSV: {
-            return "GNSS satellites in view [GSV]";
-         }
-         case FORMATTER_HDG: {
-            return "Heading, deviation and variation [HDG]";
-         }
-         case FORMATTER_HDT: {
-            return "Heading, true [HDT]";
-         }
-         case FORMATTER_HMR: {
-            return "Heading monitor  receive [HMR]";
-         }
-         case FORMATTER_HMS: {
-            return "Heading monitor  set [HMS]";
-         }
-         case FORMATTER_HSC: {
-            return "Heading steering command [HSC]";
-         }
-         case FORMATTER_HTC: {
-            return "Heading/track control command [HTC]";
-         }
-         case FORMATTER_HTD: {
-            return "Heading/track control data [HTD]";
-         }
-         case FORMATTER_LCD: {
-            return "LORAN-C signal data [LCD]";
-         }
-         case FORMATTER_MLA: {
-            return "Glonass almanac data [MLA]";
-         }
-         case FORMATTER_MSK: {
-            return "MSK receiver interface [MSK]";
-         }
-         case FORMATTER_MSS: {
-            return "MSK receiver signal status [MSS]";
-         }
-         case FORMATTER_MTW: {
-            return "Water temperature [MTW]";
-         }
-         case FORMATTER_MWD: {
-            return "Wind direction and speed [MWD]";
-         }
-         case FORMATTER_MWV: {
-            return "Wind speed and angle [MWV]";
-         }
-         case FORMATTER_OSD: {
-            return "Own ship data [OSD]";
-         }
-         case FORMATTER_RMA: {
-            return "Recommended minimum specific LORAN-C data [RMA]";
-         }
-         case FORMATTER_RMB: {
-            return "Recommended minimum navigation information [RMB]";
-         }
-         case FORMATTER_RMC: {
-            return "Recommended minimum specific GNSS data [RMC]";
-         }
-         case FORMATTER_ROT: {
-            return "Rate of turn [ROT]";
-         }
-         case FORMATTER_RPM: {
-            return "Revolutions [RPM]";
-         }
-         case FORMATTER_RSA: {
-            return "Rudder sensor angle [RSA]";
-         }
-         case FORMATTER_RSD: {
-            return "Radar system data [RSD]";
-         }
-         case FORMATTER_RTE: {
-            return "Routes [RTE]";
-         }
-         case FORMATTER_SFI: {
-            return "Scanning frequency information [SFI]";
-         }
-         case FORMATTER_STN: {
-            return "Multiple data ID [STN]";
-         }
-         case FORMATTER_TLB: {
-            return "Target label [TLB]";
-         }
-         case FORMATTER_TLL: {
-            return "Target latitude and intitude [TLL]";
-         }
-         case FORMATTER_TTM: {
-            return "Tracked target message [TTM]";
-         }
-         case FORMATTER_TXT: {
-            return "Text transmission [TXT]";
-         }
-         case FORMATTER_VBW: {
-            return "Dual ground/water speed [VBW]";
-         }
-         case FORMATTER_VDR: {
-            return "Set and drift [VDR]";
-         }
-         case FORMATTER_VHW: {
-            return "Water speed and heading [VHW]";
-         }
-         case FORMATTER_VLW: {
-            return "Distance travelled through the water [VLW]";
-         }
-         case FORMATTER_VPW: {
-            return "Speed, measured parallel to wind [VPW]";
-         }
-         case FORMATTER_VTG: {
-            return "Course over ground and ground speed [VTG]";
-         }
-         case FORMATTER_WCV: {
-            return "Waypoint closure velocity [WCV]";
-         }
-         case FORMATTER_WNC: {
-            return "WNC Distance, waypoint to waypoint [WNC]";
-         }
-         case FORMATTER_WPL: {
-            return "Waypoint location [WPL]";
-         }
-         case FORMATTER_XDR: {
-            return "Transducer measurements [XDR]";
-         }
-         case FORMATTER_XTE: {
-            return "Cross-track error, measured [XTE]";
-         }
-         case FORMATTER_XTR: {
-            return "Cross-track error, dead reckoning [XTR]";
-         }
-         case FORMATTER_ZDA: {
-            return "Time and date [ZDA]";
-         }
-         case FORMATTER_ZDL: {
-            return "Time and distance to variable point [ZDL]";
-         }
-         case FORMATTER_ZFO: {
-            return "UTC and time from origin waypoint [ZFO]";
-         }
-         case FORMATTER_ZTG: {
-            return "UTC and time to destination waypoint [ZTG]";
-         }
-         case FORMATTER_ZZZ: {
-            return "Free text sentence (using misc manual data)";
-         }
-         case FORMATTER_NMEA0180: {
-            return "NMEA 0180 - Simple autopilot interface";
-         }
-         case FORMATTER_NMEA0182: {
-            return "NMEA 0182 - Complex LORAN-C autopilot interface";
-         }
-         case FORMATTER_RAYNAV750: {
-            return "RayNav750 - Color plotter and remote interface";
-         }
-      }
-      return "Unrecognized";  
+      SentenceDescriptor descriptor = getDescriptor (sentenceFormatter);
+      return (descriptor != null) ? descriptor.name : "Unrecognized";
    }
    
    /**
@@ -873,245 +860,8 @@ public class SentenceTypes {
     * @return An extended AbstractSentence object.
     */
    public static AbstractSentence getSentenceObject (int sentenceFormatter) {
-      switch (sentenceFormatter) {
-         case FORMATTER_AAM: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_ACK: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_ALM: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_ALR: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_APB: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_BBG: {
-            return new USCG_DCU_BBG();
-         }
-         case FORMATTER_BEC: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_BOD: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_BWC: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_BWR: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_BWW: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_DBT: {
-            return new DepthDBT();
-         }
-         case FORMATTER_DCN: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_DPT: {
-            return new DepthDPT();
-         }
-         case FORMATTER_DSC: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_DSE: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_DSI: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_DSR: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_DTM: {
-            return new DatumDTM();
-         }
-         case FORMATTER_FSI: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_GBS: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_GGA: {
-            return new PositionGGA();
-         }
-         case FORMATTER_GLC: {
-            return new LoranTDsGLC();
-         }
-         case FORMATTER_GLL: {
-            return new PositionGLL();
-         }
-         case FORMATTER_GNS: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_GRS: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_GSA: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_GST: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_GSV: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_HDG: {
-            return new HeadingHDG();
-         }
-         case FORMATTER_HDT: {
-            return new HeadingHDT();
-         }
-         case FORMATTER_HMR: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_HMS: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_HSC: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_HTC: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_HTD: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_LCD: {
-            return new LoranSignalLCD();
-         }
-         case FORMATTER_MLA: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_MSK: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_MSS: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_MTW: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_MWD: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_MWV: {
-            return new WindMWV();
-         }
-         case FORMATTER_OSD: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_RMA: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_RMB: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_RMC: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_ROT: {
-            return new RateOfTurnROT();
-         }
-         case FORMATTER_RPM: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_RSA: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_RSD: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_RTE: {
-            return new RoutesRTE();
-         }
-         case FORMATTER_SFI: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_STN: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_TLB: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_TLL: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_TTM: {
-            return new TargetTTM();
-         }
-         case FORMATTER_TXT: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_VBW: {
-            return new SpeedVBW();
-         }
-         case FORMATTER_VDR: {
-            return new SetDriftVDR();
-         }
-         case FORMATTER_VHW: {
-            return new HeadingSpeedVHW();
-         }
-         case FORMATTER_VLW: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_VPW: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_VTG: {
-            return new COGSOGVTG();
-         }
-         case FORMATTER_WCV: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_WNC: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_WPL: {
-            return new WaypointWPL();
-         }
-         case FORMATTER_XDR: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_XTE: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_XTR: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_ZDA: {
-            return new TimeDateZDA();
-         }
-         case FORMATTER_ZDL: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_ZFO: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_ZTG: {
-            return new DefaultSentence();
-         }
-         case FORMATTER_ZZZ: {
-            return new FreeTextSentence();
-         }
-         case FORMATTER_NMEA0180: {
-            return new SimpleNMEA0180();
-         }
-         case FORMATTER_NMEA0182: {
-            return new ComplexNMEA0182();
-         }
-         case FORMATTER_RAYNAV750: {
-            return new RayNav750();
-         }
-         default: {
-            return new DefaultSentence();
-         }
-      }
+      SentenceDescriptor descriptor = getDescriptor (sentenceFormatter);
+      return (descriptor != null) ? descriptor.newSentence () : new DefaultSentence();
    }
    
 
@@ -1123,245 +873,8 @@ public class SentenceTypes {
     * @return An extended AbstractSentence object.
     */
    public static boolean isSupported (int sentenceFormatter) {
-      switch (sentenceFormatter) {
-         case FORMATTER_AAM: {
-            return false;
-         }
-         case FORMATTER_ACK: {
-            return false;
-         }
-         case FORMATTER_ALM: {
-            return false;
-         }
-         case FORMATTER_ALR: {
-            return false;
-         }
-         case FORMATTER_APB: {
-            return false;
-         }
-         case FORMATTER_BBG: {
-            return true;
-         }
-         case FORMATTER_BEC: {
-            return false;
-         }
-         case FORMATTER_BOD: {
-            return false;
-         }
-         case FORMATTER_BWC: {
-            return false;
-         }
-         case FORMATTER_BWR: {
-            return false;
-         }
-         case FORMATTER_BWW: {
-            return false;
-         }
-         case FORMATTER_DBT: {
-            return true;
-         }
-         case FORMATTER_DCN: {
-            return false;
-         }
-         case FORMATTER_DPT: {
-            return true;
-         }
-         case FORMATTER_DSC: {
-            return false;
-         }
-         case FORMATTER_DSE: {
-            return false;
-         }
-         case FORMATTER_DSI: {
-            return false;
-         }
-         case FORMATTER_DSR: {
-            return false;
-         }
-         case FORMATTER_DTM: {
-            return true;
-         }
-         case FORMATTER_FSI: {
-            return false;
-         }
-         case FORMATTER_GBS: {
-            return false;
-         }
-         case FORMATTER_GGA: {
-            return true;
-         }
-         case FORMATTER_GLC: {
-            return true;
-         }
-         case FORMATTER_GLL: {
-            return true;
-         }
-         case FORMATTER_GNS: {
-            return false;
-         }
-         case FORMATTER_GRS: {
-            return false;
-         }
-         case FORMATTER_GSA: {
-            return false;
-         }
-         case FORMATTER_GST: {
-            return false;
-         }
-         case FORMATTER_GSV: {
-            return false;
-         }
-         case FORMATTER_HDG: {
-            return true;
-         }
-         case FORMATTER_HDT: {
-            return true;
-         }
-         case FORMATTER_HMR: {
-            return false;
-         }
-         case FORMATTER_HMS: {
-            return false;
-         }
-         case FORMATTER_HSC: {
-            return false;
-         }
-         case FORMATTER_HTC: {
-            return false;
-         }
-         case FORMATTER_HTD: {
-            return false;
-         }
-         case FORMATTER_LCD: {
-            return true;
-         }
-         case FORMATTER_MLA: {
-            return false;
-         }
-         case FORMATTER_MSK: {
-            return false;
-         }
-         case FORMATTER_MSS: {
-            return false;
-         }
-         case FORMATTER_MTW: {
-            return false;
-         }
-         case FORMATTER_MWD: {
-            return false;
-         }
-         case FORMATTER_MWV: {
-            return true;
-         }
-         case FORMATTER_OSD: {
-            return false;
-         }
-         case FORMATTER_RMA: {
-            return false;
-         }
-         case FORMATTER_RMB: {
-            return false;
-         }
-         case FORMATTER_RMC: {
-            return false;
-         }
-         case FORMATTER_ROT: {
-            return true;
-         }
-         case FORMATTER_RPM: {
-            return false;
-         }
-         case FORMATTER_RSA: {
-            return false;
-         }
-         case FORMATTER_RSD: {
-            return false;
-         }
-         case FORMATTER_RTE: {
-            return true;
-         }
-         case FORMATTER_SFI: {
-            return false;
-         }
-         case FORMATTER_STN: {
-            return false;
-         }
-         case FORMATTER_TLB: {
-            return false;
-         }
-         case FORMATTER_TLL: {
-            return false;
-         }
-         case FORMATTER_TTM: {
-            return true;
-         }
-         case FORMATTER_TXT: {
-            return false;
-         }
-         case FORMATTER_VBW: {
-            return true;
-         }
-         case FORMATTER_VDR: {
-            return true;
-         }
-         case FORMATTER_VHW: {
-            return true;
-         }
-         case FORMATTER_VLW: {
-            return false;
-         }
-         case FORMATTER_VPW: {
-            return false;
-         }
-         case FORMATTER_VTG: {
-            return true;
-         }
-         case FORMATTER_WCV: {
-            return false;
-         }
-         case FORMATTER_WNC: {
-            return false;
-         }
-         case FORMATTER_WPL: {
-            return true;
-         }
-         case FORMATTER_XDR: {
-            return false;
-         }
-         case FORMATTER_XTE: {
-            return false;
-         }
-         case FORMATTER_XTR: {
-            return false;
-         }
-         case FORMATTER_ZDA: {
-            return true;
-         }
-         case FORMATTER_ZDL: {
-            return false;
-         }
-         case FORMATTER_ZFO: {
-            return false;
-         }
-         case FORMATTER_ZTG: {
-            return false;
-         }
-         case FORMATTER_ZZZ: {
-            return true;
-         }
-         case FORMATTER_NMEA0180: {
-            return true;
-         }
-         case FORMATTER_NMEA0182: {
-            return true;
-         }
-         case FORMATTER_RAYNAV750: {
-            return true;
-         }
-         default: {
-            return false;
-         }
-      }
+      SentenceDescriptor descriptor = getDescriptor (sentenceFormatter);
+      return (descriptor != null) && descriptor.supported;
    }
 }
 /* 
@@ -1369,4 +882,7 @@ public class SentenceTypes {
  *
  * 1.1.0.0 - Added NMEA 0180 and 0182 sentence formatters.
  * 1.2.0.0 - Added RayNav750 formatter.
+ * 1.2.1.0 - Added AIS encapsulation formatters (VDM and VDO).
+ * 1.3.0.0 - Talker names and formatter descriptors held in tables indexed by
+ *           the ID letters, built once, replacing the switch statements.
  */
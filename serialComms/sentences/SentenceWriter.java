@@ -0,0 +1,309 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: SentenceWriter.java
+ * Created: 2026-10-17, 20:32:35
+ */
+package serialComms.sentences;
+
+import java.nio.*;
+import java.nio.charset.*;
+import mdl.data.*;
+/**
+ * An object of this class writes a sentence, as ASCII bytes, straight into a
+ * reusable ByteBuffer, accumulating the checksum as each character is
+ * written.  One writer is kept per serial port and used by every sentence
+ * transmitted on it, so it must be locked (synchronized on the writer) from
+ * begin() until the finished buffer has been transmitted.  Numbers are
+ * written by FixedPointFormat, so writing a sentence creates no objects.
+ *
+ * @author agent
+ * @version 1.0.0.2, 2026-10-17
+ */
+public class SentenceWriter {
+
+   /** Default buffer size, in bytes, enough for any NMEA 0183 sentence. */
+   public final static int DEFAULT_CAPACITY = 256;
+
+   /* Room for any number written by FixedPointFormat, beyond its padding. */
+   final static int NUMBER_ROOM = 48;
+
+   /* The buffer wraps 'bytes', which are written directly up to 'length'. */
+   ByteBuffer buffer;
+   byte[] bytes;
+   int length;
+   int checksum;
+
+   /**
+    * Creates a writer with a buffer of the default size.
+    */
+   public SentenceWriter () {
+      this(DEFAULT_CAPACITY);
+   }
+
+   /**
+    * Creates a writer with a buffer of a given size.
+    *
+    * @param capacity The buffer size, in bytes.
+    */
+   public SentenceWriter (int capacity) {
+      bytes = new byte[capacity];
+      buffer = ByteBuffer.wrap (bytes);
+   }
+
+   /**
+    * Starts a new sentence.  The start character is not included in the
+    * checksum.
+    *
+    * @param startCharacter The start character, '$' or '!'.
+    */
+   public void begin (char startCharacter) {
+      bytes[0] = (byte) startCharacter;
+      length = 1;
+      checksum = 0;
+   }
+
+   /**
+    * Starts a new block of raw text (e.g. a sentence built as a String), that
+    * is not framed or checksummed by this writer.
+    */
+   public void beginRaw () {
+      length = 0;
+      checksum = 0;
+   }
+
+   /**
+    * Writes a character.
+    *
+    * @param c The character, the low eight bits are written.
+    */
+   public void put (char c) {
+      if (length == bytes.length) {
+         this.expand ();
+      }
+      bytes[length++] = (byte) c;
+      checksum ^= c;
+   }
+
+   /**
+    * Writes the characters of some text.
+    *
+    * @param text The text, nothing is written if null.
+    */
+   public void put (String text) {
+      if (text != null) {
+         int textLength = text.length ();
+         if (length + textLength > bytes.length) {
+            this.expand (length + textLength);
+         }
+         int sum = checksum;
+         for (int i = 0; i < textLength; i++) {
+            char c = text.charAt (i);
+            bytes[length++] = (byte) c;
+            sum ^= c;
+         }
+         checksum = sum;
+      }
+   }
+
+   /**
+    * Writes a whole number with at least a given number of digits, padding
+    * with leading zeros (e.g. value 7, digits 2 is written "07").
+    *
+    * @param value The number.
+    * @param minDigits The least number of digits to write.
+    */
+   public void putDigits (long value, int minDigits) {
+      this.ensureRoom (minDigits + NUMBER_ROOM);
+      int start = length;
+      length = FixedPointFormat.putDigits (bytes, length, value, minDigits);
+      this.addToChecksum (start);
+   }
+
+   /**
+    * Writes a decimal number, rounded half even as DecimalFormat does (e.g.
+    * value 5.25, integer digits 3, fraction digits 1 is written "005.2").
+    *
+    * @param value The number, nothing is written if not a number.
+    * @param minIntegerDigits The least number of digits before the decimal point.
+    * @param fractionDigits The number of digits after the decimal point (0 - 9).
+    */
+   public void putFixed (double value, int minIntegerDigits, int fractionDigits) {
+      this.ensureRoom (minIntegerDigits + fractionDigits + NUMBER_ROOM);
+      int start = length;
+      length = FixedPointFormat.putFixed (bytes, length, value, minIntegerDigits, fractionDigits);
+      this.addToChecksum (start);
+   }
+
+   /**
+    * Writes a latitude as degrees and minutes, "ddmm.mmmm".
+    *
+    * @param latitude The latitude, in degrees (the sign is not written).
+    */
+   public void putLatitude (double latitude) {
+      this.ensureRoom (NUMBER_ROOM);
+      int start = length;
+      length = FixedPointFormat.putLatitude (bytes, length, latitude);
+      this.addToChecksum (start);
+   }
+
+   /**
+    * Writes a longitude as degrees and minutes, "dddmm.mmmm".
+    *
+    * @param longitude The longitude, in degrees (the sign is not written).
+    */
+   public void putLongitude (double longitude) {
+      this.ensureRoom (NUMBER_ROOM);
+      int start = length;
+      length = FixedPointFormat.putLongitude (bytes, length, longitude);
+      this.addToChecksum (start);
+   }
+
+   /**
+    * Writes the UTC time of day, "hhmmss.sss" for three fraction digits.
+    *
+    * @param millis The time, in milliseconds since 1970-01-01 UTC.
+    * @param fractionDigits The number of digits of seconds after the decimal point (0 - 3).
+    */
+   public void putTime (long millis, int fractionDigits) {
+      this.ensureRoom (NUMBER_ROOM);
+      int start = length;
+      length = FixedPointFormat.putTime (bytes, length, millis, fractionDigits);
+      this.addToChecksum (start);
+   }
+
+   /**
+    * Ends the sentence: writes the checksum field if required, then the
+    * carriage return and line feed, and readies the buffer to be transmitted.
+    *
+    * @param withChecksum 'True' to write the "*hh" checksum field.
+    */
+   public void end (boolean withChecksum) {
+      int sum = checksum & 0x00FF;
+      if (withChecksum) {
+         this.put ('*');
+         this.put (NMEACharacters.getHexDigit (sum >> 4));
+         this.put (NMEACharacters.getHexDigit (sum));
+      }
+      this.put (SentenceTools.CR);
+      this.put (SentenceTools.LF);
+      this.endRaw ();
+   }
+
+   /**
+    * Ends a block of raw text, and readies the buffer to be transmitted.
+    */
+   public void endRaw () {
+      buffer.clear ();
+      buffer.limit (length);
+   }
+
+   /**
+    * Writes a complete sentence held as text, e.g. from a sentence type that
+    * has no template, and readies the buffer to be transmitted.
+    *
+    * @param sentence The sentence text, including its start and end characters.
+    * @return 'False' if the sentence is null, and nothing was written.
+    */
+   public boolean putSentence (String sentence) {
+      if (sentence == null) {
+         return false;
+      }
+      int sentenceLength = sentence.length ();
+      if (sentenceLength > bytes.length) {
+         this.expand (sentenceLength);
+      }
+      for (int i = 0; i < sentenceLength; i++) {
+         bytes[i] = (byte) sentence.charAt (i);
+      }
+      length = sentenceLength;
+      checksum = 0;
+      this.endRaw ();
+      return true;
+   }
+
+   /**
+    * Writes a complete sentence already encoded, e.g. by another port, and
+    * readies the buffer to be transmitted.
+    *
+    * @param sentence The sentence bytes, including its start and end characters.
+    * @param sentenceLength The number of bytes in the sentence.
+    * @param sentenceChecksum The checksum of the sentence (0 - 255).
+    */
+   public void putSentence (byte[] sentence, int sentenceLength, int sentenceChecksum) {
+      if (sentenceLength > bytes.length) {
+         this.expand (sentenceLength);
+      }
+      System.arraycopy (sentence, 0, bytes, 0, sentenceLength);
+      length = sentenceLength;
+      checksum = sentenceChecksum;
+      this.endRaw ();
+   }
+
+   /**
+    * Gets the buffer holding the last sentence written, from its position to
+    * its limit.  Readers must not change the buffer.
+    *
+    * @return The sentence buffer.
+    */
+   public ByteBuffer getBuffer () {
+      return buffer;
+   }
+
+   /**
+    * Gets the checksum of the characters written since begin().
+    *
+    * @return Checksum value (0 - 255).
+    */
+   public int getChecksum () {
+      return checksum & 0x00FF;
+   }
+
+   /**
+    * Gets the last sentence written as text, for display.
+    *
+    * @return The sentence text.
+    */
+   public String toString () {
+      return new String (buffer.array (), buffer.arrayOffset () + buffer.position (),
+         buffer.remaining (), StandardCharsets.ISO_8859_1);
+   }
+
+   /* Makes room for a number of bytes past the current length. */
+   private void ensureRoom (int room) {
+      if (length + room > bytes.length) {
+         this.expand (length + room);
+      }
+   }
+
+   /* Adds the bytes written from an index to the checksum. */
+   private void addToChecksum (int start) {
+      int sum = checksum;
+      for (int i = start; i < length; i++) {
+         sum ^= bytes[i];
+      }
+      checksum = sum;
+   }
+
+   /* Doubles the buffer, only needed for unusually long text sentences. */
+   private void expand () {
+      this.expand (bytes.length * 2);
+   }
+
+   /* Grows the buffer to at least a given size, keeping what is written. */
+   private void expand (int capacity) {
+      byte[] larger = new byte[Math.max (capacity, bytes.length * 2)];
+      System.arraycopy (bytes, 0, larger, 0, length);
+      bytes = larger;
+      buffer = ByteBuffer.wrap (bytes);
+   }
+}
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Numbers, positions and times written by FixedPointFormat.
+ * 1.0.0.2  Added putSentence() of encoded bytes, for the SentenceCache.
+ */
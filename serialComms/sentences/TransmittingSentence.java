@@ -13,14 +13,26 @@ import java.util.*;
 import java.text.*;
 import mdl.data.*;
 import serialComms.serialInterface.*;
+import serialComms.sentences.analysis.*;
 /**
  * An object of this class represents an actively transmitting sentence, which
- * is managed by a SentenceManager class.
+ * is managed by a SentenceManager class.  Sentences are sent at a fixed rate
+ * by the shared TransmitScheduler, and the lateness of each sentence, from
+ * when it was due to when the port has written it, is kept in a histogram.
+ * Each sentence is written into its port's SentenceWriter and handed to the
+ * port as a buffer, so transmitting creates no Strings for templated types.
+ * The length of each sentence written is measured, and kept as an average
+ * (EWMA) and peak rate of bytes per second, for the port's admission control.
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-01
+ * @version 1.0.0.6, 2026-10-17
  */
-public class TransmittingSentence extends TimerTask {
+public class TransmittingSentence implements TransmitTask {
+   
+   /** Weight of the newest sentence in the average transmit rate. */
+   public final static double RATE_AVERAGE_WEIGHT = 0.125;
+   /** Bits sent for each character by NMEA 0183 ports (8 data bits, no parity, 1 stop bit). */
+   public final static int BITS_PER_CHARACTER = 10;
    
    int talkerFormatter;
    int dataSource;
@@ -28,12 +40,20 @@ public class TransmittingSentence extends TimerTask {
    AbstractSentence thisSentence;
    
    SentTransListener sentTransListener;
-   Timer transmitTimer = new Timer();
+   TransmitScheduler.ScheduledTransmit scheduledTransmit;
+   IntervalHistogram jitterHistogram = new IntervalHistogram ();
+   SentenceWriter sentenceWriter;
+   long scheduledNanos;
+   
+   /* Measured rates, in bytes per second, written only by the transmitting thread. */
+   volatile double bytesPerSecond;
+   volatile double peakBytesPerSecond;
    
    DecimalFormat freqForm = new DecimalFormat("0.00");
    
    /**
-    * Creates a new instance of TransmittingSentence.
+    * Creates a new instance of TransmittingSentence.  Its transmissions begin
+    * when start() is called.
     *
     * @param formatter The three character formatter for the transmitting sentence (e.g. GGA).
     * @param talkerID The talker ID of this transmitting sentence.
@@ -48,7 +68,31 @@ public class TransmittingSentence extends TimerTask {
                                 int version,
                                 long period, 
                                 DataFactory dataFactory) {
+      this(formatter, talkerID, source, version, period, dataFactory, new SentenceWriter ());
+   }
+   
+   /**
+    * Creates a new instance of TransmittingSentence, written with a shared
+    * SentenceWriter.  One sentence is written, but not transmitted, to measure
+    * its length; its transmissions begin when start() is called.
+    *
+    * @param formatter The three character formatter for the transmitting sentence (e.g. GGA).
+    * @param talkerID The talker ID of this transmitting sentence.
+    * @param source The static variable from DataFactory class that indicates the data source.
+    * @param version The NMEA version of the transmitting sentence.
+    * @param period The period of the transmission (in milliseconds).
+    * @param dataFactory The DataFactory object suppling data to transmit.
+    * @param writer The writer of the port's sentences.
+    */
+   public TransmittingSentence (int formatter, 
+                                int talkerID,
+                                int source,
+                                int version,
+                                long period, 
+                                DataFactory dataFactory,
+                                SentenceWriter writer) {
       
+      sentenceWriter = writer;
       thisSentence = SentenceTypes.getSentenceObject (formatter);
       int tlkID = talkerID;
       thisSentence.setTalkerID (tlkID);
@@ -75,14 +119,29 @@ public class TransmittingSentence extends TimerTask {
       }
       
       if ((period > DataFactory.TRANSMIT_FREQ_PT05HZ) ||
-          (period < DataFactory.TRANSMIT_FREQ_20HZ)) {
-          transmitPeriod = DataFactory.TRANSMIT_FREQ_1HZ;;
+          (period < DataFactory.TRANSMIT_FREQ_100HZ)) {
+          transmitPeriod = DataFactory.TRANSMIT_FREQ_1HZ;
       }
       else {
          transmitPeriod = period;
       }
       
-      transmitTimer.schedule (this, 0, transmitPeriod);
+      synchronized (sentenceWriter) {
+         if (thisSentence.writeSentence (dataSource, sentenceWriter)) {
+            bytesPerSecond = (sentenceWriter.getBuffer ().remaining () * 1000.0) / transmitPeriod;
+            peakBytesPerSecond = bytesPerSecond;
+         }
+      }
+   }
+   
+   /**
+    * Starts transmitting the sentence, at a fixed rate.
+    */
+   public synchronized void start () {
+      if (scheduledTransmit == null) {
+         scheduledTransmit = TransmitScheduler.getScheduler ().scheduleAtFixedRate (this,
+            transmitPeriod * 1000000L);
+      }
    }
    
    /**
@@ -109,44 +168,99 @@ public class TransmittingSentence extends TimerTask {
       sentTransListener = null;
    }
    
-   /* This method is called by the run() method below for transmitting a sentence. */
-   private void transmitSentence(String sentence) {
-      if (sentTransListener != null) {
-        sentTransListener.transmitSentence (sentence);
-      }
-   }
-   
    /**
-    * This method is called by the Timer object for this object.
+    * This method is called by the shared TransmitScheduler for this object.
+    *
+    * @param dueNanos The System.nanoTime() at which the sentence was due.
     */
-   public void run () {
-      if (dataSource == DataFactory.SIMULATOR_DATA_SOURCE) {
-         this.transmitSentence(thisSentence.getSimulatorSentence ());
-      }
-      else if (dataSource == DataFactory.MANUAL_DATA_SOURCE) {
-         this.transmitSentence(thisSentence.getManualSentence ());
+   public void transmit (long dueNanos) {
+      scheduledNanos = dueNanos;
+      synchronized (sentenceWriter) {
+         if (thisSentence.writeSentence (dataSource, sentenceWriter)) {
+            this.recordLength (sentenceWriter.getBuffer ().remaining ());
+            if (sentTransListener != null) {
+              // The port records the lateness once it has written the sentence
+              sentTransListener.transmitSentence (sentenceWriter.getBuffer (),
+                 scheduledNanos, jitterHistogram);
+            }
+         }
       }
-      else { // dataSource == Random
-         this.transmitSentence(thisSentence.getRandomSentence ());
+   }
+   
+   /* Adds the length of a written sentence to the measured rates. */
+   private void recordLength (int length) {
+      double rate = (length * 1000.0) / transmitPeriod;
+      bytesPerSecond += RATE_AVERAGE_WEIGHT * (rate - bytesPerSecond);
+      if (rate > peakBytesPerSecond) {
+         peakBytesPerSecond = rate;
       }
    }
    
    /** Stop the sentence from triggering to transmit. */
-   public void stop () {
-      this.cancel ();
-      try {
-         this.finalize();
+   public synchronized void stop () {
+      if (scheduledTransmit != null) {
+         scheduledTransmit.cancel ();
       }
-      catch (Throwable thrown) { /* do nothing */ }
    }
    
    /**
-    * The the estimated bandwidth of the transmitting sentence.
+    * The measured bandwidth of the transmitting sentence, from the average
+    * rate and NMEA 0183 character framing.
     *
     * @return Bandwidth, bits per second.
     */   
    public int getBandwidthBPS() {
-      return (int)((1000.0/transmitPeriod) * thisSentence.getEstimatedLength () * 8);
+      return (int) Math.ceil (bytesPerSecond * BITS_PER_CHARACTER);
+   }
+   
+   /**
+    * Get the average rate of bytes transmitted, weighted to recent sentences.
+    *
+    * @return Average rate, bytes per second.
+    */
+   public double getBytesPerSecond () {
+      return bytesPerSecond;
+   }
+   
+   /**
+    * Get the rate of bytes transmitted with the longest sentence written.
+    *
+    * @return Peak rate, bytes per second.
+    */
+   public double getPeakBytesPerSecond () {
+      return peakBytesPerSecond;
+   }
+   
+   /**
+    * Get the period of the transmitting sentence.
+    *
+    * @return Period, in milliseconds.
+    */
+   public long getTransmitPeriod () {
+      return transmitPeriod;
+   }
+   
+   /**
+    * Get the histogram of how late sentences were written to the port,
+    * including the time they waited in the port's transmit queue.
+    *
+    * @return Jitter histogram, in nanoseconds.
+    */
+   public IntervalHistogram getJitterHistogram () {
+      return jitterHistogram;
+   }
+   
+   /**
+    * Get the number of transmissions skipped because the sentence before ran
+    * past their time.
+    *
+    * @return Missed transmission count.
+    */
+   public synchronized long getMissedCount () {
+      if (scheduledTransmit == null) {
+         return 0;
+      }
+      return scheduledTransmit.getMissedCount ();
    }
    
    /**
@@ -192,4 +306,13 @@ public class TransmittingSentence extends TimerTask {
  * Revision history:
  *
  * 1.0.0.1  Removed the 'listener' object from the object initialization method.
+ * 1.0.0.2  Triggered by the shared TransmitScheduler instead of a Timer (and
+ *          thread) of its own; stop() cancels the scheduled transmit.
+ * 1.0.0.3  Sent at a fixed rate, with periods down to 10 milliseconds, and
+ *          the lateness of each sentence recorded in a jitter histogram.
+ * 1.0.0.4  Written into the port's SentenceWriter and transmitted as a buffer.
+ * 1.0.0.5  Bandwidth measured from the sentences written, and transmissions
+ *          begun by start() once the port has admitted the sentence.
+ * 1.0.0.6  Lateness recorded by the port when the sentence is written, not
+ *          when it is handed to the port.
  */
\ No newline at end of file
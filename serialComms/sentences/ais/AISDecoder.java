@@ -0,0 +1,634 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: AISDecoder.java
+ * Created: 2026-10-17, 20:14:39
+ */
+package serialComms.sentences.ais;
+
+import java.util.*;
+import serialComms.*;
+import serialComms.serialInterface.*;
+import serialComms.serialInterface.transceivers.*;
+import serialComms.sentences.*;
+import serialComms.sentences.analysis.*;
+/**
+ * An object of this class decodes AIS encapsulation sentences (VDM and VDO).
+ * The 6-bit armoured payload is read straight from the received sentence's
+ * fields into a reusable buffer, multi-sentence messages are reassembled by
+ * their sequential message identifier, and completed messages are decoded
+ * into reusable report objects passed to AISMessageListener objects.
+ * Message types 1, 2, 3 and 18 (position reports), 5 (static and voyage
+ * data) and 24 (static data report) are decoded, other types are counted.
+ * Decoding creates no objects and must be done by one thread.
+ *<pre>
+ * Sentence:
+ * !--VDM,x,x,x,a,s--s,x*hh<CR><LF>
+ *        | | | |   |  |- Number of fill bits, 0 - 5
+ *        | | | |   |---- Encapsulated 6-bit armoured message
+ *        | | | |-------- AIS channel, A or B
+ *        | | |---------- Sequential message identifier, 0 - 9
+ *        | |------------ Sentence number, 1 - 9
+ *        |-------------- Total number of sentences, 1 - 9
+ *</pre>
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class AISDecoder {
+
+   /** Number of fields in a VDM or VDO sentence, including the address field. */
+   public final static int FIELD_COUNT = 7;
+   /** Largest AIS message, 1008 bits, in 6-bit characters. */
+   public final static int MAX_PAYLOAD_CHARACTERS = 168;
+   /** Time a partly received message is kept, in nanoseconds. */
+   public final static long FRAGMENT_TIMEOUT_NANOS = 5000000000L;
+
+   final static int FIELD_SENTENCE_TOTAL = 1;
+   final static int FIELD_SENTENCE_NUMBER = 2;
+   final static int FIELD_SEQUENCE_ID = 3;
+   final static int FIELD_CHANNEL = 4;
+   final static int FIELD_PAYLOAD = 5;
+   final static int FIELD_FILL_BITS = 6;
+
+   /* Assembly slots, one per sequential message identifier and one for single sentences. */
+   final static int SEQUENCE_IDS = 10;
+   final static int SINGLE_SLOT = SEQUENCE_IDS;
+
+   /* Value of each payload armour character, or -1 if not a legal character. */
+   final static byte[] ARMOUR_VALUE = new byte[128];
+
+   static {
+      for (int c = 0; c < ARMOUR_VALUE.length; c++) {
+         if (((c >= '0') && (c <= 'W')) || ((c >= '`') && (c <= 'w'))) {
+            int value = c - 48;
+            if (value > 40) {
+               value -= 8;
+            }
+            ARMOUR_VALUE[c] = (byte) value;
+         }
+         else {
+            ARMOUR_VALUE[c] = -1;
+         }
+      }
+   }
+
+   /* 6-bit payload values and state of each assembly slot. */
+   byte[][] payloads;
+   int[] payloadLengths;
+   int[] sentenceTotals;
+   int[] nextSentences;
+   char[] channels;
+   long[] startNanos;
+
+   /* The payload being decoded and its length in bits. */
+   byte[] bits;
+   int bitLength;
+
+   AISPositionReport positionReport;
+   AISStaticVoyageData staticVoyageData;
+   AISStaticDataReport staticDataReport;
+
+   Vector<AISMessageListener> listeners;
+
+   volatile long messageCount;
+   volatile long fragmentErrorCount;
+   volatile long unsupportedCount;
+
+   /**
+    * Instantiates an AISDecoder object.
+    */
+   public AISDecoder () {
+      payloads = new byte[SEQUENCE_IDS + 1][MAX_PAYLOAD_CHARACTERS];
+      payloadLengths = new int[SEQUENCE_IDS + 1];
+      sentenceTotals = new int[SEQUENCE_IDS + 1];
+      nextSentences = new int[SEQUENCE_IDS + 1];
+      channels = new char[SEQUENCE_IDS + 1];
+      startNanos = new long[SEQUENCE_IDS + 1];
+
+      positionReport = new AISPositionReport();
+      staticVoyageData = new AISStaticVoyageData();
+      staticDataReport = new AISStaticDataReport();
+
+      listeners = new Vector<AISMessageListener>();
+   }
+
+   /**
+    * Adds a listener of decoded AIS messages.
+    *
+    * @param listener The listener.
+    */
+   public synchronized void addAISMessageListener (AISMessageListener listener) {
+      if ((listener != null) && !listeners.contains (listener)) {
+         listeners.add (listener);
+      }
+   }
+
+   /**
+    * Removes a listener of decoded AIS messages.
+    *
+    * @param listener The listener.
+    */
+   public synchronized void removeAISMessageListener (AISMessageListener listener) {
+      listeners.remove (listener);
+   }
+
+   /**
+    * Decodes a VDM or VDO sentence.  Problems are logged in the sentence's
+    * error log.  When the sentence completes a message, the message is
+    * decoded and passed to the listeners.
+    *
+    * @param sentence The received sentence.
+    * @param ownVessel 'True' for a VDO sentence.
+    * @return 'True' if a message was completed and decoded.
+    */
+   public boolean decode (ReceivedSentence sentence, boolean ownVessel) {
+      SentenceErrorLog errorLog = sentence.errorLog;
+
+      if (sentence.getFieldTotal () < FIELD_COUNT) {
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
+         return false;
+      }
+
+      int sentenceTotal = getDigit (sentence.getField (FIELD_SENTENCE_TOTAL));
+      int sentenceNumber = getDigit (sentence.getField (FIELD_SENTENCE_NUMBER));
+      int sequenceID = getDigit (sentence.getField (FIELD_SEQUENCE_ID));
+      int fillBits = getDigit (sentence.getField (FIELD_FILL_BITS));
+      CharSequence channelField = sentence.getField (FIELD_CHANNEL);
+      char channel = (channelField.length () > 0) ? channelField.charAt (0) : 0;
+
+      if ((sentenceTotal < 1) || (sentenceNumber < 1) || (sentenceNumber > sentenceTotal)) {
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence %d of %d is not a valid sentence number.",
+            sentenceNumber, sentenceTotal);
+         return false;
+      }
+      if ((fillBits < 0) || (fillBits > 5)) {
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Fill bits must be a digit from 0 to 5.");
+         return false;
+      }
+
+      int slot = SINGLE_SLOT;
+      if (sentenceTotal > 1) {
+         if (sequenceID < 0) {
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Multi-sentence message has no sequential message identifier.");
+            return false;
+         }
+         slot = sequenceID;
+      }
+
+      // Start a message, or continue one with the next sentence in order
+      if (sentenceNumber == 1) {
+         if (payloadLengths[slot] > 0) {
+            fragmentErrorCount++;
+         }
+         payloadLengths[slot] = 0;
+         sentenceTotals[slot] = sentenceTotal;
+         nextSentences[slot] = 1;
+         channels[slot] = channel;
+         startNanos[slot] = sentence.receiveEndNanos;
+      }
+      else if ((nextSentences[slot] != sentenceNumber) ||
+               (sentenceTotals[slot] != sentenceTotal) ||
+               (channels[slot] != channel) ||
+               ((sentence.receiveEndNanos - startNanos[slot]) > FRAGMENT_TIMEOUT_NANOS)) {
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence %d of %d received out of order.", sentenceNumber, sentenceTotal);
+         fragmentErrorCount++;
+         payloadLengths[slot] = 0;
+         nextSentences[slot] = 0;
+         return false;
+      }
+
+      if (!appendPayload (slot, sentence.getField (FIELD_PAYLOAD), errorLog)) {
+         fragmentErrorCount++;
+         payloadLengths[slot] = 0;
+         nextSentences[slot] = 0;
+         return false;
+      }
+      nextSentences[slot]++;
+
+      if (sentenceNumber < sentenceTotal) {
+         return false;
+      }
+
+      bits = payloads[slot];
+      bitLength = payloadLengths[slot] * 6 - fillBits;
+      payloadLengths[slot] = 0;
+      nextSentences[slot] = 0;
+      return decodeMessage (sentence, channel, ownVessel);
+   }
+
+   /*
+    * Gets the value of a single digit field, -1 if empty or not a digit.
+    */
+   static int getDigit (CharSequence field) {
+      if (field.length () != 1) {
+         return -1;
+      }
+      int digit = field.charAt (0) - '0';
+      return ((digit >= 0) && (digit <= 9)) ? digit : -1;
+   }
+
+   /*
+    * De-armours payload characters onto the end of a slot's 6-bit buffer.
+    */
+   private boolean appendPayload (int slot, CharSequence payload, SentenceErrorLog errorLog) {
+      byte[] buffer = payloads[slot];
+      int length = payloadLengths[slot];
+      int count = payload.length ();
+      char c;
+      int value;
+
+      if (length + count > buffer.length) {
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_OVERRUN,
+            "AIS message longer than %d characters.", buffer.length, 0);
+         return false;
+      }
+      for (int i = 0; i < count; i++) {
+         c = payload.charAt (i);
+         value = (c < 128) ? ARMOUR_VALUE[c] : -1;
+         if (value < 0) {
+            errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+               "AIS payload characters must be 6-bit armour characters.", c);
+            return false;
+         }
+         buffer[length++] = (byte) value;
+      }
+      payloadLengths[slot] = length;
+      return true;
+   }
+
+   /*
+    * Decodes the completed message in bits and passes it to the listeners.
+    */
+   private boolean decodeMessage (ReceivedSentence sentence, char channel, boolean ownVessel) {
+      int messageType = (bitLength >= 6) ? (int) getUnsigned (0, 6) : 0;
+
+      switch (messageType) {
+         case 1:
+         case 2:
+         case 3: {
+            if (!checkLength (sentence, messageType, 168)) {
+               return false;
+            }
+            decodeClassAPosition (messageType);
+            break;
+         }
+         case 18: {
+            if (!checkLength (sentence, messageType, 168)) {
+               return false;
+            }
+            decodeClassBPosition ();
+            break;
+         }
+         case 5: {
+            // Some stations omit the final spare bits
+            if (!checkLength (sentence, messageType, 420)) {
+               return false;
+            }
+            decodeStaticVoyageData ();
+            break;
+         }
+         case 24: {
+            if (!checkLength (sentence, messageType, 160)) {
+               return false;
+            }
+            decodeStaticDataReport ();
+            break;
+         }
+         default: {
+            unsupportedCount++;
+            return false;
+         }
+      }
+      messageCount++;
+
+      staticVoyageData.ownVessel = ownVessel;
+      staticVoyageData.channel = channel;
+      staticVoyageData.receiveNanos = sentence.receiveEndNanos;
+      staticDataReport.ownVessel = ownVessel;
+      staticDataReport.channel = channel;
+      staticDataReport.receiveNanos = sentence.receiveEndNanos;
+      positionReport.ownVessel = ownVessel;
+      positionReport.channel = channel;
+      positionReport.receiveNanos = sentence.receiveEndNanos;
+
+      synchronized (this) {
+         for (int i = 0; i < listeners.size (); i++) {
+            AISMessageListener listener = listeners.get (i);
+            if (messageType == 5) {
+               listener.receiveStaticVoyageData (staticVoyageData);
+            }
+            else if (messageType == 24) {
+               listener.receiveStaticDataReport (staticDataReport);
+            }
+            else {
+               listener.receivePositionReport (positionReport);
+            }
+         }
+      }
+      return true;
+   }
+
+   /*
+    * Logs a message too short for its type.
+    */
+   private boolean checkLength (ReceivedSentence sentence, int messageType, int minimumBits) {
+      if (bitLength < minimumBits) {
+         sentence.errorLog.addError (SentenceErrorTypes.ERR_DATA_UNDERRUN,
+            "AIS message type %d has only %d bits.", messageType, bitLength);
+         return false;
+      }
+      return true;
+   }
+
+   private void decodeClassAPosition (int messageType) {
+      AISPositionReport report = positionReport;
+      report.clear ();
+      report.messageType = messageType;
+      report.repeatIndicator = (int) getUnsigned (6, 2);
+      report.mmsi = (int) getUnsigned (8, 30);
+      report.navigationStatus = (int) getUnsigned (38, 4);
+      report.rateOfTurn = (int) getSigned (42, 8);
+      report.speedOverGround = getSpeed (50);
+      report.positionAccuracy = getUnsigned (60, 1) != 0;
+      report.longitude = getLongitude (61);
+      report.latitude = getLatitude (89);
+      report.courseOverGround = getCourse (116);
+      report.trueHeading = (int) getUnsigned (128, 9);
+      report.timeStamp = (int) getUnsigned (137, 6);
+   }
+
+   private void decodeClassBPosition () {
+      AISPositionReport report = positionReport;
+      report.clear ();
+      report.messageType = 18;
+      report.classB = true;
+      report.repeatIndicator = (int) getUnsigned (6, 2);
+      report.mmsi = (int) getUnsigned (8, 30);
+      report.speedOverGround = getSpeed (46);
+      report.positionAccuracy = getUnsigned (56, 1) != 0;
+      report.longitude = getLongitude (57);
+      report.latitude = getLatitude (85);
+      report.courseOverGround = getCourse (112);
+      report.trueHeading = (int) getUnsigned (124, 9);
+      report.timeStamp = (int) getUnsigned (133, 6);
+   }
+
+   private void decodeStaticVoyageData () {
+      AISStaticVoyageData data = staticVoyageData;
+      data.clear ();
+      data.repeatIndicator = (int) getUnsigned (6, 2);
+      data.mmsi = (int) getUnsigned (8, 30);
+      data.aisVersion = (int) getUnsigned (38, 2);
+      data.imoNumber = (int) getUnsigned (40, 30);
+      getText (70, 7, data.callSign);
+      getText (112, 20, data.shipName);
+      data.shipType = (int) getUnsigned (232, 8);
+      data.dimensionToBow = (int) getUnsigned (240, 9);
+      data.dimensionToStern = (int) getUnsigned (249, 9);
+      data.dimensionToPort = (int) getUnsigned (258, 6);
+      data.dimensionToStarboard = (int) getUnsigned (264, 6);
+      data.fixType = (int) getUnsigned (270, 4);
+      data.etaMonth = (int) getUnsigned (274, 4);
+      data.etaDay = (int) getUnsigned (278, 5);
+      data.etaHour = (int) getUnsigned (283, 5);
+      data.etaMinute = (int) getUnsigned (288, 6);
+      data.draught = getUnsigned (294, 8) / 10.0f;
+      getText (302, 20, data.destination);
+   }
+
+   private void decodeStaticDataReport () {
+      AISStaticDataReport report = staticDataReport;
+      report.clear ();
+      report.repeatIndicator = (int) getUnsigned (6, 2);
+      report.mmsi = (int) getUnsigned (8, 30);
+      report.partNumber = (int) getUnsigned (38, 2);
+      if (report.partNumber == AISStaticDataReport.PART_A) {
+         getText (40, 20, report.shipName);
+      }
+      else {
+         report.shipType = (int) getUnsigned (40, 8);
+         getText (48, 3, report.vendorID);
+         getText (90, 7, report.callSign);
+         report.dimensionToBow = (int) getUnsigned (132, 9);
+         report.dimensionToStern = (int) getUnsigned (141, 9);
+         report.dimensionToPort = (int) getUnsigned (150, 6);
+         report.dimensionToStarboard = (int) getUnsigned (156, 6);
+      }
+   }
+
+   /*
+    * Gets a speed over ground, 1023 marks it as not available.
+    */
+   private float getSpeed (int start) {
+      int speed = (int) getUnsigned (start, 10);
+      return (speed == 1023) ? Float.NaN : speed / 10.0f;
+   }
+
+   /*
+    * Gets a course over ground, 3600 and above mark it as not available.
+    */
+   private float getCourse (int start) {
+      int course = (int) getUnsigned (start, 12);
+      return (course >= 3600) ? Float.NaN : course / 10.0f;
+   }
+
+   /*
+    * Gets a longitude in 1/10000 minutes, 181 degrees marks it as not available.
+    */
+   private double getLongitude (int start) {
+      double longitude = getSigned (start, 28) / 600000.0;
+      return ((longitude > 180.0) || (longitude < -180.0)) ? Double.NaN : longitude;
+   }
+
+   /*
+    * Gets a latitude in 1/10000 minutes, 91 degrees marks it as not available.
+    */
+   private double getLatitude (int start) {
+      double latitude = getSigned (start, 27) / 600000.0;
+      return ((latitude > 90.0) || (latitude < -90.0)) ? Double.NaN : latitude;
+   }
+
+   /*
+    * Gets an unsigned value from the payload bits, reading up to six bits at
+    * a time.  Bits beyond the end of the payload read as zero.
+    */
+   long getUnsigned (int start, int length) {
+      long value = 0;
+      int index = start / 6;
+      int used = start % 6;
+      int available;
+      int take;
+      int chunk;
+
+      if (start + length > bitLength) {
+         if (start >= bitLength) {
+            return 0;
+         }
+         return getUnsigned (start, bitLength - start) << (start + length - bitLength);
+      }
+      while (length > 0) {
+         available = 6 - used;
+         take = (length < available) ? length : available;
+         chunk = (bits[index] >>> (available - take)) & ((1 << take) - 1);
+         value = (value << take) | chunk;
+         length -= take;
+         used = 0;
+         index++;
+      }
+      return value;
+   }
+
+   /*
+    * Gets a two's complement value from the payload bits.
+    */
+   long getSigned (int start, int length) {
+      long value = getUnsigned (start, length);
+      if ((value & (1L << (length - 1))) != 0) {
+         value -= (1L << length);
+      }
+      return value;
+   }
+
+   /*
+    * Gets 6-bit ASCII text from the payload bits, without trailing '@' and
+    * space characters.
+    */
+   void getText (int start, int characters, StringBuilder text) {
+      int value;
+      text.setLength (0);
+      for (int i = 0; i < characters; i++) {
+         value = (int) getUnsigned (start + i * 6, 6);
+         text.append ((char) ((value < 32) ? value + 64 : value));
+      }
+      int length = text.length ();
+      while ((length > 0) &&
+             ((text.charAt (length - 1) == '@') || (text.charAt (length - 1) == ' '))) {
+         length--;
+      }
+      text.setLength (length);
+   }
+
+   /**
+    * Gets the number of messages decoded.
+    *
+    * @return Decoded message count.
+    */
+   public long getMessageCount () {
+      return messageCount;
+   }
+
+   /**
+    * Gets the number of multi-sentence messages abandoned because a sentence
+    * was missing, out of order or in error.
+    *
+    * @return Fragment error count.
+    */
+   public long getFragmentErrorCount () {
+      return fragmentErrorCount;
+   }
+
+   /**
+    * Gets the number of completed messages of types not decoded.
+    *
+    * @return Unsupported message count.
+    */
+   public long getUnsupportedCount () {
+      return unsupportedCount;
+   }
+
+   /* Sample sentences for the benchmark, a class A and class B position,
+    * static and voyage data in two sentences, and static data parts A and B. */
+   final static String[] BENCHMARK_SENTENCES = {
+      "!AIVDM,1,1,,B,177KQJ5000G?tO`K>RA1wUbN0TKH,0*5C\r\n",
+      "!AIVDM,2,1,1,A,55?MbV02;H;s<HtKR20EHE:0@T4@Dn2222222216L961O5Gf0NSQEp6ClRp8,0*1C\r\n",
+      "!AIVDM,2,2,1,A,88888888880,2*25\r\n",
+      "!AIVDM,1,1,,A,B52K>;h0SvcBVj5lWejBswi00000,0*53\r\n",
+      "!AIVDM,1,1,,B,H52K>;i<D61LTp@0000000000000,0*2A\r\n",
+      "!AIVDM,1,1,,B,H52K>;lU=4<0000G42ijkl1P4230,0*09\r\n",
+   };
+
+   /**
+    * Measures framing and decoding throughput, on one thread, against the
+    * load of both AIS channels (2 x 2250 slots per minute, 75 messages per
+    * second).
+    *
+    * @param args Optional number of seconds to run, default 5.
+    */
+   public static void main (String[] args) {
+      final AISDecoder decoder = new AISDecoder ();
+      final long[] decoded = new long[1];
+      long runNanos = 5000000000L;
+      if (args.length > 0) {
+         runNanos = Long.parseLong (args[0]) * 1000000000L;
+      }
+
+      decoder.addAISMessageListener (new AISMessageListener () {
+         public void receivePositionReport (AISPositionReport report) {
+            decoded[0]++;
+         }
+         public void receiveStaticVoyageData (AISStaticVoyageData data) {
+            decoded[0]++;
+         }
+         public void receiveStaticDataReport (AISStaticDataReport report) {
+            decoded[0]++;
+         }
+      });
+
+      NMEA0183Transceiver transceiver = new NMEA0183Transceiver (null);
+      try {
+         transceiver.addReceivedSentenceListener (new ReceivedSentenceListener () {
+            public void receiveSentence (ReceivedSentence sentence) {
+               decoder.decode (sentence, false);
+               sentence.setInUse (false);
+            }
+         });
+      }
+      catch (TooManyListenersException err) {
+         System.out.println (err.toString ());
+         return;
+      }
+
+      StringBuilder block = new StringBuilder ();
+      for (int i = 0; i < BENCHMARK_SENTENCES.length; i++) {
+         block.append (BENCHMARK_SENTENCES[i]);
+      }
+      byte[] bytes = new byte[block.length ()];
+      for (int i = 0; i < bytes.length; i++) {
+         bytes[i] = (byte) block.charAt (i);
+      }
+
+      // Warm up, then time whole blocks
+      for (int i = 0; i < 200000; i++) {
+         transceiver.receiveBytes (bytes, 0, bytes.length);
+      }
+      decoded[0] = 0;
+      long blocks = 0;
+      long start = System.nanoTime ();
+      long elapsed;
+      do {
+         for (int i = 0; i < 10000; i++) {
+            transceiver.receiveBytes (bytes, 0, bytes.length);
+         }
+         blocks += 10000;
+         elapsed = System.nanoTime () - start;
+      } while (elapsed < runNanos);
+
+      double messagesPerSecond = decoded[0] * 1.0e9 / elapsed;
+      double bytesPerSecond = blocks * bytes.length * 1.0e9 / elapsed;
+      System.out.println ("AIS messages decoded per second: " + (long) messagesPerSecond);
+      System.out.println ("Bytes framed per second: " + (long) bytesPerSecond);
+      System.out.println ("Multiple of full two channel AIS load (75 messages/s): " +
+         (long) (messagesPerSecond / 75.0));
+      System.out.println ("Multiple of a 38400 baud port (3840 bytes/s): " +
+         (long) (bytesPerSecond / 3840.0));
+      System.out.println ("Fragment errors: " + decoder.getFragmentErrorCount ());
+   }
+}
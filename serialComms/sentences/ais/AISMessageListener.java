@@ -0,0 +1,25 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: AISMessageListener.java
+ * Created: 2026-10-17, 20:14:39
+ */
+package serialComms.sentences.ais;
+
+import java.util.*;
+/**
+ * The interface class defines listeners of decoded AIS messages.  The objects
+ * passed are reused by the AISDecoder, so their contents are only valid
+ * during the call.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public interface AISMessageListener extends EventListener {
+   void receivePositionReport (AISPositionReport report);
+   void receiveStaticVoyageData (AISStaticVoyageData data);
+   void receiveStaticDataReport (AISStaticDataReport report);
+}
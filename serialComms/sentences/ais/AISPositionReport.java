@@ -0,0 +1,100 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: AISPositionReport.java
+ * Created: 2026-10-17, 20:14:39
+ */
+package serialComms.sentences.ais;
+
+/**
+ * An object of this class holds a decoded AIS position report, either a
+ * class A report (message types 1, 2 and 3) or a class B report (message
+ * type 18).  One object is reused by an AISDecoder for every report.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class AISPositionReport {
+
+   /** Navigation status value when not available (and for class B reports). */
+   public final static int STATUS_NOT_DEFINED = 15;
+   /** True heading value when not available. */
+   public final static int HEADING_NOT_AVAILABLE = 511;
+   /** Rate of turn value when not available. */
+   public final static int TURN_NOT_AVAILABLE = -128;
+   /** Time stamp values of 60 and above mark the second as not available. */
+   public final static int SECOND_NOT_AVAILABLE = 60;
+
+   /** AIS message type, 1, 2, 3 or 18. */
+   public int messageType;
+
+   /** Repeat indicator, 0 to 3. */
+   public int repeatIndicator;
+
+   /** Maritime mobile service identity of the reporting station. */
+   public int mmsi;
+
+   /** Navigation status (e.g. 0 = under way using engine, 5 = moored). */
+   public int navigationStatus;
+
+   /** Rate of turn, as the raw ROTais value from -127 to 127. */
+   public int rateOfTurn;
+
+   /** Speed over ground, in knots, NaN if not available. */
+   public float speedOverGround;
+
+   /** 'True' for a position accuracy better than 10 meters. */
+   public boolean positionAccuracy;
+
+   /** Longitude, in degrees East, NaN if not available. */
+   public double longitude;
+
+   /** Latitude, in degrees North, NaN if not available. */
+   public double latitude;
+
+   /** Course over ground, in degrees True, NaN if not available. */
+   public float courseOverGround;
+
+   /** True heading, in degrees, or HEADING_NOT_AVAILABLE. */
+   public int trueHeading;
+
+   /** UTC second of the report, or SECOND_NOT_AVAILABLE and above. */
+   public int timeStamp;
+
+   /** 'True' for a class B (type 18) report. */
+   public boolean classB;
+
+   /** 'True' if received in a VDO sentence, that is from own vessel. */
+   public boolean ownVessel;
+
+   /** AIS channel, 'A' or 'B', or zero if not given. */
+   public char channel;
+
+   /** System.nanoTime() when the last sentence of the message arrived. */
+   public long receiveNanos;
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      messageType = 0;
+      repeatIndicator = 0;
+      mmsi = 0;
+      navigationStatus = STATUS_NOT_DEFINED;
+      rateOfTurn = TURN_NOT_AVAILABLE;
+      speedOverGround = Float.NaN;
+      positionAccuracy = false;
+      longitude = Double.NaN;
+      latitude = Double.NaN;
+      courseOverGround = Float.NaN;
+      trueHeading = HEADING_NOT_AVAILABLE;
+      timeStamp = SECOND_NOT_AVAILABLE;
+      classB = false;
+      ownVessel = false;
+      channel = 0;
+      receiveNanos = 0;
+   }
+}
@@ -0,0 +1,99 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: AISStaticDataReport.java
+ * Created: 2026-10-17, 20:14:39
+ */
+package serialComms.sentences.ais;
+
+/**
+ * An object of this class holds a decoded class B AIS static data report
+ * (message type 24).  Part A carries the ship name, part B the ship type,
+ * vendor, call sign and dimensions; only the values of the part received
+ * are set.  One object is reused by an AISDecoder for every report.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class AISStaticDataReport {
+
+   /** Part A, holding the ship name. */
+   public final static int PART_A = 0;
+   /** Part B, holding the ship type, vendor, call sign and dimensions. */
+   public final static int PART_B = 1;
+
+   /** Repeat indicator, 0 to 3. */
+   public int repeatIndicator;
+
+   /** Maritime mobile service identity of the reporting station. */
+   public int mmsi;
+
+   /** Part number, PART_A or PART_B. */
+   public int partNumber;
+
+   /** Ship name (part A), trailing '@' and spaces removed. */
+   public StringBuilder shipName;
+
+   /** Type of ship and cargo (part B). */
+   public int shipType;
+
+   /** Vendor identification (part B), trailing '@' and spaces removed. */
+   public StringBuilder vendorID;
+
+   /** Call sign (part B), trailing '@' and spaces removed. */
+   public StringBuilder callSign;
+
+   /** Distance from the position reference to the bow (part B), in meters. */
+   public int dimensionToBow;
+
+   /** Distance from the position reference to the stern (part B), in meters. */
+   public int dimensionToStern;
+
+   /** Distance from the position reference to port (part B), in meters. */
+   public int dimensionToPort;
+
+   /** Distance from the position reference to starboard (part B), in meters. */
+   public int dimensionToStarboard;
+
+   /** 'True' if received in a VDO sentence, that is from own vessel. */
+   public boolean ownVessel;
+
+   /** AIS channel, 'A' or 'B', or zero if not given. */
+   public char channel;
+
+   /** System.nanoTime() when the last sentence of the message arrived. */
+   public long receiveNanos;
+
+   /**
+    * Instantiates an AISStaticDataReport object.
+    */
+   public AISStaticDataReport () {
+      shipName = new StringBuilder (20);
+      vendorID = new StringBuilder (7);
+      callSign = new StringBuilder (7);
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      repeatIndicator = 0;
+      mmsi = 0;
+      partNumber = PART_A;
+      shipName.setLength (0);
+      shipType = 0;
+      vendorID.setLength (0);
+      callSign.setLength (0);
+      dimensionToBow = 0;
+      dimensionToStern = 0;
+      dimensionToPort = 0;
+      dimensionToStarboard = 0;
+      ownVessel = false;
+      channel = 0;
+      receiveNanos = 0;
+   }
+}
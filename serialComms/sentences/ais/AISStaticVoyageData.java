@@ -0,0 +1,121 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: AISStaticVoyageData.java
+ * Created: 2026-10-17, 20:14:39
+ */
+package serialComms.sentences.ais;
+
+/**
+ * An object of this class holds decoded AIS static and voyage related data
+ * (message type 5).  One object is reused by an AISDecoder for every
+ * message, including its text buffers.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class AISStaticVoyageData {
+
+   /** Repeat indicator, 0 to 3. */
+   public int repeatIndicator;
+
+   /** Maritime mobile service identity of the reporting station. */
+   public int mmsi;
+
+   /** AIS version indicator, 0 to 3. */
+   public int aisVersion;
+
+   /** IMO ship identification number, zero if not available. */
+   public int imoNumber;
+
+   /** Call sign, trailing '@' and spaces removed. */
+   public StringBuilder callSign;
+
+   /** Ship name, trailing '@' and spaces removed. */
+   public StringBuilder shipName;
+
+   /** Type of ship and cargo (e.g. 70 = cargo). */
+   public int shipType;
+
+   /** Distance from the position reference to the bow, in meters. */
+   public int dimensionToBow;
+
+   /** Distance from the position reference to the stern, in meters. */
+   public int dimensionToStern;
+
+   /** Distance from the position reference to port, in meters. */
+   public int dimensionToPort;
+
+   /** Distance from the position reference to starboard, in meters. */
+   public int dimensionToStarboard;
+
+   /** Type of position fixing device (e.g. 1 = GPS). */
+   public int fixType;
+
+   /** Estimated time of arrival month (1 - 12), zero if not available. */
+   public int etaMonth;
+
+   /** Estimated time of arrival day (1 - 31), zero if not available. */
+   public int etaDay;
+
+   /** Estimated time of arrival hour (0 - 23), 24 if not available. */
+   public int etaHour;
+
+   /** Estimated time of arrival minute (0 - 59), 60 if not available. */
+   public int etaMinute;
+
+   /** Maximum present static draught, in meters. */
+   public float draught;
+
+   /** Destination, trailing '@' and spaces removed. */
+   public StringBuilder destination;
+
+   /** 'True' if received in a VDO sentence, that is from own vessel. */
+   public boolean ownVessel;
+
+   /** AIS channel, 'A' or 'B', or zero if not given. */
+   public char channel;
+
+   /** System.nanoTime() when the last sentence of the message arrived. */
+   public long receiveNanos;
+
+   /**
+    * Instantiates an AISStaticVoyageData object.
+    */
+   public AISStaticVoyageData () {
+      callSign = new StringBuilder (7);
+      shipName = new StringBuilder (20);
+      destination = new StringBuilder (20);
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      repeatIndicator = 0;
+      mmsi = 0;
+      aisVersion = 0;
+      imoNumber = 0;
+      callSign.setLength (0);
+      shipName.setLength (0);
+      shipType = 0;
+      dimensionToBow = 0;
+      dimensionToStern = 0;
+      dimensionToPort = 0;
+      dimensionToStarboard = 0;
+      fixType = 0;
+      etaMonth = 0;
+      etaDay = 0;
+      etaHour = 24;
+      etaMinute = 60;
+      draught = 0.0f;
+      destination.setLength (0);
+      ownVessel = false;
+      channel = 0;
+      receiveNanos = 0;
+   }
+}
@@ -0,0 +1,169 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: IntervalHistogram.java
+ * Created: 2026-10-17, 20:09:49
+ */
+package serialComms.sentences.analysis;
+
+import java.util.concurrent.atomic.*;
+/**
+ * This class counts time intervals, in nanoseconds, in logarithmic buckets:
+ * each power of two is split into eight buckets, so a percentile is reported
+ * within 12.5% of the true value.  Recording takes no lock and creates no
+ * objects.  Values must be recorded by a single thread, while any thread may
+ * read the count, maximum and percentiles.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class IntervalHistogram {
+
+   /* Buckets per power of two, as a power of two. */
+   final static int SUB_BUCKET_BITS = 3;
+   final static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+   final static int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+   AtomicLongArray counts;
+   volatile long totalCount;
+   volatile long maxValue;
+
+   /**
+    * Creates an empty histogram.
+    */
+   public IntervalHistogram () {
+      counts = new AtomicLongArray (BUCKET_COUNT);
+   }
+
+   /**
+    * Records an interval.  Must only be called by one thread.
+    *
+    * @param nanos The interval, in nanoseconds; negative values count as zero.
+    */
+   public void recordValue (long nanos) {
+      if (nanos < 0) {
+         nanos = 0;
+      }
+      int i = getBucketIndex (nanos);
+      // Single writer, so an ordered store of the incremented count suffices
+      counts.lazySet (i, counts.get (i) + 1);
+      if (nanos > maxValue) {
+         maxValue = nanos;
+      }
+      totalCount++;
+   }
+
+   /*
+    * Gets the bucket of a value: values below SUB_BUCKETS have a bucket each,
+    * larger values are bucketed by their top SUB_BUCKET_BITS + 1 bits.
+    */
+   static int getBucketIndex (long value) {
+      if (value < SUB_BUCKETS) {
+         return (int) value;
+      }
+      int exponent = 63 - Long.numberOfLeadingZeros (value);
+      int shift = exponent - SUB_BUCKET_BITS;
+      return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+   }
+
+   /*
+    * Gets the largest value counted in a bucket.
+    */
+   static long getBucketLimit (int index) {
+      if (index < SUB_BUCKETS) {
+         return index;
+      }
+      int shift = (index >>> SUB_BUCKET_BITS) - 1;
+      long low = ((long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1)))) << shift;
+      return low + (1L << shift) - 1;
+   }
+
+   /**
+    * Gets the number of intervals recorded.
+    *
+    * @return Interval count.
+    */
+   public long getCount () {
+      return totalCount;
+   }
+
+   /**
+    * Gets the largest interval recorded.
+    *
+    * @return Maximum interval, in nanoseconds.
+    */
+   public long getMax () {
+      return maxValue;
+   }
+
+   /**
+    * Gets the interval that a given percentage of recorded intervals do not
+    * exceed, as the upper limit of the bucket holding it.
+    *
+    * @param percentile The percentage, from 0.0 to 100.0 (e.g. 99.9).
+    * @return Interval, in nanoseconds, or zero if none are recorded.
+    */
+   public long getPercentile (double percentile) {
+      long total = totalCount;
+      if (total == 0) {
+         return 0;
+      }
+      long target = (long) Math.ceil ((percentile / 100.0) * total);
+      if (target < 1) {
+         target = 1;
+      }
+
+      long seen = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+         seen += counts.get (i);
+         if (seen >= target) {
+            long limit = getBucketLimit (i);
+            long max = maxValue;
+            return (limit > max) ? max : limit;
+         }
+      }
+      return maxValue;
+   }
+
+   /**
+    * Gets the median interval.
+    *
+    * @return 50th percentile, in nanoseconds.
+    */
+   public long getP50 () {
+      return getPercentile (50.0);
+   }
+
+   /**
+    * Gets the 99th percentile interval.
+    *
+    * @return 99th percentile, in nanoseconds.
+    */
+   public long getP99 () {
+      return getPercentile (99.0);
+   }
+
+   /**
+    * Gets the 99.9th percentile interval.
+    *
+    * @return 99.9th percentile, in nanoseconds.
+    */
+   public long getP999 () {
+      return getPercentile (99.9);
+   }
+
+   /**
+    * Clears all recorded intervals.  Must only be called by the recording
+    * thread, or while no intervals are being recorded.
+    */
+   public void reset () {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+         counts.set (i, 0);
+      }
+      totalCount = 0;
+      maxValue = 0;
+   }
+}
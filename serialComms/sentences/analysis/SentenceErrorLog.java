@@ -1,6 +1,6 @@
 /* Maritime Digital Laboratory (MDL)
  * Copyright (c) 2005 Jeffrey Stewart
- * 
+ *
  * Licensed under the Open Software License version 2.1
  * (Re: www.opensource.org)
  *
@@ -9,58 +9,169 @@
  */
 package serialComms.sentences.analysis;
 
-import java.util.*;
 /**
- * An error log object is used to collect problems found during the 
- * processing of a sentence.
+ * An error log object is used to collect problems found during the
+ * processing of a sentence.  Errors are held as primitive codes, offending
+ * characters and constant detail text, so logging an error does not allocate;
+ * readable messages are only built when printErrorLog() or getErrorMessage()
+ * is called.
  *
  * @author Jeff Stewart
- * @version 1.0.0.0, 2005-01-01
+ * @version 1.1.0.0, 2026-10-17
  */
 public class SentenceErrorLog implements Cloneable {
-   
-   Vector<SentenceError> sentenceErrors;
+
+   /** Maximum number of errors recorded in detail per sentence. */
+   public final static int MAX_ERRORS = 32;
+
+   int[] errorCodes;
+   char[] errorCharacters;
+   /* Constant detail text, may hold %d (decimal) or %x (hex) value markers. */
+   String[] errorDetails;
+   /* Two values per error, [2n] and [2n + 1], for the detail markers. */
+   int[] errorValues;
    int errorIndex;
+   int errorTotal;
    int overallQuality;
-   
+
    /** Creates a new instance of SentenceErrorLog */
    public SentenceErrorLog () {
-      sentenceErrors = new Vector<SentenceError>();
+      errorCodes = new int[MAX_ERRORS];
+      errorCharacters = new char[MAX_ERRORS];
+      errorDetails = new String[MAX_ERRORS];
+      errorValues = new int[MAX_ERRORS * 2];
       errorIndex = 0;
-      overallQuality = SentenceErrorTypes.VALID_SENTENCE; 
+      errorTotal = 0;
+      overallQuality = SentenceErrorTypes.VALID_SENTENCE;
    }
-   
-   /** 
+
+   /**
     * Clears the list of errors in the ErrorLog
     */
    public void clear () {
-      sentenceErrors.clear ();
+      for (int i = 0; i < errorIndex; i++) {
+         errorDetails[i] = null;
+      }
       errorIndex = 0;
-      overallQuality = SentenceErrorTypes.VALID_SENTENCE; 
+      errorTotal = 0;
+      overallQuality = SentenceErrorTypes.VALID_SENTENCE;
    }
-   
+
    /**
     * Adds a sentence error to the log.
     *
     * @param sentenceError a particular processing error.
     */
    public void addError (SentenceError sentenceError) {
-      int errorQuality = SentenceErrorTypes.getValidity (sentenceError.getErrorCode ());
+      addError (sentenceError.getErrorCode (), sentenceError.getErrorMessage (),
+         sentenceError.getErrorCharacter (), 0, 0);
+   }
+
+   /**
+    * Adds a sentence error to the log.
+    *
+    * @param code Error code from SentenceErrorTypes.
+    */
+   public void addError (int code) {
+      addError (code, null, (char) 0, 0, 0);
+   }
+
+   /**
+    * Adds a sentence error to the log.
+    *
+    * @param code Error code from SentenceErrorTypes.
+    * @param detail Constant text describing the specific error.
+    */
+   public void addError (int code, String detail) {
+      addError (code, detail, (char) 0, 0, 0);
+   }
+
+   /**
+    * Adds a sentence error to the log.
+    *
+    * @param code Error code from SentenceErrorTypes.
+    * @param detail Constant text describing the specific error.
+    * @param character The character that caused the error.
+    */
+   public void addError (int code, String detail, char character) {
+      addError (code, detail, character, 0, 0);
+   }
+
+   /**
+    * Adds a sentence error to the log with values to be shown in its detail
+    * text, which is only formatted when the log is printed.
+    *
+    * @param code Error code from SentenceErrorTypes.
+    * @param detail Constant text, where each %d or %x is replaced by the next
+    * value in decimal or hexadecimal.
+    * @param value1 First detail value.
+    * @param value2 Second detail value.
+    */
+   public void addError (int code, String detail, int value1, int value2) {
+      addError (code, detail, (char) 0, value1, value2);
+   }
+
+   /* Records one error, all addError() forms end here. */
+   private void addError (int code, String detail, char character, int value1, int value2) {
+      int errorQuality = SentenceErrorTypes.getValidity (code);
       if (errorQuality < overallQuality) {
          overallQuality = errorQuality;
       }
-      sentenceErrors.add (sentenceError);
+      errorTotal++;
+      if (errorIndex < MAX_ERRORS) {
+         errorCodes[errorIndex] = code;
+         errorCharacters[errorIndex] = character;
+         errorDetails[errorIndex] = detail;
+         errorValues[errorIndex * 2] = value1;
+         errorValues[errorIndex * 2 + 1] = value2;
+         errorIndex++;
+      }
    }
-   
+
    /**
     * Get the number of processing errors.
     *
     * @return the number of sentence errors logged.
     */
    public int getErrorCount () {
-      return sentenceErrors.size ();
+      return errorTotal;
+   }
+
+   /**
+    * Get the error code of a logged error.
+    *
+    * @param index The error index, less than MAX_ERRORS.
+    * @return Error code from SentenceErrorTypes.
+    */
+   public int getErrorCode (int index) {
+      return errorCodes[index];
+   }
+
+   /**
+    * Get the character in error of a logged error.
+    *
+    * @param index The error index, less than MAX_ERRORS.
+    * @return The character that caused the error, or zero.
+    */
+   public char getErrorCharacter (int index) {
+      return errorCharacters[index];
+   }
+
+   /**
+    * Get the specific message of a logged error, formatted on request.
+    *
+    * @param index The error index, less than MAX_ERRORS.
+    * @return The specific error message, or null if none was given.
+    */
+   public String getErrorMessage (int index) {
+      if (errorDetails[index] == null) {
+         return null;
+      }
+      StringBuilder text = new StringBuilder ();
+      appendDetail (text, index);
+      return text.toString ();
    }
-   
+
    /**
     * Get the summary quality of the sentence based upon errors logged.
     *
@@ -69,43 +180,98 @@ public class SentenceErrorLog implements Cloneable {
    public int getQualityValue () {
       return overallQuality;
    }
-   
+
    /**
     * Prints the contents of the error log to the console.
     *
     * @return Cumulative text of errors in the error log.
     */
    public String printErrorLog () {
-      int errorCount = sentenceErrors.size ();
-      String errorList = "[" + errorCount + "] problem(s):\n";
-      
-      SentenceError thisError;
-      if (errorCount > 0) {
-         for (int i = 0; i < errorCount; i++) {
-            thisError = (SentenceError) sentenceErrors.get(i);
-            errorList += SentenceErrorTypes.getMessage(thisError.getErrorCode ());
-            if (thisError.getErrorMessage () != null) {
-               errorList += thisError.getErrorMessage () + "\n";
+      StringBuilder errorList = new StringBuilder ();
+      appendErrorLog (errorList);
+      return errorList.toString ();
+   }
+
+   /**
+    * Appends the contents of the error log to a builder, in the same form as
+    * printErrorLog(), without creating intermediate Strings.
+    *
+    * @param errorList The builder to append to.
+    */
+   public void appendErrorLog (StringBuilder errorList) {
+      errorList.append ("[").append (errorTotal).append ("] problem(s):\n");
+
+      for (int i = 0; i < errorIndex; i++) {
+         errorList.append (SentenceErrorTypes.getMessage (errorCodes[i]));
+         if (errorDetails[i] != null) {
+            appendDetail (errorList, i);
+            errorList.append ("\n");
+         }
+         if (errorCharacters[i] > 0) {
+            errorList.append (" Character '").append (errorCharacters[i]).append ("' in error.\n");
+         }
+      }
+      if (errorTotal > errorIndex) {
+         errorList.append ("(").append (errorTotal - errorIndex).append (" more not recorded)\n");
+      }
+   }
+
+   /* Appends an error's detail text, replacing %d and %x with its values. */
+   private void appendDetail (StringBuilder text, int index) {
+      String detail = errorDetails[index];
+      int valueIndex = index * 2;
+      int valueLimit = valueIndex + 2;
+      char c;
+
+      for (int i = 0; i < detail.length (); i++) {
+         c = detail.charAt (i);
+         if ((c == '%') && (i + 1 < detail.length ()) && (valueIndex < valueLimit)) {
+            char marker = detail.charAt (i + 1);
+            if (marker == 'd') {
+               text.append (errorValues[valueIndex++]);
+               i++;
+               continue;
             }
-            if (thisError.getErrorCharacter () > 0) {
-               errorList += " Character '" + thisError.getErrorCharacter () + "' in error.\n";
+            else if (marker == 'x') {
+               text.append (Integer.toHexString (errorValues[valueIndex++]));
+               i++;
+               continue;
             }
          }
+         text.append (c);
       }
-      return errorList;
    }
-   
+
+   /**
+    * Copies the contents of another error log into this one.
+    *
+    * @param source The error log to copy.
+    */
+   public void copyFrom (SentenceErrorLog source) {
+      clear ();
+      System.arraycopy (source.errorCodes, 0, errorCodes, 0, source.errorIndex);
+      System.arraycopy (source.errorCharacters, 0, errorCharacters, 0, source.errorIndex);
+      System.arraycopy (source.errorDetails, 0, errorDetails, 0, source.errorIndex);
+      System.arraycopy (source.errorValues, 0, errorValues, 0, source.errorIndex * 2);
+      errorIndex = source.errorIndex;
+      errorTotal = source.errorTotal;
+      overallQuality = source.overallQuality;
+   }
+
    /**
     * Used to duplicate the current state of SentenceErrorLog.
     *
     * @return Reference to new SentenceErrorLog object.
     */
    public Object clone () {
-      try {
-         return super.clone();
-      }
-      catch (CloneNotSupportedException e) {
-         return null;
-      }
+      SentenceErrorLog copy = new SentenceErrorLog ();
+      copy.copyFrom (this);
+      return copy;
    }
 }
+/*
+ * Revision history:
+ *
+ * 1.1.0.0  Errors held in primitive arrays instead of a Vector of SentenceError
+ *          objects; messages are formatted lazily and clone() is a deep copy.
+ */
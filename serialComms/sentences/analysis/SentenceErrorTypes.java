@@ -116,14 +116,52 @@ public class SentenceErrorTypes {
    public static final int ERR_SPEED_OUT_OF_RANGE = 1100; 
    /** Unknown error. */
    public static final int ERR_UNKNOWN_ERROR = -1;
-  
+   
+   /* Lookup tables indexed by (errorCode - ERR_UNKNOWN_ERROR), built once from the switches below. */
+   private static final int LARGEST_ERROR_CODE = ERR_SPEED_OUT_OF_RANGE;
+   private static final int[] validityTable;
+   private static final String[] messageTable;
+   
+   static {
+      int tableLength = LARGEST_ERROR_CODE - ERR_UNKNOWN_ERROR + 1;
+      validityTable = new int[tableLength];
+      messageTable = new String[tableLength];
+      for (int i = 0; i < tableLength; i++) {
+         validityTable[i] = lookupValidity (i + ERR_UNKNOWN_ERROR);
+         messageTable[i] = lookupMessage (i + ERR_UNKNOWN_ERROR);
+      }
+   }
+   
    /**
     * Gets the textual description for an error code.
     *
     * @param errorCode A static error code value.
     * @return Description of an error.
     */
-   public static String getMessage(int errorCode) {     
+   public static String getMessage (int errorCode) {
+      int i = errorCode - ERR_UNKNOWN_ERROR;
+      if ((i >= 0) && (i < messageTable.length)) {
+         return messageTable[i];
+      }
+      return lookupMessage (errorCode);
+   }
+   
+   /**
+    * Get the validity value for a particular error code.
+    *
+    * @param errorCode The particular static error code value to get the validity value of.
+    * @return The validity value of the error code.
+    */
+   public static int getValidity (int errorCode) {
+      int i = errorCode - ERR_UNKNOWN_ERROR;
+      if ((i >= 0) && (i < validityTable.length)) {
+         return validityTable[i];
+      }
+      return lookupValidity (errorCode);
+   }
+  
+   /* Description of an error code, used to build the message table. */
+   private static String lookupMessage (int errorCode) {     
       switch (errorCode) {
          case ERR_MISSING_START: {
             return "Error: start character ('$' dollar sign) is not the first byte. ";
@@ -265,13 +303,8 @@ public class SentenceErrorTypes {
       return "An application error has occurred. ";      
    }
    
-   /**
-    * Get the validity value for a particular error code.
-    *
-    * @param errorCode The particular static error code value to get the validity value of.
-    * @return The validity value of the error code.
-    */
-   public static int getValidity(int errorCode) {    
+   /* Validity of an error code, used to build the validity table. */
+   private static int lookupValidity (int errorCode) {    
       switch (errorCode) {
          case ERR_MISSING_START: {
             return INVALID_SENTENCE;
@@ -413,3 +446,8 @@ public class SentenceErrorTypes {
       return 999;      
    } 
 }
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  getMessage() and getValidity() are table lookups.
+ */
@@ -0,0 +1,55 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedCourseSpeed.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds a course and speed over ground decoded from
+ * a received VTG or VDO sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedCourseSpeed extends DecodedValue {
+
+   /** Course over ground, in degrees True. */
+   public double courseTrue;
+
+   /** Course over ground, in degrees Magnetic. */
+   public double courseMagnetic;
+
+   /** Speed over ground, in knots. */
+   public double speedOverGround;
+
+   /**
+    * Instantiates a DecodedCourseSpeed object, with no values.
+    */
+   public DecodedCourseSpeed () {
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      super.clear ();
+      courseTrue = Double.NaN;
+      courseMagnetic = Double.NaN;
+      speedOverGround = Double.NaN;
+   }
+
+   public boolean hasValues () {
+      return !Double.isNaN (courseTrue) || !Double.isNaN (courseMagnetic) ||
+         !Double.isNaN (speedOverGround);
+   }
+
+   void deliverTo (DecodedValueListener listener) {
+      listener.receiveCourseSpeed (this);
+   }
+}
@@ -0,0 +1,50 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedDepth.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds a water depth decoded from a received DBT or
+ * DPT sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedDepth extends DecodedValue {
+
+   /** Depth of water below the transducer, in meters. */
+   public double depthMeters;
+
+   /** Offset from the transducer, in meters (positive to the water line, negative to the keel). */
+   public double transducerOffset;
+
+   /**
+    * Instantiates a DecodedDepth object, with no values.
+    */
+   public DecodedDepth () {
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      super.clear ();
+      depthMeters = Double.NaN;
+      transducerOffset = Double.NaN;
+   }
+
+   public boolean hasValues () {
+      return !Double.isNaN (depthMeters);
+   }
+
+   void deliverTo (DecodedValueListener listener) {
+      listener.receiveDepth (this);
+   }
+}
@@ -0,0 +1,58 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedHeading.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds a heading decoded from a received HDT, HDG
+ * or VHW sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedHeading extends DecodedValue {
+
+   /** Heading, in degrees True. */
+   public double headingTrue;
+
+   /** Heading, in degrees Magnetic. */
+   public double headingMagnetic;
+
+   /** Magnetic deviation, in degrees (negative for West). */
+   public double deviation;
+
+   /** Magnetic variation, in degrees (negative for West). */
+   public double variation;
+
+   /**
+    * Instantiates a DecodedHeading object, with no values.
+    */
+   public DecodedHeading () {
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      super.clear ();
+      headingTrue = Double.NaN;
+      headingMagnetic = Double.NaN;
+      deviation = Double.NaN;
+      variation = Double.NaN;
+   }
+
+   public boolean hasValues () {
+      return !Double.isNaN (headingTrue) || !Double.isNaN (headingMagnetic);
+   }
+
+   void deliverTo (DecodedValueListener listener) {
+      listener.receiveHeading (this);
+   }
+}
@@ -0,0 +1,54 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedPosition.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds a position, and the UTC of the fix, decoded
+ * from a received GGA, GLL or VDO sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedPosition extends DecodedValue {
+
+   /** Latitude, in degrees North (negative for South). */
+   public double latitude;
+
+   /** Longitude, in degrees East (negative for West). */
+   public double longitude;
+
+   /** UTC of the fix, in milliseconds since 1970-01-01 on the current UTC day, 0 if not given. */
+   public long utcMillis;
+
+   /**
+    * Instantiates a DecodedPosition object, with no values.
+    */
+   public DecodedPosition () {
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      super.clear ();
+      latitude = Double.NaN;
+      longitude = Double.NaN;
+      utcMillis = 0;
+   }
+
+   public boolean hasValues () {
+      return !Double.isNaN (latitude) && !Double.isNaN (longitude);
+   }
+
+   void deliverTo (DecodedValueListener listener) {
+      listener.receivePosition (this);
+   }
+}
@@ -0,0 +1,46 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedRateOfTurn.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds a rate of turn decoded from a received ROT
+ * sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedRateOfTurn extends DecodedValue {
+
+   /** Rate of turn, in degrees per minute (negative for port). */
+   public double rateOfTurn;
+
+   /**
+    * Instantiates a DecodedRateOfTurn object, with no values.
+    */
+   public DecodedRateOfTurn () {
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      super.clear ();
+      rateOfTurn = Double.NaN;
+   }
+
+   public boolean hasValues () {
+      return !Double.isNaN (rateOfTurn);
+   }
+
+   void deliverTo (DecodedValueListener listener) {
+      listener.receiveRateOfTurn (this);
+   }
+}
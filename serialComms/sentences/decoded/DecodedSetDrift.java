@@ -0,0 +1,54 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedSetDrift.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds a current set and drift decoded from a
+ * received VDR sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedSetDrift extends DecodedValue {
+
+   /** Set (direction of the current), in degrees True. */
+   public double setTrue;
+
+   /** Set (direction of the current), in degrees Magnetic. */
+   public double setMagnetic;
+
+   /** Drift (speed of the current), in knots. */
+   public double drift;
+
+   /**
+    * Instantiates a DecodedSetDrift object, with no values.
+    */
+   public DecodedSetDrift () {
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      super.clear ();
+      setTrue = Double.NaN;
+      setMagnetic = Double.NaN;
+      drift = Double.NaN;
+   }
+
+   public boolean hasValues () {
+      return !Double.isNaN (setTrue) || !Double.isNaN (setMagnetic) || !Double.isNaN (drift);
+   }
+
+   void deliverTo (DecodedValueListener listener) {
+      listener.receiveSetDrift (this);
+   }
+}
@@ -0,0 +1,58 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedSpeed.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds water and ground speeds decoded from a
+ * received VHW or VBW sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedSpeed extends DecodedValue {
+
+   /** Longitudinal speed through the water, in knots (negative for astern). */
+   public double speedThroughWater;
+
+   /** Transverse speed through the water, in knots (negative for port). */
+   public double transverseWaterSpeed;
+
+   /** Longitudinal speed over the ground, in knots (negative for astern). */
+   public double speedOverGround;
+
+   /** Transverse speed over the ground, in knots (negative for port). */
+   public double transverseGroundSpeed;
+
+   /**
+    * Instantiates a DecodedSpeed object, with no values.
+    */
+   public DecodedSpeed () {
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      super.clear ();
+      speedThroughWater = Double.NaN;
+      transverseWaterSpeed = Double.NaN;
+      speedOverGround = Double.NaN;
+      transverseGroundSpeed = Double.NaN;
+   }
+
+   public boolean hasValues () {
+      return !Double.isNaN (speedThroughWater) || !Double.isNaN (speedOverGround);
+   }
+
+   void deliverTo (DecodedValueListener listener) {
+      listener.receiveSpeed (this);
+   }
+}
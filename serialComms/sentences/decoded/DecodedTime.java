@@ -0,0 +1,54 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedTime.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds the time and date, and the local time zone,
+ * decoded from a received ZDA sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedTime extends DecodedValue {
+
+   /** UTC, in milliseconds since 1970-01-01. */
+   public long utcMillis;
+
+   /** 'True' if utcMillis holds the date of the sentence, rather than the current UTC day. */
+   public boolean dateGiven;
+
+   /** Local time zone offset from UTC, in minutes. */
+   public double zoneMinutes;
+
+   /**
+    * Instantiates a DecodedTime object, with no values.
+    */
+   public DecodedTime () {
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      super.clear ();
+      utcMillis = 0;
+      dateGiven = false;
+      zoneMinutes = Double.NaN;
+   }
+
+   public boolean hasValues () {
+      return utcMillis != 0;
+   }
+
+   void deliverTo (DecodedValueListener listener) {
+      listener.receiveTime (this);
+   }
+}
@@ -0,0 +1,61 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedValue.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds the values decoded from one received
+ * sentence.  Each sentence object reuses its own decoded value objects for
+ * every sentence it receives, and passes them to DecodedValueListener
+ * objects on the port's processing thread, so their contents are only valid
+ * during the call.  A listener keeping a value copies the fields it needs.
+ * <p>
+ * Values not given by the sentence, or not decoded, are NaN.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public abstract class DecodedValue {
+
+   /** Sentence talker ID, from SentenceTypes. */
+   public int talkerID;
+
+   /** Sentence formatter, from SentenceTypes. */
+   public int formatter;
+
+   /** Sentence quality, from SentenceErrorTypes (e.g. SentenceErrorTypes.VALID_SENTENCE). */
+   public int quality;
+
+   /** System.nanoTime() when the last character of the sentence arrived. */
+   public long receiveNanos;
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      talkerID = 0;
+      formatter = 0;
+      quality = 0;
+      receiveNanos = 0;
+   }
+
+   /**
+    * Determines if any value was decoded from the sentence.
+    *
+    * @return 'True' if at least one value is present.
+    */
+   public abstract boolean hasValues ();
+
+   /**
+    * Passes this object to the listener method for its type.
+    *
+    * @param listener The listener.
+    */
+   abstract void deliverTo (DecodedValueListener listener);
+}
@@ -0,0 +1,46 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedValueAdapter.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * This class provides empty methods of DecodedValueListener, so a listener
+ * of only some decoded values need only override the methods for those.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public abstract class DecodedValueAdapter implements DecodedValueListener {
+   public void receivePosition (DecodedPosition position) {
+   }
+
+   public void receiveTime (DecodedTime time) {
+   }
+
+   public void receiveCourseSpeed (DecodedCourseSpeed courseSpeed) {
+   }
+
+   public void receiveHeading (DecodedHeading heading) {
+   }
+
+   public void receiveSpeed (DecodedSpeed speed) {
+   }
+
+   public void receiveRateOfTurn (DecodedRateOfTurn rateOfTurn) {
+   }
+
+   public void receiveDepth (DecodedDepth depth) {
+   }
+
+   public void receiveWind (DecodedWind wind) {
+   }
+
+   public void receiveSetDrift (DecodedSetDrift setDrift) {
+   }
+}
@@ -0,0 +1,32 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedValueListener.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+import java.util.*;
+/**
+ * The interface class defines listeners of values decoded from received
+ * sentences.  The objects passed are reused by the sentence objects, so their
+ * contents are only valid during the call.  Calls are made on the port's
+ * processing thread, and should return quickly.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public interface DecodedValueListener extends EventListener {
+   void receivePosition (DecodedPosition position);
+   void receiveTime (DecodedTime time);
+   void receiveCourseSpeed (DecodedCourseSpeed courseSpeed);
+   void receiveHeading (DecodedHeading heading);
+   void receiveSpeed (DecodedSpeed speed);
+   void receiveRateOfTurn (DecodedRateOfTurn rateOfTurn);
+   void receiveDepth (DecodedDepth depth);
+   void receiveWind (DecodedWind wind);
+   void receiveSetDrift (DecodedSetDrift setDrift);
+}
@@ -0,0 +1,128 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedValuePublisher.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+import java.util.*;
+import serialComms.sentences.ais.*;
+/**
+ * An object of this class passes the values decoded from the sentences
+ * received on one port to its DecodedValueListener objects.  Each sentence is
+ * parsed once, by its sentence object, and the same decoded value object is
+ * passed to every listener, so dashboards, loggers and forwarders share that
+ * parse without copying.
+ * <p>
+ * AIS messages decoded from VDM and VDO sentences are passed on in the same
+ * way, to the port's AISMessageListener objects.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedValuePublisher implements AISMessageListener {
+
+   Vector<DecodedValueListener> listeners = new Vector<DecodedValueListener>();
+   Vector<AISMessageListener> aisListeners = new Vector<AISMessageListener>();
+
+   /**
+    * Add a decoded value listener.
+    *
+    * @param listener The listener to add.
+    */
+   public synchronized void addDecodedValueListener (DecodedValueListener listener) {
+      if (!listeners.contains (listener)) {
+         listeners.addElement (listener);
+      }
+   }
+
+   /**
+    * Remove a decoded value listener.
+    *
+    * @param listener The listener to remove.
+    */
+   public synchronized void removeDecodedValueListener (DecodedValueListener listener) {
+      listeners.removeElement (listener);
+   }
+
+   /**
+    * Determines if any listener is added, so values need not be published
+    * otherwise.
+    *
+    * @return 'True' if there are listeners.
+    */
+   public boolean hasListeners () {
+      return !listeners.isEmpty ();
+   }
+
+   /**
+    * Passes decoded values to every listener, if any value was decoded.
+    *
+    * @param value The decoded values.
+    */
+   public synchronized void publish (DecodedValue value) {
+      if (!value.hasValues ()) {
+         return;
+      }
+      for (int i = 0; i < listeners.size (); i++) {
+         value.deliverTo (listeners.elementAt (i));
+      }
+   }
+
+   /**
+    * Add an AIS message listener.
+    *
+    * @param listener The listener to add.
+    */
+   public synchronized void addAISMessageListener (AISMessageListener listener) {
+      if ((listener != null) && (listener != this) && !aisListeners.contains (listener)) {
+         aisListeners.addElement (listener);
+      }
+   }
+
+   /**
+    * Remove an AIS message listener.
+    *
+    * @param listener The listener to remove.
+    */
+   public synchronized void removeAISMessageListener (AISMessageListener listener) {
+      aisListeners.removeElement (listener);
+   }
+
+   /**
+    * Passes a decoded AIS position report to every AIS message listener.
+    *
+    * @param report The position report, reused by the AISDecoder.
+    */
+   public synchronized void receivePositionReport (AISPositionReport report) {
+      for (int i = 0; i < aisListeners.size (); i++) {
+         aisListeners.elementAt (i).receivePositionReport (report);
+      }
+   }
+
+   /**
+    * Passes decoded AIS static and voyage data to every AIS message listener.
+    *
+    * @param data The static and voyage data, reused by the AISDecoder.
+    */
+   public synchronized void receiveStaticVoyageData (AISStaticVoyageData data) {
+      for (int i = 0; i < aisListeners.size (); i++) {
+         aisListeners.elementAt (i).receiveStaticVoyageData (data);
+      }
+   }
+
+   /**
+    * Passes a decoded AIS static data report to every AIS message listener.
+    *
+    * @param report The static data report, reused by the AISDecoder.
+    */
+   public synchronized void receiveStaticDataReport (AISStaticDataReport report) {
+      for (int i = 0; i < aisListeners.size (); i++) {
+         aisListeners.elementAt (i).receiveStaticDataReport (report);
+      }
+   }
+}
@@ -0,0 +1,58 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: DecodedWind.java
+ * Created: 2026-10-17, 21:13:49
+ */
+package serialComms.sentences.decoded;
+
+/**
+ * An object of this class holds a wind angle and speed decoded from a
+ * received MWV sentence.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class DecodedWind extends DecodedValue {
+
+   /** Wind angle, in degrees from the bow. */
+   public double windAngle;
+
+   /** Wind angle reference, 'R' for relative or 'T' for true, zero if not given. */
+   public char reference;
+
+   /** Wind speed, in the units given by speedUnits. */
+   public double windSpeed;
+
+   /** Wind speed units, 'K', 'M', 'N' or 'S', zero if not given. */
+   public char speedUnits;
+
+   /**
+    * Instantiates a DecodedWind object, with no values.
+    */
+   public DecodedWind () {
+      clear ();
+   }
+
+   /**
+    * Resets all values.
+    */
+   public void clear () {
+      super.clear ();
+      windAngle = Double.NaN;
+      reference = 0;
+      windSpeed = Double.NaN;
+      speedUnits = 0;
+   }
+
+   public boolean hasValues () {
+      return !Double.isNaN (windAngle) || !Double.isNaN (windSpeed);
+   }
+
+   void deliverTo (DecodedValueListener listener) {
+      listener.receiveWind (this);
+   }
+}
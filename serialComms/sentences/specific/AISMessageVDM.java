@@ -0,0 +1,178 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: AISMessageVDM.java
+ * Created: 2026-10-17, 20:14:39
+ */
+package serialComms.sentences.specific;
+
+import serialComms.*;
+import serialComms.sentences.*;
+import serialComms.sentences.ais.*;
+import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
+/**
+ * VDM - AIS VHF data-link message.
+ * Since v3.0
+ *<pre>
+ * Sentence:
+ * !--VDM,x,x,x,a,s--s,x*hh<CR><LF>
+ *        | | | |   |  |- Number of fill bits, 0 - 5
+ *        | | | |   |---- Encapsulated 6-bit armoured message
+ *        | | | |-------- AIS channel, A or B
+ *        | | |---------- Sequential message identifier, 0 - 9
+ *        | |------------ Sentence number, 1 - 9
+ *        |-------------- Total number of sentences, 1 - 9
+ *</pre>
+ * Messages are decoded by an AISDecoder, and passed to the port's listeners
+ * (see SentenceManager.addAISMessageListener()) through its publisher.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class AISMessageVDM extends AbstractSentence {
+   final static int ESTIMATED_SENTENCE_LENGTH = 49;
+
+   final static int [] validTalkerID = {
+      SentenceTypes.TALKER_AI
+   };
+   final static int talkerCount = validTalkerID.length;
+
+   /* A class A position report, MMSI 477553000 moored at 47.58N 122.35W. */
+   final static String SAMPLE_PAYLOAD = "177KQJ5000G?tO`K>RA1wUbN0TKH";
+
+   AISDecoder decoder;
+
+   /**
+    * Instantiates an AISMessageVDM object.
+    */
+   public AISMessageVDM () {
+      decoder = new AISDecoder();
+   }
+
+   /**
+    * Get this sentence's estimated length in bytes.
+    *
+    * @return Estimated sentence length in bytes.
+    */
+   public int getEstimatedLength () {
+      return ESTIMATED_SENTENCE_LENGTH;
+   }
+
+   /**
+    * Get the sentence formatter ID.
+    *
+    * @return Sentence formatter ID from SentenceTypes class.
+    */
+   public int getSentenceFormatter () {
+      return SentenceTypes.FORMATTER_VDM;
+   }
+
+   /**
+    * Validates an acceptable talker ID for this sentence formatter.
+    *
+    * @param id Talker ID to validate.
+    * @return True if valide talker ID.
+    */
+   public boolean isSentenceIDValid (int id) {
+      for (int i = 0; i < talkerCount; i++) {
+         if (id == validTalkerID[i]) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Set the DecodedValuePublisher object for the specific sentence, which
+    * also passes the decoded AIS messages to the port's AISMessageListeners.
+    *
+    * @param publisher The port's publisher.
+    */
+   public void setDecodedValuePublisher (DecodedValuePublisher publisher) {
+      if (valuePublisher != null) {
+         decoder.removeAISMessageListener (valuePublisher);
+      }
+      super.setDecodedValuePublisher (publisher);
+      decoder.addAISMessageListener (publisher);
+   }
+
+   /**
+    * Get the decoder of this sentence's AIS messages, to which
+    * AISMessageListener objects may be added.
+    *
+    * @return The AIS decoder.
+    */
+   public AISDecoder getDecoder () {
+      return decoder;
+   }
+
+   /*
+    * Determines if received sentences are own vessel reports.
+    */
+   boolean isOwnVessel () {
+      return false;
+   }
+
+   /**
+    * Get sentence based upon simulator data, which is not available for
+    * AIS messages, so a test sentence is returned.
+    *
+    * @return Valid test sentence.
+    */
+   public String getSimulatorSentence () {
+      return getRandomSentence ();
+   }
+
+   /**
+    * Get sentence based upon manual data, which is not available for AIS
+    * messages, so a test sentence is returned.
+    *
+    * @return Valid test sentence.
+    */
+   public String getManualSentence () {
+      return getRandomSentence ();
+   }
+
+   /**
+    * Get test sentence data, a single sentence class A position report.
+    *
+    * @return Valid test sentence.
+    */
+   public String getRandomSentence () {
+      String formatter = isOwnVessel () ? "VDO" : "VDM";
+      String channel = isOwnVessel () ? "" : "B";
+      String sentence = "AI" + formatter + ",1,1,," + channel + "," + SAMPLE_PAYLOAD + ",0";
+      sentence += '*' + SentenceTools.getChecksum (sentence);
+      return new String ('!' + sentence + SentenceTools.CR + SentenceTools.LF);
+   }
+
+   /**
+    * Process a received sentence.
+    *
+    * @param receivedSentence A ReceivedSentence.
+    */
+   public void processReceivedSentence (ReceivedSentence receivedSentence) {
+      if (receivedSentence == null) {
+         return;
+      }
+      SentenceErrorLog errorLog = receivedSentence.errorLog;
+
+      // Check for valid talkerID
+      if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
+         return;
+      }
+
+      // Encapsulation sentences start with '!'
+      if (!receivedSentence.encapsulated) {
+         errorLog.addError (SentenceErrorTypes.ERR_INCORRECT_START,
+            "Encapsulation sentence must start with '!'.");
+      }
+
+      decoder.decode (receivedSentence, isOwnVessel ());
+   }
+}
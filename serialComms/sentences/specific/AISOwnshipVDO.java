@@ -0,0 +1,121 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: AISOwnshipVDO.java
+ * Created: 2026-10-17, 20:14:39
+ */
+package serialComms.sentences.specific;
+
+import serialComms.*;
+import serialComms.sentences.*;
+import serialComms.sentences.ais.*;
+import serialComms.sentences.decoded.*;
+/**
+ * VDO - AIS VHF data-link own-vessel report.
+ * Since v3.0
+ *<pre>
+ * Sentence:
+ * !--VDO,x,x,x,a,s--s,x*hh<CR><LF>
+ *</pre>
+ * Fields are as for VDM (see AISMessageVDM).  Own vessel position reports
+ * are also shown on the dashboard, and published as decoded values.
+ *
+ * @author agent
+ * @version 1.0.0.1, 2026-10-17
+ */
+public class AISOwnshipVDO extends AISMessageVDM implements AISMessageListener {
+
+   /* Values decoded from the last own vessel position report, reused for each. */
+   DecodedPosition position = new DecodedPosition ();
+   DecodedCourseSpeed courseSpeed = new DecodedCourseSpeed ();
+
+   /**
+    * Instantiates an AISOwnshipVDO object.
+    */
+   public AISOwnshipVDO () {
+      super();
+      decoder.addAISMessageListener (this);
+   }
+
+   /**
+    * Get the sentence formatter ID.
+    *
+    * @return Sentence formatter ID from SentenceTypes class.
+    */
+   public int getSentenceFormatter () {
+      return SentenceTypes.FORMATTER_VDO;
+   }
+
+   /*
+    * Received sentences are own vessel reports.
+    */
+   boolean isOwnVessel () {
+      return true;
+   }
+
+   /**
+    * Shows an own vessel position report on the dashboard.
+    *
+    * @param report The decoded position report.
+    */
+   public void receivePositionReport (AISPositionReport report) {
+      position.latitude = report.latitude;
+      position.longitude = report.longitude;
+      courseSpeed.courseTrue = report.courseOverGround;
+      courseSpeed.speedOverGround = report.speedOverGround;
+      
+      if (dashboardChannel == null) {
+         return;
+      }
+      if (!Double.isNaN (report.latitude) && !Double.isNaN (report.longitude)) {
+         dashboardChannel.setPlotPosition (report.latitude, report.longitude);
+      }
+      if (!Float.isNaN (report.speedOverGround)) {
+         dashboardChannel.setSpeedOverGround (report.speedOverGround);
+      }
+      if (!Float.isNaN (report.courseOverGround)) {
+         dashboardChannel.setCourseOverGround (report.courseOverGround);
+      }
+   }
+
+   /**
+    * Publish the values decoded from the own vessel position report, if the
+    * last sentence completed one.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (position, receivedSentence);
+      this.publish (courseSpeed, receivedSentence);
+      position.clear ();
+      courseSpeed.clear ();
+   }
+
+   /**
+    * Ignores own vessel static and voyage data, which the dashboard does not
+    * show.  Port listeners still receive it, see
+    * SentenceManager.addAISMessageListener().
+    *
+    * @param data The decoded static and voyage data.
+    */
+   public void receiveStaticVoyageData (AISStaticVoyageData data) {
+   }
+
+   /**
+    * Ignores own vessel static data reports, which the dashboard does not
+    * show.  Port listeners still receive them, see
+    * SentenceManager.addAISMessageListener().
+    *
+    * @param report The decoded static data report.
+    */
+   public void receiveStaticDataReport (AISStaticDataReport report) {
+   }
+}
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Own vessel position, course and speed published as decoded values.
+ */
@@ -14,6 +14,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * VTG - Course over ground and speed (COG/SOG). 
  * Since v1.5, mode indicator added in v2.3
@@ -38,7 +39,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class COGSOGVTG extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 43;
@@ -59,6 +60,9 @@ public class COGSOGVTG extends AbstractSentence {
    };
    
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedCourseSpeed courseSpeed = new DecodedCourseSpeed ();
    
    /**
     * Get this sentence's estimated length in bytes.
@@ -92,6 +96,24 @@ public class COGSOGVTG extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -100,24 +122,43 @@ public class COGSOGVTG extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getSimulatorSentence () {
+      return super.getTemplateSentence (super.getSimulatorTemplate ());
+   }
+   
+   /**
+    * Get sentence based upon manual data.
+    *
+    * @return Valid simulation-based sentence.
+    */
+   public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "VTG";
-         // Note: this data should be simulated.
-         sentence += ',' + super.dataFactory.getSimulatedHeadingTrueOverGround () + ",T" +
-                     ',' + super.dataFactory.getHeadingMagneticGround () + ",M" +
-                     ',' + super.dataFactory.getSimulatedSpeedOverGroundInKnots () + ",N" +
-                     ',' + super.dataFactory.getSimulatedSpeedOverGroundInInKPH () + ",K";
-      
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "VTG");
+         template.addField (SentenceTemplate.SIMULATED_HEADING_TRUE_GROUND);
+         template.addConstant ("T");
+         template.addField (SentenceTemplate.HEADING_MAGNETIC_GROUND);
+         template.addConstant ("M");
+         template.addField (SentenceTemplate.SIMULATED_SPEED_GROUND_KNOTS);
+         template.addConstant ("N");
+         template.addField (SentenceTemplate.SIMULATED_SPEED_GROUND_KMH);
+         template.addConstant ("K");
+
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT30) {
-            sentence += ',' + super.dataFactory.getSpeedMode ();
+            template.addField (SentenceTemplate.SPEED_MODE);
          }
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -125,28 +166,30 @@ public class COGSOGVTG extends AbstractSentence {
    }
    
    /**
-    * Get sentence based upon manual data.
+    * Builds the field layout of the manual sentence.
     *
-    * @return Valid simulation-based sentence.
+    * @return Sentence template, or null if not supported by the sentence version.
     */
-   public String getManualSentence () {
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "VTG";
-         sentence += ',' + super.dataFactory.getHeadingTrueGround () + ",T" +
-                     ',' + super.dataFactory.getHeadingMagneticGround () + ",M" +
-                     ',' + super.dataFactory.getSpeedGroundInKnots () + ",N" +
-                     ',' + super.dataFactory.getSpeedGroundInKMH () + ",K";
-      
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "VTG");
+         template.addField (SentenceTemplate.HEADING_TRUE_GROUND);
+         template.addConstant ("T");
+         template.addField (SentenceTemplate.HEADING_MAGNETIC_GROUND);
+         template.addConstant ("M");
+         template.addField (SentenceTemplate.SPEED_GROUND_KNOTS);
+         template.addConstant ("N");
+         template.addField (SentenceTemplate.SPEED_GROUND_KMH);
+         template.addConstant ("K");
+
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT30) {
-            sentence += ',' + super.dataFactory.getSpeedMode ();
+            template.addField (SentenceTemplate.SPEED_MODE);
          }
-         
+
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -193,158 +236,178 @@ public class COGSOGVTG extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      courseSpeed.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < COGSOGVTG.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > COGSOGVTG.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test true course over ground
-      testString = (String) fields.get(1);
-      double trueHdg = SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+      double trueHdg = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
       if (!Double.isNaN (trueHdg)) {
          dashboardChannel.setCourseOverGround ((float)trueHdg);
       }
+      courseSpeed.courseTrue = trueHdg;
       
       // Test for 'T' value
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'T') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'T' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'T' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'T' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'T' has incorrect number of characters.");
       }
       
       // Test magnetic course over ground
-      testString = (String) fields.get(3);
-      double magHdg = SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+      double magHdg = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
+      courseSpeed.courseMagnetic = magHdg;
       
       // Test for 'M' value
-      testString = (String) fields.get(4);
+      testString = receivedSentence.getField (4);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'M') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'M' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'M' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'M' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'M' has incorrect number of characters.");
       }
       
       // Test to ensure at least one of the course values is provided
       if (Double.isNaN (trueHdg) && Double.isNaN (magHdg)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("Both true and magnetic heading are either blank or in error.")));    
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "Both true and magnetic heading are either blank or in error.");    
       }
 
       
       // Test knots speed over ground
-      testString = (String) fields.get(5);
-      double speedKnots = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double speedKnots = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
       if ((speedKnots < -SentenceData.MAX_STERN_SPEED) ||
           (speedKnots > SentenceData.MAX_FORWARD_SPEED)) {
              if (speedKnots != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (knots) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (knots) out of range.");
              }
       }
       else {
          dashboardChannel.setSpeedOverGround ((float)speedKnots);
+         courseSpeed.speedOverGround = speedKnots;
       }
       
       // Test for 'N' value
-      testString = (String) fields.get(6);
+      testString = receivedSentence.getField (6);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'N') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'N' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'N' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'N' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'N' has incorrect number of characters.");
       }
       
       // Test kmh speed over ground
-      testString = (String) fields.get(7);
-      double speedKPH = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double speedKPH = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (7),
+         receivedSentence.getFieldLength (7), errorLog);
       if ((speedKPH < -(SentenceData.MAX_STERN_SPEED * SentenceData.NM_TO_KM_CONVERSION)) ||
           (speedKPH > (SentenceData.MAX_FORWARD_SPEED * SentenceData.NM_TO_KM_CONVERSION))) {
              if (speedKPH != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (KPH) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (KPH) out of range.");
              }
       }
       
       
       // Test for 'K' value
-      testString = (String) fields.get(8);
+      testString = receivedSentence.getField (8);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'K') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'K' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'K' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'K' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'K' has incorrect number of characters.");
       }
       
       // Test to ensure at least one of the speed values is provided
       if (Double.isNaN (speedKnots) && Double.isNaN (speedKPH)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("Both knots and KPH speeds are either blank or in error.")));    
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "Both knots and KPH speeds are either blank or in error.");    
       }
       
       // Test for 2.3 compliance
       if (fieldCount == 9) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Sentence appears to be only v1.5 compliant.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Sentence appears to be only v1.5 compliant.");
          return;
       }
             
       // Test Mode
-      testString = (String) fields.get(9);
-      char mode = SentenceTools.parseOperatingMode (testString.toCharArray (), errorLog);
+      char mode = SentenceTools.parseOperatingMode (buffer, receivedSentence.getFieldStart (9),
+         receivedSentence.getFieldLength (9), errorLog);
       if ((mode == 'E') ||
           (mode == 'M') ||
           (mode == 'S') ||
           (mode == 'N')) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-            new String ("Operating mode set to invalid.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+            "Operating mode set to invalid.");
       }
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (courseSpeed, receivedSentence);
+   }
 }
 /*
  * Revision History:
  * 1.3.0.1 - Changed simulated magnetic heading over ground to manual data.
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
@@ -50,7 +50,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.4, 2026-10-17
  */
 public class DatumDTM extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 40;
@@ -100,6 +100,24 @@ public class DatumDTM extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -117,21 +135,38 @@ public class DatumDTM extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence, the manual sentence
+    * until simulated data is available.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
+      return this.buildManualTemplate ();
+   }
+   
+   /**
+    * Builds the field layout of the manual sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT20) {
-         String sentence = super.getTalkerID () + "DTM";
-         sentence += ',' + super.dataFactory.getDatumLocalCode () +
-                     ',' + super.dataFactory.getDatumLocalSubdivisionCode () +
-                     ',' + super.dataFactory.getLatitudeOffset () +
-                     ',' + super.dataFactory.getLatitudeOffsetDirection () +
-                     ',' + super.dataFactory.getLongitudeOffset () +
-                     ',' + super.dataFactory.getLongitudeOffsetDirection () +
-                     ',' + super.dataFactory.getAltitudeOffset () +
-                     ',' + super.dataFactory.getDatumReferenceCode ();
-
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "DTM");
+         template.addField (SentenceTemplate.DATUM_LOCAL_CODE);
+         template.addField (SentenceTemplate.DATUM_LOCAL_SUBDIVISION_CODE);
+         template.addField (SentenceTemplate.LATITUDE_OFFSET);
+         template.addField (SentenceTemplate.LATITUDE_OFFSET_DIRECTION);
+         template.addField (SentenceTemplate.LONGITUDE_OFFSET);
+         template.addField (SentenceTemplate.LONGITUDE_OFFSET_DIRECTION);
+         template.addField (SentenceTemplate.ALTITUDE_OFFSET);
+         template.addField (SentenceTemplate.DATUM_REFERENCE_CODE);
+         template.setChecksum (true);
 
-         sentence += '*' + SentenceTools.getChecksum(sentence);
-
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -178,134 +213,135 @@ public class DatumDTM extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < DatumDTM.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > DatumDTM.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test local datum code
-      String localDatum = (String) fields.get(1);
+      CharSequence localDatum = receivedSentence.getField (1);
       if ((localDatum.length () != 0) &&
           (localDatum.length () != 3)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Local datum field has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Local datum field has incorrect number of characters.");
       }
       else {
          if (localDatum.length () != 3) {
             String [] datums = SentenceData.DATUM_REFERENCE_LIST;
             boolean datumMatch = false;
             for (int i = 0; i < datums.length; i++) {
-               if (localDatum.equalsIgnoreCase (datums[i])) {
+               if (SentenceTools.equalsIgnoreCase (localDatum, datums[i])) {
                   datumMatch = true;
                }
             }
 
             if (!datumMatch) {
-               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-                  new String ("Reference datum is not recognized.")));
+               errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+                  "Reference datum is not recognized.");
             }
          }
       }
       
       // Test local datum subdivision code
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (((testString.length () != 1) || (localDatum.length () != 3)) &&
            (testString.length () != 0)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Local datum subdivision code has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Local datum subdivision code has incorrect number of characters.");
       }
       
       // Test latitude offset, minutes
-      testString = (String) fields.get(3);
-      double latitudeOffset = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double latitudeOffset = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
       if (!Double.isNaN (latitudeOffset)) {
          if ((latitudeOffset < 0.0) ||
              (latitudeOffset > 60.0)) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Latitude offset out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Latitude offset out of range.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Latitude offset can not be null or contain non-numerals.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Latitude offset can not be null or contain non-numerals.");
       }
             
       // Test latitude offset, 'N' or 'S'
-      testString = (String) fields.get(4);
-      SentenceTools.parseLatitudeHemisphere (testString.toCharArray (), errorLog);
+      SentenceTools.parseLatitudeHemisphere (buffer, receivedSentence.getFieldStart (4),
+         receivedSentence.getFieldLength (4), errorLog);
       
       // Test longitude offset, minutes
-      testString = (String) fields.get(5);
-      double longitudeOffset = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double longitudeOffset = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
       if (!Double.isNaN (longitudeOffset)) {
          if ((longitudeOffset < 0.0) ||
              (longitudeOffset > 60.0)) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Longitude offset out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Longitude offset out of range.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Longitude offset can not be null or contain non-numerals.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Longitude offset can not be null or contain non-numerals.");
       }
       
       // Test longitude offset, 'E' or 'W'
-      testString = (String) fields.get(6);
-      SentenceTools.parseLongitudeHemisphere (testString.toCharArray (), errorLog);
+      SentenceTools.parseLongitudeHemisphere (buffer, receivedSentence.getFieldStart (6),
+         receivedSentence.getFieldLength (6), errorLog);
       
       // Test altitude offset, meters
-      testString = (String) fields.get(7);
-      double altitudeOffset = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double altitudeOffset = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (7),
+         receivedSentence.getFieldLength (7), errorLog);
       if (!Double.isNaN (altitudeOffset)) {
          if ((altitudeOffset < -50.0) ||
              (altitudeOffset > 50.0)) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Altitude offset out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Altitude offset out of range.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Altitude offset can not be null or contain non-numerals.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Altitude offset can not be null or contain non-numerals.");
       }
       
       // Test reference datum
-      testString = (String) fields.get(8);
+      testString = receivedSentence.getField (8);
       if (testString.length () == 3) {
          String [] datums = SentenceData.DATUM_REFERENCE_LIST;
          boolean datumMatch = false;
          for (int i = 0; i < datums.length; i++) {
-            if (testString.equalsIgnoreCase (datums[i])) {
+            if (SentenceTools.equalsIgnoreCase (testString, datums[i])) {
                datumMatch = true;
             }
          }
          
          if (!datumMatch) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Reference datum is not recognized.")));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Reference datum is not recognized.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Reference datum has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Reference datum has incorrect number of characters.");
       }
    }
 }
@@ -314,4 +350,9 @@ public class DatumDTM extends AbstractSentence {
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
  */
\ No newline at end of file
@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * DBT - Depth. 
  * Since v1.5
@@ -28,7 +29,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class DepthDBT extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 39;
@@ -45,6 +46,9 @@ public class DepthDBT extends AbstractSentence {
       SentenceTypes.TALKER_VW
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedDepth depth = new DecodedDepth ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -78,6 +82,24 @@ public class DepthDBT extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -95,24 +117,44 @@ public class DepthDBT extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+
+   /**
+    * Builds the field layout of the simulator sentence, the manual sentence
+    * until simulated data is available.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
+      return this.buildManualTemplate ();
+   }
+   
+   /**
+    * Builds the field layout of the manual sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "DBT";
-         sentence += ',' + super.dataFactory.getDepthInFeet () + ",f" +
-                     ',' + super.dataFactory.getDepthInMeters () + ",M" + 
-                     ',' + super.dataFactory.getDepthInFathoms () + ",F";
-         
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "DBT");
+         template.addField (SentenceTemplate.DEPTH_FEET);
+         template.addConstant ("f");
+         template.addField (SentenceTemplate.DEPTH_METERS);
+         template.addConstant ("M");
+         template.addField (SentenceTemplate.DEPTH_FATHOMS);
+         template.addConstant ("F");
+
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
       }
    }
-
+   
    /**
     * Get test sentence data. Note, the last digit of select values within
     * the sentence is random.
@@ -148,95 +190,99 @@ public class DepthDBT extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      depth.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < DepthDBT.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > DepthDBT.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test water depth (feet)
-      testString = (String) fields.get(1);
-      double depthFeet = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double depthFeet = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
       if ((depthFeet < 0) ||
           (depthFeet > SentenceData.MAX_DEPTH)) {
              if (depthFeet != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Depth (feet) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Depth (feet) out of range.");
              }
       }
       else {
          dashboardChannel.setDepth ((float)depthFeet);
+         depth.depthMeters = depthFeet * SentenceData.FT_TO_M_CONVERSION;
       }
       
       
       // Test 'f' character field
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'f') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'f' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'f' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'M' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'M' has incorrect number of characters.");
       }
       
       // Test water depth (meters)
-      testString = (String) fields.get(3);
-      double depthMeters = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double depthMeters = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
       if ((depthMeters < 0) ||
           (depthMeters > (SentenceData.MAX_DEPTH / SentenceData.FT_TO_M_CONVERSION))) {
              if (depthMeters != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Depth (meters) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Depth (meters) out of range.");
              }
       }
       else {
          dashboardChannel.setDepth ((float)(depthMeters / SentenceData.FT_TO_M_CONVERSION));
+         depth.depthMeters = depthMeters;
       }
       
       // Test 'M' character field
-      testString = (String) fields.get(4);
+      testString = receivedSentence.getField (4);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'M') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'M' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'M' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'M' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'M' has incorrect number of characters.");
       }
       
       // Test water depth (fathoms)
-      testString = (String) fields.get(5);
-      double depthFathoms = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double depthFathoms = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
       if ((depthFathoms < 0) ||
           (depthFathoms > (SentenceData.MAX_DEPTH / SentenceData.FT_TO_M_CONVERSION))) {
              if (depthFathoms != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Depth (fathoms) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Depth (fathoms) out of range.");
              }
       }
       else {
@@ -244,30 +290,45 @@ public class DepthDBT extends AbstractSentence {
       }
       
       // Test 'F' character field
-      testString = (String) fields.get(6);
+      testString = receivedSentence.getField (6);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'F') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'F' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'F' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'F' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'F' has incorrect number of characters.");
       }
       
       // Test to make sure at least one of the water depth values is not null.
       if (Double.isNaN (depthFeet) && Double.isNaN (depthMeters) && Double.isNaN (depthFathoms)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("All depth fields are either blank or in error.")));    
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "All depth fields are either blank or in error.");    
       }
       
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (depth, receivedSentence);
+   }
 }
 /*
  * Revision History:
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * DPT - Depth. 
  * Since v2.0, maximum range scale added in v2.3
@@ -40,7 +41,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class DepthDPT extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 28;
@@ -57,6 +58,9 @@ public class DepthDPT extends AbstractSentence {
       SentenceTypes.TALKER_VW
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedDepth depth = new DecodedDepth ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -90,6 +94,24 @@ public class DepthDPT extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -107,27 +129,44 @@ public class DepthDPT extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+
+   /**
+    * Builds the field layout of the simulator sentence, the manual sentence
+    * until simulated data is available.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
+      return this.buildManualTemplate ();
+   }
+   
+   /**
+    * Builds the field layout of the manual sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-         String sentence = super.getTalkerID () + "DPT";
-         sentence += ',' + super.dataFactory.getDepthInMeters () +
-                     ',' + super.dataFactory.getDepthOffset ();
-         
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "DPT");
+         template.addField (SentenceTemplate.DEPTH_METERS);
+         template.addField (SentenceTemplate.DEPTH_OFFSET);
+
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT30) {
-            sentence += ',' + super.dataFactory.getDepthRange ();
+            template.addField (SentenceTemplate.DEPTH_RANGE);
          }
-         
+
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
       }
    }
-
+   
    /**
     * Get test sentence data. Note, the last digit of select values within
     * the sentence is random.
@@ -166,89 +205,107 @@ public class DepthDPT extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      depth.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < DepthDPT.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > DepthDPT.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test water depth (feet)
-      testString = (String) fields.get(1);
-      double depthMeters = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double depthMeters = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
       if (Double.isNaN (depthMeters)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Depth (meters) can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Depth (meters) can not be null.");
       }
       if ((depthMeters < 0) ||
           (depthMeters > (SentenceData.MAX_DEPTH / SentenceData.FT_TO_M_CONVERSION))) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Depth (meters) out of range.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Depth (meters) out of range.");
       }
       else {
          dashboardChannel.setDepth ((float)(depthMeters / SentenceData.FT_TO_M_CONVERSION));
+         depth.depthMeters = depthMeters;
       }
       
       // Test water depth (feet)
-      testString = (String) fields.get(2);
-      double transducerOffset = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double transducerOffset = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (2),
+         receivedSentence.getFieldLength (2), errorLog);
+      depth.transducerOffset = transducerOffset;
       if (Double.isNaN (transducerOffset)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Transducer offset can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Transducer offset can not be null.");
       }
       if ((transducerOffset < -(SentenceData.MAX_TRANSDUCER_OFFSET * SentenceData.FT_TO_M_CONVERSION)) ||
           (transducerOffset >  (SentenceData.MAX_TRANSDUCER_OFFSET * SentenceData.FT_TO_M_CONVERSION))) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Transducer offset out of range.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Transducer offset out of range.");
       }
       
       // Test for version 2.3
       if (fieldCount == 3) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Sentence appears to be only v2.0 compliant.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Sentence appears to be only v2.0 compliant.");
          return;
       }
       
       // Test water depth (feet)
-      testString = (String) fields.get(3);
-      double depthRange = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double depthRange = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
       if (Double.isNaN (depthRange)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Depth range scale can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Depth range scale can not be null.");
       }
       if ((depthRange < 0) ||
           (depthRange > (SentenceData.MAX_DEPTH * SentenceData.FT_TO_M_CONVERSION))) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Maximum depth range scale out of range.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Maximum depth range scale out of range.");
       }
       
       // Test depth against range scale.
       if (depthMeters > depthRange) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("Check depth, it should not be greater than range scale.")));    
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "Check depth, it should not be greater than range scale.");    
       }
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (depth, receivedSentence);
+   }
 }
 /*
  * Revision History:
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
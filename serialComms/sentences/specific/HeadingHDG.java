@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * HDG - Magnetic heading (sensed), deviation, and variation. 
  * Since v2.0
@@ -30,7 +31,7 @@ import serialComms.sentences.analysis.*;
  * </pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class HeadingHDG extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 29;
@@ -43,6 +44,9 @@ public class HeadingHDG extends AbstractSentence {
       SentenceTypes.TALKER_HE
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedHeading heading = new DecodedHeading ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -76,6 +80,24 @@ public class HeadingHDG extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -93,26 +115,43 @@ public class HeadingHDG extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+
+   /**
+    * Builds the field layout of the simulator sentence, the manual sentence
+    * until simulated data is available.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
+      return this.buildManualTemplate ();
+   }
+   
+   /**
+    * Builds the field layout of the manual sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-         String sentence = super.getTalkerID () + "HDG";
-         sentence += ',' + super.dataFactory.getHeadingMagneticWater () + 
-                     ',' + super.dataFactory.getDeviation () + 
-                     ',' + super.dataFactory.getDeviationDirection () + 
-                     ',' + super.dataFactory.getVariation () +
-                     ',' + super.dataFactory.getVariationDirection ();
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "HDG");
+         template.addField (SentenceTemplate.HEADING_MAGNETIC_WATER);
+         template.addField (SentenceTemplate.DEVIATION);
+         template.addField (SentenceTemplate.DEVIATION_DIRECTION);
+         template.addField (SentenceTemplate.VARIATION);
+         template.addField (SentenceTemplate.VARIATION_DIRECTION);
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
       }
    }
-
+   
    /**
     * Get test sentence data. Note, the last digit of select values within
     * the sentence is random.
@@ -146,100 +185,126 @@ public class HeadingHDG extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      heading.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < HeadingHDG.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > HeadingHDG.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test magnetic heading
-      testString = (String) fields.get(1);
-      double magHdg = SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+      double magHdg = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
+      heading.headingMagnetic = magHdg;
       if (Double.isNaN (magHdg)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Magnetic heading can not be null or contain non-numerals.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Magnetic heading can not be null or contain non-numerals.");
       }
       
       // Test deviation value
-      testString = (String) fields.get(2);
-      double deviation = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double deviation = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (2),
+         receivedSentence.getFieldLength (2), errorLog);
+      heading.deviation = deviation;
       if (!Double.isNaN (deviation)) {
          if ((deviation < -SentenceData.MAX_DEVIATION) ||
              (deviation > SentenceData.MAX_DEVIATION)) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Deviation out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Deviation out of range.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Deviation can not be null or contain non-numerals.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Deviation can not be null or contain non-numerals.");
       }
       
       // Test deviation direction
-      testString = (String) fields.get(3);
+      testString = receivedSentence.getField (3);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (!((character == 'E') || (character == 'W'))) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Deviation field 'E' or 'W' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Deviation field 'E' or 'W' not recognzed.", character);
+         }
+         else if (character == 'W') {
+            heading.deviation = -heading.deviation;
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Deviation field has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Deviation field has incorrect number of characters.");
       }
       
       // Test variation value
-      testString = (String) fields.get(4);
-      double variation = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double variation = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (4),
+         receivedSentence.getFieldLength (4), errorLog);
+      heading.variation = variation;
       if (!Double.isNaN (variation)) {
          if ((variation < -SentenceData.MAX_VARIATION) ||
              (variation > SentenceData.MAX_VARIATION)) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Variation out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Variation out of range.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Variation can not be null or contain non-numerals.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Variation can not be null or contain non-numerals.");
       }
       
       // Test variation direction
-      testString = (String) fields.get(5);
+      testString = receivedSentence.getField (5);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (!((character == 'E') || (character == 'W'))) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Deviation field 'E' or 'W' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Deviation field 'E' or 'W' not recognzed.", character);
+         }
+         else if (character == 'W') {
+            heading.variation = -heading.variation;
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Deviation field has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Deviation field has incorrect number of characters.");
       }
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (heading, receivedSentence);
+   }
 }
 /*
  * Revision History:
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * HDT - Heading, true. 
  * Since v1.5
@@ -23,7 +24,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class HeadingHDT extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 19;
@@ -36,6 +37,9 @@ public class HeadingHDT extends AbstractSentence {
       SentenceTypes.TALKER_HE
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedHeading heading = new DecodedHeading ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -69,6 +73,24 @@ public class HeadingHDT extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -77,17 +99,33 @@ public class HeadingHDT extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getSimulatorSentence () {
+      return super.getTemplateSentence (super.getSimulatorTemplate ());
+   }
+   
+   /**
+    * Get sentence based upon manual data.
+    *
+    * @return Valid simulation-based sentence.
+    */
+   public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "HDT";
-         sentence += ',' + super.dataFactory.getSimulatedHeadingTrueWater () + 
-                     ",T";
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "HDT");
+         template.addField (SentenceTemplate.SIMULATED_HEADING_TRUE_WATER);
+         template.addConstant ("T");
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -95,22 +133,20 @@ public class HeadingHDT extends AbstractSentence {
    }
    
    /**
-    * Get sentence based upon manual data.
+    * Builds the field layout of the manual sentence.
     *
-    * @return Valid simulation-based sentence.
+    * @return Sentence template, or null if not supported by the sentence version.
     */
-   public String getManualSentence () {
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "HDT";
-         sentence += ',' + super.dataFactory.getHeadingTrueWater () +
-                     ",T";
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "HDT");
+         template.addField (SentenceTemplate.HEADING_TRUE_WATER);
+         template.addConstant ("T");
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -151,61 +187,80 @@ public class HeadingHDT extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      heading.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < HeadingHDT.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > HeadingHDT.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test true water heading value field
-      testString = (String) fields.get(1);
+      testString = receivedSentence.getField (1);
       double trueHeading = 0.0;
       if (testString.length () > 0) {
-         trueHeading = SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+         trueHeading = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (1),
+            receivedSentence.getFieldLength (1), errorLog);
          if (!Double.isNaN (trueHeading)) {
             dashboardChannel.setCourseThroughWater ((float)trueHeading);
+            heading.headingTrue = trueHeading;
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_MISSING));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_MISSING);
       }      
       
       // Test 'T' character field
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'T') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'T' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'T' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'T' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'T' has incorrect number of characters.");
       }
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (heading, receivedSentence);
+   }
 }
 /*
  * Revision History:
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
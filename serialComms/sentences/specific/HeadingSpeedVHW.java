@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * VHW - Water speed and heading. 
  * Since v1.5
@@ -26,7 +27,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.3, 2005-01-31
+ * @version 1.0.0.7, 2026-10-17
  */
 public class HeadingSpeedVHW extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 41;
@@ -51,6 +52,10 @@ public class HeadingSpeedVHW extends AbstractSentence {
       SentenceTypes.TALKER_VW
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedHeading heading = new DecodedHeading ();
+   DecodedSpeed speed = new DecodedSpeed ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -84,6 +89,24 @@ public class HeadingSpeedVHW extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -92,19 +115,39 @@ public class HeadingSpeedVHW extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getSimulatorSentence () {
+      return super.getTemplateSentence (super.getSimulatorTemplate ());
+   }
+   
+   /**
+    * Get sentence based upon manual data.
+    *
+    * @return Valid simulation-based sentence.
+    */
+   public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "VHW";
-         sentence += ',' + super.dataFactory.getSimulatedHeadingTrueWater () + ",T" +
-                     ',' + super.dataFactory.getHeadingMagneticWater () + ",M" +
-                     ',' + super.dataFactory.getSimulatedSpeedWaterInKnots () + ",N" +
-                     ',' + super.dataFactory.getSimulatedSpeedWaterInKPH () + ",K";
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "VHW");
+         template.addField (SentenceTemplate.SIMULATED_HEADING_TRUE_WATER);
+         template.addConstant ("T");
+         template.addField (SentenceTemplate.HEADING_MAGNETIC_WATER);
+         template.addConstant ("M");
+         template.addField (SentenceTemplate.SIMULATED_SPEED_WATER_KNOTS);
+         template.addConstant ("N");
+         template.addField (SentenceTemplate.SIMULATED_SPEED_WATER_KMH);
+         template.addConstant ("K");
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -112,24 +155,26 @@ public class HeadingSpeedVHW extends AbstractSentence {
    }
    
    /**
-    * Get sentence based upon manual data.
+    * Builds the field layout of the manual sentence.
     *
-    * @return Valid simulation-based sentence.
+    * @return Sentence template, or null if not supported by the sentence version.
     */
-   public String getManualSentence () {
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "VHW";
-         sentence += ',' + super.dataFactory.getHeadingTrueWater () + ",T" +
-                     ',' + super.dataFactory.getHeadingMagneticWater () + ",M" +
-                     ',' + super.dataFactory.getSpeedWaterInKnots () + ",N" +
-                     ',' + super.dataFactory.getSpeedWaterInKMH () + ",K";
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "VHW");
+         template.addField (SentenceTemplate.HEADING_TRUE_WATER);
+         template.addConstant ("T");
+         template.addField (SentenceTemplate.HEADING_MAGNETIC_WATER);
+         template.addConstant ("M");
+         template.addField (SentenceTemplate.SPEED_WATER_KNOTS);
+         template.addConstant ("N");
+         template.addField (SentenceTemplate.SPEED_WATER_KMH);
+         template.addConstant ("K");
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -172,136 +217,152 @@ public class HeadingSpeedVHW extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      heading.clear ();
+      speed.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < HeadingSpeedVHW.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > HeadingSpeedVHW.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test true water heading value field
-      testString = (String) fields.get(1);
-      double trueHdg = SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+      double trueHdg = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
       if (!Double.isNaN (trueHdg)) {
          dashboardChannel.setCourseThroughWater ((float)trueHdg);
       }
+      heading.headingTrue = trueHdg;
       
       // Test 'T' character field
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'T') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'T' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'T' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'T' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'T' has incorrect number of characters.");
       }
       
       // Test magnetic water heading value field
-      testString = (String) fields.get(3);
-      double magHdg = SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+      double magHdg = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
+      heading.headingMagnetic = magHdg;
       
       // Test to make sure at least true or magnetic heading are entered.
       if (Double.isNaN (trueHdg) && Double.isNaN (magHdg)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("Both true and magnetic heading are either blank or in error.")));    
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "Both true and magnetic heading are either blank or in error.");    
       }
       
       // Test 'M' character field
-      testString = (String) fields.get(4);
+      testString = receivedSentence.getField (4);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'M') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'M' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'M' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'M' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'M' has incorrect number of characters.");
       }
       
       
       // Test true water speed value field
-      testString = (String) fields.get(5);
-      double speedKnots = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double speedKnots = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
       if ((speedKnots < -SentenceData.MAX_STERN_SPEED) ||
           (speedKnots > SentenceData.MAX_FORWARD_SPEED)) {
              if (speedKnots != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (knots) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (knots) out of range.");
              }
       }
       else {
          dashboardChannel.setSpeedThroughWater ((float)speedKnots);
+         speed.speedThroughWater = speedKnots;
       }
       
       // Test 'N' character field
-      testString = (String) fields.get(6);
+      testString = receivedSentence.getField (6);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'N') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'N' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'N' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'N' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'N' has incorrect number of characters.");
       }
       
       
       // Test true water heading value field
-      testString = (String) fields.get(7);
-      double speedKPH = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double speedKPH = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (7),
+         receivedSentence.getFieldLength (7), errorLog);
       if ((speedKPH < -(SentenceData.MAX_STERN_SPEED * SentenceData.NM_TO_KM_CONVERSION)) ||
           (speedKPH > (SentenceData.MAX_FORWARD_SPEED * SentenceData.NM_TO_KM_CONVERSION))) {
              if (speedKPH != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (KPH) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (KPH) out of range.");
              }
       }
       
       // Test to make sure at least true or magnetic speed are entered.
       if (Double.isNaN (speedKnots) && Double.isNaN (speedKPH)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("Both knots and KPH speeds are either blank or in error.")));    
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "Both knots and KPH speeds are either blank or in error.");    
       }
       
       // Test 'K' character field
-      testString = (String) fields.get(8);
+      testString = receivedSentence.getField (8);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'K') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'K' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'K' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'K' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'K' has incorrect number of characters.");
       }
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (heading, receivedSentence);
+      this.publish (speed, receivedSentence);
+   }
 }
 /*
  * Revision History:
@@ -309,4 +370,10 @@ public class HeadingSpeedVHW extends AbstractSentence {
  * 1.0.0.3 - Added 'II' talker ID to valid talker ID array.
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.4 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.5 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.6 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.7 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
@@ -34,7 +34,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.4, 2026-10-17
  */
 public class LoranSignalLCD extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 64;
@@ -78,6 +78,24 @@ public class LoranSignalLCD extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -95,28 +113,45 @@ public class LoranSignalLCD extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence, the manual sentence
+    * until simulated data is available.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
+      return this.buildManualTemplate ();
+   }
+   
+   /**
+    * Builds the field layout of the manual sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-         String sentence = super.getTalkerID () + "LCD";
-         sentence += ',' + super.dataFactory.getLoranGRI () + 
-                     ',' + super.dataFactory.getLoranECD (0) + 
-                     ',' + super.dataFactory.getLoranSNR (0) + 
-                     ',' + super.dataFactory.getLoranECD (1) + 
-                     ',' + super.dataFactory.getLoranSNR (1) + 
-                     ',' + super.dataFactory.getLoranECD (2) + 
-                     ',' + super.dataFactory.getLoranSNR (2) + 
-                     ',' + super.dataFactory.getLoranECD (3) + 
-                     ',' + super.dataFactory.getLoranSNR (3) + 
-                     ',' + super.dataFactory.getLoranECD (4) + 
-                     ',' + super.dataFactory.getLoranSNR (4) + 
-                     ',' + super.dataFactory.getLoranECD (5) + 
-                     ',' + super.dataFactory.getLoranSNR (5);
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "LCD");
+         template.addField (SentenceTemplate.LORAN_GRI);
+         template.addField (SentenceTemplate.LORAN_ECD, 0);
+         template.addField (SentenceTemplate.LORAN_SNR, 0);
+         template.addField (SentenceTemplate.LORAN_ECD, 1);
+         template.addField (SentenceTemplate.LORAN_SNR, 1);
+         template.addField (SentenceTemplate.LORAN_ECD, 2);
+         template.addField (SentenceTemplate.LORAN_SNR, 2);
+         template.addField (SentenceTemplate.LORAN_ECD, 3);
+         template.addField (SentenceTemplate.LORAN_SNR, 3);
+         template.addField (SentenceTemplate.LORAN_ECD, 4);
+         template.addField (SentenceTemplate.LORAN_SNR, 4);
+         template.addField (SentenceTemplate.LORAN_ECD, 5);
+         template.addField (SentenceTemplate.LORAN_SNR, 5);
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -162,142 +197,156 @@ public class LoranSignalLCD extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < LoranSignalLCD.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > LoranSignalLCD.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test GRI
-      testString = (String) fields.get(1);
+      testString = receivedSentence.getField (1);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranGRI (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranGRI (buffer, receivedSentence.getFieldStart (1),
+            receivedSentence.getFieldLength (1), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran GRI can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran GRI can not be null.");
       };
       
       // Test master ECD
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (2),
+            receivedSentence.getFieldLength (2), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran master ECD can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran master ECD can not be null.");
       }
       
       // Test master SNR
-      testString = (String) fields.get(3);
+      testString = receivedSentence.getField (3);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (3),
+            receivedSentence.getFieldLength (3), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran master SNR can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran master SNR can not be null.");
       }
       
       // Test signal 1 ECD
-      testString = (String) fields.get(4);
+      testString = receivedSentence.getField (4);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (4),
+            receivedSentence.getFieldLength (4), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 1 ECD can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 1 ECD can not be null.");
       }
       
       // Test signal 1 SNR
-      testString = (String) fields.get(5);
+      testString = receivedSentence.getField (5);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (5),
+            receivedSentence.getFieldLength (5), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 1 SNR can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 1 SNR can not be null.");
       }
             
       // Test signal 2 ECD
-      testString = (String) fields.get(6);
+      testString = receivedSentence.getField (6);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (6),
+            receivedSentence.getFieldLength (6), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 2 ECD can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 2 ECD can not be null.");
       }
       
       // Test signal 2 SNR
-      testString = (String) fields.get(7);
+      testString = receivedSentence.getField (7);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (7),
+            receivedSentence.getFieldLength (7), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 2 SNR can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 2 SNR can not be null.");
       }
       
       // Test signal 3 ECD
-      testString = (String) fields.get(8);
+      testString = receivedSentence.getField (8);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (8),
+            receivedSentence.getFieldLength (8), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 3 ECD can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 3 ECD can not be null.");
       }
       
       // Test signal 3 SNR
-      testString = (String) fields.get(9);
+      testString = receivedSentence.getField (9);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (9),
+            receivedSentence.getFieldLength (9), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 3 SNR can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 3 SNR can not be null.");
       }
       
       // Test signal 4 ECD
-      testString = (String) fields.get(10);
+      testString = receivedSentence.getField (10);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (10),
+            receivedSentence.getFieldLength (10), errorLog);
       }
       
       // Test signal 4 SNR
-      testString = (String) fields.get(11);
+      testString = receivedSentence.getField (11);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (11),
+            receivedSentence.getFieldLength (11), errorLog);
       }
       
       // Test signal 5 ECD
-      testString = (String) fields.get(12);
+      testString = receivedSentence.getField (12);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (12),
+            receivedSentence.getFieldLength (12), errorLog);
       }
       
       // Test signal 5 SNR
-      testString = (String) fields.get(13);
+      testString = receivedSentence.getField (13);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranECDSNR (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranECDSNR (buffer, receivedSentence.getFieldStart (13),
+            receivedSentence.getFieldLength (13), errorLog);
       }
    }
 }
@@ -306,4 +355,9 @@ public class LoranSignalLCD extends AbstractSentence {
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
  */
\ No newline at end of file
@@ -41,7 +41,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.4, 2026-10-17
  */
 public class LoranTDsGLC extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 70;
@@ -85,6 +85,24 @@ public class LoranTDsGLC extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -102,28 +120,45 @@ public class LoranTDsGLC extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence, the manual sentence
+    * until simulated data is available.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
+      return this.buildManualTemplate ();
+   }
+   
+   /**
+    * Builds the field layout of the manual sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "GLC";
-         sentence += ',' + super.dataFactory.getLoranGRI () + 
-                     ',' + super.dataFactory.getLoranTOATD (0) +
-                     ',' + super.dataFactory.getLoranStatus (0) +
-                     ',' + super.dataFactory.getLoranTOATD (1) +
-                     ',' + super.dataFactory.getLoranStatus (1) +
-                     ',' + super.dataFactory.getLoranTOATD (2) +
-                     ',' + super.dataFactory.getLoranStatus (2) +
-                     ',' + super.dataFactory.getLoranTOATD (3) +
-                     ',' + super.dataFactory.getLoranStatus (3) +
-                     ',' + super.dataFactory.getLoranTOATD (4) +
-                     ',' + super.dataFactory.getLoranStatus (4) +
-                     ',' + super.dataFactory.getLoranTOATD (5) +
-                     ',' + super.dataFactory.getLoranStatus (5);
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "GLC");
+         template.addField (SentenceTemplate.LORAN_GRI);
+         template.addField (SentenceTemplate.LORAN_TOATD, 0);
+         template.addField (SentenceTemplate.LORAN_STATUS, 0);
+         template.addField (SentenceTemplate.LORAN_TOATD, 1);
+         template.addField (SentenceTemplate.LORAN_STATUS, 1);
+         template.addField (SentenceTemplate.LORAN_TOATD, 2);
+         template.addField (SentenceTemplate.LORAN_STATUS, 2);
+         template.addField (SentenceTemplate.LORAN_TOATD, 3);
+         template.addField (SentenceTemplate.LORAN_STATUS, 3);
+         template.addField (SentenceTemplate.LORAN_TOATD, 4);
+         template.addField (SentenceTemplate.LORAN_STATUS, 4);
+         template.addField (SentenceTemplate.LORAN_TOATD, 5);
+         template.addField (SentenceTemplate.LORAN_STATUS, 5);
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -169,145 +204,159 @@ public class LoranTDsGLC extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < LoranTDsGLC.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > LoranTDsGLC.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test GRI
-      testString = (String) fields.get(1);
+      testString = receivedSentence.getField (1);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranGRI (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranGRI (buffer, receivedSentence.getFieldStart (1),
+            receivedSentence.getFieldLength (1), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran GRI can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran GRI can not be null.");
       }
       
       // Test master TOA
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranTOATD (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranTOATD (buffer, receivedSentence.getFieldStart (2),
+            receivedSentence.getFieldLength (2), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran master TOA can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran master TOA can not be null.");
       }
       
       // Test master signal status
-      testString = (String) fields.get(3);
+      testString = receivedSentence.getField (3);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranStatus (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranStatus (buffer, receivedSentence.getFieldStart (3),
+            receivedSentence.getFieldLength (3), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran master signal status can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran master signal status can not be null.");
       }
       
       // Test signal 1 TD
-      testString = (String) fields.get(4);
+      testString = receivedSentence.getField (4);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranTOATD (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranTOATD (buffer, receivedSentence.getFieldStart (4),
+            receivedSentence.getFieldLength (4), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 1 TD can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 1 TD can not be null.");
       }
       
       // Test signal 1 signal status
-      testString = (String) fields.get(5);
+      testString = receivedSentence.getField (5);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranStatus (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranStatus (buffer, receivedSentence.getFieldStart (5),
+            receivedSentence.getFieldLength (5), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 1 status can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 1 status can not be null.");
       }
       
       // Test signal 2 TD
-      testString = (String) fields.get(6);
+      testString = receivedSentence.getField (6);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranTOATD (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranTOATD (buffer, receivedSentence.getFieldStart (6),
+            receivedSentence.getFieldLength (6), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 2 TD can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 2 TD can not be null.");
       }
       
       // Test signal 2 signal status
-      testString = (String) fields.get(7);
+      testString = receivedSentence.getField (7);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranStatus (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranStatus (buffer, receivedSentence.getFieldStart (7),
+            receivedSentence.getFieldLength (7), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 2 status can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 2 status can not be null.");
       }
       
       
       // Test signal 3 TD
-      testString = (String) fields.get(8);
+      testString = receivedSentence.getField (8);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranTOATD (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranTOATD (buffer, receivedSentence.getFieldStart (8),
+            receivedSentence.getFieldLength (8), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 3 TD can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 3 TD can not be null.");
       }
       
       // Test signal 3 signal status
-      testString = (String) fields.get(9);
+      testString = receivedSentence.getField (9);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranStatus (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranStatus (buffer, receivedSentence.getFieldStart (9),
+            receivedSentence.getFieldLength (9), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Loran signal 3 status can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Loran signal 3 status can not be null.");
       }
       
       
       // Test signal 4 TD
-      testString = (String) fields.get(10);
+      testString = receivedSentence.getField (10);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranTOATD (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranTOATD (buffer, receivedSentence.getFieldStart (10),
+            receivedSentence.getFieldLength (10), errorLog);
       }
       
       // Test signal 4 signal status
-      testString = (String) fields.get(11);
+      testString = receivedSentence.getField (11);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranStatus (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranStatus (buffer, receivedSentence.getFieldStart (11),
+            receivedSentence.getFieldLength (11), errorLog);
       }
 
       
       // Test signal 5 TD
-      testString = (String) fields.get(12);
+      testString = receivedSentence.getField (12);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranTOATD (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranTOATD (buffer, receivedSentence.getFieldStart (12),
+            receivedSentence.getFieldLength (12), errorLog);
       }
       
       // Test signal 5 signal status
-      testString = (String) fields.get(13);
+      testString = receivedSentence.getField (13);
       if (testString.length () > 0) {
-         SentenceTools.parseLoranStatus (testString.toCharArray (), errorLog);
+         SentenceTools.parseLoranStatus (buffer, receivedSentence.getFieldStart (13),
+            receivedSentence.getFieldLength (13), errorLog);
       }
    }
 }
@@ -316,4 +365,9 @@ public class LoranTDsGLC extends AbstractSentence {
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
  */
\ No newline at end of file
@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * GGA - Global Positioning System (GPS) fix data. 
  * Since v1.5, differential station and age of corrections added in v2.0
@@ -46,7 +47,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class PositionGGA extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 82;
@@ -57,6 +58,9 @@ public class PositionGGA extends AbstractSentence {
       SentenceTypes.TALKER_GP
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedPosition position = new DecodedPosition ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -90,6 +94,24 @@ public class PositionGGA extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -98,30 +120,48 @@ public class PositionGGA extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getSimulatorSentence () {
+      return super.getTemplateSentence (super.getSimulatorTemplate ());
+   }
+   
+   /**
+    * Get sentence based upon manual data.
+    *
+    * @return Valid simulation-based sentence.
+    */
+   public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "GGA";
-         sentence += ',' + super.dataFactory.getSimulatedUTC () +
-                     ',' + super.dataFactory.getSimulatedLatitude () +
-                     ',' + super.dataFactory.getSimulatedLatitudeHemisphere () +
-                     ',' + super.dataFactory.getSimulatedLongitude () +
-                     ',' + super.dataFactory.getSimulatedLongitudeHemisphere () +
-                     ',' + super.dataFactory.getGPSQualityId () + 
-                     ',' + super.dataFactory.getGPSNoOfSatellites () +
-                     ',' + super.dataFactory.getGPSHDOP () +
-                     ',' + super.dataFactory.getGPSAltitude () + ",M" +
-                     ',' + super.dataFactory.getGPSGeoidalSeparation () + ",M";
-         
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "GGA");
+         template.addField (SentenceTemplate.SIMULATED_UTC);
+         template.addField (SentenceTemplate.SIMULATED_LATITUDE);
+         template.addField (SentenceTemplate.SIMULATED_LATITUDE_HEMISPHERE);
+         template.addField (SentenceTemplate.SIMULATED_LONGITUDE);
+         template.addField (SentenceTemplate.SIMULATED_LONGITUDE_HEMISPHERE);
+         template.addField (SentenceTemplate.GPS_QUALITY_ID);
+         template.addField (SentenceTemplate.GPS_SATELLITES);
+         template.addField (SentenceTemplate.GPS_HDOP);
+         template.addField (SentenceTemplate.GPS_ALTITUDE);
+         template.addConstant ("M");
+         template.addField (SentenceTemplate.GPS_GEOIDAL_SEPARATION);
+         template.addConstant ("M");
+
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-            sentence += ',' + super.dataFactory.getGPSAgeOfDGPS () + 
-                        ',' + super.dataFactory.getGPSDifferentialStation ();
+            template.addField (SentenceTemplate.GPS_DGPS_AGE);
+            template.addField (SentenceTemplate.GPS_DGPS_STATION);
          }
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -129,39 +169,40 @@ public class PositionGGA extends AbstractSentence {
    }
    
    /**
-    * Get sentence based upon manual data.
+    * Builds the field layout of the manual sentence.
     *
-    * @return Valid simulation-based sentence.
+    * @return Sentence template, or null if not supported by the sentence version.
     */
-   public String getManualSentence () {
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "GGA";
-         sentence += ',' + super.dataFactory.getTimeUTC () +
-                     ',' + super.dataFactory.getLatitude () +
-                     ',' + super.dataFactory.getLatitudeHemisphere () +
-                     ',' + super.dataFactory.getLongitude () +
-                     ',' + super.dataFactory.getLongitudeHemisphere () +
-                     ',' + super.dataFactory.getGPSQualityId () + 
-                     ',' + super.dataFactory.getGPSNoOfSatellites () +
-                     ',' + super.dataFactory.getGPSHDOP () +
-                     ',' + super.dataFactory.getGPSAltitude () + ",M" +
-                     ',' + super.dataFactory.getGPSGeoidalSeparation () + ",M";
-         
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "GGA");
+         template.addField (SentenceTemplate.TIME_UTC);
+         template.addField (SentenceTemplate.LATITUDE);
+         template.addField (SentenceTemplate.LATITUDE_HEMISPHERE);
+         template.addField (SentenceTemplate.LONGITUDE);
+         template.addField (SentenceTemplate.LONGITUDE_HEMISPHERE);
+         template.addField (SentenceTemplate.GPS_QUALITY_ID);
+         template.addField (SentenceTemplate.GPS_SATELLITES);
+         template.addField (SentenceTemplate.GPS_HDOP);
+         template.addField (SentenceTemplate.GPS_ALTITUDE);
+         template.addConstant ("M");
+         template.addField (SentenceTemplate.GPS_GEOIDAL_SEPARATION);
+         template.addConstant ("M");
+
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-            sentence += ',' + super.dataFactory.getGPSAgeOfDGPS () + 
-                        ',' + super.dataFactory.getGPSDifferentialStation ();
+            template.addField (SentenceTemplate.GPS_DGPS_AGE);
+            template.addField (SentenceTemplate.GPS_DGPS_STATION);
          }
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
-      }   }
+      }
+   }
    
    /**
     * Get test sentence data. Note, the last digit of select values within
@@ -203,224 +244,234 @@ public class PositionGGA extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      position.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < PositionGGA.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > PositionGGA.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test UTC
-      testString = (String) fields.get(1);
-      long time = SentenceTools.parseUTC (testString.toCharArray (), errorLog);
+      long time = SentenceTools.parseUTC (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
+      position.utcMillis = time;
       if (time == 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-            new String ("Check UTC value.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+            "Check UTC value.");
       }
       
       // Test latitude
-      testString = (String) fields.get(2);
-      double latitude = SentenceTools.parseLatitude (testString.toCharArray (), errorLog);
+      double latitude = SentenceTools.parseLatitude (buffer, receivedSentence.getFieldStart (2),
+         receivedSentence.getFieldLength (2), errorLog);
       if (latitude < 0.01) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-            new String ("Check latitude value.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+            "Check latitude value.");
       }
          
       // Test latitude hemisphere     testString = (String) fields.get(2);
-      testString = (String) fields.get(3);
-      char latHemi = SentenceTools.parseLatitudeHemisphere (testString.toCharArray (), errorLog);
+      char latHemi = SentenceTools.parseLatitudeHemisphere (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
       if (latHemi == 'S') {
          latitude = -latitude;
       }
 
       // Test longitude
-      testString = (String) fields.get(4);
-      double longitude = SentenceTools.parseLongitude (testString.toCharArray (), errorLog);
+      double longitude = SentenceTools.parseLongitude (buffer, receivedSentence.getFieldStart (4),
+         receivedSentence.getFieldLength (4), errorLog);
       if (longitude < 0.01) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-            new String ("Check longitude value.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+            "Check longitude value.");
       }
       
       // Test longitude hemisphere
-      testString = (String) fields.get(5);
-      char lonHemi = SentenceTools.parseLongitudeHemisphere (testString.toCharArray (), errorLog);
+      char lonHemi = SentenceTools.parseLongitudeHemisphere (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
       if (lonHemi == 'W') {
          longitude = -longitude;
       }
       
       dashboardChannel.setPlotPosition (latitude, longitude);
+      position.latitude = latitude;
+      position.longitude = longitude;
 
       // Test GPS quality indicator (see note 1)
       boolean differentialQuality = false;
-      testString = (String) fields.get(6);
+      testString = receivedSentence.getField (6);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if ((character < 0x30) || (character > 0x38)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Quality indicator value not recognized."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Quality indicator value not recognized.", character);
          }
          // Test value of quality indicator
          else if ((character < 0x31) || (character > 0x34)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-               new String ("Quality indicator invalid."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+               "Quality indicator invalid.", character);
          }
          else if (character == 0x32) {
             differentialQuality = true;
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Quality indicator field has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Quality indicator field has incorrect number of characters.");
       }
 
       // Test number of satellites used, 00-12
-      testString = (String) fields.get(7);
+      testString = receivedSentence.getField (7);
       if (testString.length () == 2) {
          char character = testString.charAt (0);
          if ((character < 0x30) || (character > 0x39)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Number of satellites value not recognized."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Number of satellites value not recognized.", character);
          }
          character = testString.charAt (1);
          if ((character < 0x30) || (character > 0x39)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Number of satellites value not recognized."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Number of satellites value not recognized.", character);
          }
-         double numberOfSatellites = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+         double numberOfSatellites = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (7),
+            receivedSentence.getFieldLength (7), errorLog);
          if ((numberOfSatellites < 2) || (numberOfSatellites > 12)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Number of satellites value not valid."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Number of satellites value not valid.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Number of satellites field has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Number of satellites field has incorrect number of characters.");
       }
       
       // Test HDOP (Horizontal Dilution of Precision)
-      testString = (String) fields.get(8);
+      testString = receivedSentence.getField (8);
       if (testString.length () > 0) {
-         double hdop = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+         double hdop = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (8),
+            receivedSentence.getFieldLength (8), errorLog);
          if ((hdop < 0.0) || (hdop > 100.0)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ERRONEOUS,
-               new String ("HDOP value out of bounds.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_ERRONEOUS,
+               "HDOP value out of bounds.");
          }
          else {
             if ((hdop < 0.5) || (hdop > 20.0)) {
-               errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-                  new String ("Check HDOP value.")));
+               errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+                  "Check HDOP value.");
             }
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ERRONEOUS,
-               new String ("HDOP value can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ERRONEOUS,
+               "HDOP value can not be null.");
       }
       
       // Test Altitude, meters
-      testString = (String) fields.get(9);
+      testString = receivedSentence.getField (9);
       if (testString.length () > 0) {
-         double antennaAlt = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+         double antennaAlt = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (9),
+            receivedSentence.getFieldLength (9), errorLog);
          if ((antennaAlt < 0.0) || (antennaAlt > 50.0)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-               new String ("Check antenna altitude value.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+               "Check antenna altitude value.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ERRONEOUS,
-               new String ("Antenna altitude value can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ERRONEOUS,
+               "Antenna altitude value can not be null.");
       }
       
       // Test units of altitude
-      testString = (String) fields.get(10);
+      testString = receivedSentence.getField (10);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'M') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'M' not recognized."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'M' not recognized.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'M' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'M' has incorrect number of characters.");
       }
       
       // Test geoidal separation, meters
-      testString = (String) fields.get(11);
+      testString = receivedSentence.getField (11);
       if (testString.length () > 0) {
-         double geoidalSep = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+         double geoidalSep = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (11),
+            receivedSentence.getFieldLength (11), errorLog);
          if ((geoidalSep < -10.0) || (geoidalSep > 10.0)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-               new String ("Check geoidal separation value.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+               "Check geoidal separation value.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ERRONEOUS,
-               new String ("Geoidal separation value can not be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ERRONEOUS,
+               "Geoidal separation value can not be null.");
       }
       
       // Test units of geoidal separation
-      testString = (String) fields.get(12);
+      testString = receivedSentence.getField (12);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'M') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'M' not recognized."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'M' not recognized.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'M' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'M' has incorrect number of characters.");
       }
       
       // Test for version 2.0
       if (fieldCount == 13) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Sentence appears to be only v1.5 compliant.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Sentence appears to be only v1.5 compliant.");
          return;
       }
       else if (fieldCount < 15) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Sentence is missing fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Sentence is missing fields.");
          return;
       }
       
       // Test age of DGPS data, seconds
-      testString = (String) fields.get(13);
+      testString = receivedSentence.getField (13);
       double diffCorrectionLatency = 0.0;
       if (testString.length () > 0) {
-         diffCorrectionLatency = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+         diffCorrectionLatency = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (13),
+            receivedSentence.getFieldLength (13), errorLog);
          if ((diffCorrectionLatency < 0.0) || (diffCorrectionLatency > 60.0)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-               new String ("Check age of differential correction value.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+               "Check age of differential correction value.");
          }
       }
       else {
          if (differentialQuality) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-                  new String ("Differential age can not be null for differential GPS positions.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+                  "Differential age can not be null for differential GPS positions.");
          }
       }
       
       // Test DGPS reference station ID, 0000-1023
-      testString = (String) fields.get(14);
+      testString = receivedSentence.getField (14);
       // Don't test if latency is either null or invalid
       if (!Double.isNaN (diffCorrectionLatency)) {
          if (testString.length () == 4) {
@@ -428,21 +479,36 @@ public class PositionGGA extends AbstractSentence {
             for (int i = 0; i < testString.length (); i++) {
                character = testString.charAt (i);
                if ((character < 0x30) || (character > 0x39)) {
-                  errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                     new String ("Differential reference station value not recognized."), character));
+                  errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                     "Differential reference station value not recognized.", character);
                }
             }
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Differential reference station field has incorrect number of characters.")));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Differential reference station field has incorrect number of characters.");
          }
       }
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (position, receivedSentence);
+   }
 }
 /*
  * Revision History:
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * GLL - Geographic position - latitude and longitude. 
  * Since v1.5, time a status added in v2.0, mode added in v2.3
@@ -39,7 +40,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class PositionGLL extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 53;
@@ -54,6 +55,9 @@ public class PositionGLL extends AbstractSentence {
       SentenceTypes.TALKER_SN
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedPosition position = new DecodedPosition ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -87,6 +91,24 @@ public class PositionGLL extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -95,28 +117,44 @@ public class PositionGLL extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getSimulatorSentence () {
+      return super.getTemplateSentence (super.getSimulatorTemplate ());
+   }
+   
+   /**
+    * Get sentence based upon manual data.
+    *
+    * @return Valid simulation-based sentence.
+    */
+   public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "GLL";
-         sentence += ',' + super.dataFactory.getSimulatedLatitude () + 
-                     ',' + super.dataFactory.getSimulatedLatitudeHemisphere () + 
-                     ',' + super.dataFactory.getSimulatedLongitude () + 
-                     ',' + super.dataFactory.getSimulatedLongitudeHemisphere ();
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "GLL");
+         template.addField (SentenceTemplate.SIMULATED_LATITUDE);
+         template.addField (SentenceTemplate.SIMULATED_LATITUDE_HEMISPHERE);
+         template.addField (SentenceTemplate.SIMULATED_LONGITUDE);
+         template.addField (SentenceTemplate.SIMULATED_LONGITUDE_HEMISPHERE);
 
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-            sentence += ',' + super.dataFactory.getSimulatedUTC () +
-                        ',' + super.dataFactory.getPositionStatusID ();
+            template.addField (SentenceTemplate.SIMULATED_UTC);
+            template.addField (SentenceTemplate.POSITION_STATUS);
          }
 
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT30) {
-            sentence +=  ',' + super.dataFactory.getPositionModeID ();
+            template.addField (SentenceTemplate.POSITION_MODE);
          }
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -124,33 +162,31 @@ public class PositionGLL extends AbstractSentence {
    }
    
    /**
-    * Get sentence based upon manual data.
+    * Builds the field layout of the manual sentence.
     *
-    * @return Valid simulation-based sentence.
+    * @return Sentence template, or null if not supported by the sentence version.
     */
-   public String getManualSentence () {
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "GLL";
-         sentence += ',' + super.dataFactory.getLatitude () + 
-                     ',' + super.dataFactory.getLatitudeHemisphere () + 
-                     ',' + super.dataFactory.getLongitude () + 
-                     ',' + super.dataFactory.getLongitudeHemisphere ();
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "GLL");
+         template.addField (SentenceTemplate.LATITUDE);
+         template.addField (SentenceTemplate.LATITUDE_HEMISPHERE);
+         template.addField (SentenceTemplate.LONGITUDE);
+         template.addField (SentenceTemplate.LONGITUDE_HEMISPHERE);
 
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-            sentence += ',' + super.dataFactory.getSimulatedUTC () +
-                        ',' + super.dataFactory.getPositionStatusID ();
+            template.addField (SentenceTemplate.SIMULATED_UTC);
+            template.addField (SentenceTemplate.POSITION_STATUS);
          }
 
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT30) {
-            sentence +=  ',' + super.dataFactory.getPositionModeID ();
+            template.addField (SentenceTemplate.POSITION_MODE);
          }
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -199,102 +235,107 @@ public class PositionGLL extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      position.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < PositionGLL.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > PositionGLL.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test latitude
-      testString = (String) fields.get(1);
-      double latitude = SentenceTools.parseLatitude (testString.toCharArray (), errorLog);
+      double latitude = SentenceTools.parseLatitude (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
       if (latitude < 0.01) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-            new String ("Check latitude value.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+            "Check latitude value.");
       }
          
       // Test latitude hemisphere     testString = (String) fields.get(2);
-      testString = (String) fields.get(2);
-      SentenceTools.parseLatitudeHemisphere (testString.toCharArray (), errorLog);
+      char latHemi = SentenceTools.parseLatitudeHemisphere (buffer, receivedSentence.getFieldStart (2),
+         receivedSentence.getFieldLength (2), errorLog);
 
       // Test longitude
-      testString = (String) fields.get(3);
-      double longitude = SentenceTools.parseLongitude (testString.toCharArray (), errorLog);
+      double longitude = SentenceTools.parseLongitude (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
       if (longitude < 0.01) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-            new String ("Check longitude value.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+            "Check longitude value.");
       }
       
       // Test longitude hemisphere
-      testString = (String) fields.get(4);
-      SentenceTools.parseLongitudeHemisphere (testString.toCharArray (), errorLog);
+      char lonHemi = SentenceTools.parseLongitudeHemisphere (buffer, receivedSentence.getFieldStart (4),
+         receivedSentence.getFieldLength (4), errorLog);
+      position.latitude = (latHemi == 'S') ? -latitude : latitude;
+      position.longitude = (lonHemi == 'W') ? -longitude : longitude;
       
       // Test for version 1.5
       if (fieldCount == 5) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Sentence appears to be only v1.5 compliant.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Sentence appears to be only v1.5 compliant.");
          return;
       }
       
       // If field count > 5, then it has to be at least 7, else error
       // Sentence version is at least 2.0 when fields 6 & 7 are present
       if ((fieldCount > 5) && (fieldCount < 7)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence is missing fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence is missing fields.");
          return;
       }
       
       // Test UTC
-      testString = (String) fields.get(5);
-      long time = SentenceTools.parseUTC (testString.toCharArray (), errorLog);
+      long time = SentenceTools.parseUTC (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
+      position.utcMillis = time;
       if (time == 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-            new String ("Check UTC value.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+            "Check UTC value.");
       }
       
       // Test Status
-      testString = (String) fields.get(6);
-      char status = SentenceTools.parseStatus (testString.toCharArray (), errorLog);
+      char status = SentenceTools.parseStatus (buffer, receivedSentence.getFieldStart (6),
+         receivedSentence.getFieldLength (6), errorLog);
       
       // Test status field for validity
       if (status == 'V') {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-            new String ("Status set to invalid.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+            "Status set to invalid.");
       }
       
       // Test for version 2.0
       if (fieldCount == 7) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Sentence appears to be only v2.0 compliant.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Sentence appears to be only v2.0 compliant.");
          return;
       }
             
       // Test Mode
-      testString = (String) fields.get(7);
-      char mode = SentenceTools.parseOperatingMode (testString.toCharArray (), errorLog);
+      char mode = SentenceTools.parseOperatingMode (buffer, receivedSentence.getFieldStart (7),
+         receivedSentence.getFieldLength (7), errorLog);
       
       // Test Status against Mode
       if ((status == 'A') != ((mode == 'A') || (mode == 'D'))) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("Status and operating mode incongruent.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "Status and operating mode incongruent.");
       }
 
       // Test mode field for validity
@@ -302,14 +343,29 @@ public class PositionGLL extends AbstractSentence {
           (mode == 'M') ||
           (mode == 'S') ||
           (mode == 'N')) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-            new String ("Operating mode set to invalid.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+            "Operating mode set to invalid.");
       }
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (position, receivedSentence);
+   }
 }
 /*
  * Revision History:
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
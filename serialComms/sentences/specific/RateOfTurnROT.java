@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * ROT - Rate of turn. 
  * Since v2.0
@@ -28,7 +29,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class RateOfTurnROT extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 19;
@@ -41,6 +42,9 @@ public class RateOfTurnROT extends AbstractSentence {
       SentenceTypes.TALKER_HE
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedRateOfTurn turn = new DecodedRateOfTurn ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -74,6 +78,24 @@ public class RateOfTurnROT extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -82,17 +104,33 @@ public class RateOfTurnROT extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getSimulatorSentence () {
+      return super.getTemplateSentence (super.getSimulatorTemplate ());
+   }
+   
+   /**
+    * Get sentence based upon manual data.
+    *
+    * @return Valid simulation-based sentence.
+    */
+   public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-         String sentence = super.getTalkerID () + "ROT";
-         sentence += ',' + super.dataFactory.getSimulatedRateOfTurn () + 
-                     ',' + super.dataFactory.getRateOfTurnStatus ();
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "ROT");
+         template.addField (SentenceTemplate.SIMULATED_RATE_OF_TURN);
+         template.addField (SentenceTemplate.RATE_OF_TURN_STATUS);
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -100,22 +138,20 @@ public class RateOfTurnROT extends AbstractSentence {
    }
    
    /**
-    * Get sentence based upon manual data.
+    * Builds the field layout of the manual sentence.
     *
-    * @return Valid simulation-based sentence.
+    * @return Sentence template, or null if not supported by the sentence version.
     */
-   public String getManualSentence () {
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-         String sentence = super.getTalkerID () + "ROT";
-         sentence += ',' + super.dataFactory.getRateOfTurn () + 
-                     ',' + super.dataFactory.getRateOfTurnStatus ();
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "ROT");
+         template.addField (SentenceTemplate.RATE_OF_TURN);
+         template.addField (SentenceTemplate.RATE_OF_TURN_STATUS);
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -156,58 +192,69 @@ public class RateOfTurnROT extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      turn.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < RateOfTurnROT.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > RateOfTurnROT.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
-      testString = (String) fields.get(1);
-      double rateOfTurn = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double rateOfTurn = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
       if (!Double.isNaN (rateOfTurn)) {
          if ((rateOfTurn < -SentenceData.MAX_ROT) ||
              (rateOfTurn > SentenceData.MAX_ROT)) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Rate of turn out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Rate of turn out of range.");
          }
          else {
             dashboardChannel.setRateOfTurn ((float)rateOfTurn);
+            turn.rateOfTurn = rateOfTurn;
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Rate of turn value can not be null or contain non-numerals.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Rate of turn value can not be null or contain non-numerals.");
       }
       
       // Test Status
-      testString = (String) fields.get(2);
-      char status = SentenceTools.parseStatus (testString.toCharArray (), errorLog);
+      char status = SentenceTools.parseStatus (buffer, receivedSentence.getFieldStart (2),
+         receivedSentence.getFieldLength (2), errorLog);
       
       // Test status field for validity
       if (status == 'V') {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-            new String ("Status set to invalid.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+            "Status set to invalid.");
       }
       
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (turn, receivedSentence);
+   }
 }
 /*
  * Revision History:
@@ -215,4 +262,10 @@ public class RateOfTurnROT extends AbstractSentence {
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
  * 1.3.0.0 - Corrected error in calling incorrect variable in OwnshipUpdate
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
@@ -112,7 +112,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.2.0.0, 2005-02-10
+ * @version 1.2.0.1, 2026-10-17
  */
 public class RayNav750 extends AbstractSentence {
    final static int MIN_FIELD_COUNT = 1;
@@ -158,6 +158,24 @@ public class RayNav750 extends AbstractSentence {
       return true;
    }
    
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
+   
    /** 
     * This method strips characters and decimals, and packages the result
     * in a set length for use in the RayNav750 sentence.  Input data that is
@@ -542,12 +560,12 @@ public class RayNav750 extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
+      ArrayList<String> fields = receivedSentence.getSentenceFields ();
       int fieldCount = fields.size ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
       // Check for minimum number of fields
       if (fieldCount < RayNav750.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
@@ -563,80 +581,80 @@ public class RayNav750 extends AbstractSentence {
       
       // Check for no solution
       if ((status1 & 0x0002) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "No position solution available."));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "No position solution available.");
       }
       
       // Check for cummulative blink error
       if ((status3 & 0x0010) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "Overall blink error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "Overall blink error");
       }
       
       // Check for S1 blink error
       if ((status2 & 0x0010) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "S1 blink error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "S1 blink error");
       }
       
       // Check for S2 blink error
       if ((status1 & 0x0040) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "S2 blink error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "S2 blink error");
       }
       
       // Check for cumulative cycle error
       if ((status3 & 0x0004) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "Overall cycle error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "Overall cycle error");
       }
       
       // Check for Master cycle error
       if ((status2 & 0x0002) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "Master cycle error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "Master cycle error");
       }
       
       // Check for S1 cycle error
       if ((status2 & 0x0008) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "S1 cycle error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "S1 cycle error");
       }
       
       // Check for S2 cycle error
       if ((status2 & 0x0040) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "S2 cycle error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "S2 cycle error");
       }
       
       // Check for cumulative SNR error
       if ((status3 & 0x0008) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "Overall SNR error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "Overall SNR error");
       }
       
       // Check for Master SNR error
       if ((status2 & 0x0001) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "Master SNR error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "Master SNR error");
       }
       
       // Check for S1 SNR error
       if ((status2 & 0x0004) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "S1 SNR error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "S1 SNR error");
       }
       
       // Check for S2 SNR error
       if ((status2 & 0x0020) > 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID, 
-            "S2 SNR error"));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID, 
+            "S2 SNR error");
       }
       
       // Warn if ASF is not used
       if ((status1 & 0x0008) == 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_POSITION_PRECISION, 
-            "ASF correction factors are not being used."));
+         errorLog.addError (SentenceErrorTypes.ERR_POSITION_PRECISION, 
+            "ASF correction factors are not being used.");
       }
       
       // Construct and check latitude
@@ -671,4 +689,9 @@ public class RayNav750 extends AbstractSentence {
 //      System.out.println(testString);
 //      System.out.println(raynav.stripNonNumbers(testString, 5));
 //   }
-}
\ No newline at end of file
+}
+/*
+ * Version history:
+ *
+ * 1.2.0.1 - Field count limits given to the SentenceTypes descriptors.
+ */
@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * VDR - Set and drift. 
  * Since v1.5
@@ -25,7 +26,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class SetDriftVDR extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 35;
@@ -49,6 +50,9 @@ public class SetDriftVDR extends AbstractSentence {
       SentenceTypes.TALKER_VW
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedSetDrift setDrift = new DecodedSetDrift ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -82,6 +86,24 @@ public class SetDriftVDR extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -90,18 +112,37 @@ public class SetDriftVDR extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getSimulatorSentence () {
+      return super.getTemplateSentence (super.getSimulatorTemplate ());
+   }
+   
+   /**
+    * Get sentence based upon manual data.
+    *
+    * @return Valid simulation-based sentence.
+    */
+   public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "VDR";
-         sentence += ',' + super.dataFactory.getSimulatedSetTrue () + ",T" +
-                     ',' + super.dataFactory.getSetMagnetic () + ",M" +
-                     ',' + super.dataFactory.getSimulatedDriftInKnots () + ",N";
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "VDR");
+         template.addField (SentenceTemplate.SIMULATED_SET_TRUE);
+         template.addConstant ("T");
+         template.addField (SentenceTemplate.SET_MAGNETIC);
+         template.addConstant ("M");
+         template.addField (SentenceTemplate.SIMULATED_DRIFT_KNOTS);
+         template.addConstant ("N");
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -109,23 +150,24 @@ public class SetDriftVDR extends AbstractSentence {
    }
    
    /**
-    * Get sentence based upon manual data.
+    * Builds the field layout of the manual sentence.
     *
-    * @return Valid simulation-based sentence.
+    * @return Sentence template, or null if not supported by the sentence version.
     */
-   public String getManualSentence () {
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "VDR";
-         sentence += ',' + super.dataFactory.getSetTrue () + ",T" +
-                     ',' + super.dataFactory.getSetMagnetic () + ",M" +
-                     ',' + super.dataFactory.getDriftKnots () + ",N";
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "VDR");
+         template.addField (SentenceTemplate.SET_TRUE);
+         template.addConstant ("T");
+         template.addField (SentenceTemplate.SET_MAGNETIC);
+         template.addConstant ("M");
+         template.addField (SentenceTemplate.DRIFT_KNOTS);
+         template.addConstant ("N");
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -167,110 +209,130 @@ public class SetDriftVDR extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      setDrift.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < SetDriftVDR.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > SetDriftVDR.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
 
       
       // Test set direction, degrees True
-      testString = (String) fields.get(1);
-      double trueSet = SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+      double trueSet = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
+      setDrift.setTrue = trueSet;
       
       // Test 'T' character field
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'T') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'T' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'T' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'T' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'T' has incorrect number of characters.");
       }
       
       // Test set direction, degrees Magnetic
-      testString = (String) fields.get(3);
-      double magSet = SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+      double magSet = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
+      setDrift.setMagnetic = magSet;
       
       // Test 'M' character field
-      testString = (String) fields.get(4);
+      testString = receivedSentence.getField (4);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'M') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'M' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'M' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'M' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'M' has incorrect number of characters.");
       }
           
       // Test to make sure at least true or magnetic set are entered.
       if (Double.isNaN (trueSet) && Double.isNaN (magSet)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("Both true and magnetic set are either blank or in error.")));    
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "Both true and magnetic set are either blank or in error.");    
       }
       
       // Test drift speed, Knots
-      testString = (String) fields.get(5);
-      double drift = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double drift = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
+      setDrift.drift = drift;
       if (!Double.isNaN (drift)) {
          if ((drift < 0.0) ||
              (drift > SentenceData.MAX_DRIFT_SPEED)) {
                 if (drift != Double.NaN) {
-                   errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                     new String ("Drift speed out of range.")));
+                   errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                     "Drift speed out of range.");
                 }
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                     new String ("Drift speed is either null or has invalide characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                     "Drift speed is either null or has invalide characters.");
       }
       
       
       // Test 'N' character field
-      testString = (String) fields.get(6);
+      testString = receivedSentence.getField (6);
       if (testString.length () == 1) {
          char character = testString.charAt (0);
          if (character != 'N') {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Units field 'N' not recognzed."), character));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Units field 'N' not recognzed.", character);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Units field 'N' has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Units field 'N' has incorrect number of characters.");
       }
       
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (setDrift, receivedSentence);
+   }
 }
 /*
  * Revision History:
  * 1.3.0.1 - Changed simulated magnetic set to manual data.
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
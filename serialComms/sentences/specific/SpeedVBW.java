@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * VBW - Dual ground and water Speed. 
  * Since v1.5, stern speed fields (x4) added in v2.3
@@ -30,7 +31,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class SpeedVBW extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 49;
@@ -50,6 +51,9 @@ public class SpeedVBW extends AbstractSentence {
       SentenceTypes.TALKER_VW
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedSpeed speed = new DecodedSpeed ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -83,6 +87,24 @@ public class SpeedVBW extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -91,28 +113,44 @@ public class SpeedVBW extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getSimulatorSentence () {
+      return super.getTemplateSentence (super.getSimulatorTemplate ());
+   }
+   
+   /**
+    * Get sentence based upon manual data.
+    *
+    * @return Valid simulation-based sentence.
+    */
+   public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "VBW";
-         sentence += ',' + super.dataFactory.getSimulatedSpeedWaterInKnots () +
-                     ',' + super.dataFactory.getSpeedWaterTranverseInKnots () +
-                     ',' + super.dataFactory.getSpeedWaterStatus () +
-                     ',' + super.dataFactory.getSimulatedSpeedOverGroundInKnots () +
-                     ',' + super.dataFactory.getSpeedGroundTranverseInKnots () +
-                     ',' + super.dataFactory.getSpeedGroundStatus ();
-                     
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "VBW");
+         template.addField (SentenceTemplate.SIMULATED_SPEED_WATER_KNOTS);
+         template.addField (SentenceTemplate.SPEED_WATER_TRANSVERSE_KNOTS);
+         template.addField (SentenceTemplate.SPEED_WATER_STATUS);
+         template.addField (SentenceTemplate.SIMULATED_SPEED_GROUND_KNOTS);
+         template.addField (SentenceTemplate.SPEED_GROUND_TRANSVERSE_KNOTS);
+         template.addField (SentenceTemplate.SPEED_GROUND_STATUS);
+
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT30) {
-            sentence += ',' + super.dataFactory.getSpeedWaterSternInKnots () +
-                        ',' + super.dataFactory.getSpeedWaterSternStatus () +
-                        ',' + super.dataFactory.getSpeedGroundSternInKnots () +
-                        ',' + super.dataFactory.getSpeedGroundSternStatus ();
+            template.addField (SentenceTemplate.SPEED_WATER_STERN_KNOTS);
+            template.addField (SentenceTemplate.SPEED_WATER_STERN_STATUS);
+            template.addField (SentenceTemplate.SPEED_GROUND_STERN_KNOTS);
+            template.addField (SentenceTemplate.SPEED_GROUND_STERN_STATUS);
          }
-                     
+
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -120,33 +158,31 @@ public class SpeedVBW extends AbstractSentence {
    }
    
    /**
-    * Get sentence based upon manual data.
+    * Builds the field layout of the manual sentence.
     *
-    * @return Valid simulation-based sentence.
+    * @return Sentence template, or null if not supported by the sentence version.
     */
-   public String getManualSentence () {
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "VBW";
-         sentence += ',' + super.dataFactory.getSpeedWaterInKnots () +
-                     ',' + super.dataFactory.getSpeedWaterTranverseInKnots () +
-                     ',' + super.dataFactory.getSpeedWaterStatus () +
-                     ',' + super.dataFactory.getSpeedGroundInKnots () +
-                     ',' + super.dataFactory.getSpeedGroundTranverseInKnots () +
-                     ',' + super.dataFactory.getSpeedGroundStatus ();
-                     
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "VBW");
+         template.addField (SentenceTemplate.SPEED_WATER_KNOTS);
+         template.addField (SentenceTemplate.SPEED_WATER_TRANSVERSE_KNOTS);
+         template.addField (SentenceTemplate.SPEED_WATER_STATUS);
+         template.addField (SentenceTemplate.SPEED_GROUND_KNOTS);
+         template.addField (SentenceTemplate.SPEED_GROUND_TRANSVERSE_KNOTS);
+         template.addField (SentenceTemplate.SPEED_GROUND_STATUS);
+
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT30) {
-            sentence += ',' + super.dataFactory.getSpeedWaterSternInKnots () +
-                        ',' + super.dataFactory.getSpeedWaterSternStatus () +
-                        ',' + super.dataFactory.getSpeedGroundSternInKnots () +
-                        ',' + super.dataFactory.getSpeedGroundSternStatus ();
+            template.addField (SentenceTemplate.SPEED_WATER_STERN_KNOTS);
+            template.addField (SentenceTemplate.SPEED_WATER_STERN_STATUS);
+            template.addField (SentenceTemplate.SPEED_GROUND_STERN_KNOTS);
+            template.addField (SentenceTemplate.SPEED_GROUND_STERN_STATUS);
          }
-                     
+
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -192,117 +228,121 @@ public class SpeedVBW extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      speed.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < SpeedVBW.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > SpeedVBW.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test water longitudinal speed
-      testString = (String) fields.get(1);
-      double waterLongitudinalSpeed = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double waterLongitudinalSpeed = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
       if ((waterLongitudinalSpeed < -SentenceData.MAX_STERN_SPEED) ||
           (waterLongitudinalSpeed > SentenceData.MAX_FORWARD_SPEED)) {
              if (waterLongitudinalSpeed != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (water longitudinal) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (water longitudinal) out of range.");
              }
       }
       else {
          dashboardChannel.setSpeedThroughWater ((float)waterLongitudinalSpeed);
+         speed.speedThroughWater = waterLongitudinalSpeed;
       }
       
       // Test water transverse speed
-      testString = (String) fields.get(2);
-      double waterTransverseSpeed = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double waterTransverseSpeed = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (2),
+         receivedSentence.getFieldLength (2), errorLog);
       if ((waterTransverseSpeed < -SentenceData.MAX_TRANSVERSE_SPEED) ||
           (waterTransverseSpeed > SentenceData.MAX_TRANSVERSE_SPEED)) {
              if (waterTransverseSpeed != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (water transverse) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (water transverse) out of range.");
              }
       }
       
       // Test water speed validity
-      testString = (String) fields.get(3);
-      char waterSpeedValidity = SentenceTools.parseStatus (testString.toCharArray (), errorLog);
+      char waterSpeedValidity = SentenceTools.parseStatus (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
       
       
       // Test ground longitudinal speed
-      testString = (String) fields.get(4);
-      double groundLongitudinalSpeed = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double groundLongitudinalSpeed = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (4),
+         receivedSentence.getFieldLength (4), errorLog);
       if ((groundLongitudinalSpeed < -SentenceData.MAX_STERN_SPEED) ||
           (groundLongitudinalSpeed > SentenceData.MAX_FORWARD_SPEED)) {
              if (groundLongitudinalSpeed != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (ground longitudina) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (ground longitudina) out of range.");
              }
       }
       else {
          dashboardChannel.setSpeedOverGround ((float)groundLongitudinalSpeed);
+         speed.speedOverGround = groundLongitudinalSpeed;
       }
             
       // Test ground transverse speed
-      testString = (String) fields.get(5);
-      double groundTransverseSpeed = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double groundTransverseSpeed = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
       if ((groundTransverseSpeed < -SentenceData.MAX_TRANSVERSE_SPEED) ||
           (groundTransverseSpeed > SentenceData.MAX_TRANSVERSE_SPEED)) {
              if (groundTransverseSpeed != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (ground transverse) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (ground transverse) out of range.");
              }
       }
       
       // Test ground speed validity
-      testString = (String) fields.get(6);
-      char groundSpeedValidity = SentenceTools.parseStatus (testString.toCharArray (), errorLog);
+      char groundSpeedValidity = SentenceTools.parseStatus (buffer, receivedSentence.getFieldStart (6),
+         receivedSentence.getFieldLength (6), errorLog);
       
       // Test to ensure either water or ground speed is available
       if ((waterSpeedValidity == 'V') && (groundSpeedValidity == 'V')) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("Both water and ground status bits are set to invalid.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "Both water and ground status bits are set to invalid.");
       }
       
       // Test for version 1.5
       if (fieldCount == 7) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Sentence appears to be only v1.5 compliant.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Sentence appears to be only v1.5 compliant.");
          return;
       }
       
       // Test for version 2.3
       if (fieldCount != 11) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence is missing fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence is missing fields.");
          return;
       }
       
       // Test stern water transverse speed
-      testString = (String) fields.get(7);
-      double waterTransverseSternSpeed = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double waterTransverseSternSpeed = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (7),
+         receivedSentence.getFieldLength (7), errorLog);
       if ((waterTransverseSternSpeed < -SentenceData.MAX_TRANSVERSE_SPEED) ||
           (waterTransverseSternSpeed > SentenceData.MAX_TRANSVERSE_SPEED)) {
              if (waterTransverseSternSpeed != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (stern water transverse) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (stern water transverse) out of range.");
              }
       }
       
@@ -311,13 +351,13 @@ public class SpeedVBW extends AbstractSentence {
       //char waterSternValidity = SentenceTools.parseStatus (testString.toCharArray (), errorLog);
       
       // Test stern ground transverse speed, 
-      testString = (String) fields.get(9);
-      double groundTransverseSternSpeed = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double groundTransverseSternSpeed = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (9),
+         receivedSentence.getFieldLength (9), errorLog);
       if ((groundTransverseSternSpeed < -SentenceData.MAX_TRANSVERSE_SPEED) ||
           (groundTransverseSternSpeed > SentenceData.MAX_TRANSVERSE_SPEED)) {
              if (groundTransverseSternSpeed != Double.NaN) {
-                errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                  new String ("Speed (stern ground transverse) out of range.")));
+                errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                  "Speed (stern ground transverse) out of range.");
              }
       }
       
@@ -326,10 +366,25 @@ public class SpeedVBW extends AbstractSentence {
       //char groundSternValidity = SentenceTools.parseStatus (testString.toCharArray (), errorLog);    
 
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (speed, receivedSentence);
+   }
 }
 /*
  * Revision History:
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
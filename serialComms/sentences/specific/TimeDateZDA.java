@@ -14,6 +14,7 @@ import java.text.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * ZDA - Time and date. 
  * Since v1.5, local zone minutes added in version 2.3
@@ -32,12 +33,13 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class TimeDateZDA extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 38;
    final static int MIN_FIELD_COUNT = 6;
    final static int MAX_FIELD_COUNT = 7;   
+   final static long MILLIS_PER_DAY = 86400000L;
 
    final static int [] validTalkerID = {
       SentenceTypes.TALKER_EC,
@@ -54,6 +56,9 @@ public class TimeDateZDA extends AbstractSentence {
       SentenceTypes.TALKER_ZV
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedTime dateTime = new DecodedTime ();
    
    DecimalFormat twoDigitForm = new DecimalFormat("00");
    DecimalFormat fourDigitForm = new DecimalFormat("00");
@@ -90,6 +95,24 @@ public class TimeDateZDA extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
     
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -98,24 +121,40 @@ public class TimeDateZDA extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getSimulatorSentence () {
-      String sentence = super.getTalkerID () + "ZDA";
+      return super.getTemplateSentence (super.getSimulatorTemplate ());
+   }
+   
+   /**
+    * Get sentence based upon manual data.
+    *
+    * @return Valid simulation-based sentence.
+    */
+   public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+
+   /**
+    * Builds the field layout of the simulator sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         sentence += ',' + super.dataFactory.getSimulatedUTC () +
-                     ',' + super.dataFactory.getSimulatedDay () +
-                     ',' + super.dataFactory.getSimulatedMonth () +
-                     ',' + super.dataFactory.getSimulatedYear () +
-                     ',' + super.dataFactory.getZoneHours ();
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "ZDA");
+         template.addField (SentenceTemplate.SIMULATED_UTC);
+         template.addField (SentenceTemplate.SIMULATED_DAY);
+         template.addField (SentenceTemplate.SIMULATED_MONTH);
+         template.addField (SentenceTemplate.SIMULATED_YEAR);
+         template.addField (SentenceTemplate.ZONE_HOURS);
 
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT30) {
-            sentence += ',' + super.dataFactory.getZoneMinutes ();
+            template.addField (SentenceTemplate.ZONE_MINUTES);
          }
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -123,35 +162,33 @@ public class TimeDateZDA extends AbstractSentence {
    }
    
    /**
-    * Get sentence based upon manual data.
+    * Builds the field layout of the manual sentence.
     *
-    * @return Valid simulation-based sentence.
+    * @return Sentence template, or null if not supported by the sentence version.
     */
-   public String getManualSentence () {
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_1PT50) {
-         String sentence = super.getTalkerID () + "ZDA";
-         sentence += ',' + super.dataFactory.getTimeUTC () +
-                     ',' + super.dataFactory.getDateDay () +
-                     ',' + super.dataFactory.getDateMonth () +
-                     ',' + super.dataFactory.getDateYear () +
-                     ',' + super.dataFactory.getZoneHours ();
-      
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "ZDA");
+         template.addField (SentenceTemplate.TIME_UTC);
+         template.addField (SentenceTemplate.DATE_DAY);
+         template.addField (SentenceTemplate.DATE_MONTH);
+         template.addField (SentenceTemplate.DATE_YEAR);
+         template.addField (SentenceTemplate.ZONE_HOURS);
+
          if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT30) {
-            sentence += ',' + super.dataFactory.getZoneMinutes ();
+            template.addField (SentenceTemplate.ZONE_MINUTES);
          }
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
       }
    }
-
+   
    /**
     * Get test sentence data. Note, the last digit of select values within
     * the sentence is random.
@@ -191,119 +228,171 @@ public class TimeDateZDA extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      dateTime.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < TimeDateZDA.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > TimeDateZDA.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test UTC
-      testString = (String) fields.get(1);
-      long time = SentenceTools.parseUTC (testString.toCharArray (), errorLog);
+      long time = SentenceTools.parseUTC (buffer, receivedSentence.getFieldStart (1),
+         receivedSentence.getFieldLength (1), errorLog);
       if (time == 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SUSPICOUS,
-            new String ("Check UTC value.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_SUSPICOUS,
+            "Check UTC value.");
       }
       
       // Test day value
-      testString = (String) fields.get(2);
+      int dayOfMonth = 0;
+      int monthOfYear = 0;
+      int calendarYear = 0;
+      testString = receivedSentence.getField (2);
       if (testString.length () == 2) {
-         double day = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+         double day = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (2),
+            receivedSentence.getFieldLength (2), errorLog);
+         dayOfMonth = (int) day;
          if ((day < 1.0) || (day > 31.0)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ERRONEOUS,
-               new String ("Illegal day value.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_ERRONEOUS,
+               "Illegal day value.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Day value has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Day value has incorrect number of characters.");
       }
       
       // Test month value
-      testString = (String) fields.get(3);
+      testString = receivedSentence.getField (3);
       if (testString.length () == 2) {
-         double month = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+         double month = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (3),
+            receivedSentence.getFieldLength (3), errorLog);
+         monthOfYear = (int) month;
          if ((month < 1.0) || (month > 12)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ERRONEOUS,
-               new String ("Illegal month value.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_ERRONEOUS,
+               "Illegal month value.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Month value has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Month value has incorrect number of characters.");
       }
       
       // Test year value
-      testString = (String) fields.get(4);
+      testString = receivedSentence.getField (4);
       if (testString.length () == 4) {
-         double year = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+         double year = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (4),
+            receivedSentence.getFieldLength (4), errorLog);
+         calendarYear = (int) year;
          if ((year < 2004.0) || (year > 2020.0)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ERRONEOUS,
-               new String ("Illegal year value.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_ERRONEOUS,
+               "Illegal year value.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Year value has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Year value has incorrect number of characters.");
+      }
+      
+      // UTC on the date given, or on the current UTC day
+      dateTime.utcMillis = time;
+      if ((time != 0) && (dayOfMonth >= 1) && (dayOfMonth <= 31) &&
+          (monthOfYear >= 1) && (monthOfYear <= 12) && (calendarYear > 0)) {
+         dateTime.utcMillis = (TimeDateZDA.getEpochDay (calendarYear, monthOfYear, dayOfMonth) *
+            TimeDateZDA.MILLIS_PER_DAY) + Math.floorMod (time, TimeDateZDA.MILLIS_PER_DAY);
+         dateTime.dateGiven = true;
       }
       
       // Test local zone hours value
-      testString = (String) fields.get(5);
-      double zoneHour = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double zoneHour = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
+      dateTime.zoneMinutes = zoneHour * 60.0;
       if (Double.isNaN (zoneHour)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Zone minutes can not be null or contain non-numerals.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Zone minutes can not be null or contain non-numerals.");
       }
       else {
          if ((zoneHour < 0.0) || (zoneHour > 59.0)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ERRONEOUS,
-               new String ("Illegal zone minutes value.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_ERRONEOUS,
+               "Illegal zone minutes value.");
          }
       }
 
       // Test for version 1.5
       if (fieldCount == 6) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_MISSING,
-            new String ("Sentence appears to be only v1.5 compliant.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_MISSING,
+            "Sentence appears to be only v1.5 compliant.");
          return;
       }
       
       // Test local zone minutes value
-      testString = (String) fields.get(6);
-      double zoneMinute = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double zoneMinute = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (6),
+         receivedSentence.getFieldLength (6), errorLog);
+      if (!Double.isNaN (zoneMinute)) {
+         dateTime.zoneMinutes += (zoneHour < 0.0) ? -zoneMinute : zoneMinute;
+      }
       if (Double.isNaN (zoneMinute)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Zone minutes can not be null or contain non-numerals.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Zone minutes can not be null or contain non-numerals.");
       }
       else {
          if ((zoneMinute < 0.0) || (zoneMinute > 59.0)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ERRONEOUS,
-               new String ("Illegal zone minutes value.")));
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_ERRONEOUS,
+               "Illegal zone minutes value.");
          }
       }
    }
+
+   /*
+    * Gets the number of days from 1970-01-01 to a date of the proleptic
+    * Gregorian calendar.
+    */
+   static long getEpochDay (int year, int month, int day) {
+      long y = (month <= 2) ? year - 1 : year;
+      long era = Math.floorDiv (y, 400);
+      long yearOfEra = y - (era * 400);
+      long dayOfYear = ((153 * (month + ((month > 2) ? -3 : 9))) + 2) / 5 + day - 1;
+      long dayOfEra = (yearOfEra * 365) + (yearOfEra / 4) - (yearOfEra / 100) + dayOfYear;
+      return (era * 146097) + dayOfEra - 719468;
+   }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (dateTime, receivedSentence);
+   }
 }
 /*
  * Revision History:
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
@@ -34,7 +34,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.4, 2026-10-17
  */
 public class USCG_DCU_BBG extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 26;
@@ -79,6 +79,24 @@ public class USCG_DCU_BBG extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -96,16 +114,34 @@ public class USCG_DCU_BBG extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence, the manual sentence
+    * until simulated data is available.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
+      return this.buildManualTemplate ();
+   }
+   
+   /**
+    * Builds the field layout of the manual sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_3PT00) {
-         String sentence = super.getTalkerID () + "BBG";
-         sentence += ',' + super.dataFactory.getOssTrain () + 
-                     ',' + super.dataFactory.getOssElevation () + 
-                     ',' + super.dataFactory.getOssStatusFromSCCS () + 
-                     ',' + super.dataFactory.getOssStatusFromDCU ();
-
-         sentence += '*' + SentenceTools.getChecksum(sentence);
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "BBG");
+         template.addField (SentenceTemplate.OSS_TRAIN);
+         template.addField (SentenceTemplate.OSS_ELEVATION);
+         template.addField (SentenceTemplate.OSS_STATUS_FROM_SCCS);
+         template.addField (SentenceTemplate.OSS_STATUS_FROM_DCU);
+         template.setChecksum (true);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -142,97 +178,100 @@ public class USCG_DCU_BBG extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < USCG_DCU_BBG.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > USCG_DCU_BBG.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test train bearing
-      testString = (String) fields.get(1);
+      testString = receivedSentence.getField (1);
       if (testString.length () > 0) {
-         SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+         SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (1),
+            receivedSentence.getFieldLength (1), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_MISSING, 
-            "Bit failure for OSS train (null value)."));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_MISSING, 
+            "Bit failure for OSS train (null value).");
       }
       
       
       // Test elevation bearing
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (testString.length () > 0) {
-         double elevation = SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+         double elevation = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (2),
+            receivedSentence.getFieldLength (2), errorLog);
          if (Double.isNaN (elevation) || (elevation > 90.0)) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               "Erroneous elevation value."));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Erroneous elevation value.");
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_MISSING,
-            "Bit failure for OSS elevation (null value)."));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_MISSING,
+            "Bit failure for OSS elevation (null value).");
       }
       
       // Test DCU commmand
-      String dcuCmdString = (String) fields.get(3);
+      CharSequence dcuCmdString = receivedSentence.getField (3);
       if (dcuCmdString.length() == 1) {
          char status = dcuCmdString.charAt (0);
          if ((status == 'P') || (status == 'Q')) {
             // reserved for future processing.
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("SCCS (to DCU) command character not recognzed."), status));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "SCCS (to DCU) command character not recognzed.", status);
          }
       }
       else {
          if (dcuCmdString.length() > 1) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("SCCS (to DCU) command character has too many characters.")));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "SCCS (to DCU) command character has too many characters.");
             }
       }
       
       // Test SCCS command
-      String sccsCmdString = (String) fields.get(4);
+      CharSequence sccsCmdString = receivedSentence.getField (4);
       if (sccsCmdString.length() == 1) {
          char status = sccsCmdString.charAt (0);
          if ((status == 'P') || (status == 'Q')) {
             // reserved for future processing.
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("DCU (to SCCS) command character not recognzed."), status));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "DCU (to SCCS) command character not recognzed.", status);
          }
       }
       else {
          if (sccsCmdString.length() > 1) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("DCU (to SCCS) command character has too many characters.")));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "DCU (to SCCS) command character has too many characters.");
          }
       }
       
       // Test logic between DCU and SCCS command
       if ((dcuCmdString.length () == 0) && (sccsCmdString.length () == 0)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_ILLOGICAL,
-            new String ("DCU and SCCS command characters can not both be null.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_ILLOGICAL,
+            "DCU and SCCS command characters can not both be null.");
       }
    }
 }
@@ -241,4 +280,9 @@ public class USCG_DCU_BBG extends AbstractSentence {
  *
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
  */
\ No newline at end of file
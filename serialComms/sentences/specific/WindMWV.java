@@ -13,6 +13,7 @@ import java.util.*;
 import serialComms.*;
 import serialComms.sentences.*;
 import serialComms.sentences.analysis.*;
+import serialComms.sentences.decoded.*;
 /**
  * MWV - Wind speed and angle. 
  * Since 2.0, 'S' units added in v3.0
@@ -27,7 +28,7 @@ import serialComms.sentences.analysis.*;
  *</pre>
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.5, 2026-10-17
  */
 public class WindMWV extends AbstractSentence {
    final static int ESTIMATED_SENTENCE_LENGTH = 29;
@@ -39,6 +40,9 @@ public class WindMWV extends AbstractSentence {
       SentenceTypes.TALKER_II
    };
    final static int talkerCount = validTalkerID.length;
+
+   /* Values decoded from the last sentence received, reused for each. */
+   DecodedWind wind = new DecodedWind ();
       
    /**
     * Get this sentence's estimated length in bytes.
@@ -72,6 +76,24 @@ public class WindMWV extends AbstractSentence {
       }
       return false;
    }
+   
+   /**
+    * Gets the least number of fields of a received sentence.
+    *
+    * @return Minimum field count, including the address field.
+    */
+   public int getMinFieldCount () {
+      return MIN_FIELD_COUNT;
+   }
+   
+   /**
+    * Gets the most fields of a received sentence.
+    *
+    * @return Maximum field count, including the address field.
+    */
+   public int getMaxFieldCount () {
+      return MAX_FIELD_COUNT;
+   }
       
    /**
     * Get sentence based upon simulator data.  Manual data is inserted where
@@ -89,20 +111,37 @@ public class WindMWV extends AbstractSentence {
     * @return Valid simulation-based sentence.
     */
    public String getManualSentence () {
+      return super.getTemplateSentence (super.getManualTemplate ());
+   }
+   
+   /**
+    * Builds the field layout of the simulator sentence, the manual sentence
+    * until simulated data is available.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildSimulatorTemplate () {
+      return this.buildManualTemplate ();
+   }
+   
+   /**
+    * Builds the field layout of the manual sentence.
+    *
+    * @return Sentence template, or null if not supported by the sentence version.
+    */
+   protected SentenceTemplate buildManualTemplate () {
       if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT00) {
-         String sentence = super.getTalkerID () + "MWV";
-         sentence += ',' + super.dataFactory.getWindAngle () + 
-                     ',' + super.dataFactory.getWindReference () + 
-                     ',' + super.dataFactory.getWindSpeed () + 
-                     ',' + super.dataFactory.getWindUnits () + 
-                     ',' + super.dataFactory.getWindStatus ();
+         SentenceTemplate template = new SentenceTemplate (super.getTalkerID () + "MWV");
+         template.addField (SentenceTemplate.WIND_ANGLE);
+         template.addField (SentenceTemplate.WIND_REFERENCE);
+         template.addField (SentenceTemplate.WIND_SPEED);
+         template.addField (SentenceTemplate.WIND_UNITS);
+         template.addField (SentenceTemplate.WIND_STATUS);
 
          // Add checksum if required if not previously required
-         if (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10) {
-            sentence += '*' + SentenceTools.getChecksum(sentence);
-         }
+         template.setChecksum (super.sentenceVersion >= SentenceTypes.NMEA_VERSION_2PT10);
 
-         return new String('$' + sentence + SentenceTools.CR + SentenceTools.LF);
+         return template;
       }
       else {
          return null;
@@ -143,104 +182,125 @@ public class WindMWV extends AbstractSentence {
       if (receivedSentence == null) {
          return;
       }
-      ArrayList<String> fields = receivedSentence.sentenceFields;
-      int fieldCount = fields.size ();
+      wind.clear ();
+      receivedSentence.frameFieldOffsets ();
+      int fieldCount = receivedSentence.getFieldTotal ();
+      byte[] buffer = receivedSentence.getFieldBuffer ();
       SentenceErrorLog errorLog = receivedSentence.errorLog;
-      String testString;
+      CharSequence testString;
      
       // Check for valid talkerID
       if (!this.isSentenceIDValid (receivedSentence.talkerID)) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_ILLEGAL));
+         errorLog.addError (SentenceErrorTypes.ERR_TALKERID_ILLEGAL);
          return;
       }
       
       // Check for minimum number of fields
       if (fieldCount < WindMWV.MIN_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE);
          return;
       }
       
       // Check for maximum number of fields
       if (fieldCount > WindMWV.MAX_FIELD_COUNT) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Sentence has too many fields.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Sentence has too many fields.");
          return;
       }
       
       // Test wind direction angle (0-359 degrees) 
-      testString = (String) fields.get(1);
+      testString = receivedSentence.getField (1);
       if (testString.length () > 0) {
-         SentenceTools.parseBearing (testString.toCharArray (), errorLog);
+         wind.windAngle = SentenceTools.parseBearing (buffer, receivedSentence.getFieldStart (1),
+            receivedSentence.getFieldLength (1), errorLog);
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_MISSING));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_MISSING);
       }
       
       // Test wind direction reference ('R', 'T')
-      testString = (String) fields.get(2);
+      testString = receivedSentence.getField (2);
       if (testString.length() == 1) {
          char mode = testString.charAt (0);
          if ((mode == 'R') || 
              (mode == 'T')) {
+            wind.reference = mode;
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Wind direction reference not recognzed."), mode));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Wind direction reference not recognzed.", mode);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Wind direction reference field has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Wind direction reference field has incorrect number of characters.");
       }
       
       // Test wind speed 
-      testString = (String) fields.get(3);
-      double speedKnots = SentenceTools.parseNumber (testString.toCharArray (), errorLog);
+      double speedKnots = SentenceTools.parseNumber (buffer, receivedSentence.getFieldStart (3),
+         receivedSentence.getFieldLength (3), errorLog);
+      wind.windSpeed = speedKnots;
       if (!Double.isNaN (speedKnots)) {
          if ((speedKnots < 0.0) ||
              (speedKnots > SentenceData.MAX_WIND_SPEED)) {
                 if (speedKnots != Double.NaN) {
-                   errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                     new String ("Wind speed out of range.")));
+                   errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                     "Wind speed out of range.");
                 }
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-                     new String ("Wind speed is either null or has invalide characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+                     "Wind speed is either null or has invalide characters.");
       }
       
       // Test wind speed units ('K', 'M', 'N', 'S')
-      testString = (String) fields.get(4);
+      testString = receivedSentence.getField (4);
       if (testString.length() == 1) {
          char mode = testString.charAt (0);
          if ((mode == 'K') || 
              (mode == 'M') ||
              (mode == 'N') ||
              (mode == 'S')) {
+            wind.speedUnits = mode;
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-               new String ("Wind speed units not recognzed."), mode));
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+               "Wind speed units not recognzed.", mode);
          }
       }
       else {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INVALID,
-            new String ("Wind speed units field has incorrect number of characters.")));
+         errorLog.addError (SentenceErrorTypes.ERR_FIELD_INVALID,
+            "Wind speed units field has incorrect number of characters.");
       }
       
       // Test status, A = valid, V = invalid
-      testString = (String) fields.get(5);
-      char validity = SentenceTools.parseStatus (testString.toCharArray (), errorLog);
+      char validity = SentenceTools.parseStatus (buffer, receivedSentence.getFieldStart (5),
+         receivedSentence.getFieldLength (5), errorLog);
       if (validity == 'V') {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_INVALID,
-            new String ("Status set to invalid.")));
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_INVALID,
+            "Status set to invalid.");
       }
    }
+
+   /**
+    * Publish the values decoded from the last sentence received.
+    *
+    * @param receivedSentence The received sentence just processed.
+    */   
+   public void publishDecodedValues (ReceivedSentence receivedSentence) {
+      this.publish (wind, receivedSentence);
+   }
 }
 /*
  * Revision History:
  * 1.3.0.1 - Changed simulted to output manual data (vice random).
  * 1.0.0.1 - Modified processReceivedSentence() to receive a ReceivedSentence
  *    object.
+ * 1.0.0.2 - Sentences are written from templates declared once per talker ID
+ *    and version.
+ * 1.0.0.3 - Fields are parsed in place from the received sentence's field
+ *    buffer, without creating objects.
+ * 1.0.0.4 - Field count limits given to the SentenceTypes descriptors.
+ * 1.0.0.5 - Decoded values published to the port's DecodedValueListeners.
  */
\ No newline at end of file
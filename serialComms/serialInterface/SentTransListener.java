@@ -9,13 +9,42 @@
  */
 package serialComms.serialInterface;
 
+import java.nio.*;
 import java.util.*;
+import serialComms.sentences.analysis.*;
 /**
  * The interface class defines the transmitted sentence listener objects.
  *
  * @author Jeff Stewart
- * @version 1.0.0.0, 2005-01-01
+ * @version 1.0.0.2, 2026-10-17
  */
 public interface SentTransListener extends EventListener {
    void transmitSentence (String sentence);
-}
\ No newline at end of file
+
+   /**
+    * Transmits a sentence written into a reusable buffer.  The buffer is only
+    * valid during the call, and its position and limit must be left unchanged.
+    *
+    * @param sentence The sentence bytes, from the buffer's position to its limit.
+    */
+   void transmitSentence (ByteBuffer sentence);
+
+   /**
+    * Transmits a sentence written into a reusable buffer, as
+    * transmitSentence(ByteBuffer), and records how late the sentence is once
+    * it has been written to the port.
+    *
+    * @param sentence The sentence bytes, from the buffer's position to its limit.
+    * @param dueNanos The System.nanoTime() at which the sentence was due.
+    * @param jitterHistogram The histogram of the sentence's lateness.
+    */
+   void transmitSentence (ByteBuffer sentence, long dueNanos, IntervalHistogram jitterHistogram);
+}
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Added transmitSentence(ByteBuffer) for sentences written straight
+ *          into a per-port buffer.
+ * 1.0.0.2  Added the due time and jitter histogram of a sentence, recorded
+ *          when the sentence is written to the port.
+ */
\ No newline at end of file
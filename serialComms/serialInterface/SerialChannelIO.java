@@ -10,16 +10,23 @@
 package serialComms.serialInterface;
 
 import java.io.*;
+import java.nio.*;
 import java.util.*;
 import javax.comm.*;
+import serialComms.sentences.analysis.*;
 /**
  * Objects of this class act as the interface between the javax.commm
- * serial port object and the sentence transceiver object.
+ * serial port object and the sentence transceiver object.  Each block of
+ * sentences is written to the port in a single write and flushed, and the
+ * bytes written and the time each write takes are kept.
  *
  * @author Jeff Stewart
- * @version 1.0.0.1, 2005-01-31
+ * @version 1.0.0.7, 2026-10-17
  */
 public class SerialChannelIO implements SerialPortEventListener {
+   
+   /** Size of the reusable receive buffer, in bytes. */
+   public static final int RECEIVE_BUFFER_SIZE = 512;
 
    SerialPort serialPort;
    InputStream inputStream;
@@ -27,6 +34,15 @@ public class SerialChannelIO implements SerialPortEventListener {
    
    boolean transmitEnabled;
    boolean transmitReset;
+   
+   byte[] receiveBuffer = new byte[RECEIVE_BUFFER_SIZE];
+   /* Reused to convert sentences given as text, guarded by this object. */
+   byte[] transmitBuffer = new byte[RECEIVE_BUFFER_SIZE];
+   
+   /* Transmit statistics, the histogram recorded while holding this object. */
+   IntervalHistogram writeLatency = new IntervalHistogram ();
+   volatile long bytesWritten;
+   volatile long writeCount;
 
    private SerialChannelListener serialChannelListener;
    
@@ -123,7 +139,9 @@ public class SerialChannelIO implements SerialPortEventListener {
    }
 
    /**
-    * Processes the serial event triggered by the serial port object.
+    * Processes the serial event triggered by the serial port object.  All
+    * available data is read in blocks into a reusable buffer, and each block
+    * is passed to the listener in a single call.
     *
     * @param event A serial port event.
     */   
@@ -131,8 +149,17 @@ public class SerialChannelIO implements SerialPortEventListener {
       if (event.getEventType() == SerialPortEvent.DATA_AVAILABLE) {
          try {
             if (serialChannelListener != null) {
-               while (inputStream.available() > 0) {
-                  serialChannelListener.receiveCharacter ((char) inputStream.read());
+               int bytesAvailable;
+               int bytesRead;
+               while ((bytesAvailable = inputStream.available()) > 0) {
+                  if (bytesAvailable > receiveBuffer.length) {
+                     bytesAvailable = receiveBuffer.length;
+                  }
+                  bytesRead = inputStream.read (receiveBuffer, 0, bytesAvailable);
+                  if (bytesRead < 1) {
+                     break;
+                  }
+                  serialChannelListener.receiveBytes (receiveBuffer, 0, bytesRead);
                }
             }
          } 
@@ -145,45 +172,121 @@ public class SerialChannelIO implements SerialPortEventListener {
 
    
    /**
-    * Transmits a character to the serial port.
+    * Transmits a sentence to the serial port.  The characters are converted
+    * into a reusable buffer, so no objects are created.
     *
-    * @param sentence Character to transmit.
+    * @param sentence Sentence to transmit.
     */   
-   public void transmitSentence (String sentence) throws IOException {
+   public synchronized void transmitSentence (String sentence) throws IOException {
 // loopback test code...
 //   for (int i = 0; i < sentence.length (); i++) {
 //      serialChannelListener.receiveCharacter (sentence.charAt (i));
 //   }
 // ...end test code
       
+      int length = sentence.length ();
+      if (length > transmitBuffer.length) {
+         transmitBuffer = new byte[length];
+      }
+      for (int i = 0; i < length; i++) {
+         transmitBuffer[i] = (byte) sentence.charAt (i);
+      }
+      this.transmitBytes (transmitBuffer, 0, length);
+   }
+
+   /**
+    * Transmits a sentence held in a buffer to the serial port.  A heap buffer
+    * is written without copying; a direct or read-only buffer, which has no
+    * accessible array, is copied into a reusable buffer first.  The buffer's
+    * position and limit are not changed.
+    *
+    * @param sentence The sentence bytes, from the buffer's position to its limit.
+    */   
+   public synchronized void transmitSentence (ByteBuffer sentence) throws IOException {
+      int start = sentence.position ();
+      int length = sentence.remaining ();
+      if (sentence.hasArray ()) {
+         this.transmitBytes (sentence.array (), sentence.arrayOffset () + start, length);
+         return;
+      }
+      if (length > transmitBuffer.length) {
+         transmitBuffer = new byte[length];
+      }
+      for (int i = 0; i < length; i++) {
+         transmitBuffer[i] = sentence.get (start + i);
+      }
+      this.transmitBytes (transmitBuffer, 0, length);
+   }
+
+   /**
+    * Transmits bytes held in an array to the serial port in a single write,
+    * then flushes it, e.g. several sentences gathered by a TransmitQueue.
+    *
+    * @param bytes The array holding the bytes.
+    * @param offset The index of the first byte.
+    * @param length The number of bytes.
+    */   
+   public synchronized void transmitBytes (byte[] bytes, int offset, int length) throws IOException {
       try {
          if (transmitEnabled) {
-            // convert sentence (String) to byte array
-            byte byteArray [] = new byte[sentence.length ()];
-            for (int i = 0; i < sentence.length (); i++) {
-               byteArray[i] = (byte) sentence.charAt (i);
-            }
-            outputStream.write(byteArray);
+            long startNanos = System.nanoTime ();
+            outputStream.write (bytes, offset, length);
+            outputStream.flush ();
+            writeLatency.recordValue (System.nanoTime () - startNanos);
+            bytesWritten += length;
+            writeCount++;
          }
       } 
       catch (IOException error) {
-         System.out.println ("Unable to write character in SerialChannelIO. " +
-            error.toString());
-         
-         // Attempt to re-link output stream once if it faults.
-         try {
-            outputStream = serialPort.getOutputStream();
-         } 
-         catch (IOException resetError) {
-            if (!transmitReset) {
-               System.out.println ("SerialChannelIO unable reset output stream - " +
-                  "output divereted to console." +
-                  error.toString());
-               outputStream = System.out;
-            }
-            else { // Force SentenceTransceiver to deal with exception.
-               throw resetError;
-            }
+         this.resetOutputStream (error);
+      }
+   }
+
+   /**
+    * Gets the number of bytes written to the serial port.
+    *
+    * @return Written byte count.
+    */
+   public long getBytesWritten () {
+      return bytesWritten;
+   }
+
+   /**
+    * Gets the number of writes to the serial port.
+    *
+    * @return Write count.
+    */
+   public long getWriteCount () {
+      return writeCount;
+   }
+
+   /**
+    * Gets the histogram of the time taken by each write to the serial port,
+    * including its flush.
+    *
+    * @return Write latency histogram, in nanoseconds.
+    */
+   public IntervalHistogram getWriteLatency () {
+      return writeLatency;
+   }
+
+   /* Attempts to re-link the output stream once after a write fault. */
+   private void resetOutputStream (IOException error) throws IOException {
+      System.out.println ("Unable to write character in SerialChannelIO. " +
+         error.toString());
+
+      try {
+         outputStream = serialPort.getOutputStream();
+      } 
+      catch (IOException resetError) {
+         if (!transmitReset) {
+            System.out.println ("SerialChannelIO unable reset output stream - " +
+               "output divereted to console." +
+               error.toString());
+            outputStream = System.out;
+         }
+         else { // Force SentenceTransceiver to deal with exception.
+            throw resetError;
          }
       }
    }
@@ -197,4 +300,19 @@ public class SerialChannelIO implements SerialPortEventListener {
  * 1.0.0.2  Created 'transmitEnabled' variable to ensure:
  *    (a) an output stream was open prior to transmitting, and
  *    (b) no transmittions occured after the port was closed.
+ *
+ * 1.0.0.3  Changed serialEvent() to read blocks of data into a reusable
+ *    buffer and pass them to the listener's receiveBytes() method, rather
+ *    than reading and dispatching one character at a time.
+ *
+ * 1.0.0.4  Added transmitSentence(ByteBuffer), writing the sentence buffer
+ *    to the output stream without converting it.
+ *
+ * 1.0.0.5  Added transmitBytes(), writing a block of gathered sentences.
+ *
+ * 1.0.0.6  Writes are flushed and counted, and their latency recorded;
+ *    text sentences are converted into a reusable buffer.
+ *
+ * 1.0.0.7  transmitSentence(ByteBuffer) copies direct and read-only buffers,
+ *    which have no accessible array, into the reusable buffer.
  */
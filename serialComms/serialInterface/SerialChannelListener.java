@@ -18,4 +18,5 @@ import java.util.*;
  */
 public interface SerialChannelListener extends EventListener {
    void receiveCharacter(char c);
+   void receiveBytes(byte[] buffer, int offset, int length);
 }
\ No newline at end of file
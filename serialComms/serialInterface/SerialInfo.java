@@ -76,21 +76,35 @@ public class SerialInfo {
     */
    public static AbstractTransceiver getSentenceTransceiver (int digitalInterface,
       SerialPort serialPort) {
+      return getSentenceTransceiver (digitalInterface, serialPort,
+         AbstractTransceiver.RECEIVED_SENTENCE_POOL_SIZE);
+   }
+   
+   /**
+    * Get a sentence tranceiver based upon a digital interface type, with a
+    * sized received sentence pool.
+    *
+    * @param digitalInterface From SerialInfo
+    * @param sentencePoolSize The count of pooled ReceivedSentence objects.
+    * @return A concrete form of AbstractSentence type.
+    */
+   public static AbstractTransceiver getSentenceTransceiver (int digitalInterface,
+      SerialPort serialPort, int sentencePoolSize) {
       switch (digitalInterface) {
          case NMEA_0183: {
-            return new NMEA0183Transceiver(serialPort);
+            return new NMEA0183Transceiver(serialPort, sentencePoolSize);
          }
          case NMEA_0183_HS: {
-            return new NMEA0183Transceiver(serialPort);
+            return new NMEA0183HSTransceiver(serialPort, sentencePoolSize);
          }
          case NMEA_0182: {
-            return new NMEA0182Transceiver(serialPort);
+            return new NMEA0182Transceiver(serialPort, sentencePoolSize);
          }
          case RAYNAV750: {
-            return new RayNav750Transceiver(serialPort);
+            return new RayNav750Transceiver(serialPort, sentencePoolSize);
          }
          default: {
-            return new NMEA0183Transceiver(serialPort);
+            return new NMEA0183Transceiver(serialPort, sentencePoolSize);
          }
       }
    }
@@ -288,4 +302,5 @@ public class SerialInfo {
  * 1.1.0.0 - Added static variables for the digital interface types, created
  * array object of interfaces, and a getter method for creating a contrete
  * form of AbstractTranceiver.
+ * 1.1.0.1 - NMEA 0183-HS ports use NMEA0183HSTransceiver.
  */
@@ -9,21 +9,46 @@
  */
 package serialComms.serialInterface.transceivers;
 
-import java.io.*;
+import java.nio.*;
 import java.util.*;
 import javax.comm.*;
+import serialComms.*;
+import serialComms.sentences.analysis.*;
 import serialComms.serialInterface.*;
 /**
  * This class both receieves and transmits serial data, and performs 
  * common preprocessing of sentence data.
  *
  * @author Jeff Stewart
- * @version 1.1.0.0, 2005-02-01
+ * @version 1.1.0.8, 2026-10-17
  */
 public abstract class AbstractTransceiver implements SerialChannelListener, SentTransListener {
   
-   ReceivedSentenceListener receivedSentenceListener;
+   /** Count of pooled ReceivedSentence objects, enough to fill the receive queue. */
+   public final static int RECEIVED_SENTENCE_POOL_SIZE = 
+      ReceivedSentenceQueue.DEFAULT_CAPACITY + 4;
+   
+   /** Character time at 4800 baud with 8 data bits, no parity and 1 stop bit, in nanoseconds. */
+   public final static long DEFAULT_CHARACTER_NANOS = 2083333L;
+   
+   volatile ReceivedSentenceListener receivedSentenceListener;
    SerialChannelIO serialChannelIO;
+   
+   ReceivedSentenceServer receivedSentenceServer;
+   ReceivedSentenceQueue receiveQueue;
+   ReceivedSentenceProcessor sentenceProcessor;
+   TransmitQueue transmitQueue;
+   /* Sets the checks applied to each sentence received, and counts them. */
+   SentenceValidation validation = new SentenceValidation ();
+   
+   /* Time to receive one character with the port's settings, in nanoseconds. */
+   long characterNanos;
+   /* System.nanoTime() when the block being framed was read, and of the block before. */
+   long blockNanos;
+   long previousBlockNanos;
+   /* Buffer index following the block's last byte, and index of the byte being framed. */
+   int blockEnd;
+   int blockPosition;
 
    /**
     * Instantiates a data transceiver object.
@@ -32,8 +57,24 @@ public abstract class AbstractTransceiver implements SerialChannelListener, Sent
     * @param dbgMgr The debug manager object for report errors to.
     */   
    public AbstractTransceiver (SerialPort serialPort) {
+      this(serialPort, RECEIVED_SENTENCE_POOL_SIZE);
+   }
+   
+   /**
+    * Instantiates a data transceiver object with a sized sentence pool.
+    *
+    * @param serialPort The serial port object.
+    * @param sentencePoolSize The count of pooled ReceivedSentence objects,
+    * which should exceed the receive queue capacity.
+    */   
+   public AbstractTransceiver (SerialPort serialPort, int sentencePoolSize) {
+      
+      receivedSentenceServer = new ReceivedSentenceServer (sentencePoolSize);
+      receiveQueue = new ReceivedSentenceQueue ();
+      characterNanos = DEFAULT_CHARACTER_NANOS;
       
       if (serialPort != null) {
+         characterNanos = getCharacterNanos (serialPort);
          serialChannelIO = new SerialChannelIO(serialPort);
          try {
             serialChannelIO.addSerialChannelListener (this);
@@ -41,6 +82,10 @@ public abstract class AbstractTransceiver implements SerialChannelListener, Sent
          catch (TooManyListenersException err) {
             System.out.println (err.toString ()); 
          }
+         sentenceProcessor = new ReceivedSentenceProcessor (this, receiveQueue,
+            serialPort.getName ());
+         transmitQueue = new TransmitQueue (serialChannelIO, characterNanos,
+            serialPort.getName ());
       }
       else {
          System.out.println ("SerialPort object not passed to data transceiver object. ");
@@ -55,6 +100,12 @@ public abstract class AbstractTransceiver implements SerialChannelListener, Sent
          if (serialChannelIO != null) {
             serialChannelIO.closeSerialPort ();
          }
+         if (sentenceProcessor != null) {
+            sentenceProcessor.stopProcessing ();
+         }
+         if (transmitQueue != null) {
+            transmitQueue.stopTransmitting ();
+         }
          this.finalize ();
       }
       catch (Throwable throwable) { 
@@ -93,8 +144,157 @@ public abstract class AbstractTransceiver implements SerialChannelListener, Sent
 
    public abstract void receiveCharacter (char c);
    
+   /**
+    * Called to receive and process a block of serial data.
+    *
+    * @param buffer The buffer holding the received bytes.
+    * @param offset The index of the first received byte in the buffer.
+    * @param length The number of received bytes.
+    */
+   public abstract void receiveBytes (byte[] buffer, int offset, int length);
+   
    abstract void transmitToParser ();
    
+   /**
+    * Gets the time to receive one character with a serial port's settings,
+    * that is a start bit, the data bits, any parity bit and the stop bits.
+    *
+    * @param serialPort The serial port object.
+    * @return Character time, in nanoseconds.
+    */
+   public static long getCharacterNanos (SerialPort serialPort) {
+      int baudRate = serialPort.getBaudRate ();
+      // Bits per character, in tenths to allow for 1.5 stop bits
+      int tenthBits = 10 * (1 + serialPort.getDataBits ());
+      
+      if (serialPort.getParity () != SerialPort.PARITY_NONE) {
+         tenthBits += 10;
+      }
+      switch (serialPort.getStopBits ()) {
+         case SerialPort.STOPBITS_2: {
+            tenthBits += 20;
+            break;
+         }
+         case SerialPort.STOPBITS_1_5: {
+            tenthBits += 15;
+            break;
+         }
+         default: {
+            tenthBits += 10;
+         }
+      }
+      if (baudRate <= 0) {
+         return DEFAULT_CHARACTER_NANOS;
+      }
+      return (tenthBits * 100000000L) / baudRate;
+   }
+   
+   /*
+    * Time stamps a block read from the serial port, which ends before buffer
+    * index end.  Called once per block, before its bytes are framed.
+    */
+   void startBlock (int end) {
+      previousBlockNanos = blockNanos;
+      blockNanos = System.nanoTime ();
+      blockEnd = end;
+      blockPosition = end - 1;
+   }
+   
+   /*
+    * Gets the arrival time of the byte at blockPosition.  The block is read
+    * as its last byte arrives, so earlier bytes are placed one character time
+    * apart before it, but never before the previous block was read.
+    */
+   long getCharacterTime () {
+      long characterTime = blockNanos - (blockEnd - 1 - blockPosition) * characterNanos;
+      if (characterTime < previousBlockNanos) {
+         return previousBlockNanos;
+      }
+      return characterTime;
+   }
+   
+   /*
+    * Passes a completed sentence on for processing.  When the port has a
+    * processing thread the sentence is queued for it, otherwise the listener
+    * is called directly on this thread.  Sentences framed while the pool was
+    * overloaded are dropped (see ReceivedSentenceServer.getOverloadCount()).
+    * Returns 'true' only if the sentence was queued for the processing thread.
+    */
+   boolean deliverSentence (ReceivedSentence receivedSentence) {
+      if (receivedSentence.isDiscarded ()) {
+         receivedSentence.setInUse (false);
+      }
+      else if ((sentenceProcessor != null) && sentenceProcessor.isProcessing ()) {
+         receivedSentence.markQueued ();
+         return receiveQueue.offer (receivedSentence);
+      }
+      else if (receivedSentenceListener != null) {
+         receivedSentenceListener.receiveSentence (receivedSentence);
+      }
+      else {
+         receivedSentence.setInUse (false);
+      }
+      return false;
+   }
+   
+   /*
+    * Claims a sentence the processing thread has taken from the receive
+    * queue.  Returns 'false' if it was superseded while queued, and must be
+    * dropped unprocessed.
+    */
+   boolean claimReceivedSentence (ReceivedSentence receivedSentence) {
+      return receivedSentence.markTaken ();
+   }
+   
+   /**
+    * Sets the policy applied when the receive queue is full.
+    *
+    * @param policy ReceivedSentenceQueue.DROP_OLDEST, DROP_NEWEST or BLOCK.
+    */
+   public void setOverflowPolicy (int policy) {
+      receiveQueue.setOverflowPolicy (policy);
+   }
+   
+   /**
+    * Gets the pool of received sentences, which reports free count, low-water
+    * mark and overload counts.
+    *
+    * @return The received sentence pool.
+    */
+   public ReceivedSentenceServer getReceivedSentenceServer () {
+      return receivedSentenceServer;
+   }
+   
+   /**
+    * Gets the queue of sentences waiting for the processing thread, which
+    * reports depth, high-water mark and drop counts.
+    *
+    * @return The receive queue.
+    */
+   public ReceivedSentenceQueue getReceiveQueue () {
+      return receiveQueue;
+   }
+   
+   /**
+    * Gets the validation of received sentences, which sets the checks
+    * applied to each sentence and counts the sentences checked at each level.
+    *
+    * @return The sentence validation.
+    */
+   public SentenceValidation getSentenceValidation () {
+      return validation;
+   }
+   
+   /**
+    * Gets the queue of sentences waiting to be sent, which reports the
+    * characters waiting, the writes made and overrun counts.
+    *
+    * @return The transmit queue, or null if no serial port is open.
+    */
+   public TransmitQueue getTransmitQueue () {
+      return transmitQueue;
+   }
+   
    /**
     * Transmit a sentence to the serial channel.
     *
@@ -102,19 +302,77 @@ public abstract class AbstractTransceiver implements SerialChannelListener, Sent
     * characters.
     */   
    public void transmitSentence (String sentence) {
-      if (serialChannelIO != null) {
-         if (sentence != null) {
-            try {
-               serialChannelIO.transmitSentence(sentence);
-            }
-            catch (IOException error) {
-               System.out.println ("Serial port transmit failure." +
-               error.toString());
-            }
-         }
+      if ((transmitQueue != null) && (sentence != null)) {
+         transmitQueue.offer (sentence);
       }
    }
+
+   /**
+    * Transmit a sentence held in a buffer, which may be a heap, direct or
+    * read-only buffer.  The sentence is copied into the port's transmit
+    * queue, so the buffer may be reused at once.
+    *
+    * @param sentence The sentence bytes, from the buffer's position to its limit.
+    */
+   public void transmitSentence (ByteBuffer sentence) {
+      if ((transmitQueue != null) && (sentence != null)) {
+         transmitQueue.offer (sentence);
+      }
+   }
+
+   /**
+    * Transmit a sentence held in a buffer, as transmitSentence(ByteBuffer).
+    * Its lateness is recorded by the transmit queue once the sentence has
+    * been written to the serial port.
+    *
+    * @param sentence The sentence bytes, from the buffer's position to its limit.
+    * @param dueNanos The System.nanoTime() at which the sentence was due.
+    * @param jitterHistogram The histogram of the sentence's lateness.
+    */
+   public void transmitSentence (ByteBuffer sentence, long dueNanos,
+                                 IntervalHistogram jitterHistogram) {
+      if ((transmitQueue != null) && (sentence != null)) {
+         transmitQueue.offer (sentence, dueNanos, jitterHistogram);
+      }
+   }
+
+   /**
+    * Transmit a sentence held in part of an array, e.g. encoded elsewhere.
+    * The sentence is copied into the port's transmit queue, so the array may
+    * be reused at once.
+    *
+    * @param bytes The array holding the sentence.
+    * @param offset The index of the sentence's first byte.
+    * @param length The number of bytes in the sentence.
+    */
+   public void transmitBytes (byte[] bytes, int offset, int length) {
+      if ((transmitQueue != null) && (bytes != null)) {
+         transmitQueue.offer (bytes, offset, length);
+      }
+   }
+
+   /**
+    * Gets the serial channel of this transceiver, which reports the bytes
+    * written to the port and the time each write takes.
+    *
+    * @return The serial channel, or null if no serial port is open.
+    */
+   public SerialChannelIO getSerialChannelIO () {
+      return serialChannelIO;
+   }
 }
 /* 
- * 
+ * Revision history:
+ *
+ * 1.1.0.1  Completed sentences are queued to a per-port processing thread.
+ * 1.1.0.2  The received sentence pool is owned here and sized per port.
+ * 1.1.0.3  Received blocks are time stamped with System.nanoTime() and
+ *          character times interpolated from the port's character time.
+ * 1.1.0.4  Sentences written into a buffer are transmitted without copying.
+ * 1.1.0.5  Sentences are sent by a per-port TransmitQueue, gathered into one
+ *          write per tick and paced to the port's character rate.
+ * 1.1.0.6  Sentences as text or array ranges queued without conversion.
+ * 1.1.0.7  Received sentences checked to a per-port SentenceValidation level.
+ * 1.1.0.8  Sentences queued with their due time, their lateness recorded
+ *          once written to the port.
  */
@@ -23,7 +23,7 @@ import serialComms.sentences.analysis.*;
  * NMEA 0182 (complex) data.
  *
  * @author Jeff Stewart
- * @version 1.1.0.0, 2005-02-02
+ * @version 1.1.0.1, 2026-10-17
  */
 public class NMEA0182Transceiver extends AbstractTransceiver {
    public final static int MAX_SENTENCE_LENGTH = 82;
@@ -36,7 +36,6 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
     
    SerialChannelIO serialChannelIO;
    
-   ReceivedSentenceServer receivedSentenceServer;
    ReceivedSentence receivedSentence;
    SentenceErrorLog errorLog;
      
@@ -49,6 +48,7 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
    boolean receivingComplexData; // implies start characte received
    int complexDataLength;
    
+   /* System.nanoTime() arrival of the first and last characters. */
    long startTime;
    long stopTime;
    
@@ -61,9 +61,18 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
     * @param dbgMgr The debug manager object for report errors to.
     */   
    public NMEA0182Transceiver (SerialPort serialPort) {
-      super(serialPort);
+      this(serialPort, RECEIVED_SENTENCE_POOL_SIZE);
+   }
+   
+   /**
+    * Instantiates a SentenceTransceiver object with a sized sentence pool.
+    *
+    * @param serialPort The serial port object.
+    * @param sentencePoolSize The count of pooled ReceivedSentence objects.
+    */   
+   public NMEA0182Transceiver (SerialPort serialPort, int sentencePoolSize) {
+      super(serialPort, sentencePoolSize);
       
-      receivedSentenceServer = new ReceivedSentenceServer ();
       sentRcvdRaw = new CharacterBuffer ();
       processedField = new CharacterBuffer ();
       sentenceFields = new ArrayList<String>();
@@ -87,7 +96,7 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
       receivingComplexData = false; // put in reset();
       complexDataLength = 0;
      
-      startTime = System.currentTimeMillis ();
+      startTime = 0;
       stopTime = 0;
    }
 
@@ -97,6 +106,7 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
     * @param c The received character.
     */   
    public void receiveCharacter (char c) {
+      startBlock (1);
       if (c >= 0x80) {
          receiveNMEA0182Character  ((char) ((int)c & 0x7F));
       }
@@ -105,6 +115,28 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
       }
    }
    
+   /**
+    * Called to receive and process a block of serial data.
+    *
+    * @param buffer The buffer holding the received bytes.
+    * @param offset The index of the first received byte in the buffer.
+    * @param length The number of received bytes.
+    */   
+   public void receiveBytes (byte[] buffer, int offset, int length) {
+      int end = offset + length;
+      int b;
+      startBlock (end);
+      for (blockPosition = offset; blockPosition < end; blockPosition++) {
+         b = buffer[blockPosition] & 0x00FF;
+         if (b >= 0x80) {
+            receiveNMEA0182Character ((char) (b & 0x7F));
+         }
+         else {
+            receiveNMEA0180Character ((char) b);
+         }
+      }
+   }
+   
    /**
     * Called to receive and process NMEA 0180 characters.
     *
@@ -115,12 +147,12 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
       
       // check for simple data within complex data
       if (receivingComplexData) {
-         errorLog.addError (new SentenceError(
+         errorLog.addError (
                SentenceErrorTypes.ERR_INCORRECT_TERMINATION, 
-               "Simple data detected within complex data."));
+               "Simple data detected within complex data.");
          formatter = SentenceTypes.FORMATTER_NMEA0182;
          sentenceFields.add (processedField.toString ());
-         stopTime = System.currentTimeMillis ();
+         stopTime = getCharacterTime ();
          transmitToParser();
       }
            
@@ -155,7 +187,8 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
       // package data for transmission
       sentenceFields.add (Character.toString (c));
       formatter = SentenceTypes.FORMATTER_NMEA0180;
-      stopTime = System.currentTimeMillis ();
+      startTime = getCharacterTime ();
+      stopTime = startTime;
       transmitToParser ();
    }
    
@@ -167,6 +200,9 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
    public void receiveNMEA0182Character (char c) {
       // Increment sentence character count
       complexDataLength++;
+      if (complexDataLength == 1) {
+         startTime = getCharacterTime ();
+      }
       
       // Build unprocessed sentence, 0x1F is last control character
       if ((c > 0x1F) && (c < 0x80)){
@@ -180,19 +216,19 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
       }
       else { // Unknown character
          sentRcvdRaw.append ("<?>");
-         errorLog.addError (new SentenceError(
+         errorLog.addError (
             SentenceErrorTypes.ERR_CHARACTER_NOT_VALID, 
             "Character value not in range.",
-            c)); //INCORRECT_ASCII_CHARACTER
+            c); //INCORRECT_ASCII_CHARACTER
       }
       
       // Catch sentences that are too long.
       if (complexDataLength > MAX_SENTENCE_LENGTH) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_OVERRUN)); //SENTENCE_OVERRUN
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_OVERRUN); //SENTENCE_OVERRUN
          formatter = SentenceTypes.FORMATTER_NMEA0182;
          processedField.append (c);
          sentenceFields.add (processedField.toString ());
-         stopTime = System.currentTimeMillis ();
+         stopTime = getCharacterTime ();
          transmitToParser();
          return;
       }
@@ -200,13 +236,13 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
       // check for complex character before start character
       // the first complex character must be a start character
       if ( (!receivingComplexData) && (c != DOLLAR) ) {
-         errorLog.addError (new SentenceError(
+         errorLog.addError (
                SentenceErrorTypes.ERR_INCORRECT_START, 
-               "Missing sentence start character ($)."));
+               "Missing sentence start character ($).");
          formatter = SentenceTypes.FORMATTER_NMEA0182;
          processedField.append (c);
          sentenceFields.add (processedField.toString ());
-         stopTime = System.currentTimeMillis ();
+         stopTime = getCharacterTime ();
          transmitToParser();
          return;
       }
@@ -214,13 +250,13 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
       // check for complex character preceeding a start character
       if (c == DOLLAR) {
          if (receivingComplexData) {
-            errorLog.addError (new SentenceError(
+            errorLog.addError (
                   SentenceErrorTypes.ERR_INCORRECT_START, 
-                  "Found at position " + complexDataLength + "."));
+                  "Found at position %d.", complexDataLength, 0);
             formatter = SentenceTypes.FORMATTER_NMEA0182;
             processedField.append (c);
             sentenceFields.add (processedField.toString ());
-            stopTime = System.currentTimeMillis ();
+            stopTime = getCharacterTime ();
             transmitToParser();
             return;
          }
@@ -237,7 +273,7 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
          formatter = SentenceTypes.FORMATTER_NMEA0182;
          processedField.append (c);
          sentenceFields.add (processedField.toString ());
-         stopTime = System.currentTimeMillis ();
+         stopTime = getCharacterTime ();
          transmitToParser();
          return;
       }
@@ -286,29 +322,32 @@ public class NMEA0182Transceiver extends AbstractTransceiver {
    }
    
    void transmitToParser () {
-      if (SentenceTypes.getFormatterIDName (formatter) == null) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_SENTENCE_TYPE_UNKNOWN)); //SENTENCE_TYPE_UNKNOWN
+      int level = validation.nextLevel ();
+      if (level >= SentenceValidation.VALIDATE_STRUCTURAL) {
+         if (SentenceTypes.getFormatterIDName (formatter) == null) {
+            errorLog.addError (SentenceErrorTypes.ERR_SENTENCE_TYPE_UNKNOWN); //SENTENCE_TYPE_UNKNOWN
+         }
       }
       
       receivedSentence.setInUse (true);
+      receivedSentence.validationLevel = level;
       receivedSentence.talkerID = 0;
       receivedSentence.queryTalkerID = 0;
       receivedSentence.formatter = formatter;
       receivedSentence.fieldCount = 1;
       receivedSentence.calculatedChecksum = 0;
       receivedSentence.receivedChecksum = 0;
-      receivedSentence.timeToReceive = stopTime - startTime;
+      receivedSentence.timeToReceive = (stopTime - startTime) / 1000000L;
+      receivedSentence.receiveStartNanos = startTime;
+      receivedSentence.receiveEndNanos = stopTime;
       receivedSentence.sentenceReceived = sentRcvdRaw.toString ();
       receivedSentence.sentenceFields.addAll(0,  sentenceFields); // = (ArrayList<String>) sentenceFields.clone (); modified 2012-08-08
-      receivedSentence.errorLog = (SentenceErrorLog) errorLog.clone ();
       receivedSentence.timeOfReciept = System.currentTimeMillis ();
 
-      if (super.receivedSentenceListener != null) {
-         super.receivedSentenceListener.receiveSentence (receivedSentence);
-      }
+      super.deliverSentence (receivedSentence);
       this.resetReceiver();
    }
 }
-/* 
- * 
+/* Revision history:
+ * 1.1.0.1  Formatter check applied from the port's SentenceValidation level.
  */
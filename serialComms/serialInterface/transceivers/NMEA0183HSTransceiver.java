@@ -0,0 +1,239 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: NMEA0183HSTransceiver.java
+ * Created: 2026-10-17, 20:07:28
+ */
+package serialComms.serialInterface.transceivers;
+
+import java.util.concurrent.atomic.*;
+import javax.comm.*;
+import serialComms.*;
+import serialComms.sentences.analysis.*;
+/**
+ * This class receives and transmits NMEA 0183-HS (IEC 61162-2) data, at
+ * 38400 to 115200 baud, where heading and attitude sentences may arrive at
+ * 50 Hz with no idle time between them.  Sentences are framed as for
+ * NMEA 0183, with these differences:
+ * <ul>
+ * <li>The time between sentences on the port is tracked, in nanoseconds.</li>
+ * <li>A start character ('$' or '!') received within a sentence ends that sentence,
+ * as incomplete, and starts the next, so one damaged sentence in a burst does
+ * not also corrupt the sentence following it.</li>
+ * <li>Sentences are conflated per talker and formatter: if an error free
+ * sentence is still waiting in the receive queue when a newer one of the same
+ * type is queued, the older one is dropped unprocessed.  Consumers that keep up
+ * see every sentence, while a slow consumer only sees the latest of each type.
+ * Sentences with errors, query sentences and sentences the receive queue
+ * rejects are never conflated.</li>
+ * </ul>
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class NMEA0183HSTransceiver extends NMEA0183Transceiver {
+
+   /** Number of talker and formatter pairs that can be conflated, a power of two. */
+   public final static int CONFLATION_SLOTS = 64;
+
+   long lastSentenceNanos;
+   volatile long lastInterArrivalNanos;
+   volatile long maxInterArrivalNanos;
+   volatile long resyncCount;
+
+   volatile boolean conflating;
+   volatile long conflatedCount;
+
+   /* Conflation keys, used only by the serial event thread. */
+   long[] conflationKeys;
+   /* Latest queued sentence of each key, cleared by the processing thread as it takes it. */
+   AtomicReferenceArray<ReceivedSentence> queuedSentences;
+
+   /**
+    * Instantiates a NMEA0183HSTransceiver object.
+    *
+    * @param serialPort The serial port object.
+    */
+   public NMEA0183HSTransceiver (SerialPort serialPort) {
+      this(serialPort, RECEIVED_SENTENCE_POOL_SIZE);
+   }
+
+   /**
+    * Instantiates a NMEA0183HSTransceiver object with a sized sentence pool.
+    *
+    * @param serialPort The serial port object.
+    * @param sentencePoolSize The count of pooled ReceivedSentence objects.
+    */
+   public NMEA0183HSTransceiver (SerialPort serialPort, int sentencePoolSize) {
+      super(serialPort, sentencePoolSize);
+
+      conflationKeys = new long[CONFLATION_SLOTS];
+      queuedSentences = new AtomicReferenceArray<ReceivedSentence>(CONFLATION_SLOTS);
+      conflating = true;
+   }
+
+   /*
+    * Ends a sentence interrupted by a start character, then frames the
+    * character as the start of the next sentence.
+    */
+   void processCharacter (char c) {
+      if (((c == DOLLAR) || (c == EXCLAMATION)) && (sentenceLength > 0)) {
+         errorLog.addError (SentenceErrorTypes.ERR_INCORRECT_TERMINATION,
+            "Interrupted by a start character at position %d.",
+            sentenceLength + 1, 0);
+         resyncCount++;
+         stopTime = getCharacterTime ();
+         this.transmitToParser ();
+      }
+      super.processCharacter (c);
+   }
+
+   void transmitToParser () {
+      long interval;
+
+      if (lastSentenceNanos != 0) {
+         interval = stopTime - lastSentenceNanos;
+         lastInterArrivalNanos = interval;
+         if (interval > maxInterArrivalNanos) {
+            maxInterArrivalNanos = interval;
+         }
+      }
+      lastSentenceNanos = stopTime;
+
+      super.transmitToParser ();
+   }
+
+   /*
+    * Queues the new sentence, then supersedes the queued sentence of the same
+    * talker and formatter if it has not yet been taken.
+    */
+   boolean deliverSentence (ReceivedSentence sentence) {
+      int slot = -1;
+      int talkerID = sentence.talkerID;
+      int formatter = sentence.formatter;
+
+      if (conflating && (sentenceProcessor != null) && sentenceProcessor.isProcessing () &&
+          !sentence.isDiscarded () && (sentence.queryTalkerID == 0) &&
+          (sentence.errorLog.getErrorCount () == 0)) {
+         slot = getConflationSlot (((long) talkerID << 32) | (formatter & 0xFFFFFFFFL));
+      }
+      sentence.conflationSlot = slot;
+
+      // Once queued the sentence belongs to the processing thread, so only
+      // the values read above are used.
+      if (!super.deliverSentence (sentence)) {
+         return false;
+      }
+      if (slot >= 0) {
+         ReceivedSentence previous = queuedSentences.getAndSet (slot, sentence);
+         // A slot may still hold a sentence dropped by the queue and reused,
+         // so the type is checked; markSuperseded() fails once it is taken.
+         if ((previous != null) && (previous != sentence) &&
+             (previous.talkerID == talkerID) && (previous.formatter == formatter) &&
+             previous.markSuperseded ()) {
+            conflatedCount++;
+         }
+      }
+      return true;
+   }
+
+   /*
+    * Clears the conflation slot of a sentence the processing thread has
+    * taken, then claims it.
+    */
+   boolean claimReceivedSentence (ReceivedSentence sentence) {
+      int slot = sentence.conflationSlot;
+      if (slot >= 0) {
+         queuedSentences.compareAndSet (slot, sentence, null);
+      }
+      return super.claimReceivedSentence (sentence);
+   }
+
+   /*
+    * Finds or adds the conflation slot of a talker and formatter key, -1 if
+    * the table is full.
+    */
+   private int getConflationSlot (long key) {
+      int mask = CONFLATION_SLOTS - 1;
+      int i = (int) ((key ^ (key >>> 29)) * 0x9E3779B97F4A7C15L >>> 58) & mask;
+
+      for (int probe = 0; probe < CONFLATION_SLOTS; probe++) {
+         if (conflationKeys[i] == key) {
+            return i;
+         }
+         if (conflationKeys[i] == 0) {
+            conflationKeys[i] = key;
+            return i;
+         }
+         i = (i + 1) & mask;
+      }
+      return -1;
+   }
+
+   /**
+    * Sets whether queued sentences are conflated per talker and formatter.
+    *
+    * @param isConflating 'True' to drop queued sentences replaced by newer ones.
+    */
+   public void setConflating (boolean isConflating) {
+      conflating = isConflating;
+   }
+
+   /**
+    * Gets whether queued sentences are conflated per talker and formatter.
+    *
+    * @return 'True' if conflating.
+    */
+   public boolean isConflating () {
+      return conflating;
+   }
+
+   /**
+    * Gets the number of queued sentences superseded by newer ones.
+    *
+    * @return Conflated sentence count.
+    */
+   public long getConflatedCount () {
+      return conflatedCount;
+   }
+
+   /**
+    * Gets the number of sentences ended early by a following start character.
+    *
+    * @return Resynchronization count.
+    */
+   public long getResyncCount () {
+      return resyncCount;
+   }
+
+   /**
+    * Gets the time between the last characters of the last two sentences
+    * received.
+    *
+    * @return Inter-arrival time, in nanoseconds.
+    */
+   public long getLastInterArrivalNanos () {
+      return lastInterArrivalNanos;
+   }
+
+   /**
+    * Gets the longest time seen between two sentences received.
+    *
+    * @return Maximum inter-arrival time, in nanoseconds.
+    */
+   public long getMaxInterArrivalNanos () {
+      return maxInterArrivalNanos;
+   }
+
+   /**
+    * Resets the conflation, resynchronization and inter-arrival statistics.
+    */
+   public void resetStatistics () {
+      conflatedCount = 0;
+      resyncCount = 0;
+      maxInterArrivalNanos = 0;
+   }
+}
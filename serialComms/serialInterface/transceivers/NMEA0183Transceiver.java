@@ -20,7 +20,7 @@ import serialComms.sentences.analysis.*;
  * common preprocessing of sentence data.
  *
  * @author Jeff Stewart
- * @version 1.1.0.0, 2005-02-01
+ * @version 1.1.0.2, 2026-10-17
  */
 public class NMEA0183Transceiver extends AbstractTransceiver {
    public final static long SLOW_DATA_THRESHOLD = 1000; // in milliseconds
@@ -42,16 +42,13 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
    public final static char TILDE = 0x7E;
    public final static char DELETE = 0x7F;
    
-   static final char [] UNUSED_RESERVED_CHAR = {
-      EXCLAMATION,
-      BACK_SLANT,
-      TILDE,
-      DELETE };
-   static int unusedCharCount = UNUSED_RESERVED_CHAR.length;
+   /** Frame sentence fields as offsets into reusable buffers. */
+   public final static int FRAMING_OFFSETS = 0;
+   /** Frame the sentence and its fields as String objects. */
+   public final static int FRAMING_STRINGS = 1;
        
    SerialChannelIO serialChannelIO;
    
-   ReceivedSentenceServer receivedSentenceServer;
    ReceivedSentence receivedSentence;
    SentenceErrorLog errorLog;
    
@@ -64,12 +61,15 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
    int sentenceLength;
    int dataFieldCount;
    
-   CharacterBuffer sentRcvdRaw;
    CharacterBuffer processedField;
    ArrayList<String> sentenceFields;
    
    boolean proprietary;
    boolean querySentence;
+   boolean encapsulated;
+   
+   int framingMode = FRAMING_OFFSETS;
+   volatile int nextFramingMode = FRAMING_OFFSETS;
    
    int talkerID;
    int queryTalkerID;
@@ -77,6 +77,7 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
    int calculatedChecksum;
    int receivedChecksum;
    
+   /* System.nanoTime() arrival of the first and last characters. */
    long startTime;
    long stopTime;
    
@@ -87,10 +88,18 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
     * @param dbgMgr The debug manager object for report errors to.
     */   
    public NMEA0183Transceiver (SerialPort serialPort) {
-      super(serialPort);
+      this(serialPort, RECEIVED_SENTENCE_POOL_SIZE);
+   }
+   
+   /**
+    * Instantiates a SentenceTransceiver object with a sized sentence pool.
+    *
+    * @param serialPort The serial port object.
+    * @param sentencePoolSize The count of pooled ReceivedSentence objects.
+    */   
+   public NMEA0183Transceiver (SerialPort serialPort, int sentencePoolSize) {
+      super(serialPort, sentencePoolSize);
       
-      receivedSentenceServer = new ReceivedSentenceServer ();
-      sentRcvdRaw = new CharacterBuffer ();
       processedField = new CharacterBuffer ();
       sentenceFields = new ArrayList<String>();
       
@@ -113,12 +122,14 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
       sentenceLength = 0;
       dataFieldCount = 0;
       
-      sentRcvdRaw.clear ();
+      framingMode = nextFramingMode;
+      
       processedField.clear ();
       sentenceFields.clear ();
       
       proprietary = false;
       querySentence = false;
+      encapsulated = false;
       
       talkerID = 0;
       queryTalkerID = 0;
@@ -126,7 +137,7 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
       calculatedChecksum = 0;
       receivedChecksum = -1;
       
-      startTime = System.currentTimeMillis ();
+      startTime = 0;
       stopTime = 0;
    }
 
@@ -136,32 +147,47 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
     * @param c The received character.
     */   
    public void receiveCharacter (char c) {
+      startBlock (1);
+      processCharacter (c);
+   }
+   
+   /**
+    * Called to receive and process a block of serial data.
+    *
+    * @param buffer The buffer holding the received bytes.
+    * @param offset The index of the first received byte in the buffer.
+    * @param length The number of received bytes.
+    */   
+   public void receiveBytes (byte[] buffer, int offset, int length) {
+      int end = offset + length;
+      startBlock (end);
+      for (blockPosition = offset; blockPosition < end; blockPosition++) {
+         processCharacter ((char) (buffer[blockPosition] & 0x00FF));
+      }
+   }
+
+   /*
+    * Processes a single received character.
+    */
+   void processCharacter (char c) {
+      int charClass = NMEACharacters.getCharacterClass (c);
+      int hexValue;
+      
       // Increment sentence character count
       sentenceLength++;
-      
-      // Build unprocessed sentence, 0x1F is last control character
-      if ((c > 0x1F) && (c < DELETE)){
-         sentRcvdRaw.append (c);
-      }
-      else if (c == CARRIAGE_RETURN) {
-         sentRcvdRaw.append ("<CR>");
-      }
-      else if (c == LINE_FEED) {
-         sentRcvdRaw.append ("<LF>");
-      }
-      else if (c == DELETE) {
-         sentRcvdRaw.append ("<DEL>");
-      }
-      else { // Unknown character
-         sentRcvdRaw.append ("<?>");
+      if (sentenceLength == 1) {
+         startTime = getCharacterTime ();
       }
-
+      
+      // Keep the unprocessed sentence, annotated only when displayed
+      receivedSentence.appendRawByte ((c > 0x00FF) ? 0x00FF : c);
+      
       // Catch sentences that are too long.
-      if (sentenceLength == SentenceTypes.MAX_SENTENCE_LENGTH) {
-         processedField.append (c);
-         sentenceFields.add (processedField.toString ());
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_OVERRUN)); //SENTENCE_OVERRUN
-         stopTime = System.currentTimeMillis ();
+      if (sentenceLength > SentenceTypes.MAX_SENTENCE_LENGTH) {
+         appendField (c);
+         endField ();
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_OVERRUN); //SENTENCE_OVERRUN
+         stopTime = getCharacterTime ();
          this.transmitToParser();
          return;
       }
@@ -173,11 +199,10 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
             receivedChecksum = 0;
          }
          else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
-               "Too many checksum tokens found. ")); //TOO_MANY_CHECKSUMS
+            errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+               "Too many checksum tokens found. "); //TOO_MANY_CHECKSUMS
          }
-         sentenceFields.add (processedField.toString ());
-         processedField.clear ();
+         endField ();
          return;
       }
       
@@ -186,106 +211,107 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
          calculatedChecksum ^= (c & 0x00FF);
       }
       
-      // Trigger on data field delimiter, COMMA = ','
-      if (c == COMMA) { 
-         dataFieldCount++;
-         sentenceFields.add (processedField.toString ());
-         processedField.clear ();
-         return;
-      }  
-      
-      // Trigger on address field delimiter, DOLLAR = '$'
-      if (c == DOLLAR) {
-         if ((sentenceLength == 1) && (startPosition < 1)) {
-            startPosition = 1;
-            startTime = System.currentTimeMillis ();
-         }
-         else { // Start character found at an incorrect position
-            errorLog.addError (new SentenceError(
-               SentenceErrorTypes.ERR_INCORRECT_START, 
-               "Found at position " + sentenceLength + ".")); //INCORRECT_START_LOCATION
-         }
-         processedField.append (c);
-         return;
-      }
-      
-      // Trigger on code delimited character, CIRCUMFLEX = '^'.
-      if (c == CIRCUMFLEX) {
-         if (codePosition > 0) {
-            errorLog.addError (new SentenceError(
-               SentenceErrorTypes.ERR_CODE_CHAR_ILLEGAL, 
-               "Illegal location of '^' escape character.")); //INCORRECT_ESCAPE_LOCATION
-         }
-         else {
-            codePosition = sentenceLength;
-            return;
+      // Field delimiters: COMMA = ',', DOLLAR = '$', EXCLAMATION = '!', CIRCUMFLEX = '^'
+      if ((charClass & NMEACharacters.DELIMITER) != 0) {
+         switch (c) {
+            case COMMA: {
+               dataFieldCount++;
+               endField ();
+               return;
+            }
+            case DOLLAR:
+            case EXCLAMATION: {
+               if ((sentenceLength == 1) && (startPosition < 1)) {
+                  startPosition = 1;
+                  // Encapsulation sentences (e.g. AIS VDM) start with '!'
+                  encapsulated = (c == EXCLAMATION);
+               }
+               else { // Start character found at an incorrect position
+                  errorLog.addError (
+                     SentenceErrorTypes.ERR_INCORRECT_START, 
+                     "Found at position %d.", sentenceLength, 0); //INCORRECT_START_LOCATION
+               }
+               appendField (c);
+               return;
+            }
+            case CIRCUMFLEX: {
+               if (codePosition > 0) {
+                  errorLog.addError (
+                     SentenceErrorTypes.ERR_CODE_CHAR_ILLEGAL, 
+                     "Illegal location of '^' escape character."); //INCORRECT_ESCAPE_LOCATION
+               }
+               else {
+                  codePosition = sentenceLength;
+                  return;
+               }
+               break;
+            }
          }
       }
       
       // Process coded characters
       if (codePosition > 0) {
-         //    |--  within 0 and 9 --|  OR  |--  within A and F  --|
-         if (((c > 0x2F) && (c < 0x3A)) || ((c > 0x40) && (c < 0x47))) {
+         hexValue = NMEACharacters.getHexValue (c);
+         if (hexValue >= 0) {
             if (sentenceLength == (codePosition + 1)) {
-               codeCharacter = (Character.getNumericValue (c));
+               codeCharacter = hexValue;
                return;
             }
             if (sentenceLength == (codePosition + 2)) {
                codeCharacter <<= 4;
-               codeCharacter ^= (Character.getNumericValue (c));
+               codeCharacter ^= hexValue;
                c = (char) codeCharacter;
                codePosition = -1;
-               processedField.append (c);
+               appendField (c);
                return;
             }
          }
          else {
-            errorLog.addError (new SentenceError(
+            errorLog.addError (
                SentenceErrorTypes.ERR_CODE_CHAR_ILLEGAL, 
                "Code delimited characters can only be hexidecimal digits.",
-               c)); // INCORRECT_ESCAPE_CHARACTER
+               c); // INCORRECT_ESCAPE_CHARACTER
             codePosition = -1;
-            processedField.append (c);
+            appendField (c);
             return;
          }
       }
       
-      // Trigger the begining of the end of sentence sequence, <CR> = CARRIAGE_RETURN
-      if (c == CARRIAGE_RETURN) {
-         // Ensure <CR> directly follows checksum if present
-         if (checksumPosition > 0) {
-            if (sentenceLength != (checksumPosition + 3)) {
-               errorLog.addError (new SentenceError(
-                  SentenceErrorTypes.ERR_CHARACTER_NOT_VALID, 
-                  "Too many characters following checksum character.")); //TOO_MANY_CHECKSUM_CHARACTERS
+      // End of sentence sequence, <CR> = CARRIAGE_RETURN and <LF> = LINE_FEED
+      if ((charClass & NMEACharacters.TERMINATOR) != 0) {
+         if (c == CARRIAGE_RETURN) {
+            // Ensure <CR> directly follows checksum if present
+            if (checksumPosition > 0) {
+               if (sentenceLength != (checksumPosition + 3)) {
+                  errorLog.addError (
+                     SentenceErrorTypes.ERR_CHARACTER_NOT_VALID, 
+                     "Too many characters following checksum character."); //TOO_MANY_CHECKSUM_CHARACTERS
+               }
             }
-         }
-         else {
-            sentenceFields.add (processedField.toString ());
-            processedField.clear ();
+            else {
+               endField ();
+            }
+            
+            if (carriageReturn < 0) {
+                carriageReturn = sentenceLength;
+            }
+            else {
+               errorLog.addError (SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
+                  "Illegal use of <CR> character."); //INCORRECT_RETURN_LOCATION
+               carriageReturn = sentenceLength;
+            }
+            return;
          }
          
-         if (carriageReturn < 0) {
-             carriageReturn = sentenceLength;
-         }
-         else {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHARACTER_NOT_VALID,
-               "Illegal use of <CR> character.")); //INCORRECT_RETURN_LOCATION
-            carriageReturn = sentenceLength;
-         }
-         return;
-      }
-      
-      // Catch standard end of sentence, <LF> = 0x0A
-      if (c == LINE_FEED) {
+         // Catch standard end of sentence
          if (carriageReturn == (sentenceLength - 1)) {
-            stopTime = System.currentTimeMillis ();
+            stopTime = getCharacterTime ();
             this.transmitToParser();
             return;
          }
          else { // Error: <LF> not directly following <CR>
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_INCORRECT_TERMINATION));
-            processedField.append ("<LF>"); //INCORRECT_LINEFEED_LOCATION
+            errorLog.addError (SentenceErrorTypes.ERR_INCORRECT_TERMINATION);
+            appendField ("<LF>"); //INCORRECT_LINEFEED_LOCATION
             return;
          }
       }
@@ -297,12 +323,12 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
          if (startPosition == 1) {
             
             // Ensure address characters are valid
-            if (!(Character.isUpperCase (c) | Character.isDigit (c))){
-               errorLog.addError (new SentenceError(
+            if ((charClass & NMEACharacters.TALKER) == 0) {
+               errorLog.addError (
                   SentenceErrorTypes.ERR_CHARACTER_NOT_VALID, 
                   "Address field can only be uppercase characters or digits.",
-                  c)); //INCORRECT_ADDRESS_CHARACTER
-               processedField.append (c);
+                  c); //INCORRECT_ADDRESS_CHARACTER
+               appendField (c);
                return;
             }
 
@@ -341,11 +367,11 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
             
             // Check for address sentences of incorrect length
             if ((sentenceLength > 6) && (!proprietary)) {
-               errorLog.addError (new SentenceError(
-                  SentenceErrorTypes.ERR_ADDRESS_LENGTH_ILLEGAL)); //INCORRECT_ADDRESS_LENGTH
+               errorLog.addError (
+                  SentenceErrorTypes.ERR_ADDRESS_LENGTH_ILLEGAL); //INCORRECT_ADDRESS_LENGTH
             }
          }
-         processedField.append (c);
+         appendField (c);
          return;
       }
       
@@ -354,19 +380,19 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
          // Dynamically calculate received checksum
          if (sentenceLength > checksumPosition) {
             if ((sentenceLength - checksumPosition) < 3) {
-               // Ensure checksum characters are valid
-               //   |--  within 0 and 9  --|  OR  |--  within A and F  --|
-               if (((c > 0x2F) && (c < 0x3A)) || ((c > 0x40) && (c < 0x47))) {
+               // Ensure checksum characters are valid hexidecimal digits
+               hexValue = NMEACharacters.getHexValue (c);
+               if (hexValue >= 0) {
                   receivedChecksum <<= 4;
-                  receivedChecksum ^= (Character.getNumericValue (c));
+                  receivedChecksum ^= hexValue;
                   return;
                }
                else {
-                  errorLog.addError (new SentenceError(
+                  errorLog.addError (
                      SentenceErrorTypes.ERR_CHARACTER_NOT_VALID, 
                      "Checksum characters can only be hexidecimal digits.",
-                     c)); //INCORRECT_CHECKSUM_CHARACTER
-                  processedField.append (c);
+                     c); //INCORRECT_CHECKSUM_CHARACTER
+                  appendField (c);
                   return;
                }
             }
@@ -374,84 +400,158 @@ public class NMEA0183Transceiver extends AbstractTransceiver {
       }
            
       // Process data characters
-      if ((c > 0x1F) && (c < 0x80)) {
-         for (int i = 0; i < unusedCharCount; i++) {
-            if (c == UNUSED_RESERVED_CHAR[i]) {
-               errorLog.addError (new SentenceError(
-                  SentenceErrorTypes.ERR_RESERVED_CHAR_ILLEGAL, 
-                  null,
-                  c)); //INCORRECT_RESERVED_CHARACTER
-            }
+      if ((charClass & NMEACharacters.FIELD) != 0) {
+         if ((charClass & NMEACharacters.UNUSED_RESERVED) != 0) {
+            errorLog.addError (
+               SentenceErrorTypes.ERR_RESERVED_CHAR_ILLEGAL, 
+               null,
+               c); //INCORRECT_RESERVED_CHARACTER
          }
-         processedField.append (c);
+         appendField (c);
          return;
       }
       else {
-         errorLog.addError (new SentenceError(
+         errorLog.addError (
             SentenceErrorTypes.ERR_CHARACTER_NOT_VALID, 
             "Character value not in range.",
-            c)); //INCORRECT_ASCII_CHARACTER
-         processedField.append ("<?>");
+            c); //INCORRECT_ASCII_CHARACTER
+         appendField ("<?>");
          return;
       }
    }
 
-   void transmitToParser () {
-      if (SentenceTypes.getTalkerIDName (talkerID) == null) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_UNKNOWN)); //TALKERID_UNKNOWN
-      }
-      if (SentenceTypes.getFormatterIDName (formatter) == null) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_SENTENCE_TYPE_UNKNOWN)); //SENTENCE_TYPE_UNKNOWN
+   /*
+    * Appends a processed character to the field being received.
+    */
+   private void appendField (char c) {
+      if (framingMode == FRAMING_OFFSETS) {
+         receivedSentence.appendFieldCharacter (c);
       }
-      // If query sentence, then check requestor talkerID, 0x51 = 'Q'
-      if (querySentence) {
-         if (SentenceTypes.getTalkerIDName (queryTalkerID) == null) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_TALKERID_UNKNOWN,
-               "Query talker ID not recognized.")); //QUERY_TALKERID_UNKNOWN
-         }
+      else {
+         processedField.append (c);
       }
-      if (startPosition < 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_MISSING_START)); //MISSING_START_CHARACTER
+   }
+   
+   /*
+    * Appends processed characters to the field being received.
+    */
+   private void appendField (String str) {
+      if (framingMode == FRAMING_OFFSETS) {
+         receivedSentence.appendFieldCharacters (str);
       }
-      if (dataFieldCount < 1) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_FIELD_INCOMPLETE)); //MISSING_DATA_FIELDS
+      else {
+         processedField.append (str);
       }
-      if (receivedChecksum < 0) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHECKSUM_MISSING)); //MISSING_CHECKSUM
+   }
+   
+   /*
+    * Completes the field being received.
+    */
+   private void endField () {
+      if (framingMode == FRAMING_OFFSETS) {
+         receivedSentence.endField ();
       }
       else {
-         if (receivedChecksum != calculatedChecksum) {
-            errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_CHECKSUM_INCORRECT,
-               ("Received = "  + Integer.toHexString (receivedChecksum) + 
-                  ", calculated = " + Integer.toHexString (calculatedChecksum) + "."))); //INVALID_CHECKSUM
+         sentenceFields.add (processedField.toString ());
+         processedField.clear ();
+      }
+   }
+   
+   /**
+    * Sets how received sentences are framed.  FRAMING_OFFSETS keeps the
+    * sentence bytes in the ReceivedSentence object's reusable buffers and
+    * records field offsets, while FRAMING_STRINGS builds a String for each
+    * field.  In both modes the annotated sentence text is only rendered when
+    * it is asked for.  The mode takes effect with the next sentence received.
+    *
+    * @param mode FRAMING_OFFSETS or FRAMING_STRINGS.
+    */
+   public void setFramingMode (int mode) {
+      if ((mode == FRAMING_OFFSETS) || (mode == FRAMING_STRINGS)) {
+         nextFramingMode = mode;
+      }
+   }
+   
+   /**
+    * Gets how received sentences are framed.
+    *
+    * @return FRAMING_OFFSETS or FRAMING_STRINGS.
+    */
+   public int getFramingMode () {
+      return nextFramingMode;
+   }
+
+   void transmitToParser () {
+      int level = validation.nextLevel ();
+      
+      // Structure: address, start character and data fields
+      if (level >= SentenceValidation.VALIDATE_STRUCTURAL) {
+         if (!SentenceTypes.isKnownTalker (talkerID)) {
+            errorLog.addError (SentenceErrorTypes.ERR_TALKERID_UNKNOWN); //TALKERID_UNKNOWN
+         }
+         // Query sentences name the formatter requested in their data field
+         if ((!querySentence) && (SentenceTypes.getDescriptor (formatter) == null)) {
+            errorLog.addError (SentenceErrorTypes.ERR_SENTENCE_TYPE_UNKNOWN); //SENTENCE_TYPE_UNKNOWN
+         }
+         // If query sentence, then check requestor talkerID, 0x51 = 'Q'
+         if (querySentence) {
+            if (!SentenceTypes.isKnownTalker (queryTalkerID)) {
+               errorLog.addError (SentenceErrorTypes.ERR_TALKERID_UNKNOWN,
+                  "Query talker ID not recognized."); //QUERY_TALKERID_UNKNOWN
+            }
+         }
+         if (startPosition < 0) {
+            errorLog.addError (SentenceErrorTypes.ERR_MISSING_START); //MISSING_START_CHARACTER
+         }
+         if (dataFieldCount < 1) {
+            errorLog.addError (SentenceErrorTypes.ERR_FIELD_INCOMPLETE); //MISSING_DATA_FIELDS
+         }
+         if (sentenceLength < SentenceTypes.MIN_SENTENCE_LENGTH) {
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_UNDERRUN); //TOO_FEW_CHARACTERS
          }
       }
-      if (sentenceLength < SentenceTypes.MIN_SENTENCE_LENGTH) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_UNDERRUN)); //TOO_FEW_CHARACTERS
+      // Checksum
+      if (level >= SentenceValidation.VALIDATE_CHECKSUM) {
+         if (receivedChecksum < 0) {
+            errorLog.addError (SentenceErrorTypes.ERR_CHECKSUM_MISSING); //MISSING_CHECKSUM
+         }
+         else {
+            if (receivedChecksum != calculatedChecksum) {
+               errorLog.addError (SentenceErrorTypes.ERR_CHECKSUM_INCORRECT,
+                  "Received = %x, calculated = %x.",
+                  receivedChecksum, calculatedChecksum); //INVALID_CHECKSUM
+            }
+         }
       }
-      if ((stopTime - startTime) > SLOW_DATA_THRESHOLD) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_SLOW)); //SLOW_DATA_RATE
+      // Timing, with the full field audit
+      if (level == SentenceValidation.VALIDATE_FULL) {
+         if ((stopTime - startTime) > SLOW_DATA_THRESHOLD * 1000000L) {
+            errorLog.addError (SentenceErrorTypes.ERR_DATA_SLOW); //SLOW_DATA_RATE
+         }
       }
       
       receivedSentence.setInUse (true);
+      receivedSentence.validationLevel = level;
       receivedSentence.talkerID = talkerID;
       receivedSentence.queryTalkerID = queryTalkerID;
       receivedSentence.formatter = formatter;
+      receivedSentence.encapsulated = encapsulated;
       receivedSentence.fieldCount = dataFieldCount + 1;
       receivedSentence.calculatedChecksum = calculatedChecksum;
       receivedSentence.receivedChecksum = receivedChecksum;
-      receivedSentence.timeToReceive = stopTime - startTime;
-      receivedSentence.sentenceReceived = sentRcvdRaw.toString ();
-      receivedSentence.sentenceFields.addAll(0,  sentenceFields); // = (ArrayList<String>) sentenceFields.clone (); modified 2012-08-08
-      receivedSentence.errorLog = (SentenceErrorLog) errorLog.clone ();
+      receivedSentence.timeToReceive = (stopTime - startTime) / 1000000L;
+      receivedSentence.receiveStartNanos = startTime;
+      receivedSentence.receiveEndNanos = stopTime;
+      if (framingMode == FRAMING_STRINGS) {
+         receivedSentence.sentenceFields.addAll(0,  sentenceFields); // = (ArrayList<String>) sentenceFields.clone (); modified 2012-08-08
+      }
       receivedSentence.timeOfReciept = System.currentTimeMillis ();
 
-      if (super.receivedSentenceListener != null) {
-         super.receivedSentenceListener.receiveSentence (receivedSentence);
-      }
+      this.deliverSentence (receivedSentence);
       this.resetReceiver();
    }
 }
-/* 
- * 
+/* Revision history:
+ * 1.1.0.1  Received sentences checked to the port's SentenceValidation level.
+ * 1.1.0.2  Talker ID and formatter checked against the SentenceTypes tables.
  */
@@ -21,7 +21,7 @@ import serialComms.sentences.analysis.*;
  * a RayNav750 collor plotter and remote.
  *
  * @author Jeff Stewart
- * @version 1.2.0.0, 2005-02-10
+ * @version 1.2.0.1, 2026-10-17
  */
 public class RayNav750Transceiver extends AbstractTransceiver {
    public final static int ABSOLUTE_SENTENCE_LENGTH = 131;
@@ -34,7 +34,6 @@ public class RayNav750Transceiver extends AbstractTransceiver {
           
    SerialChannelIO serialChannelIO;
    
-   ReceivedSentenceServer receivedSentenceServer;
    ReceivedSentence receivedSentence;
    SentenceErrorLog errorLog;
      
@@ -45,6 +44,7 @@ public class RayNav750Transceiver extends AbstractTransceiver {
    int sentenceLength;
    boolean receivingSentence;
    
+   /* System.nanoTime() arrival of the first and last characters. */
    long startTime;
    long stopTime;
    
@@ -57,9 +57,18 @@ public class RayNav750Transceiver extends AbstractTransceiver {
     * @param dbgMgr The debug manager object for report errors to.
     */   
    public RayNav750Transceiver (SerialPort serialPort) {
-      super(serialPort);
+      this(serialPort, RECEIVED_SENTENCE_POOL_SIZE);
+   }
+   
+   /**
+    * Instantiates a SentenceTransceiver object with a sized sentence pool.
+    *
+    * @param serialPort The serial port object.
+    * @param sentencePoolSize The count of pooled ReceivedSentence objects.
+    */   
+   public RayNav750Transceiver (SerialPort serialPort, int sentencePoolSize) {
+      super(serialPort, sentencePoolSize);
       
-      receivedSentenceServer = new ReceivedSentenceServer ();
       sentRcvdRaw = new CharacterBuffer (256);
       processedField = new CharacterBuffer (256);
       sentenceFields = new ArrayList<String>();
@@ -81,7 +90,7 @@ public class RayNav750Transceiver extends AbstractTransceiver {
       sentenceLength = 0;
       receivingSentence = false;
      
-      startTime = System.currentTimeMillis ();
+      startTime = 0;
       stopTime = 0;
    }
 
@@ -91,7 +100,33 @@ public class RayNav750Transceiver extends AbstractTransceiver {
     * @param c The received character.
     */   
    public void receiveCharacter (char c) {
+      startBlock (1);
+      processCharacter (c);
+   }
+   
+   /**
+    * Called to receive and process a block of serial data.
+    *
+    * @param buffer The buffer holding the received bytes.
+    * @param offset The index of the first received byte in the buffer.
+    * @param length The number of received bytes.
+    */   
+   public void receiveBytes (byte[] buffer, int offset, int length) {
+      int end = offset + length;
+      startBlock (end);
+      for (blockPosition = offset; blockPosition < end; blockPosition++) {
+         processCharacter ((char) (buffer[blockPosition] & 0x00FF));
+      }
+   }
+   
+   /*
+    * Processes a single received character.
+    */
+   private void processCharacter (char c) {
       sentenceLength++;
+      if (sentenceLength == 1) {
+         startTime = getCharacterTime ();
+      }
       
       // Build unprocessed sentence
       char charVal = 0;
@@ -112,22 +147,22 @@ public class RayNav750Transceiver extends AbstractTransceiver {
       
       // Catch sentences that are too long.
       if (sentenceLength > ABSOLUTE_SENTENCE_LENGTH) {
-         errorLog.addError (new SentenceError(SentenceErrorTypes.ERR_DATA_OVERRUN)); //SENTENCE_OVERRUN
+         errorLog.addError (SentenceErrorTypes.ERR_DATA_OVERRUN); //SENTENCE_OVERRUN
          processedField.append (charVal);
          sentenceFields.add (processedField.toString ());
-         stopTime = System.currentTimeMillis ();
+         stopTime = getCharacterTime ();
          transmitToParser();
          return;
       }
       
       // Catch data received outside start and stop characters
       if ( (!receivingSentence) && (charVal != START_CHARACTER) ) {
-         errorLog.addError (new SentenceError(
+         errorLog.addError (
                SentenceErrorTypes.ERR_INCORRECT_START, 
-               "Missing sentence start character (P)."));
+               "Missing sentence start character (P).");
          processedField.append (charVal);
          sentenceFields.add (processedField.toString ());
-         stopTime = System.currentTimeMillis ();
+         stopTime = getCharacterTime ();
          transmitToParser();
          return;
       }
@@ -141,7 +176,7 @@ public class RayNav750Transceiver extends AbstractTransceiver {
       if ( (charVal == END_CHARACTER) && (sentenceLength == ABSOLUTE_SENTENCE_LENGTH) ) {
          processedField.append (charVal);
          sentenceFields.add (processedField.toString ());
-         stopTime = System.currentTimeMillis ();
+         stopTime = getCharacterTime ();
          transmitToParser();
          return;
       }
@@ -152,24 +187,24 @@ public class RayNav750Transceiver extends AbstractTransceiver {
    
    void transmitToParser () {     
       receivedSentence.setInUse (true);
+      receivedSentence.validationLevel = validation.nextLevel ();
       receivedSentence.talkerID = 0;
       receivedSentence.queryTalkerID = 0;
       receivedSentence.formatter = SentenceTypes.FORMATTER_RAYNAV750;
       receivedSentence.fieldCount = 1;
       receivedSentence.calculatedChecksum = 0;
       receivedSentence.receivedChecksum = 0;
-      receivedSentence.timeToReceive = stopTime - startTime;
+      receivedSentence.timeToReceive = (stopTime - startTime) / 1000000L;
+      receivedSentence.receiveStartNanos = startTime;
+      receivedSentence.receiveEndNanos = stopTime;
       receivedSentence.sentenceReceived = sentRcvdRaw.toString ();
       receivedSentence.sentenceFields.addAll(0,  sentenceFields); // = (ArrayList<String>) sentenceFields.clone (); modified 2012-08-08
-      receivedSentence.errorLog = (SentenceErrorLog) errorLog.clone ();
       receivedSentence.timeOfReciept = System.currentTimeMillis ();
 
-      if (super.receivedSentenceListener != null) {
-         super.receivedSentenceListener.receiveSentence (receivedSentence);
-      }
+      super.deliverSentence (receivedSentence);
       this.resetReceiver();
    }
 }
-/* 
- * 
+/* Revision history:
+ * 1.2.0.1  Validation level of each sentence recorded and counted.
  */
@@ -0,0 +1,96 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: ReceivedSentenceProcessor.java
+ * Created: 2026-10-17, 19:56:39
+ */
+package serialComms.serialInterface.transceivers;
+
+import serialComms.*;
+import serialComms.serialInterface.*;
+/**
+ * An object of this class is the sentence processing thread of a serial
+ * port.  It takes framed sentences from the transceiver's receive queue and
+ * passes them to the transceiver's received sentence listener, so parsing,
+ * statistics and display updates never run on the serial event thread.
+ * Sentences superseded while queued (see NMEA0183HSTransceiver) are returned
+ * to their pool unprocessed.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class ReceivedSentenceProcessor extends Thread {
+
+   AbstractTransceiver transceiver;
+   ReceivedSentenceQueue receiveQueue;
+   private volatile boolean isProcessing;
+
+   /**
+    * Initializes and starts a ReceivedSentenceProcessor.
+    *
+    * @param owner The transceiver whose sentences are processed.
+    * @param queue The queue filled by the transceiver.
+    * @param portName The serial port name, used to name the thread.
+    */
+   public ReceivedSentenceProcessor (AbstractTransceiver owner,
+                                     ReceivedSentenceQueue queue,
+                                     String portName) {
+      super("SentenceProcessor-" + portName);
+      transceiver = owner;
+      receiveQueue = queue;
+      isProcessing = true;
+      this.setDaemon (true);
+      this.start ();
+   }
+
+   /**
+    * Stops the thread, returning any queued sentences to their pool.
+    */
+   public void stopProcessing () {
+      isProcessing = false;
+      receiveQueue.wakeConsumer ();
+   }
+
+   /**
+    * Gets the running status of the thread.
+    *
+    * @return 'True' until stopProcessing() is called.
+    */
+   public boolean isProcessing () {
+      return isProcessing;
+   }
+
+   /**
+    * Processing loop of the thread.
+    */
+   public void run () {
+      ReceivedSentence receivedSentence;
+
+      while (isProcessing) {
+         receivedSentence = receiveQueue.take ();
+         if (receivedSentence != null) {
+            ReceivedSentenceListener listener = transceiver.receivedSentenceListener;
+            try {
+               if (!transceiver.claimReceivedSentence (receivedSentence)) {
+                  receivedSentence.setInUse (false);
+               }
+               else if (listener != null) {
+                  listener.receiveSentence (receivedSentence);
+               }
+               else {
+                  receivedSentence.setInUse (false);
+               }
+            }
+            catch (RuntimeException error) {
+               receivedSentence.setInUse (false);
+               System.out.println ("Received sentence processing failure. " +
+                  error.toString ());
+            }
+         }
+      }
+      receiveQueue.clear ();
+   }
+}
@@ -0,0 +1,509 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: TransmitQueue.java
+ * Created: 2026-10-17, 20:48:39
+ */
+package serialComms.serialInterface.transceivers;
+
+import java.io.*;
+import java.nio.*;
+import java.util.concurrent.locks.*;
+import mdl.data.*;
+import serialComms.sentences.*;
+import serialComms.sentences.analysis.*;
+import serialComms.serialInterface.*;
+/**
+ * An object of this class is the transmit thread of a serial port.  Sentences
+ * are copied into the queue by the transmitting threads, and the queue's
+ * thread gathers those given in the same TransmitScheduler tick into a single
+ * write to the port.  Each write ends with a whole sentence where possible.
+ * <p>
+ * Writes are paced by a token bucket of characters, filled at the rate the
+ * port sends them (from its baud rate, data bits, parity and stop bits), so
+ * sentences wait here rather than in the operating system's driver.  The queue
+ * holds at most MAX_QUEUE_NANOS of characters; a sentence that does not fit is
+ * dropped and counted as an overrun, so an over-subscribed port is reported
+ * instead of falling further and further behind.
+ * <p>
+ * A sentence may be offered with the time it was due and a histogram; once
+ * its last character has been written to the port, its lateness (including
+ * the time spent gathering and pacing here) is recorded in the histogram.
+ *
+ * @author agent
+ * @version 1.0.0.2, 2026-10-17
+ */
+public class TransmitQueue extends Thread {
+
+   /** Most time, in nanoseconds, of characters waiting to be sent (1 second). */
+   public final static long MAX_QUEUE_NANOS = 1000000000L;
+   /** Time, in nanoseconds, that characters may be sent in one burst (50 milliseconds). */
+   public final static long BURST_NANOS = 50000000L;
+   /** Least size of the queue and of the token bucket, in characters. */
+   public final static int MIN_QUEUE_SIZE = 256;
+
+   /* Time from the first sentence queued until the write, gathering the tick's sentences. */
+   final static long GATHER_NANOS = TransmitScheduler.TICK_NANOS;
+
+   SerialChannelIO serialChannelIO;
+   long characterNanos;
+
+   /* Characters waiting to be sent, guarded by this object. */
+   byte[] pending;
+   int pendingLength;
+   /* The characters being written, used only by this thread. */
+   byte[] writeBuffer;
+
+   /*
+    * Sentences waiting with a due time, in queue order: the end of each in
+    * pending, when it was due, and where its lateness is recorded.  Guarded
+    * by this object.
+    */
+   int[] dueEnds;
+   long[] dueNanos;
+   IntervalHistogram[] dueHistograms;
+   int dueCount;
+   /* The due sentences ending in the current write, used only by this thread. */
+   long[] writtenDueNanos;
+   IntervalHistogram[] writtenHistograms;
+   int writtenCount;
+
+   /* Characters that may be sent now, and when the bucket was last filled. */
+   long tokens;
+   long bucketSize;
+   long filledNanos;
+
+   private volatile boolean isTransmitting;
+   volatile boolean isOverrun;
+
+   /* Statistics, guarded by this object. */
+   int highWaterMark;
+   long sentenceCount;
+   long writeCount;
+   long byteCount;
+   long overrunCount;
+   long overrunBytes;
+
+   /**
+    * Initializes and starts a TransmitQueue.
+    *
+    * @param channel The serial channel written to.
+    * @param charNanos The time to send one character, in nanoseconds.
+    * @param portName The serial port name, used to name the thread.
+    */
+   public TransmitQueue (SerialChannelIO channel, long charNanos, String portName) {
+      super("TransmitQueue-" + portName);
+      serialChannelIO = channel;
+      characterNanos = (charNanos > 0) ? charNanos : AbstractTransceiver.DEFAULT_CHARACTER_NANOS;
+
+      pending = new byte[(int) Math.max (MIN_QUEUE_SIZE, MAX_QUEUE_NANOS / characterNanos)];
+      writeBuffer = new byte[pending.length];
+      int dueSize = (pending.length / SentenceTypes.MIN_SENTENCE_LENGTH) + 1;
+      dueEnds = new int[dueSize];
+      dueNanos = new long[dueSize];
+      dueHistograms = new IntervalHistogram[dueSize];
+      writtenDueNanos = new long[dueSize];
+      writtenHistograms = new IntervalHistogram[dueSize];
+      bucketSize = Math.max (MIN_QUEUE_SIZE, BURST_NANOS / characterNanos);
+      tokens = bucketSize;
+      filledNanos = System.nanoTime ();
+
+      isTransmitting = true;
+      this.setDaemon (true);
+      this.setPriority (Thread.MAX_PRIORITY - 1);
+      this.start ();
+   }
+
+   /**
+    * Adds a sentence to be sent.  The bytes are copied, so the caller may
+    * reuse its buffer at once.
+    *
+    * @param bytes The array holding the sentence.
+    * @param offset The index of the sentence's first byte.
+    * @param length The number of bytes in the sentence.
+    * @return 'False' if the queue is full, and the sentence was dropped.
+    */
+   public boolean offer (byte[] bytes, int offset, int length) {
+      boolean wasEmpty;
+
+      synchronized (this) {
+         if (!this.hasRoom (length)) {
+            return false;
+         }
+         wasEmpty = (pendingLength == 0);
+         System.arraycopy (bytes, offset, pending, pendingLength, length);
+         pendingLength += length;
+         this.addedSentence (0L, null);
+      }
+      if (wasEmpty) {
+         LockSupport.unpark (this);
+      }
+      return true;
+   }
+
+   /**
+    * Adds a sentence held in a buffer to be sent, from the buffer's position
+    * to its limit.  The bytes are copied and the buffer's position is left
+    * unchanged, so the caller may reuse the buffer at once.  Buffers without
+    * an accessible array (direct or read-only) are copied a byte at a time.
+    *
+    * @param sentence The buffer holding the sentence.
+    * @return 'False' if the queue is full, and the sentence was dropped.
+    */
+   public boolean offer (ByteBuffer sentence) {
+      return this.offer (sentence, 0L, null);
+   }
+
+   /**
+    * Adds a sentence held in a buffer to be sent, as offer(ByteBuffer), and
+    * records how late it is once its last character is written to the port.
+    *
+    * @param sentence The buffer holding the sentence.
+    * @param due The System.nanoTime() at which the sentence was due.
+    * @param jitterHistogram The histogram of the sentence's lateness, or null.
+    * @return 'False' if the queue is full, and the sentence was dropped.
+    */
+   public boolean offer (ByteBuffer sentence, long due, IntervalHistogram jitterHistogram) {
+      int start = sentence.position ();
+      int length = sentence.remaining ();
+      boolean wasEmpty;
+
+      synchronized (this) {
+         if (!this.hasRoom (length)) {
+            return false;
+         }
+         wasEmpty = (pendingLength == 0);
+         if (sentence.hasArray ()) {
+            System.arraycopy (sentence.array (), sentence.arrayOffset () + start,
+               pending, pendingLength, length);
+            pendingLength += length;
+         }
+         else {
+            for (int i = 0; i < length; i++) {
+               pending[pendingLength++] = sentence.get (start + i);
+            }
+         }
+         this.addedSentence (due, jitterHistogram);
+      }
+      if (wasEmpty) {
+         LockSupport.unpark (this);
+      }
+      return true;
+   }
+
+   /**
+    * Adds a sentence held as text to be sent.  The characters are copied
+    * straight into the queue, so no objects are created.
+    *
+    * @param sentence The sentence, including its start and end characters.
+    * @return 'False' if the queue is full, and the sentence was dropped.
+    */
+   public boolean offer (String sentence) {
+      int length = sentence.length ();
+      boolean wasEmpty;
+
+      synchronized (this) {
+         if (!this.hasRoom (length)) {
+            return false;
+         }
+         wasEmpty = (pendingLength == 0);
+         for (int i = 0; i < length; i++) {
+            pending[pendingLength++] = (byte) sentence.charAt (i);
+         }
+         this.addedSentence (0L, null);
+      }
+      if (wasEmpty) {
+         LockSupport.unpark (this);
+      }
+      return true;
+   }
+
+   /* Checks that a sentence fits, counting an overrun if not, holding this object. */
+   private boolean hasRoom (int length) {
+      if (!isTransmitting) {
+         return false;
+      }
+      if (pendingLength + length > pending.length) {
+         overrunCount++;
+         overrunBytes += length;
+         if (!isOverrun) {
+            isOverrun = true;
+            System.out.println (this.getName () + " overrun, sentences are due " +
+               "faster than the port can send them.");
+         }
+         return false;
+      }
+      return true;
+   }
+
+   /*
+    * Counts a sentence added to the queue, and keeps its due time if it has
+    * a histogram, holding this object.
+    */
+   private void addedSentence (long due, IntervalHistogram jitterHistogram) {
+      sentenceCount++;
+      if (pendingLength > highWaterMark) {
+         highWaterMark = pendingLength;
+      }
+      if ((jitterHistogram != null) && (dueCount < dueEnds.length)) {
+         dueEnds[dueCount] = pendingLength;
+         dueNanos[dueCount] = due;
+         dueHistograms[dueCount] = jitterHistogram;
+         dueCount++;
+      }
+   }
+
+   /*
+    * Moves the due sentences ending within a write to the written list, and
+    * moves the others down with the characters left waiting, holding this
+    * object.
+    */
+   private void takeWrittenDue (int writeLength) {
+      int kept = 0;
+      writtenCount = 0;
+      for (int i = 0; i < dueCount; i++) {
+         if (dueEnds[i] <= writeLength) {
+            writtenDueNanos[writtenCount] = dueNanos[i];
+            writtenHistograms[writtenCount++] = dueHistograms[i];
+         }
+         else {
+            dueEnds[kept] = dueEnds[i] - writeLength;
+            dueNanos[kept] = dueNanos[i];
+            dueHistograms[kept++] = dueHistograms[i];
+         }
+      }
+      for (int i = kept; i < dueCount; i++) {
+         dueHistograms[i] = null;
+      }
+      dueCount = kept;
+   }
+
+   /* Records the lateness of the due sentences just written to the port. */
+   private void recordWrittenDue () {
+      long now = System.nanoTime ();
+      for (int i = 0; i < writtenCount; i++) {
+         writtenHistograms[i].recordValue (now - writtenDueNanos[i]);
+         writtenHistograms[i] = null;
+      }
+      writtenCount = 0;
+   }
+
+   /**
+    * Stops the thread, discarding any characters not yet sent.
+    */
+   public void stopTransmitting () {
+      isTransmitting = false;
+      LockSupport.unpark (this);
+   }
+
+   /**
+    * Gets the running status of the thread.
+    *
+    * @return 'True' until stopTransmitting() is called.
+    */
+   public boolean isTransmitting () {
+      return isTransmitting;
+   }
+
+   /**
+    * Transmit loop of the thread.
+    */
+   public void run () {
+      int writeLength;
+
+      while (isTransmitting) {
+         // Wait for a sentence, then for the others due in the same tick
+         synchronized (this) {
+            writeLength = pendingLength;
+         }
+         if (writeLength == 0) {
+            LockSupport.parkNanos (this, MAX_QUEUE_NANOS);
+            continue;
+         }
+         this.parkFor (GATHER_NANOS);
+
+         // Wait for enough tokens to send what is waiting, up to a burst
+         // ending on a sentence boundary
+         synchronized (this) {
+            writeLength = this.getSentencesLength ((int) Math.min (pendingLength, bucketSize));
+         }
+         this.fillBucket ();
+         while (isTransmitting && (tokens < writeLength)) {
+            this.parkFor ((writeLength - tokens) * characterNanos);
+            this.fillBucket ();
+         }
+
+         synchronized (this) {
+            System.arraycopy (pending, 0, writeBuffer, 0, writeLength);
+            pendingLength -= writeLength;
+            System.arraycopy (pending, writeLength, pending, 0, pendingLength);
+            this.takeWrittenDue (writeLength);
+            if (pendingLength == 0) {
+               isOverrun = false;
+            }
+            writeCount++;
+            byteCount += writeLength;
+         }
+         tokens -= writeLength;
+
+         try {
+            serialChannelIO.transmitBytes (writeBuffer, 0, writeLength);
+         }
+         catch (IOException error) {
+            System.out.println ("Serial port transmit failure." +
+               error.toString());
+         }
+         this.recordWrittenDue ();
+      }
+      synchronized (this) {
+         pendingLength = 0;
+         for (int i = 0; i < dueCount; i++) {
+            dueHistograms[i] = null;
+         }
+         dueCount = 0;
+      }
+   }
+
+   /*
+    * Gets the length of the whole sentences waiting within a limit, that is
+    * up to the last line feed, or the limit if no sentence ends within it.
+    */
+   private int getSentencesLength (int limit) {
+      if (limit == pendingLength) {
+         return limit;
+      }
+      for (int i = limit - 1; i >= 0; i--) {
+         if (pending[i] == '\n') {
+            return i + 1;
+         }
+      }
+      return limit;
+   }
+
+   /* Adds the tokens earned since the bucket was last filled. */
+   private void fillBucket () {
+      long now = System.nanoTime ();
+      long earned = (now - filledNanos) / characterNanos;
+      if (earned > 0) {
+         tokens = Math.min (bucketSize, tokens + earned);
+         filledNanos += earned * characterNanos;
+      }
+      if (tokens == bucketSize) {
+         filledNanos = now;
+      }
+   }
+
+   /* Parks this thread for a time, however often it is woken. */
+   private void parkFor (long nanos) {
+      long end = System.nanoTime () + nanos;
+      long now;
+      while (isTransmitting && ((now = System.nanoTime ()) < end)) {
+         LockSupport.parkNanos (this, end - now);
+      }
+   }
+
+   /**
+    * Gets the number of characters waiting to be sent.
+    *
+    * @return Queued character count.
+    */
+   public synchronized int getPendingBytes () {
+      return pendingLength;
+   }
+
+   /**
+    * Gets the most characters that can wait to be sent.
+    *
+    * @return Queue size, in characters.
+    */
+   public int getCapacity () {
+      return pending.length;
+   }
+
+   /**
+    * Gets the most characters that have waited to be sent at once.
+    *
+    * @return High-water mark, in characters.
+    */
+   public synchronized int getHighWaterMark () {
+      return highWaterMark;
+   }
+
+   /**
+    * Gets the number of sentences queued to be sent.
+    *
+    * @return Queued sentence count.
+    */
+   public synchronized long getSentenceCount () {
+      return sentenceCount;
+   }
+
+   /**
+    * Gets the number of writes to the port.  Fewer writes than sentences
+    * shows sentences gathered into one write.
+    *
+    * @return Port write count.
+    */
+   public synchronized long getWriteCount () {
+      return writeCount;
+   }
+
+   /**
+    * Gets the number of characters sent.
+    *
+    * @return Sent character count.
+    */
+   public synchronized long getByteCount () {
+      return byteCount;
+   }
+
+   /**
+    * Gets the number of sentences dropped because the queue was full.
+    *
+    * @return Overrun sentence count.
+    */
+   public synchronized long getOverrunCount () {
+      return overrunCount;
+   }
+
+   /**
+    * Gets the number of characters dropped because the queue was full.
+    *
+    * @return Overrun character count.
+    */
+   public synchronized long getOverrunBytes () {
+      return overrunBytes;
+   }
+
+   /**
+    * Gets the time to send one character on the port.
+    *
+    * @return Character time, in nanoseconds.
+    */
+   public long getCharacterNanos () {
+      return characterNanos;
+   }
+
+   /**
+    * Clears the high-water mark and counts.
+    */
+   public synchronized void resetStatistics () {
+      highWaterMark = pendingLength;
+      sentenceCount = 0;
+      writeCount = 0;
+      byteCount = 0;
+      overrunCount = 0;
+      overrunBytes = 0;
+   }
+}
+/*
+ * Revision history:
+ *
+ * 1.0.0.1  Writes end on a sentence boundary, and sentences given as text
+ *          are copied into the queue without conversion.
+ * 1.0.0.2  Sentences offered with their due time have their lateness
+ *          recorded once they are written to the port.
+ */
@@ -0,0 +1,207 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: FixedPointFormatTest.java
+ * Created: 2026-10-17, 21:32:32
+ */
+package mdl.data;
+
+import java.text.*;
+import java.util.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * Tests FixedPointFormat against DecimalFormat and Calendar, which it
+ * replaces.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class FixedPointFormatTest {
+
+   byte[] buffer = new byte[64];
+
+   /* Writes a decimal number, returning the text written. */
+   private String fixed (double value, int minIntegerDigits, int fractionDigits) {
+      int end = FixedPointFormat.putFixed (buffer, 0, value, minIntegerDigits, fractionDigits);
+      return new String (buffer, 0, end);
+   }
+
+   private String digits (long value, int minDigits) {
+      int end = FixedPointFormat.putDigits (buffer, 0, value, minDigits);
+      return new String (buffer, 0, end);
+   }
+
+   /* Compares putFixed with a DecimalFormat pattern on a double, as the callers used it. */
+   private void assertMatches (String pattern, double value) {
+      DecimalFormat format = new DecimalFormat (pattern);
+      int point = pattern.indexOf ('.');
+      int fractionDigits = (point < 0) ? 0 : pattern.length () - point - 1;
+      int minIntegerDigits = 0;
+      for (int i = 0; i < ((point < 0) ? pattern.length () : point); i++) {
+         if (pattern.charAt (i) == '0') {
+            minIntegerDigits++;
+         }
+      }
+      assertEquals (pattern + " " + value, format.format (value),
+         fixed (value, minIntegerDigits, fractionDigits));
+   }
+
+   /* A number with a 5 in the first digit dropped, e.g. "123.45" for one fraction digit. */
+   private double halfDigit (Random random, int wholeLimit, int fractionDigits) {
+      StringBuilder text = new StringBuilder ();
+      text.append (random.nextInt (wholeLimit)).append ('.');
+      for (int i = 0; i < fractionDigits; i++) {
+         text.append (random.nextInt (10));
+      }
+      text.append ('5');
+      double value = Double.parseDouble (text.toString ());
+      return random.nextBoolean () ? value : -value;
+   }
+
+   @Test
+   public void putDigitsPadsAndSigns () {
+      assertEquals ("07", digits (7, 2));
+      assertEquals ("123", digits (123, 2));
+      assertEquals ("0", digits (0, 1));
+      assertEquals ("-05", digits (-5, 2));
+      assertEquals ("-9223372036854775808", digits (Long.MIN_VALUE, 1));
+   }
+
+   @Test
+   public void putFixedRoundsTiesToEven () {
+      assertEquals ("0.12", fixed (0.125, 1, 2));
+      assertEquals ("0.38", fixed (0.375, 1, 2));
+      assertEquals ("2", fixed (2.5, 1, 0));
+      assertEquals ("4", fixed (3.5, 1, 0));
+      assertEquals ("-2", fixed (-2.5, 1, 0));
+   }
+
+   @Test
+   public void putFixedRoundsOnTheExactValue () {
+      // 0.15 is really 0.1499..., and 2.675 is 2.67499...
+      assertEquals ("0.1", fixed (0.15, 1, 1));
+      assertEquals ("2.67", fixed (2.675, 1, 2));
+      // 1.005 is really 1.00499..., and 0.35 is 0.34999...
+      assertEquals ("1.00", fixed (1.005, 1, 2));
+      assertEquals ("0.3", fixed (0.35, 1, 1));
+      // 0.45 is really 0.45000000000000001...
+      assertEquals ("0.5", fixed (0.45, 1, 1));
+   }
+
+   @Test
+   public void putFixedCarriesIntoTheWholePart () {
+      assertEquals ("360.0", fixed (359.96, 3, 1));
+      assertEquals ("10.0000", fixed (9.99999, 2, 4));
+      assertEquals ("1", fixed (0.9, 1, 0));
+   }
+
+   @Test
+   public void putFixedWritesSignAndSpecialValues () {
+      assertEquals ("-0.0", fixed (-0.0, 1, 1));
+      assertEquals ("-0.0", fixed (-0.04, 1, 1));
+      assertEquals ("", fixed (Double.NaN, 1, 1));
+      assertEquals ("", fixed (Double.POSITIVE_INFINITY, 1, 1));
+      assertEquals ("", fixed (FixedPointFormat.MAX_WHOLE_VALUE, 1, 1));
+   }
+
+   @Test
+   public void putFixedMatchesDecimalFormatPatterns () {
+      // The patterns the sentences were formatted with, over their ranges
+      Random random = new Random (61162L);
+      for (int i = 0; i < 100000; i++) {
+         assertMatches ("00.0000", random.nextDouble () * 60.0);
+         assertMatches ("000.0", (random.nextDouble () - 0.5) * 720.0);
+         assertMatches ("#0.0", (random.nextDouble () - 0.5) * 200.0);
+         assertMatches ("#0.0", random.nextDouble () * 1.0e6);
+      }
+   }
+
+   @Test
+   public void putFixedMatchesDecimalFormatOnHalfDigits () {
+      Random random = new Random (30117L);
+      for (int i = 0; i < 100000; i++) {
+         assertMatches ("00.0000", halfDigit (random, 60, 4));
+         assertMatches ("000.0", halfDigit (random, 360, 1));
+         assertMatches ("#0.0", halfDigit (random, 1000, 1));
+         assertMatches ("0.000", halfDigit (random, 10, 3));
+         assertMatches ("00", halfDigit (random, 100, 0));
+      }
+   }
+
+   @Test
+   public void putFixedMatchesDecimalFormatOnSmallTies () {
+      // Below 1.0E-3 DecimalFormat rounds the doubles nearest 5.0E-n down
+      assertEquals ("00.0000", fixed (5.0E-5, 2, 4));
+      assertEquals ("0.000", fixed (5.0E-4, 1, 3));
+      assertEquals ("-0.000", fixed (-5.0E-4, 1, 3));
+      assertEquals ("0.0001", fixed (5.1E-5, 1, 4));
+      String[] patterns = { "0", "0.0", "0.00", "00.000", "00.0000", "0.00000" };
+      for (int i = 0; i < patterns.length; i++) {
+         for (int exponent = 1; exponent <= 12; exponent++) {
+            double tie = 5.0 / Math.pow (10.0, exponent);
+            assertMatches (patterns[i], tie);
+            assertMatches (patterns[i], -tie);
+            assertMatches (patterns[i], 1.5 / Math.pow (10.0, exponent));
+            assertMatches (patterns[i], 2.5 / Math.pow (10.0, exponent));
+            assertMatches (patterns[i], Math.nextUp (tie));
+            assertMatches (patterns[i], Math.nextDown (tie));
+         }
+      }
+   }
+
+   @Test
+   public void putLatitudeAndLongitude () {
+      int end = FixedPointFormat.putLatitude (buffer, 0, -48.1173);
+      assertEquals ("4807.0380", new String (buffer, 0, end));
+      end = FixedPointFormat.putLongitude (buffer, 0, 11.516666666666667);
+      assertEquals ("01131.0000", new String (buffer, 0, end));
+      assertEquals ('S', FixedPointFormat.getLatitudeHemisphere (-48.1173));
+      assertEquals ('E', FixedPointFormat.getLongitudeHemisphere (11.5));
+   }
+
+   @Test
+   public void putTimeTruncatesFractions () {
+      long millis = ((12L * 3600L + 35L * 60L + 19L) * 1000L) + 987L;
+      int end = FixedPointFormat.putTime (buffer, 0, millis, 2);
+      assertEquals ("123519.98", new String (buffer, 0, end));
+      end = FixedPointFormat.putTime (buffer, 0, millis, 0);
+      assertEquals ("123519", new String (buffer, 0, end));
+      end = FixedPointFormat.putTime (buffer, 0, -1L, 3);
+      assertEquals ("235959.999", new String (buffer, 0, end));
+   }
+
+   @Test
+   public void getCivilDateMatchesCalendar () {
+      GregorianCalendar calendar = new GregorianCalendar (TimeZone.getTimeZone ("UTC"));
+      calendar.setGregorianChange (new Date (Long.MIN_VALUE));
+      // Every day from 1600 to 2400, covering the leap year rules
+      for (long day = -135140L; day < 157000L; day++) {
+         long millis = day * 86400000L + 43200000L;
+         calendar.setTimeInMillis (millis);
+         int date = FixedPointFormat.getCivilDate (millis);
+         assertEquals ("day " + day, calendar.get (Calendar.YEAR), FixedPointFormat.getYear (date));
+         assertEquals ("day " + day, calendar.get (Calendar.MONTH) + 1, FixedPointFormat.getMonth (date));
+         assertEquals ("day " + day, calendar.get (Calendar.DAY_OF_MONTH), FixedPointFormat.getDay (date));
+      }
+   }
+
+   @Test
+   public void getCivilDateAtDayBoundaries () {
+      int date = FixedPointFormat.getCivilDate (0L);
+      assertEquals (1970, FixedPointFormat.getYear (date));
+      assertEquals (1, FixedPointFormat.getMonth (date));
+      assertEquals (1, FixedPointFormat.getDay (date));
+      date = FixedPointFormat.getCivilDate (-1L);
+      assertEquals (1969, FixedPointFormat.getYear (date));
+      assertEquals (12, FixedPointFormat.getMonth (date));
+      assertEquals (31, FixedPointFormat.getDay (date));
+      // 2000-02-29, a leap day of a century year
+      date = FixedPointFormat.getCivilDate (951782400000L);
+      assertEquals (2, FixedPointFormat.getMonth (date));
+      assertEquals (29, FixedPointFormat.getDay (date));
+   }
+}
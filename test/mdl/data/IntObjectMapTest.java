@@ -0,0 +1,159 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: IntObjectMapTest.java
+ * Created: 2026-10-17, 21:35:11
+ */
+package mdl.data;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * Tests IntObjectMap against HashMap, and its lock free reads while the map
+ * is changed.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class IntObjectMapTest {
+
+   IntObjectMap<String> map = new IntObjectMap<String>();
+
+   @Test
+   public void putGetReplaceAndRemove () {
+      assertTrue (map.isEmpty ());
+      assertNull (map.put (0x484454, "HDT"));
+      assertNull (map.put (0x474741, "GGA"));
+      assertEquals (2, map.size ());
+      assertEquals ("HDT", map.get (0x484454));
+      assertTrue (map.containsKey (0x474741));
+      assertFalse (map.containsKey (0x565447));
+      assertNull (map.get (0x565447));
+
+      assertEquals ("HDT", map.put (0x484454, "HDT2"));
+      assertEquals (2, map.size ());
+      assertEquals ("HDT2", map.get (0x484454));
+
+      assertEquals ("GGA", map.remove (0x474741));
+      assertNull (map.remove (0x474741));
+      assertEquals (1, map.size ());
+      assertFalse (map.containsKey (0x474741));
+
+      map.clear ();
+      assertTrue (map.isEmpty ());
+      assertNull (map.get (0x484454));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void putRejectsNull () {
+      map.put (1, null);
+   }
+
+   @Test
+   public void zeroAndNegativeKeys () {
+      map.put (0, "zero");
+      map.put (-1, "minus one");
+      map.put (Integer.MIN_VALUE, "min");
+      assertEquals ("zero", map.get (0));
+      assertEquals ("minus one", map.get (-1));
+      assertEquals ("min", map.get (Integer.MIN_VALUE));
+      assertNull (map.get (Integer.MAX_VALUE));
+   }
+
+   @Test
+   public void growsAndShrinksPastMinimumCapacity () {
+      // Multiples of the table size share their low bits
+      int count = IntObjectMap.MIN_CAPACITY * 8;
+      for (int i = 0; i < count; i++) {
+         map.put (i << 16, "v" + i);
+      }
+      assertEquals (count, map.size ());
+      for (int i = 0; i < count; i++) {
+         assertEquals ("v" + i, map.get (i << 16));
+      }
+      for (int i = 0; i < count; i += 2) {
+         map.remove (i << 16);
+      }
+      assertEquals (count / 2, map.size ());
+      for (int i = 0; i < count; i++) {
+         assertEquals (((i & 1) == 0) ? null : "v" + i, map.get (i << 16));
+      }
+   }
+
+   @Test
+   public void keysAndValuesAreSnapshots () {
+      map.put (1, "one");
+      map.put (2, "two");
+      int [] keys = map.keys ();
+      Vector<String> values = map.values ();
+      map.put (3, "three");
+      map.remove (1);
+
+      Arrays.sort (keys);
+      assertArrayEquals (new int[] { 1, 2 }, keys);
+      assertEquals (2, values.size ());
+      assertTrue (values.contains ("one"));
+      assertTrue (values.contains ("two"));
+   }
+
+   @Test
+   public void matchesHashMap () {
+      HashMap<Integer, String> expected = new HashMap<Integer, String>();
+      Random random = new Random (30117L);
+      for (int i = 0; i < 20000; i++) {
+         int key = random.nextInt (512) - 256;
+         if (random.nextInt (3) == 0) {
+            assertEquals (expected.remove (key), map.remove (key));
+         } else {
+            String value = "v" + i;
+            assertEquals (expected.put (key, value), map.put (key, value));
+         }
+         assertEquals (expected.size (), map.size ());
+      }
+      for (int key = -256; key < 256; key++) {
+         assertEquals (expected.get (key), map.get (key));
+      }
+      assertEquals (expected.size (), map.keys ().length);
+      assertEquals (expected.size (), map.values ().size ());
+   }
+
+   @Test
+   public void readersNeverSeePartialChanges () throws InterruptedException {
+      final int stableCount = 64;
+      for (int i = 0; i < stableCount; i++) {
+         map.put (i, "stable" + i);
+      }
+      final AtomicBoolean running = new AtomicBoolean (true);
+      final AtomicInteger failures = new AtomicInteger ();
+      Thread reader = new Thread () {
+         public void run () {
+            while (running.get ()) {
+               for (int i = 0; i < stableCount; i++) {
+                  if (!("stable" + i).equals (map.get (i))) {
+                     failures.incrementAndGet ();
+                  }
+               }
+            }
+         }
+      };
+      reader.start ();
+      // Adding and removing other keys grows and shrinks the table under the reader
+      for (int round = 0; round < 200; round++) {
+         for (int i = 0; i < 256; i++) {
+            map.put (1000 + i, "changing");
+         }
+         for (int i = 0; i < 256; i++) {
+            map.remove (1000 + i);
+         }
+      }
+      running.set (false);
+      reader.join ();
+      assertEquals (0, failures.get ());
+      assertEquals (stableCount, map.size ());
+   }
+}
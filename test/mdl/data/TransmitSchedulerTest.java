@@ -0,0 +1,158 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: TransmitSchedulerTest.java
+ * Created: 2026-10-17, 21:38:21
+ */
+package mdl.data;
+
+import java.util.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * Tests the timing wheel of TransmitScheduler: bucket and round placement,
+ * cancellation, fixed rate deadlines and missed deadline counting.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class TransmitSchedulerTest {
+
+   final static Runnable NOTHING = new Runnable () {
+      public void run () { }
+   };
+
+   TransmitScheduler scheduler = new TransmitScheduler (1);
+
+   /* Places a transmission on the wheel, due a number of ticks after the current tick. */
+   private TransmitScheduler.ScheduledTransmit place (long ticksAhead) {
+      TransmitScheduler.ScheduledTransmit transmit =
+         new TransmitScheduler.ScheduledTransmit (scheduler, NOTHING, 0L);
+      synchronized (scheduler.wheelLock) {
+         transmit.deadline = scheduler.startNanos +
+            ((scheduler.tick + ticksAhead) * TransmitScheduler.TICK_NANOS);
+         scheduler.addToWheel (transmit);
+      }
+      return transmit;
+   }
+
+   @Test
+   public void placesTransmissionsByBucketAndRound () {
+      TransmitScheduler.ScheduledTransmit now = place (0);
+      long tick = scheduler.tick;
+      int size = TransmitScheduler.WHEEL_SIZE;
+
+      TransmitScheduler.ScheduledTransmit soon = place (5);
+      TransmitScheduler.ScheduledTransmit later = place ((2L * size) + 5);
+      assertEquals (0, now.rounds);
+      assertEquals ((int) (tick & (size - 1)), now.bucket);
+      assertEquals (0, soon.rounds);
+      assertEquals ((int) ((tick + 5) & (size - 1)), soon.bucket);
+      assertEquals (2, later.rounds);
+      assertEquals (soon.bucket, later.bucket);
+      assertEquals (3, scheduler.getScheduledCount ());
+   }
+
+   @Test
+   public void pastDeadlineIsDueNow () {
+      place (0);
+      TransmitScheduler.ScheduledTransmit late = place (-50);
+      assertEquals (0, late.rounds);
+      assertEquals ((int) (scheduler.tick & (TransmitScheduler.WHEEL_SIZE - 1)), late.bucket);
+   }
+
+   @Test
+   public void cancelUnlinksFromTheBucket () {
+      place (0);
+      TransmitScheduler.ScheduledTransmit first = place (7);
+      TransmitScheduler.ScheduledTransmit second = place (7);
+      TransmitScheduler.ScheduledTransmit third = place (7);
+
+      second.cancel ();
+      assertTrue (second.isCancelled ());
+      assertFalse (second.onWheel);
+      assertEquals (3, scheduler.getScheduledCount ());
+      assertSame (third, scheduler.wheel[first.bucket]);
+      assertSame (first, third.next);
+      assertSame (third, first.previous);
+
+      third.cancel ();
+      assertSame (first, scheduler.wheel[first.bucket]);
+      assertNull (first.previous);
+      second.cancel ();
+      assertEquals (2, scheduler.getScheduledCount ());
+   }
+
+   @Test
+   public void missedDeadlinesAreSkippedAndCounted () {
+      final long period = 10000000L;
+      TransmitScheduler.ScheduledTransmit transmit =
+         new TransmitScheduler.ScheduledTransmit (scheduler, null, period);
+      transmit.fixedRateTask = new TransmitTask () {
+         public void transmit (long scheduledNanos) {
+            try {
+               Thread.sleep (35L);
+            }
+            catch (InterruptedException error) { /* do nothing */ }
+         }
+      };
+      long due = System.nanoTime ();
+      transmit.deadline = due;
+      transmit.run ();
+      long after = System.nanoTime ();
+
+      assertTrue (transmit.getMissedCount () >= 3);
+      synchronized (scheduler.wheelLock) {
+         assertEquals (0, (transmit.deadline - due) % period);
+         assertEquals ((transmit.getMissedCount () + 1) * period, transmit.deadline - due);
+         assertTrue (transmit.deadline > after - period);
+         assertTrue (transmit.onWheel);
+      }
+      transmit.cancel ();
+   }
+
+   @Test
+   public void fixedRateDeadlinesDoNotDrift () throws InterruptedException {
+      final long period = 5000000L;
+      final List<Long> deadlines = Collections.synchronizedList (new ArrayList<Long>());
+      TransmitScheduler.ScheduledTransmit transmit = scheduler.scheduleAtFixedRate (
+         new TransmitTask () {
+            public void transmit (long scheduledNanos) {
+               deadlines.add (scheduledNanos);
+            }
+         }, period);
+      Thread.sleep (200L);
+      transmit.cancel ();
+
+      synchronized (deadlines) {
+         assertTrue (deadlines.size () > 10);
+         long first = deadlines.get (0);
+         long previous = first;
+         for (int i = 1; i < deadlines.size (); i++) {
+            long deadline = deadlines.get (i);
+            assertTrue (deadline > previous);
+            assertEquals (0, (deadline - first) % period);
+            previous = deadline;
+         }
+      }
+      assertEquals (period, transmit.getPeriodNanos ());
+      assertTrue (scheduler.getThreadCount () <= scheduler.getMaxThreadCount ());
+   }
+
+   @Test
+   public void cancelledTransmissionDoesNotRun () throws InterruptedException {
+      final int [] runs = new int[1];
+      TransmitScheduler.ScheduledTransmit transmit = scheduler.schedule (new Runnable () {
+         public void run () {
+            runs[0]++;
+         }
+      }, 20000000L, 1000000L);
+      transmit.cancel ();
+      Thread.sleep (50L);
+      assertEquals (0, runs[0]);
+      assertEquals (0, scheduler.getScheduledCount ());
+   }
+}
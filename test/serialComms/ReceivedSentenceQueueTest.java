@@ -0,0 +1,177 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: ReceivedSentenceQueueTest.java
+ * Created: 2026-10-17, 21:37:13
+ */
+package serialComms;
+
+import java.util.concurrent.atomic.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * Tests the ordering, overflow policies and statistics of
+ * ReceivedSentenceQueue, with one producer and one consumer thread.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class ReceivedSentenceQueueTest {
+
+   ReceivedSentenceServer server = new ReceivedSentenceServer (16);
+
+   private ReceivedSentence sentence (int id) {
+      ReceivedSentence sentence = server.getReceivedSentence ();
+      sentence.setInUse (true);
+      sentence.formatter = id;
+      return sentence;
+   }
+
+   @Test
+   public void capacityIsRoundedToAPowerOfTwo () {
+      assertEquals (2, new ReceivedSentenceQueue (0).getCapacity ());
+      assertEquals (8, new ReceivedSentenceQueue (5).getCapacity ());
+      assertEquals (ReceivedSentenceQueue.DEFAULT_CAPACITY,
+         new ReceivedSentenceQueue ().getCapacity ());
+   }
+
+   @Test
+   public void firstInFirstOut () {
+      ReceivedSentenceQueue queue = new ReceivedSentenceQueue (4);
+      assertNull (queue.poll ());
+      for (int i = 1; i <= 3; i++) {
+         assertTrue (queue.offer (sentence (i)));
+      }
+      assertEquals (3, queue.getDepth ());
+      for (int i = 1; i <= 3; i++) {
+         assertEquals (i, queue.poll ().formatter);
+      }
+      assertNull (queue.poll ());
+      assertEquals (0, queue.getDepth ());
+      assertEquals (3, queue.getHighWaterMark ());
+      assertEquals (3, queue.getOfferCount ());
+   }
+
+   @Test
+   public void dropOldestReleasesTheOldest () {
+      ReceivedSentenceQueue queue = new ReceivedSentenceQueue (2);
+      ReceivedSentence oldest = sentence (1);
+      queue.offer (oldest);
+      queue.offer (sentence (2));
+      assertTrue (queue.offer (sentence (3)));
+
+      assertEquals (1, queue.getDropCount ());
+      assertFalse (oldest.getInUse ());
+      assertEquals (2, queue.poll ().formatter);
+      assertEquals (3, queue.poll ().formatter);
+   }
+
+   @Test
+   public void dropNewestReleasesTheNewest () {
+      ReceivedSentenceQueue queue = new ReceivedSentenceQueue (2);
+      queue.setOverflowPolicy (ReceivedSentenceQueue.DROP_NEWEST);
+      queue.offer (sentence (1));
+      queue.offer (sentence (2));
+      ReceivedSentence newest = sentence (3);
+      assertFalse (queue.offer (newest));
+
+      assertEquals (1, queue.getDropCount ());
+      assertFalse (newest.getInUse ());
+      assertEquals (1, queue.poll ().formatter);
+      assertEquals (2, queue.poll ().formatter);
+   }
+
+   @Test
+   public void unknownOverflowPolicyIsIgnored () {
+      ReceivedSentenceQueue queue = new ReceivedSentenceQueue ();
+      queue.setOverflowPolicy (ReceivedSentenceQueue.BLOCK);
+      queue.setOverflowPolicy (7);
+      assertEquals (ReceivedSentenceQueue.BLOCK, queue.getOverflowPolicy ());
+   }
+
+   @Test
+   public void clearReturnsSentencesToThePool () {
+      ReceivedSentenceQueue queue = new ReceivedSentenceQueue (4);
+      queue.offer (sentence (1));
+      queue.offer (sentence (2));
+      assertEquals (14, server.getFreeCount ());
+      queue.clear ();
+      assertEquals (0, queue.getDepth ());
+      assertEquals (16, server.getFreeCount ());
+   }
+
+   @Test
+   public void blockingProducerKeepsEverySentenceInOrder () throws InterruptedException {
+      final ReceivedSentenceQueue queue = new ReceivedSentenceQueue (4);
+      queue.setOverflowPolicy (ReceivedSentenceQueue.BLOCK);
+      final int count = 100000;
+      final AtomicInteger failures = new AtomicInteger ();
+      final AtomicInteger received = new AtomicInteger ();
+      Thread consumer = new Thread () {
+         public void run () {
+            int expected = 0;
+            while (expected < count) {
+               ReceivedSentence sentence = queue.take ();
+               if (sentence != null) {
+                  if (sentence.formatter != expected) {
+                     failures.incrementAndGet ();
+                  }
+                  expected++;
+               }
+            }
+            received.set (expected);
+         }
+      };
+      consumer.start ();
+      // Unpooled sentences, so the producer never waits on the pool.
+      for (int i = 0; i < count; i++) {
+         ReceivedSentence sentence = new ReceivedSentence ();
+         sentence.formatter = i;
+         queue.offer (sentence);
+      }
+      consumer.join (60000L);
+
+      assertEquals (count, received.get ());
+      assertEquals (0, failures.get ());
+      assertEquals (0, queue.getDropCount ());
+      assertTrue (queue.getHighWaterMark () <= queue.getCapacity ());
+   }
+
+   @Test
+   public void droppingProducerKeepsOrder () throws InterruptedException {
+      final ReceivedSentenceQueue queue = new ReceivedSentenceQueue (8);
+      final int count = 100000;
+      final AtomicBoolean producing = new AtomicBoolean (true);
+      final AtomicInteger failures = new AtomicInteger ();
+      final AtomicInteger received = new AtomicInteger ();
+      Thread consumer = new Thread () {
+         public void run () {
+            int last = -1;
+            ReceivedSentence sentence;
+            while (producing.get () || (queue.getDepth () > 0)) {
+               while ((sentence = queue.poll ()) != null) {
+                  if (sentence.formatter <= last) {
+                     failures.incrementAndGet ();
+                  }
+                  last = sentence.formatter;
+                  received.incrementAndGet ();
+               }
+            }
+         }
+      };
+      consumer.start ();
+      for (int i = 0; i < count; i++) {
+         ReceivedSentence sentence = new ReceivedSentence ();
+         sentence.formatter = i;
+         queue.offer (sentence);
+      }
+      producing.set (false);
+      consumer.join (60000L);
+
+      assertEquals (0, failures.get ());
+      assertEquals (count, received.get () + queue.getDropCount ());
+   }
+}
@@ -0,0 +1,141 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: ReceivedSentenceServerTest.java
+ * Created: 2026-10-17, 21:37:52
+ */
+package serialComms;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * Tests the free stack, overload policies and statistics of
+ * ReceivedSentenceServer, including release on another thread.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class ReceivedSentenceServerTest {
+
+   ReceivedSentenceServer server = new ReceivedSentenceServer (4);
+
+   @Test
+   public void poolSizeDefaultsWhenInvalid () {
+      assertEquals (ReceivedSentenceServer.DEFAULT_SENTENCE_COUNT,
+         new ReceivedSentenceServer (0).getSentenceCount ());
+      assertEquals (4, server.getSentenceCount ());
+      assertEquals (4, server.getFreeCount ());
+   }
+
+   @Test
+   public void handsOutEachSentenceOnce () {
+      Set<ReceivedSentence> taken = new HashSet<ReceivedSentence>();
+      for (int i = 0; i < 4; i++) {
+         assertTrue (taken.add (server.getReceivedSentence ()));
+      }
+      assertEquals (0, server.getFreeCount ());
+      assertEquals (0, server.getLowWaterMark ());
+      assertEquals (0, server.getOverloadCount ());
+   }
+
+   @Test
+   public void releasedSentenceIsReusedFirst () {
+      ReceivedSentence first = server.getReceivedSentence ();
+      server.getReceivedSentence ();
+      first.setInUse (false);
+      assertEquals (3, server.getFreeCount ());
+      assertSame (first, server.getReceivedSentence ());
+      assertEquals (2, server.getLowWaterMark ());
+   }
+
+   @Test
+   public void repeatedReleaseIsIgnored () {
+      ReceivedSentence sentence = server.getReceivedSentence ();
+      sentence.setInUse (false);
+      sentence.setInUse (false);
+      assertEquals (4, server.getFreeCount ());
+
+      // The stack still holds each sentence once
+      Set<ReceivedSentence> taken = new HashSet<ReceivedSentence>();
+      for (int i = 0; i < 4; i++) {
+         assertTrue (taken.add (server.getReceivedSentence ()));
+      }
+      assertEquals (0, server.getOverloadCount ());
+   }
+
+   @Test
+   public void overloadDiscardReturnsTheScratchSentence () {
+      for (int i = 0; i < 4; i++) {
+         server.getReceivedSentence ();
+      }
+      ReceivedSentence scratch = server.getReceivedSentence ();
+      assertSame (scratch, server.getReceivedSentence ());
+      assertTrue (scratch.discarded);
+      assertEquals (2, server.getOverloadCount ());
+
+      // Releasing the scratch sentence does not add it to the pool
+      scratch.setInUse (false);
+      assertEquals (0, server.getFreeCount ());
+   }
+
+   @Test
+   public void overloadAllocateReturnsUnpooledSentences () {
+      server.setOverloadPolicy (ReceivedSentenceServer.OVERLOAD_ALLOCATE);
+      server.setOverloadPolicy (5);
+      assertEquals (ReceivedSentenceServer.OVERLOAD_ALLOCATE, server.getOverloadPolicy ());
+      for (int i = 0; i < 4; i++) {
+         server.getReceivedSentence ();
+      }
+      ReceivedSentence extra = server.getReceivedSentence ();
+      assertNotSame (extra, server.getReceivedSentence ());
+      assertFalse (extra.discarded);
+      assertEquals (2, server.getOverloadCount ());
+      extra.setInUse (false);
+      assertEquals (0, server.getFreeCount ());
+   }
+
+   @Test
+   public void takeAndReleaseOnDifferentThreads () throws InterruptedException {
+      final ReceivedSentenceServer pool = new ReceivedSentenceServer (8);
+      final ReceivedSentenceQueue queue = new ReceivedSentenceQueue (8);
+      queue.setOverflowPolicy (ReceivedSentenceQueue.BLOCK);
+      final int count = 100000;
+      final AtomicInteger doubleUse = new AtomicInteger ();
+      Thread consumer = new Thread () {
+         public void run () {
+            int received = 0;
+            while (received < count) {
+               ReceivedSentence sentence = queue.take ();
+               if (sentence != null) {
+                  received++;
+                  sentence.setInUse (false);
+               }
+            }
+         }
+      };
+      consumer.start ();
+      int sent = 0;
+      while (sent < count) {
+         ReceivedSentence sentence = pool.getReceivedSentence ();
+         if (sentence.discarded) {
+            Thread.yield ();
+            continue;
+         }
+         if (sentence.getInUse ()) {
+            doubleUse.incrementAndGet ();
+         }
+         sentence.setInUse (true);
+         queue.offer (sentence);
+         sent++;
+      }
+      consumer.join (60000L);
+
+      assertEquals (0, doubleUse.get ());
+      assertEquals (8, pool.getFreeCount ());
+   }
+}
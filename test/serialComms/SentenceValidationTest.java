@@ -0,0 +1,102 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: SentenceValidationTest.java
+ * Created: 2026-10-17, 21:37:12
+ */
+package serialComms;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * Tests the validation level, the sampling countdown and the sentence
+ * counts of SentenceValidation.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class SentenceValidationTest {
+
+   SentenceValidation validation = new SentenceValidation ();
+
+   @Test
+   public void setLevelIgnoresUnknownLevels () {
+      assertEquals (SentenceValidation.DEFAULT_LEVEL, validation.getLevel ());
+      validation.setLevel (SentenceValidation.VALIDATE_CHECKSUM);
+      assertEquals (SentenceValidation.VALIDATE_CHECKSUM, validation.getLevel ());
+      validation.setLevel (-1);
+      validation.setLevel (SentenceValidation.VALIDATE_FULL + 1);
+      assertEquals (SentenceValidation.VALIDATE_CHECKSUM, validation.getLevel ());
+      assertEquals ("Unrecognized", SentenceValidation.getLevelName (-1));
+   }
+
+   @Test
+   public void fullLevelIsNeverSampled () {
+      validation.setSampleInterval (2);
+      for (int i = 0; i < 10; i++) {
+         assertEquals (SentenceValidation.VALIDATE_FULL, validation.nextLevel ());
+      }
+      assertEquals (0, validation.getSampledCount ());
+      assertEquals (10, validation.getAppliedCount (SentenceValidation.VALIDATE_FULL));
+   }
+
+   @Test
+   public void noSamplingWithoutAnInterval () {
+      validation.setLevel (SentenceValidation.VALIDATE_NONE);
+      validation.setSampleInterval (-5);
+      assertEquals (0, validation.getSampleInterval ());
+      for (int i = 0; i < 10; i++) {
+         assertEquals (SentenceValidation.VALIDATE_NONE, validation.nextLevel ());
+      }
+      assertEquals (0, validation.getSampledCount ());
+      assertEquals (10, validation.getAppliedCount (SentenceValidation.VALIDATE_NONE));
+   }
+
+   @Test
+   public void samplesOneSentenceInEachInterval () {
+      validation.setLevel (SentenceValidation.VALIDATE_STRUCTURAL);
+      validation.setSampleInterval (4);
+      StringBuilder levels = new StringBuilder ();
+      for (int i = 0; i < 12; i++) {
+         levels.append (validation.nextLevel ());
+      }
+      // The first sentence is sampled, then every fourth
+      assertEquals ("311131113111", levels.toString ());
+      assertEquals (3, validation.getSampledCount ());
+      assertEquals (3, validation.getAppliedCount (SentenceValidation.VALIDATE_FULL));
+      assertEquals (9, validation.getAppliedCount (SentenceValidation.VALIDATE_STRUCTURAL));
+      assertEquals (0, validation.getAppliedCount (SentenceValidation.VALIDATE_FULL + 1));
+   }
+
+   @Test
+   public void shorterIntervalTakesEffectAtOnce () {
+      validation.setLevel (SentenceValidation.VALIDATE_CHECKSUM);
+      validation.setSampleInterval (100);
+      assertEquals (SentenceValidation.VALIDATE_FULL, validation.nextLevel ());
+      assertEquals (SentenceValidation.VALIDATE_CHECKSUM, validation.nextLevel ());
+
+      // The countdown left from the long interval is cut short
+      validation.setSampleInterval (2);
+      assertEquals (SentenceValidation.VALIDATE_FULL, validation.nextLevel ());
+      assertEquals (SentenceValidation.VALIDATE_CHECKSUM, validation.nextLevel ());
+      assertEquals (SentenceValidation.VALIDATE_FULL, validation.nextLevel ());
+   }
+
+   @Test
+   public void resetStatisticsClearsCounts () {
+      validation.setLevel (SentenceValidation.VALIDATE_NONE);
+      validation.setSampleInterval (1);
+      validation.nextLevel ();
+      validation.nextLevel ();
+      assertEquals (2, validation.getSampledCount ());
+      validation.resetStatistics ();
+      assertEquals (0, validation.getSampledCount ());
+      for (int level = SentenceValidation.VALIDATE_NONE;
+           level <= SentenceValidation.VALIDATE_FULL; level++) {
+         assertEquals (0, validation.getAppliedCount (level));
+      }
+   }
+}
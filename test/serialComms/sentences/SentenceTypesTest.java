@@ -0,0 +1,115 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: SentenceTypesTest.java
+ * Created: 2026-10-17, 21:35:55
+ */
+package serialComms.sentences;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * Tests the talker and formatter table indexes of SentenceTypes, and the
+ * lookups built on them.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class SentenceTypesTest {
+
+   @Test
+   public void talkerIndexOfLetters () {
+      assertEquals (0, SentenceTypes.getTalkerIndex (0x4141));          // AA
+      assertEquals ((26 * 26) - 1, SentenceTypes.getTalkerIndex (0x5A5A));  // ZZ
+      assertEquals ((6 * 26) + 15, SentenceTypes.getTalkerIndex (SentenceTypes.TALKER_GP));
+      assertEquals (26 * 26, SentenceTypes.getTalkerIndex ('A'));
+      assertEquals ((26 * 26) + 15, SentenceTypes.getTalkerIndex (SentenceTypes.TALKER_P));
+   }
+
+   @Test
+   public void talkerIndexRejectsOtherValues () {
+      assertEquals (-1, SentenceTypes.getTalkerIndex (0));
+      assertEquals (-1, SentenceTypes.getTalkerIndex ('a'));
+      assertEquals (-1, SentenceTypes.getTalkerIndex (0x4140));         // A@
+      assertEquals (-1, SentenceTypes.getTalkerIndex (0x5B41));         // [A
+      assertEquals (-1, SentenceTypes.getTalkerIndex (0x414750));       // three letters
+      assertEquals (-1, SentenceTypes.getTalkerIndex (-1));
+   }
+
+   @Test
+   public void talkerIndexesAreDistinct () {
+      boolean [] used = new boolean[(26 * 26) + 26];
+      for (int first = 'A'; first <= 'Z'; first++) {
+         for (int second = 'A'; second <= 'Z'; second++) {
+            int index = SentenceTypes.getTalkerIndex ((first << 8) | second);
+            assertFalse (used[index]);
+            used[index] = true;
+         }
+      }
+      for (int letter = 'A'; letter <= 'Z'; letter++) {
+         int index = SentenceTypes.getTalkerIndex (letter);
+         assertFalse (used[index]);
+         used[index] = true;
+      }
+   }
+
+   @Test
+   public void formatterIndexOfLetters () {
+      assertEquals (0, SentenceTypes.getFormatterIndex (0x414141));      // AAA
+      assertEquals ((26 * 26 * 26) - 1, SentenceTypes.getFormatterIndex (0x5A5A5A));  // ZZZ
+      assertEquals ((((7 * 26) + 3) * 26) + 19,
+         SentenceTypes.getFormatterIndex (SentenceTypes.FORMATTER_HDT));
+   }
+
+   @Test
+   public void formatterIndexOfOtherInterfaces () {
+      int letters = 26 * 26 * 26;
+      // FORMATTER_ZZZ is 0xFFFFFF, not three capital letters
+      assertEquals (letters, SentenceTypes.getFormatterIndex (SentenceTypes.FORMATTER_ZZZ));
+      assertEquals (letters + 1, SentenceTypes.getFormatterIndex (SentenceTypes.FORMATTER_NMEA0180));
+      assertEquals (letters + 2, SentenceTypes.getFormatterIndex (SentenceTypes.FORMATTER_NMEA0182));
+      assertEquals (letters + 3, SentenceTypes.getFormatterIndex (SentenceTypes.FORMATTER_RAYNAV750));
+   }
+
+   @Test
+   public void formatterIndexRejectsOtherValues () {
+      assertEquals (-1, SentenceTypes.getFormatterIndex (SentenceTypes.FORMATTER_XXX));
+      assertEquals (-1, SentenceTypes.getFormatterIndex (0x484474));     // HDt
+      assertEquals (-1, SentenceTypes.getFormatterIndex (0x004454));
+      assertEquals (-1, SentenceTypes.getFormatterIndex (0x41484454));   // four letters
+      assertEquals (-1, SentenceTypes.getFormatterIndex (-1));
+      assertNull (SentenceTypes.getDescriptor (SentenceTypes.FORMATTER_XXX));
+      assertEquals ("Unrecognized", SentenceTypes.getFormatterIDName (0x484474));
+      assertFalse (SentenceTypes.isSupported (-1));
+   }
+
+   @Test
+   public void everyKnownTalkerHasAName () {
+      int [] talkers = SentenceTypes.getKnownTalkerIDs ();
+      for (int i = 0; i < talkers.length; i++) {
+         assertTrue (SentenceTypes.getTalkerIndex (talkers[i]) >= 0);
+         assertTrue (SentenceTypes.isKnownTalker (talkers[i]));
+         assertNotNull (SentenceTypes.getTalkerIDName (talkers[i]));
+      }
+      assertFalse (SentenceTypes.isKnownTalker (0x5A5A));
+      assertNull (SentenceTypes.getTalkerIDName (0x5A5A));
+      assertNull (SentenceTypes.getTalkerIDName (0));
+   }
+
+   @Test
+   public void everyKnownFormatterHasADescriptor () {
+      int [] formatters = SentenceTypes.getKnownFormatters ();
+      for (int i = 0; i < formatters.length; i++) {
+         SentenceDescriptor descriptor = SentenceTypes.getDescriptor (formatters[i]);
+         assertNotNull (Integer.toHexString (formatters[i]), descriptor);
+         assertEquals (formatters[i], descriptor.getFormatter ());
+         assertEquals (descriptor.getName (), SentenceTypes.getFormatterIDName (formatters[i]));
+         assertEquals (descriptor.isSupported (), SentenceTypes.isSupported (formatters[i]));
+      }
+      assertEquals ("Heading, true [HDT]",
+         SentenceTypes.getFormatterIDName (SentenceTypes.FORMATTER_HDT));
+   }
+}
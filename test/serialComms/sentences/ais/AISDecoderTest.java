@@ -0,0 +1,244 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: AISDecoderTest.java
+ * Created: 2026-10-17, 21:33:26
+ */
+package serialComms.sentences.ais;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+import serialComms.*;
+/**
+ * Tests the 6-bit de-armouring, bit extraction and message reassembly of
+ * AISDecoder.  The class A position and static and voyage data sentences
+ * are widely published samples, with their published decoded values.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class AISDecoderTest {
+
+   AISDecoder decoder;
+   int positionCount;
+   int staticVoyageCount;
+   int staticDataCount;
+
+   /* Copies of the reused report objects, taken during the listener call. */
+   AISPositionReport position = new AISPositionReport ();
+   AISStaticVoyageData voyage = new AISStaticVoyageData ();
+   AISStaticDataReport[] staticParts = { new AISStaticDataReport (), new AISStaticDataReport () };
+
+   @Before
+   public void setUp () {
+      decoder = new AISDecoder ();
+      decoder.addAISMessageListener (new AISMessageListener () {
+         public void receivePositionReport (AISPositionReport report) {
+            positionCount++;
+            position.messageType = report.messageType;
+            position.mmsi = report.mmsi;
+            position.navigationStatus = report.navigationStatus;
+            position.speedOverGround = report.speedOverGround;
+            position.latitude = report.latitude;
+            position.longitude = report.longitude;
+            position.courseOverGround = report.courseOverGround;
+            position.trueHeading = report.trueHeading;
+            position.timeStamp = report.timeStamp;
+            position.classB = report.classB;
+            position.ownVessel = report.ownVessel;
+            position.channel = report.channel;
+         }
+         public void receiveStaticVoyageData (AISStaticVoyageData data) {
+            staticVoyageCount++;
+            voyage.mmsi = data.mmsi;
+            voyage.imoNumber = data.imoNumber;
+            voyage.callSign.append (data.callSign);
+            voyage.shipName.append (data.shipName);
+            voyage.shipType = data.shipType;
+            voyage.dimensionToBow = data.dimensionToBow;
+            voyage.dimensionToStern = data.dimensionToStern;
+            voyage.dimensionToPort = data.dimensionToPort;
+            voyage.dimensionToStarboard = data.dimensionToStarboard;
+            voyage.etaMonth = data.etaMonth;
+            voyage.etaDay = data.etaDay;
+            voyage.etaHour = data.etaHour;
+            voyage.draught = data.draught;
+            voyage.destination.append (data.destination);
+         }
+         public void receiveStaticDataReport (AISStaticDataReport report) {
+            staticDataCount++;
+            AISStaticDataReport part = staticParts[report.partNumber & 1];
+            part.mmsi = report.mmsi;
+            part.partNumber = report.partNumber;
+            part.shipName.append (report.shipName);
+            part.shipType = report.shipType;
+            part.vendorID.append (report.vendorID);
+            part.callSign.append (report.callSign);
+         }
+      });
+   }
+
+   /* Builds a received VDM sentence from its fields. */
+   private ReceivedSentence sentence (String total, String number, String sequenceID,
+                                      String channel, String payload, String fillBits) {
+      ReceivedSentence sentence = new ReceivedSentence ();
+      String[] fields = { "VDM", total, number, sequenceID, channel, payload, fillBits };
+      for (int i = 0; i < fields.length; i++) {
+         sentence.appendFieldCharacters (fields[i]);
+         sentence.endField ();
+      }
+      return sentence;
+   }
+
+   /* Sets the decoder's payload to the given 6-bit values. */
+   private void setBits (int... values) {
+      decoder.bits = new byte[values.length];
+      for (int i = 0; i < values.length; i++) {
+         decoder.bits[i] = (byte) values[i];
+      }
+      decoder.bitLength = values.length * 6;
+   }
+
+   @Test
+   public void armourValues () {
+      assertEquals (0, AISDecoder.ARMOUR_VALUE['0']);
+      assertEquals (39, AISDecoder.ARMOUR_VALUE['W']);
+      assertEquals (40, AISDecoder.ARMOUR_VALUE['`']);
+      assertEquals (63, AISDecoder.ARMOUR_VALUE['w']);
+      assertEquals (-1, AISDecoder.ARMOUR_VALUE['X']);
+      assertEquals (-1, AISDecoder.ARMOUR_VALUE['_']);
+      assertEquals (-1, AISDecoder.ARMOUR_VALUE['x']);
+      assertEquals (-1, AISDecoder.ARMOUR_VALUE[' ']);
+   }
+
+   @Test
+   public void getUnsignedAcrossCharacters () {
+      setBits (0x2A, 0x15, 0x3F);   // 101010 010101 111111
+      assertEquals (0x2A, decoder.getUnsigned (0, 6));
+      assertEquals (0x2, decoder.getUnsigned (3, 3));     // 010
+      assertEquals (0x12, decoder.getUnsigned (4, 5));    // 10 010
+      assertEquals (0x2A57FL, decoder.getUnsigned (0, 18));
+      assertEquals (0x57FL, decoder.getUnsigned (7, 11));
+   }
+
+   @Test
+   public void getUnsignedPastTheEndReadsZeros () {
+      setBits (0x3F);
+      assertEquals (0x3C, decoder.getUnsigned (2, 6));   // 1111 then 00
+      assertEquals (0, decoder.getUnsigned (6, 6));
+   }
+
+   @Test
+   public void getSignedTwosComplement () {
+      setBits (0x3F, 0x20, 0x01);
+      assertEquals (-1, decoder.getSigned (0, 6));
+      assertEquals (-32, decoder.getSigned (6, 6));
+      assertEquals (1, decoder.getSigned (12, 6));
+      assertEquals (-32, decoder.getSigned (0, 12));      // 111111 100000
+      assertEquals (-2047, decoder.getSigned (6, 12));     // 100000 000001
+   }
+
+   @Test
+   public void getTextStripsPadding () {
+      // "AB" then '@' and space padding, in 6-bit ASCII
+      setBits (1, 2, 0, 32);
+      StringBuilder text = new StringBuilder ();
+      decoder.getText (0, 4, text);
+      assertEquals ("AB", text.toString ());
+   }
+
+   @Test
+   public void decodesClassAPosition () {
+      assertTrue (decoder.decode (sentence ("1", "1", "", "B",
+         "177KQJ5000G?tO`K>RA1wUbN0TKH", "0"), false));
+
+      assertEquals (1, positionCount);
+      assertEquals (1, position.messageType);
+      assertEquals (477553000, position.mmsi);
+      assertEquals (5, position.navigationStatus);
+      assertEquals (0.0f, position.speedOverGround, 0.0f);
+      assertEquals (47.582833, position.latitude, 0.000001);
+      assertEquals (-122.345833, position.longitude, 0.000001);
+      assertEquals (51.0f, position.courseOverGround, 0.0f);
+      assertEquals (181, position.trueHeading);
+      assertEquals (15, position.timeStamp);
+      assertEquals ('B', position.channel);
+      assertFalse (position.ownVessel);
+      assertEquals (1, decoder.getMessageCount ());
+   }
+
+   @Test
+   public void reassemblesStaticVoyageData () {
+      assertFalse (decoder.decode (sentence ("2", "1", "1", "A",
+         "55?MbV02;H;s<HtKR20EHE:0@T4@Dn2222222216L961O5Gf0NSQEp6ClRp8", "0"), true));
+      assertEquals (0, staticVoyageCount);
+      assertTrue (decoder.decode (sentence ("2", "2", "1", "A", "88888888880", "2"), true));
+
+      assertEquals (1, staticVoyageCount);
+      assertEquals (351759000, voyage.mmsi);
+      assertEquals (9134270, voyage.imoNumber);
+      assertEquals ("3FOF8", voyage.callSign.toString ());
+      assertEquals ("EVER DIADEM", voyage.shipName.toString ());
+      assertEquals (70, voyage.shipType);
+      assertEquals (225, voyage.dimensionToBow);
+      assertEquals (70, voyage.dimensionToStern);
+      assertEquals (1, voyage.dimensionToPort);
+      assertEquals (31, voyage.dimensionToStarboard);
+      assertEquals (5, voyage.etaMonth);
+      assertEquals (15, voyage.etaDay);
+      assertEquals (14, voyage.etaHour);
+      assertEquals (12.2f, voyage.draught, 0.0001f);
+      assertEquals ("NEW YORK", voyage.destination.toString ());
+   }
+
+   @Test
+   public void decodesClassBPositionAndStaticData () {
+      assertTrue (decoder.decode (sentence ("1", "1", "", "A",
+         "B52K>;h0SvcBVj5lWejBswi00000", "0"), false));
+      assertEquals (18, position.messageType);
+      assertTrue (position.classB);
+      assertEquals (338087471, position.mmsi);
+      assertEquals (AISPositionReport.HEADING_NOT_AVAILABLE, position.trueHeading);
+
+      assertTrue (decoder.decode (sentence ("1", "1", "", "B",
+         "H52K>;i<D61LTp@0000000000000", "0"), false));
+      assertTrue (decoder.decode (sentence ("1", "1", "", "B",
+         "H52K>;lU=4<0000G42ijkl1P4230", "0"), false));
+      assertEquals (2, staticDataCount);
+      assertEquals (AISStaticDataReport.PART_A, staticParts[0].partNumber);
+      assertEquals ("SEA WIND", staticParts[0].shipName.toString ());
+      assertEquals (AISStaticDataReport.PART_B, staticParts[1].partNumber);
+      assertEquals (37, staticParts[1].shipType);
+      assertEquals ("WDB1234", staticParts[1].callSign.toString ());
+   }
+
+   @Test
+   public void abandonsOutOfOrderFragments () {
+      assertFalse (decoder.decode (sentence ("2", "2", "3", "A", "88888888880", "2"), false));
+      assertEquals (1, decoder.getFragmentErrorCount ());
+
+      // A second part on another channel does not complete the message
+      decoder.decode (sentence ("2", "1", "1", "A",
+         "55?MbV02;H;s<HtKR20EHE:0@T4@Dn2222222216L961O5Gf0NSQEp6ClRp8", "0"), false);
+      ReceivedSentence second = sentence ("2", "2", "1", "B", "88888888880", "2");
+      assertFalse (decoder.decode (second, false));
+      assertEquals (2, decoder.getFragmentErrorCount ());
+      assertEquals (0, staticVoyageCount);
+      assertTrue (second.errorLog.getErrorCount () > 0);
+   }
+
+   @Test
+   public void rejectsBadPayloadAndFields () {
+      ReceivedSentence badCharacter = sentence ("1", "1", "", "B", "177KQJ5000G?tOxK>RA1wUbN0TKH", "0");
+      assertFalse (decoder.decode (badCharacter, false));
+      assertTrue (badCharacter.errorLog.getErrorCount () > 0);
+
+      ReceivedSentence badFill = sentence ("1", "1", "", "B", "177KQJ5000G?tO`K>RA1wUbN0TKH", "6");
+      assertFalse (decoder.decode (badFill, false));
+      assertTrue (badFill.errorLog.getErrorCount () > 0);
+      assertEquals (0, positionCount);
+   }
+}
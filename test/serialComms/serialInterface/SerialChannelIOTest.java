@@ -0,0 +1,62 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: SerialChannelIOTest.java
+ * Created: 2026-10-17, 21:52:46
+ */
+package serialComms.serialInterface;
+
+import java.io.*;
+import java.nio.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * Tests that SerialChannelIO transmits sentences held in heap, direct and
+ * read-only buffers, leaving the buffers unchanged.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class SerialChannelIOTest {
+
+   final ByteArrayOutputStream written = new ByteArrayOutputStream ();
+
+   /* A serial channel without a port, keeping the bytes written. */
+   SerialChannelIO channel = new SerialChannelIO (null) {
+      public synchronized void transmitBytes (byte[] bytes, int offset, int length) {
+         written.write (bytes, offset, length);
+      }
+   };
+
+   @Test
+   public void transmitsHeapBufferFromItsPosition () throws IOException {
+      ByteBuffer heap = ByteBuffer.wrap ("xx$GPHDT,1.0,T*00\r\n".getBytes ("ISO-8859-1"), 2, 17);
+      channel.transmitSentence (heap);
+      assertEquals ("$GPHDT,1.0,T*00\r\n", written.toString ("ISO-8859-1"));
+      assertEquals (2, heap.position ());
+   }
+
+   @Test
+   public void transmitsDirectBuffer () throws IOException {
+      ByteBuffer direct = ByteBuffer.allocateDirect (32);
+      direct.put ("$GPHDT,1.0,T*00\r\n".getBytes ("ISO-8859-1"));
+      direct.flip ();
+      channel.transmitSentence (direct);
+      assertEquals ("$GPHDT,1.0,T*00\r\n", written.toString ("ISO-8859-1"));
+      assertEquals (0, direct.position ());
+      assertEquals (17, direct.limit ());
+   }
+
+   @Test
+   public void transmitsReadOnlyBuffer () throws IOException {
+      ByteBuffer readOnly = ByteBuffer.wrap ("$GPHDT,1.0,T*00\r\n".getBytes ("ISO-8859-1"))
+         .asReadOnlyBuffer ();
+      channel.transmitSentence (readOnly);
+      channel.transmitSentence (readOnly);
+      assertEquals ("$GPHDT,1.0,T*00\r\n$GPHDT,1.0,T*00\r\n", written.toString ("ISO-8859-1"));
+      assertEquals (0, readOnly.position ());
+   }
+}
@@ -0,0 +1,134 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: NMEA0183HSTransceiverTest.java
+ * Created: 2026-10-17, 21:28:41
+ */
+package serialComms.serialInterface.transceivers;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+import serialComms.*;
+import serialComms.sentences.*;
+import serialComms.sentences.analysis.*;
+/**
+ * Tests the per-type conflation of NMEA0183HSTransceiver.  The test plays
+ * the processing thread itself, taking sentences from the receive queue, so
+ * the interleaving of the two threads is fixed.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class NMEA0183HSTransceiverTest {
+
+   NMEA0183HSTransceiver transceiver;
+   ReceivedSentenceQueue idleQueue;
+
+   @Before
+   public void setUp () {
+      transceiver = new NMEA0183HSTransceiver (null);
+      // A running processor enables conflation; it waits on its own queue.
+      idleQueue = new ReceivedSentenceQueue ();
+      transceiver.sentenceProcessor =
+         new ReceivedSentenceProcessor (transceiver, idleQueue, "test");
+   }
+
+   @After
+   public void tearDown () {
+      transceiver.sentenceProcessor.stopProcessing ();
+   }
+
+   /* Frames a sentence from the pool and delivers it. */
+   private ReceivedSentence deliver (int talkerID, int formatter) {
+      ReceivedSentence sentence = transceiver.receivedSentenceServer.getReceivedSentence ();
+      sentence.setInUse (true);
+      sentence.talkerID = talkerID;
+      sentence.formatter = formatter;
+      transceiver.deliverSentence (sentence);
+      return sentence;
+   }
+
+   /* Takes the next queued sentence as the processing thread does, then releases it. */
+   private boolean takeAndProcess (ReceivedSentence expected) {
+      ReceivedSentence sentence = transceiver.receiveQueue.poll ();
+      assertSame (expected, sentence);
+      boolean processed = transceiver.claimReceivedSentence (sentence);
+      sentence.setInUse (false);
+      return processed;
+   }
+
+   @Test
+   public void supersedesQueuedSentenceOfSameType () {
+      ReceivedSentence first = deliver (SentenceTypes.TALKER_HE, SentenceTypes.FORMATTER_HDT);
+      ReceivedSentence second = deliver (SentenceTypes.TALKER_HE, SentenceTypes.FORMATTER_HDT);
+
+      assertEquals (1, transceiver.getConflatedCount ());
+      assertFalse (takeAndProcess (first));
+      assertTrue (takeAndProcess (second));
+   }
+
+   @Test
+   public void keepsSentencesOfOtherTypes () {
+      ReceivedSentence heading = deliver (SentenceTypes.TALKER_HE, SentenceTypes.FORMATTER_HDT);
+      ReceivedSentence position = deliver (SentenceTypes.TALKER_GP, SentenceTypes.FORMATTER_GGA);
+
+      assertEquals (0, transceiver.getConflatedCount ());
+      assertTrue (takeAndProcess (heading));
+      assertTrue (takeAndProcess (position));
+   }
+
+   @Test
+   public void doesNotSupersedeTakenSentence () {
+      ReceivedSentence first = deliver (SentenceTypes.TALKER_HE, SentenceTypes.FORMATTER_HDT);
+      assertTrue (takeAndProcess (first));
+
+      ReceivedSentence second = deliver (SentenceTypes.TALKER_HE, SentenceTypes.FORMATTER_HDT);
+      assertEquals (0, transceiver.getConflatedCount ());
+      assertTrue (takeAndProcess (second));
+   }
+
+   @Test
+   public void rejectedSentenceIsNotRecorded () {
+      transceiver.receiveQueue = new ReceivedSentenceQueue (2);
+      transceiver.receiveQueue.setOverflowPolicy (ReceivedSentenceQueue.DROP_NEWEST);
+
+      ReceivedSentence heading = deliver (SentenceTypes.TALKER_HE, SentenceTypes.FORMATTER_HDT);
+      ReceivedSentence position = deliver (SentenceTypes.TALKER_GP, SentenceTypes.FORMATTER_GGA);
+      ReceivedSentence rejected = deliver (SentenceTypes.TALKER_GP, SentenceTypes.FORMATTER_VTG);
+      assertEquals (1, transceiver.receiveQueue.getDropCount ());
+
+      // The rejected sentence is back in the pool, and reused for another type
+      // once the heading has been taken.
+      assertSame (heading, transceiver.receiveQueue.poll ());
+      assertTrue (transceiver.claimReceivedSentence (heading));
+      ReceivedSentence reused = deliver (SentenceTypes.TALKER_HE, SentenceTypes.FORMATTER_HDT);
+      assertSame (rejected, reused);
+      heading.setInUse (false);
+
+      // A later VTG must not supersede the reused, queued HDT.
+      assertTrue (takeAndProcess (position));
+      ReceivedSentence course = deliver (SentenceTypes.TALKER_GP, SentenceTypes.FORMATTER_VTG);
+      assertEquals (0, transceiver.getConflatedCount ());
+      assertFalse (reused.isSuperseded ());
+      assertTrue (takeAndProcess (reused));
+      assertTrue (takeAndProcess (course));
+   }
+
+   @Test
+   public void sentencesWithErrorsAreNotConflated () {
+      ReceivedSentence first = deliver (SentenceTypes.TALKER_HE, SentenceTypes.FORMATTER_HDT);
+      ReceivedSentence sentence = transceiver.receivedSentenceServer.getReceivedSentence ();
+      sentence.setInUse (true);
+      sentence.talkerID = SentenceTypes.TALKER_HE;
+      sentence.formatter = SentenceTypes.FORMATTER_HDT;
+      sentence.errorLog.addError (SentenceErrorTypes.ERR_CHECKSUM_MISSING);
+      transceiver.deliverSentence (sentence);
+
+      assertEquals (0, transceiver.getConflatedCount ());
+      assertTrue (takeAndProcess (first));
+      assertTrue (takeAndProcess (sentence));
+   }
+}
@@ -0,0 +1,130 @@
+/* Maritime Digital Laboratory (MDL)
+ * Copyright (c) 2026 agent
+ *
+ * Licensed under the Open Software License version 2.1
+ * (Re: www.opensource.org)
+ *
+ * File: TransmitQueueTest.java
+ * Created: 2026-10-17, 21:51:33
+ */
+package serialComms.serialInterface.transceivers;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import org.junit.*;
+import static org.junit.Assert.*;
+import serialComms.sentences.analysis.*;
+import serialComms.serialInterface.*;
+/**
+ * Tests that TransmitQueue records the lateness of a sentence when it is
+ * written to the port, including the time it was gathered and paced.
+ *
+ * @author agent
+ * @version 1.0.0.0, 2026-10-17
+ */
+public class TransmitQueueTest {
+
+   /* 0.1 millisecond characters, a 500 character burst. */
+   final static long CHARACTER_NANOS = 100000L;
+
+   /* A serial channel without a port, keeping when each write was made. */
+   static class RecordingChannel extends SerialChannelIO {
+      final List<Long> writeNanos = Collections.synchronizedList (new ArrayList<Long>());
+      final ByteArrayOutputStream written = new ByteArrayOutputStream ();
+
+      RecordingChannel () {
+         super(null);
+      }
+
+      public synchronized void transmitBytes (byte[] bytes, int offset, int length) {
+         written.write (bytes, offset, length);
+         writeNanos.add (System.nanoTime ());
+      }
+   }
+
+   RecordingChannel channel = new RecordingChannel ();
+   TransmitQueue queue = new TransmitQueue (channel, CHARACTER_NANOS, "test");
+
+   @After
+   public void tearDown () {
+      queue.stopTransmitting ();
+   }
+
+   private ByteBuffer sentence (int length) {
+      byte[] bytes = new byte[length];
+      Arrays.fill (bytes, (byte) 'A');
+      bytes[0] = '$';
+      bytes[length - 2] = '\r';
+      bytes[length - 1] = '\n';
+      return ByteBuffer.wrap (bytes);
+   }
+
+   /* Waits for the queue to write a number of characters. */
+   private void awaitWritten (long bytes) throws InterruptedException {
+      long end = System.currentTimeMillis () + 5000L;
+      while ((queue.getByteCount () < bytes) && (System.currentTimeMillis () < end)) {
+         Thread.sleep (5L);
+      }
+      Thread.sleep (20L);
+   }
+
+   @Test
+   public void latenessIsRecordedAfterTheWrite () throws InterruptedException {
+      IntervalHistogram jitter = new IntervalHistogram ();
+      long due = System.nanoTime () - 5000000L;
+      assertTrue (queue.offer (sentence (40), due, jitter));
+      awaitWritten (40);
+
+      assertEquals (1, jitter.getCount ());
+      // Recorded after the write returned, not when the sentence was offered
+      long lateness = channel.writeNanos.get (0) - due;
+      assertTrue (jitter.getMax () >= lateness);
+      assertTrue (jitter.getMax () >= 5000000L + TransmitQueue.GATHER_NANOS);
+   }
+
+   @Test
+   public void pacedSentencesAreRecordedLate () throws InterruptedException {
+      IntervalHistogram jitter = new IntervalHistogram ();
+      long due = System.nanoTime ();
+      // 820 characters, more than one 500 character burst
+      for (int i = 0; i < 10; i++) {
+         assertTrue (queue.offer (sentence (82), due, jitter));
+      }
+      awaitWritten (820);
+
+      assertTrue (queue.getWriteCount () >= 2);
+      assertEquals (10, jitter.getCount ());
+      // The second write waits for the tokens of about 328 characters
+      assertTrue (jitter.getMax () >= 28000000L);
+   }
+
+   @Test
+   public void sentencesWithoutHistogramAreNotTimed () throws InterruptedException {
+      IntervalHistogram jitter = new IntervalHistogram ();
+      assertTrue (queue.offer (sentence (20)));
+      assertTrue (queue.offer (sentence (30), System.nanoTime (), jitter));
+      assertTrue (queue.offer ("$GPTXT,01*00\r\n"));
+      awaitWritten (64);
+
+      assertEquals (1, jitter.getCount ());
+      assertEquals (64, channel.written.size ());
+   }
+
+   @Test
+   public void directAndReadOnlyBuffersAreCopied () throws InterruptedException {
+      IntervalHistogram jitter = new IntervalHistogram ();
+      ByteBuffer direct = ByteBuffer.allocateDirect (12);
+      direct.put (sentence (12));
+      direct.flip ();
+      ByteBuffer readOnly = sentence (16).asReadOnlyBuffer ();
+      assertTrue (queue.offer (direct, System.nanoTime (), jitter));
+      assertTrue (queue.offer (readOnly, System.nanoTime (), jitter));
+      assertEquals (0, direct.position ());
+      assertEquals (0, readOnly.position ());
+      awaitWritten (28);
+
+      assertEquals (2, jitter.getCount ());
+      assertEquals (28, channel.written.size ());
+   }
+}